@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+#
+# Builds the benchmark jar and runs the JMH suites with the GC profiler and allocation profiling, writing
+# machine-readable results to user-module-benchmarks/target/jmh-result.json.
+#
+# Usage: user-module-benchmarks/run-benchmarks.sh [benchmark regexp] [extra JMH options]
+#
+# Allocation profiling uses async-profiler when ASYNC_PROFILER_LIB points at libasyncProfiler.so (allocation flame
+# graphs), otherwise Java Flight Recorder with its allocation sampling events.
+set -euo pipefail
+
+MODULE_DIR="$(cd "$(dirname "$0")" && pwd)"
+ROOT_DIR="$(dirname "$MODULE_DIR")"
+TARGET_DIR="$MODULE_DIR/target"
+
+mvn -B -q -f "$ROOT_DIR/pom.xml" -pl user-module-benchmarks -am -DskipTests package
+
+if [[ -n "${ASYNC_PROFILER_LIB:-}" ]]; then
+	ALLOCATION_PROFILER="async:libPath=$ASYNC_PROFILER_LIB;event=alloc;output=flamegraph;dir=$TARGET_DIR/async-profiler"
+else
+	ALLOCATION_PROFILER="jfr:dir=$TARGET_DIR/jfr;configName=profile"
+fi
+
+INCLUDE="${1:-.*}"
+shift || true
+
+java -jar "$TARGET_DIR/benchmarks.jar" "$INCLUDE" \
+	-prof gc \
+	-prof "$ALLOCATION_PROFILER" \
+	-rf json \
+	-rff "$TARGET_DIR/jmh-result.json" \
+	"$@"
@@ -0,0 +1,33 @@
+package com.comex.usermodule.benchmarks;
+
+import java.time.Instant;
+import java.util.Set;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserStatus;
+
+/**
+ * Shared fixtures so every suite measures the same, realistically shaped user: two roles with a handful of
+ * permissions each.
+ */
+public final class BenchmarkUsers {
+
+	private BenchmarkUsers() {
+	}
+
+	public static User user() {
+		return User.builder()
+			.id(42L)
+			.username("benchmark")
+			.password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7TIvLlW.ouYeGX3.SE0Bn7e")
+			.email("benchmark@example.com")
+			.createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+			.status(UserStatus.VERIFIED)
+			.verificationCode("5f1c8a52-35b7-4b4b-9c1e-8cf1a2b3c4d5")
+			.roles(Set.of(
+				new Role("ROLE_USER", Set.of("USER_READ", "USER_WRITE", "PROFILE_READ", "PROFILE_WRITE")),
+				new Role("ROLE_ADMIN", Set.of("USER_READ", "USER_DELETE", "ROLE_MANAGE", "AUDIT_READ"))))
+			.build();
+	}
+}
@@ -0,0 +1,66 @@
+package com.comex.usermodule.benchmarks.domain;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.benchmarks.BenchmarkUsers;
+import com.comex.usermodule.core.domain.AuthoritySet;
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+
+/**
+ * Authority resolution on the domain model, which runs on every login and every token issued.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorityResolutionBenchmark {
+
+	private User user;
+	private Role role;
+	private List<AuthoritySet> roleAuthorities;
+	private String authority;
+
+	@Setup
+	public void setUp() {
+		user = BenchmarkUsers.user();
+		role = user.getRoles().iterator().next();
+		roleAuthorities = user.getRoles().stream().map(Role::getAuthorities).toList();
+		authority = role.getName();
+	}
+
+	@Benchmark
+	public Set<String> userGetAuthorities() {
+		return user.getAuthorities();
+	}
+
+	@Benchmark
+	public Set<String> roleGetAuthorities() {
+		return role.getAuthorities();
+	}
+
+	@Benchmark
+	public AuthoritySet unionRoleAuthorities() {
+		return AuthoritySet.union(roleAuthorities);
+	}
+
+	@Benchmark
+	public boolean userHasAuthority() {
+		return user.getAuthorities().contains(authority);
+	}
+}
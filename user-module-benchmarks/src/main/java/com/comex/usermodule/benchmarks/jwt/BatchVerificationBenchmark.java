@@ -0,0 +1,101 @@
+package com.comex.usermodule.benchmarks.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.jwt.CompactJwtEngine;
+import com.comex.usermodule.core.jwt.JjwtEngine;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.jwt.JwtKey;
+import com.comex.usermodule.core.jwt.JwtKeyRing;
+import com.comex.usermodule.core.jwt.TokenVerdict;
+import com.comex.usermodule.core.service.JwtService;
+
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Latency of validating a whole batch of distinct tokens, uncached, one by one against the batch API on the common
+ * fork-join pool and on virtual threads. Batch throughput is the inverse of the reported time per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchVerificationBenchmark {
+
+	private static final long EXPIRATION = 3600L * 1000L;
+
+	@Param({"8", "64", "512"})
+	private int batchSize;
+
+	private ExecutorService virtualThreads;
+	private JwtService forkJoinService;
+	private JwtService virtualThreadService;
+	private List<String> tokens;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		JwtKeyRing keyRing = JwtKeyRing.of(JwtKey.hmac(null, Keys.hmacShaKeyFor(
+			"ThisIsAVerySecureSecretKeyForBenchmarkPurposesOnly123456789".getBytes(StandardCharsets.UTF_8)), null));
+		CompactJwtEngine engine = new CompactJwtEngine(keyRing, new JjwtEngine(keyRing));
+		virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+		forkJoinService = new JwtService(keyRing, EXPIRATION, engine, null, ForkJoinPool.commonPool());
+		virtualThreadService = new JwtService(keyRing, EXPIRATION, engine, null, virtualThreads);
+
+		tokens = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			tokens.add(forkJoinService.generateToken(User.builder()
+				.email("benchmark-" + i + "@example.com")
+				.roles(Set.of(new Role("ROLE_USER", Set.of("READ", "WRITE"))))
+				.build()));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		virtualThreads.close();
+	}
+
+	@Benchmark
+	public List<JwtClaims> oneByOne() {
+		List<JwtClaims> claims = new ArrayList<>(tokens.size());
+		for (String token : tokens) {
+			claims.add(forkJoinService.verifyToken(token));
+		}
+		return claims;
+	}
+
+	@Benchmark
+	public List<TokenVerdict> batchForkJoin() {
+		return forkJoinService.verifyTokens(tokens);
+	}
+
+	@Benchmark
+	public List<TokenVerdict> batchVirtualThreads() {
+		return virtualThreadService.verifyTokens(tokens);
+	}
+}
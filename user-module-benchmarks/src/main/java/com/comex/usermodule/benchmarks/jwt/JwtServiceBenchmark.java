@@ -0,0 +1,65 @@
+package com.comex.usermodule.benchmarks.jwt;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.benchmarks.BenchmarkUsers;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.service.JwtService;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Per-call latency of the public {@link JwtService} operations with the default configuration, tracked across
+ * releases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(
+		"ThisIsAVerySecureSecretKeyForBenchmarkPurposesOnly123456789".getBytes());
+	private static final long EXPIRATION = 3600L * 1000L;
+
+	private JwtService jwtService;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtService = new JwtService(SECRET, EXPIRATION);
+		user = BenchmarkUsers.user();
+		token = jwtService.generateToken(user);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtService.generateToken(user);
+	}
+
+	@Benchmark
+	public Claims extractAllClaims() {
+		return jwtService.extractAllClaims(token);
+	}
+
+	@Benchmark
+	public JwtClaims verifyToken() {
+		return jwtService.verifyToken(token);
+	}
+}
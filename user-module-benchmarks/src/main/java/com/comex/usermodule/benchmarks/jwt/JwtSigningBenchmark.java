@@ -0,0 +1,74 @@
+package com.comex.usermodule.benchmarks.jwt;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.service.JwtService;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token issuance throughput: the original jjwt builder path, which decoded the secret and built a fresh key on every
+ * call, against {@link JwtService#generateToken(User)} with pre-built key material and per-thread MACs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtSigningBenchmark {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(
+		"ThisIsAVerySecureSecretKeyForBenchmarkPurposesOnly123456789".getBytes());
+	private static final long EXPIRATION = 3600L * 1000L;
+
+	private JwtService jwtService;
+	private User user;
+
+	@Setup
+	public void setUp() {
+		jwtService = new JwtService(SECRET, EXPIRATION);
+		user = User.builder()
+			.email("benchmark@example.com")
+			.roles(Set.of(new Role("ROLE_USER", Set.of("READ", "WRITE")), new Role("ROLE_ADMIN", Set.of("DELETE"))))
+			.build();
+	}
+
+	@Benchmark
+	public String jjwtBuilderPerCallKey() {
+		return Jwts
+			.builder()
+			.claims(Map.of("roles", String.join(",", user.getAuthorities())))
+			.subject(user.getEmail())
+			.issuedAt(new Date(System.currentTimeMillis()))
+			.expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+			.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+			.compact();
+	}
+
+	@Benchmark
+	public String jwtServiceGenerateToken() {
+		return jwtService.generateToken(user);
+	}
+}
@@ -0,0 +1,71 @@
+package com.comex.usermodule.benchmarks.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.jwt.CompactJwtEngine;
+import com.comex.usermodule.core.jwt.JjwtEngine;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.jwt.JwtKey;
+import com.comex.usermodule.core.jwt.JwtKeyRing;
+import com.comex.usermodule.core.service.JwtService;
+
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token verification cost of the jjwt engine against the compact engine, both uncached. Run with {@code -prof gc} to
+ * compare the allocation rate per verification next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+	private static final long EXPIRATION = 3600L * 1000L;
+
+	private JwtService jjwtService;
+	private JwtService compactService;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtKeyRing keyRing = JwtKeyRing.of(JwtKey.hmac(null, Keys.hmacShaKeyFor(
+			"ThisIsAVerySecureSecretKeyForBenchmarkPurposesOnly123456789".getBytes(StandardCharsets.UTF_8)), null));
+		JjwtEngine jjwtEngine = new JjwtEngine(keyRing);
+		jjwtService = new JwtService(keyRing, EXPIRATION, jjwtEngine, null);
+		compactService = new JwtService(keyRing, EXPIRATION, new CompactJwtEngine(keyRing, jjwtEngine), null);
+		token = compactService.generateToken(User.builder()
+			.email("benchmark@example.com")
+			.roles(Set.of(new Role("ROLE_USER", Set.of("READ", "WRITE")), new Role("ROLE_ADMIN", Set.of("DELETE"))))
+			.build());
+	}
+
+	@Benchmark
+	public JwtClaims jjwtEngine() {
+		return jjwtService.verifyToken(token);
+	}
+
+	@Benchmark
+	public JwtClaims compactEngine() {
+		return compactService.verifyToken(token);
+	}
+}
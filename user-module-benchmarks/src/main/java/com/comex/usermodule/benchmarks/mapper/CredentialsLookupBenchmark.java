@@ -0,0 +1,94 @@
+package com.comex.usermodule.benchmarks.mapper;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.benchmarks.BenchmarkUsers;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.PermissionEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.UserEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserCredentialsProjection;
+import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+
+/**
+ * Mapping cost of the login lookup: the full entity graph mapped to a user and flattened to authorities, as before,
+ * against the aggregated credentials row. The database side is not measured: the entity graph query returns one row
+ * per permission of every role, 8 for the benchmark user, while the credentials query returns one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CredentialsLookupBenchmark {
+
+	private final UserEntityMapper userEntityMapper = new UserEntityMapper();
+
+	private UserEntity userEntity;
+	private UserCredentialsProjection projection;
+
+	@Setup
+	public void setUp() {
+		User user = BenchmarkUsers.user();
+		userEntity = userEntityMapper.toUserEntity(user, user.getRoles().stream()
+			.map(role -> RoleEntity.builder()
+				.name(role.getName())
+				.permissions(role.getPermissions().stream()
+					.map(permission -> PermissionEntity.builder().name(permission).build())
+					.collect(Collectors.toSet()))
+				.build())
+			.collect(Collectors.toSet()));
+
+		String roles = user.getRoles().stream()
+			.map(role -> role.getName())
+			.sorted()
+			.collect(Collectors.joining(","));
+		String permissions = user.getRoles().stream()
+			.flatMap(role -> role.getPermissions().stream())
+			.distinct()
+			.sorted()
+			.collect(Collectors.joining(","));
+		projection = new UserCredentialsProjection() {
+
+			@Override
+			public String getPassword() {
+				return user.getPassword();
+			}
+
+			@Override
+			public String getRoles() {
+				return roles;
+			}
+
+			@Override
+			public String getPermissions() {
+				return permissions;
+			}
+		};
+	}
+
+	@Benchmark
+	public Set<String> entityGraph() {
+		return userEntityMapper.toUser(userEntity).getAuthorities();
+	}
+
+	@Benchmark
+	public UserCredentials credentialsProjection() {
+		return userEntityMapper.toUserCredentials(userEntity.getEmail(), projection);
+	}
+}
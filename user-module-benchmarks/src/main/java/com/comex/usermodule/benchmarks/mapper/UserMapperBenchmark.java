@@ -0,0 +1,87 @@
+package com.comex.usermodule.benchmarks.mapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comex.usermodule.benchmarks.BenchmarkUsers;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.endpoint.mapper.UserWebMapper;
+import com.comex.usermodule.endpoint.model.UserResponse;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RoleDynamoEntity;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.UserDynamoEntity;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.mapper.UserDynamoEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.PermissionEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.UserEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+
+/**
+ * Cost of translating a user between the domain model and the Postgres entity, the DynamoDB entity and the web
+ * response, as done on every repository call and every response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+	private final UserEntityMapper userEntityMapper = new UserEntityMapper();
+	private final UserDynamoEntityMapper userDynamoEntityMapper = new UserDynamoEntityMapper();
+	private final UserWebMapper userWebMapper = new UserWebMapper();
+
+	private User user;
+	private UserEntity userEntity;
+	private UserDynamoEntity userDynamoEntity;
+	private List<RoleDynamoEntity> roleDynamoEntities;
+
+	@Setup
+	public void setUp() {
+		user = BenchmarkUsers.user();
+		userEntity = userEntityMapper.toUserEntity(user, user.getRoles().stream()
+			.map(role -> RoleEntity.builder()
+				.name(role.getName())
+				.permissions(role.getPermissions().stream()
+					.map(permission -> PermissionEntity.builder().name(permission).build())
+					.collect(Collectors.toSet()))
+				.build())
+			.collect(Collectors.toSet()));
+		roleDynamoEntities = user.getRoles().stream()
+			.map(userDynamoEntityMapper::toRoleDynamoEntity)
+			.toList();
+		userDynamoEntity = userDynamoEntityMapper.toUserDynamoEntity(user, roleDynamoEntities);
+	}
+
+	@Benchmark
+	public User userEntityToUser() {
+		return userEntityMapper.toUser(userEntity);
+	}
+
+	@Benchmark
+	public User userDynamoEntityToUser() {
+		return userDynamoEntityMapper.toUser(userDynamoEntity);
+	}
+
+	@Benchmark
+	public UserDynamoEntity userToUserDynamoEntity() {
+		return userDynamoEntityMapper.toUserDynamoEntity(user, roleDynamoEntities);
+	}
+
+	@Benchmark
+	public UserResponse userToUserResponse() {
+		return userWebMapper.toUserResponse(user);
+	}
+}
@@ -0,0 +1,195 @@
+package com.comex.usermodule.benchmarks.persistence;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.RoleJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.UserJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.UserPostgreRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+
+/**
+ * Operations per second of the JPA adapter ({@link UserPostgreRepository}) against the plain JDBC one
+ * ({@link UserJdbcRepository}) on the same schema: the verified-user lookup, the login credentials lookup and the
+ * registration insert, each in its own transaction.
+ * <p>
+ * Runs against a real PostgreSQL, migrated with the module changelog, seeded with {@code users} verified users and
+ * cleaned up afterwards:
+ * {@code java -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/users -Dbenchmark.jdbc.username=user
+ * -Dbenchmark.jdbc.password=secret -jar benchmarks.jar UserRepositoryBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserRepositoryBenchmark {
+
+	private static final String CHANGELOG = "db/changelog/user-master.yml";
+	private static final String PASSWORD = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7TIvLlW.ouYeGX3.SE0Bn7e";
+
+	@Param({"jpa", "jdbc"})
+	public String adapter;
+
+	@Param({"1000"})
+	public int users;
+
+	private final String run = UUID.randomUUID().toString().substring(0, 8);
+	private final AtomicLong registrations = new AtomicLong();
+
+	private HikariDataSource dataSource;
+	private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+	private TransactionTemplate transactionTemplate;
+	private UserRepository repository;
+
+	@Setup
+	public void setUp() throws Exception {
+		String url = System.getProperty("benchmark.jdbc.url");
+		if (url == null) {
+			throw new IllegalStateException("Set -Dbenchmark.jdbc.url (and username/password) to a PostgreSQL database.");
+		}
+		dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(url);
+		dataSource.setUsername(System.getProperty("benchmark.jdbc.username"));
+		dataSource.setPassword(System.getProperty("benchmark.jdbc.password"));
+
+		try (Connection connection = dataSource.getConnection()) {
+			Database database = DatabaseFactory.getInstance()
+				.findCorrectDatabaseImplementation(new JdbcConnection(connection));
+			new Liquibase(CHANGELOG, new ClassLoaderResourceAccessor(), database).update(new Contexts());
+		}
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		if (adapter.equals("jdbc")) {
+			transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+			RoleJdbcRepository roleJdbcRepository = new RoleJdbcRepository(jdbcTemplate);
+			repository = new UserJdbcRepository(jdbcTemplate, transactionTemplate,
+				new RoleCatalog<>(roleJdbcRepository::findAll, RoleRow::name));
+		} else {
+			// the settings the starter contributes
+			entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+			entityManagerFactory.setDataSource(dataSource);
+			entityManagerFactory.setPackagesToScan("com.comex.usermodule.infrastructure.persistence.postgre.entity");
+			entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+			entityManagerFactory.setJpaPropertyMap(Map.of(
+				AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo",
+				AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY, "fix",
+				AvailableSettings.STATEMENT_BATCH_SIZE, 50,
+				AvailableSettings.ORDER_INSERTS, true));
+			entityManagerFactory.afterPropertiesSet();
+			EntityManagerFactory factory = entityManagerFactory.getObject();
+
+			EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factory);
+			JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+			RolePostgreJpaRepository roleJpaRepository = repositoryFactory.getRepository(RolePostgreJpaRepository.class);
+			transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factory));
+			repository = new UserPostgreRepository(repositoryFactory.getRepository(UserPostgreJpaRepository.class),
+				new RoleCatalog<>(() -> transactionTemplate.execute(status -> roleJpaRepository.findAll()),
+					RoleEntity::getName), new UserEntityMapper());
+		}
+
+		// seeded the same way for both adapters, so that both read identical rows
+		List<User> seeded = new ArrayList<>(users);
+		for (int i = 0; i < users; i++) {
+			seeded.add(user("seeded-" + i));
+		}
+		new UserJdbcRepository(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+			new RoleCatalog<>(new RoleJdbcRepository(jdbcTemplate)::findAll, RoleRow::name)).saveAll(seeded);
+	}
+
+	@TearDown
+	public void tearDown() {
+		new JdbcTemplate(dataSource).update("delete from user_table where username like ?", "benchmark-" + run + "-%");
+		if (entityManagerFactory != null) {
+			entityManagerFactory.destroy();
+		}
+		dataSource.close();
+	}
+
+	@Benchmark
+	public User findByEmail() {
+		return transactionTemplate.execute(status -> repository.findByEmail(email(seededUser())));
+	}
+
+	@Benchmark
+	public Optional<UserCredentials> findCredentialsByEmail() {
+		return transactionTemplate.execute(status -> repository.findCredentialsByEmail(email(seededUser())));
+	}
+
+	@Benchmark
+	public User save() {
+		User user = user("registered-" + registrations.incrementAndGet());
+		return transactionTemplate.execute(status -> repository.save(user));
+	}
+
+	private String seededUser() {
+		return "seeded-" + ThreadLocalRandom.current().nextInt(users);
+	}
+
+	private String email(String name) {
+		return "benchmark-" + run + "-" + name + "@example.com";
+	}
+
+	private User user(String name) {
+		return User.builder()
+			.username("benchmark-" + run + "-" + name)
+			.password(PASSWORD)
+			.email(email(name))
+			.createdAt(Instant.now())
+			.status(UserStatus.VERIFIED)
+			.roles(Set.of(new Role("ROLE_USER"), new Role("ROLE_ADMIN")))
+			.build();
+	}
+}
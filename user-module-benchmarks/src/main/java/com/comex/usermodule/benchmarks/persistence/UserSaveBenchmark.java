@@ -0,0 +1,141 @@
+package com.comex.usermodule.benchmarks.persistence;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.UserPostgreRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+
+/**
+ * Inserts per second of {@link UserPostgreRepository#save(User)}, each in its own transaction like a registration,
+ * with one {@code nextval} per insert ({@code idBlockSize} 1, the previous allocation) against pooled-lo blocks.
+ * <p>
+ * Runs against a real PostgreSQL, migrated with the module changelog and cleaned up afterwards:
+ * {@code java -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/users -Dbenchmark.jdbc.username=user
+ * -Dbenchmark.jdbc.password=secret -jar benchmarks.jar UserSaveBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserSaveBenchmark {
+
+	private static final String CHANGELOG = "db/changelog/user-master.yml";
+
+	@Param({"1", "50"})
+	public int idBlockSize;
+
+	private final String run = UUID.randomUUID().toString().substring(0, 8);
+	private final AtomicLong users = new AtomicLong();
+
+	private HikariDataSource dataSource;
+	private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+	private TransactionTemplate transactionTemplate;
+	private UserPostgreRepository repository;
+
+	@Setup
+	public void setUp() throws Exception {
+		String url = System.getProperty("benchmark.jdbc.url");
+		if (url == null) {
+			throw new IllegalStateException("Set -Dbenchmark.jdbc.url (and username/password) to a PostgreSQL database.");
+		}
+		dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(url);
+		dataSource.setUsername(System.getProperty("benchmark.jdbc.username"));
+		dataSource.setPassword(System.getProperty("benchmark.jdbc.password"));
+
+		try (Connection connection = dataSource.getConnection()) {
+			Database database = DatabaseFactory.getInstance()
+				.findCorrectDatabaseImplementation(new JdbcConnection(connection));
+			Liquibase liquibase = new Liquibase(CHANGELOG, new ClassLoaderResourceAccessor(), database);
+			liquibase.setChangeLogParameter("id_block_size", idBlockSize);
+			liquibase.update(new Contexts());
+		}
+
+		// the settings the starter contributes, Hibernate adopts the sequence increment set above
+		entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+		entityManagerFactory.setDataSource(dataSource);
+		entityManagerFactory.setPackagesToScan("com.comex.usermodule.infrastructure.persistence.postgre.entity");
+		entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		entityManagerFactory.setJpaPropertyMap(Map.of(
+			AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo",
+			AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY, "fix",
+			AvailableSettings.STATEMENT_BATCH_SIZE, 50,
+			AvailableSettings.ORDER_INSERTS, true));
+		entityManagerFactory.afterPropertiesSet();
+		EntityManagerFactory factory = entityManagerFactory.getObject();
+
+		EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factory);
+		JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+		RolePostgreJpaRepository roleJpaRepository = repositoryFactory.getRepository(RolePostgreJpaRepository.class);
+		transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factory));
+		repository = new UserPostgreRepository(repositoryFactory.getRepository(UserPostgreJpaRepository.class),
+			new RoleCatalog<>(() -> transactionTemplate.execute(status -> roleJpaRepository.findAll()),
+				RoleEntity::getName), new UserEntityMapper());
+	}
+
+	@TearDown
+	public void tearDown() {
+		new JdbcTemplate(dataSource).update("delete from user_table where username like ?", "benchmark-" + run + "-%");
+		entityManagerFactory.destroy();
+		dataSource.close();
+	}
+
+	@Benchmark
+	public User save() {
+		long user = users.incrementAndGet();
+		return transactionTemplate.execute(status -> repository.save(User.builder()
+			.username("benchmark-" + run + "-" + user)
+			.password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7TIvLlW.ouYeGX3.SE0Bn7e")
+			.email("benchmark-" + run + "-" + user + "@example.com")
+			.createdAt(Instant.now())
+			.status(UserStatus.VERIFIED)
+			.roles(Set.of(new Role("ROLE_USER")))
+			.build()));
+	}
+}
@@ -0,0 +1,75 @@
+package com.comex.usermodule.benchmarks.security;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.comex.usermodule.core.jwt.AuthorityClaimCodec;
+import com.comex.usermodule.security.GrantedAuthorityRegistry;
+
+/**
+ * Building the authentication of a request from the {@code roles} claim, as done by the JWT filter on every
+ * authenticated request. The claim is copied per invocation because the verifier hands out a fresh string each time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorityDecodingBenchmark {
+
+	private static final String ROLES = "ROLE_USER,READ,WRITE";
+
+	private GrantedAuthorityRegistry registry;
+	private AuthorityClaimCodec codec;
+	private String compactRoles;
+
+	@Setup
+	public void setUp() {
+		codec = new AuthorityClaimCodec(1, Map.of(1, List.of("ROLE_USER", "ROLE_ADMIN", "READ", "WRITE", "DELETE")));
+		registry = new GrantedAuthorityRegistry(GrantedAuthorityRegistry.DEFAULT_MAXIMUM_SIZE, codec);
+		compactRoles = codec.encode(List.of(ROLES.split(",")));
+	}
+
+	@Benchmark
+	public UsernamePasswordAuthenticationToken splitAndAllocate() {
+		List<GrantedAuthority> authorities = Arrays.stream(new String(ROLES).split(","))
+			.map(SimpleGrantedAuthority::new)
+			.collect(Collectors.toList());
+		return new UsernamePasswordAuthenticationToken("test@example.com", null, authorities);
+	}
+
+	@Benchmark
+	public UsernamePasswordAuthenticationToken registryDecode() {
+		return new UsernamePasswordAuthenticationToken("test@example.com", null,
+			registry.decode(new String(ROLES)));
+	}
+
+	@Benchmark
+	public UsernamePasswordAuthenticationToken registryDecodeCompact() {
+		return new UsernamePasswordAuthenticationToken("test@example.com", null,
+			registry.decode(new String(compactRoles)));
+	}
+
+	@Benchmark
+	public int codecDecodeCompact() {
+		return codec.decode(new String(compactRoles)).size();
+	}
+}
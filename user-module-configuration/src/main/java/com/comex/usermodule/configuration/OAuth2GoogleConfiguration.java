@@ -4,8 +4,8 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
 
 import com.comex.usermodule.core.port.UserGoogleAuthenticator;
-import com.comex.usermodule.core.service.JwtService;
 import com.comex.usermodule.core.service.UserService;
+import com.comex.usermodule.core.token.TokenIssuer;
 import com.comex.usermodule.security.OAuth2LoginSuccessHandler;
 import com.comex.usermodule.security.UserGoogleSpringAuthenticator;
 
@@ -13,8 +13,8 @@ import com.comex.usermodule.security.UserGoogleSpringAuthenticator;
 public class OAuth2GoogleConfiguration {
 
 	@Bean
-	public UserGoogleAuthenticator userGoogleAuthenticator(UserService userService, JwtService jwtService) {
-		return new UserGoogleSpringAuthenticator(userService, jwtService);
+	public UserGoogleAuthenticator userGoogleAuthenticator(UserService userService, TokenIssuer tokenIssuer) {
+		return new UserGoogleSpringAuthenticator(userService, tokenIssuer);
 	}
 
 	@Bean
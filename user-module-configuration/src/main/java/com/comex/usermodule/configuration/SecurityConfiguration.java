@@ -1,36 +1,136 @@
 package com.comex.usermodule.configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
 
-import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.jwt.AuthorityClaimCodec;
+import com.comex.usermodule.core.jwt.CompactJwtEngine;
+import com.comex.usermodule.core.jwt.JjwtEngine;
+import com.comex.usermodule.core.jwt.JwtEngine;
+import com.comex.usermodule.core.jwt.JwtKey;
+import com.comex.usermodule.core.jwt.JwtKeyRing;
+import com.comex.usermodule.core.jwt.JwtKeyRotator;
+import com.comex.usermodule.core.jwt.PemKeys;
+import com.comex.usermodule.core.jwt.VerifiedClaimsCache;
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.port.RevokedTokenRepository;
 import com.comex.usermodule.core.port.UserAuthenticator;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.revocation.RevokedTokenPurger;
+import com.comex.usermodule.core.revocation.TokenRevocationList;
+import com.comex.usermodule.core.revocation.TokenRevocationRefresher;
 import com.comex.usermodule.core.service.JwtService;
+import com.comex.usermodule.core.service.RefreshTokenService;
+import com.comex.usermodule.core.service.TokenRevocationService;
+import com.comex.usermodule.core.service.TokenValidationService;
 import com.comex.usermodule.core.service.UserService;
+import com.comex.usermodule.core.token.ReferenceTokenStore;
+import com.comex.usermodule.core.token.TokenIssuer;
+import com.comex.usermodule.metrics.ReferenceTokenStoreMetrics;
+import com.comex.usermodule.metrics.TokenRevocationMetrics;
+import com.comex.usermodule.metrics.VerifiedClaimsCacheMetrics;
+import com.comex.usermodule.security.AsyncAuthenticationProvider;
+import com.comex.usermodule.security.CachingAuthenticationProvider;
+import com.comex.usermodule.security.GrantedAuthorityRegistry;
+import com.comex.usermodule.security.HashingExecutorAuthenticationProvider;
+import com.comex.usermodule.security.PasswordEncoderCalibrator;
+import com.comex.usermodule.security.UserPasswordUpgrader;
 import com.comex.usermodule.security.UserSpringAuthenticator;
 import com.comex.usermodule.security.jwt.JwtAuthFilter;
 
 @AutoConfiguration
 public class SecurityConfiguration {
 
+	private static final String BCRYPT = "bcrypt";
+	private static final String ARGON2 = "argon2";
+	private static final String PBKDF2 = "pbkdf2";
+	private static final String ARGON2_REQUIRED_CLASS = "org.bouncycastle.crypto.params.Argon2Parameters";
+
 	@Autowired
 	private UserProperties userProperties;
 
 	@ConditionalOnMissingBean
 	@Bean
-	public UserAuthenticator userAuthenticator(AuthenticationManager authenticationManager, JwtService jwtService) {
-		return new UserSpringAuthenticator(authenticationManager, jwtService);
+	public UserAuthenticator userAuthenticator(AuthenticationManager authenticationManager, TokenIssuer tokenIssuer,
+		ObjectProvider<AuthenticationProvider> authenticationProvider,
+		ObjectProvider<RefreshTokenService> refreshTokenService) {
+		// a custom provider may not be able to verify passwords asynchronously, logins then authenticate in place
+		AsyncAuthenticationProvider asyncAuthenticationProvider =
+			authenticationProvider.getIfAvailable() instanceof AsyncAuthenticationProvider provider ? provider : null;
+		return new UserSpringAuthenticator(authenticationManager, asyncAuthenticationProvider, tokenIssuer,
+			refreshTokenService.getIfAvailable());
+	}
+
+	@ConditionalOnProperty(name = "user.token.refresh.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	public RefreshTokenService refreshTokenService(RefreshTokenRepository refreshTokenRepository,
+		UserRepository userRepository, TokenIssuer tokenIssuer) {
+		return new RefreshTokenService(refreshTokenRepository, userRepository, tokenIssuer,
+			userProperties.getToken().getRefresh().getLifetime());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public TokenIssuer tokenIssuer(JwtService jwtService, ObjectProvider<ReferenceTokenStore> referenceTokenStore) {
+		return switch (userProperties.getToken().getMode()) {
+			case "jwt" -> jwtService::generateToken;
+			case "reference" -> referenceTokenStore.getObject()::issue;
+			default -> throw new IllegalArgumentException(
+				String.format("Unknown token mode: %s.", userProperties.getToken().getMode()));
+		};
+	}
+
+	@ConditionalOnProperty(name = "user.token.mode", havingValue = "reference")
+	@ConditionalOnMissingBean
+	@Bean
+	public ReferenceTokenStore referenceTokenStore(ObjectProvider<ReferenceTokenRepository> referenceTokenRepository) {
+		UserProperties.ReferenceTokenProperties reference = userProperties.getToken().getReference();
+		ReferenceTokenRepository repository = null;
+		if (reference.isWriteThrough()) {
+			repository = referenceTokenRepository.getIfAvailable();
+			if (repository == null) {
+				throw new IllegalStateException(
+					"Reference token write-through is enabled but no ReferenceTokenRepository is configured.");
+			}
+		}
+		return new ReferenceTokenStore(reference.getIdleTimeout(), reference.getMaxLifetime(),
+			reference.getMaximumSize(), repository, reference.getRevalidationInterval());
+	}
+
+	@ConditionalOnProperty(name = "user.token.mode", havingValue = "reference")
+	@Bean
+	public ReferenceTokenStoreMetrics referenceTokenStoreMetrics(ReferenceTokenStore referenceTokenStore) {
+		return new ReferenceTokenStoreMetrics(referenceTokenStore);
 	}
 
 	@ConditionalOnMissingBean
@@ -42,34 +142,209 @@ public class SecurityConfiguration {
 
 	@ConditionalOnMissingBean
 	@Bean
-	public JwtService jwtService() {
-		return new JwtService(userProperties.getJwt().getJwtSecretKey(), userProperties.getJwt().getJwtExpiration());
+	public JwtService jwtService(JwtKeyRing jwtKeyRing, JwtEngine jwtEngine,
+		ObjectProvider<VerifiedClaimsCache> verifiedClaimsCache, ObjectProvider<AuthorityClaimCodec> authorityClaimCodec) {
+		AuthorityClaimCodec issuingCodec = userProperties.getJwt().getCompactAuthorities().isIssue()
+			? authorityClaimCodec.getIfAvailable()
+			: null;
+		return new JwtService(jwtKeyRing, userProperties.getJwt().getJwtExpiration(), jwtEngine,
+			verifiedClaimsCache.getIfAvailable(), batchExecutor(), issuingCodec);
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.compact-authorities.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	public AuthorityClaimCodec authorityClaimCodec() {
+		UserProperties.CompactAuthoritiesProperties compactAuthorities = userProperties.getJwt().getCompactAuthorities();
+		return new AuthorityClaimCodec(compactAuthorities.getVersion(), compactAuthorities.getDictionaries());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public TokenValidationService tokenValidationService(JwtService jwtService,
+		ObjectProvider<ReferenceTokenStore> referenceTokenStore, ObjectProvider<TokenRevocationList> tokenRevocationList) {
+		return new TokenValidationService(jwtService, referenceTokenStore.getIfAvailable(),
+			tokenRevocationList.getIfAvailable(), userProperties.getJwt().getBatch().getMaximumSize());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public JwtEngine jwtEngine(JwtKeyRing jwtKeyRing) {
+		JwtEngine jjwtEngine = new JjwtEngine(jwtKeyRing);
+		return switch (userProperties.getJwt().getEngine()) {
+			case "compact" -> new CompactJwtEngine(jwtKeyRing, jjwtEngine);
+			case "jjwt" -> jjwtEngine;
+			default -> throw new IllegalArgumentException(
+				String.format("Unknown JWT engine: %s.", userProperties.getJwt().getEngine()));
+		};
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public JwtKeyRing jwtKeyRing() {
+		UserProperties.JwtProperties jwtProperties = userProperties.getJwt();
+		if (jwtProperties.getKeys().isEmpty()) {
+			return JwtKeyRing.of(JwtKey.hmac(null, jwtProperties.getJwtSecretKey(), null));
+		}
+		return new JwtKeyRing(jwtProperties.getKeys().stream()
+			.map(this::toJwtKey)
+			.toList(), Duration.ofMillis(jwtProperties.getJwtExpiration()));
+	}
+
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public JwtKeyRotator jwtKeyRotator(JwtKeyRing jwtKeyRing) {
+		return new JwtKeyRotator(jwtKeyRing, userProperties.getJwt().getKeyRotationCheckInterval());
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.claims-cache.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	public VerifiedClaimsCache verifiedClaimsCache() {
+		return new VerifiedClaimsCache(userProperties.getJwt().getClaimsCache().getMaximumSize());
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.claims-cache.enabled", havingValue = "true")
+	@Bean
+	public VerifiedClaimsCacheMetrics verifiedClaimsCacheMetrics(VerifiedClaimsCache verifiedClaimsCache) {
+		return new VerifiedClaimsCacheMetrics(verifiedClaimsCache);
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.revocation.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	public TokenRevocationList tokenRevocationList(RevokedTokenRepository revokedTokenRepository) {
+		UserProperties.RevocationProperties revocation = userProperties.getJwt().getRevocation();
+		return new TokenRevocationList(revokedTokenRepository, revocation.getExpectedRevocations(),
+			revocation.getFalsePositiveProbability(), revocation.getRefreshInterval());
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.revocation.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public TokenRevocationRefresher tokenRevocationRefresher(TokenRevocationList tokenRevocationList) {
+		return new TokenRevocationRefresher(tokenRevocationList,
+			userProperties.getJwt().getRevocation().getRefreshInterval());
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.revocation.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public RevokedTokenPurger revokedTokenPurger(RevokedTokenRepository revokedTokenRepository) {
+		UserProperties.RevocationProperties revocation = userProperties.getJwt().getRevocation();
+		return new RevokedTokenPurger(revokedTokenRepository, revocation.getPurgeInterval(),
+			revocation.getPurgeBatchSize());
+	}
+
+	@ConditionalOnProperty(name = "user.jwt.revocation.enabled", havingValue = "true")
+	@Bean
+	public TokenRevocationMetrics tokenRevocationMetrics(TokenRevocationList tokenRevocationList) {
+		return new TokenRevocationMetrics(tokenRevocationList);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public TokenRevocationService tokenRevocationService(JwtService jwtService,
+		ObjectProvider<ReferenceTokenStore> referenceTokenStore, ObjectProvider<TokenRevocationList> tokenRevocationList) {
+		return new TokenRevocationService(jwtService, referenceTokenStore.getIfAvailable(),
+			tokenRevocationList.getIfAvailable());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public JwtAuthFilter jwtAuthFilter(JwtService jwtService, ObjectProvider<ReferenceTokenStore> referenceTokenStore,
+		ObjectProvider<TokenRevocationList> tokenRevocationList, GrantedAuthorityRegistry grantedAuthorityRegistry) {
+		return new JwtAuthFilter(jwtService, referenceTokenStore.getIfAvailable(),
+			tokenRevocationList.getIfAvailable(), grantedAuthorityRegistry);
 	}
 
 	@ConditionalOnMissingBean
 	@Bean
-	public JwtAuthFilter jwtAuthFilter(JwtService jwtService) {
-		return new JwtAuthFilter(jwtService);
+	public GrantedAuthorityRegistry grantedAuthorityRegistry(ObjectProvider<AuthorityClaimCodec> authorityClaimCodec) {
+		return new GrantedAuthorityRegistry(GrantedAuthorityRegistry.DEFAULT_MAXIMUM_SIZE,
+			authorityClaimCodec.getIfAvailable());
 	}
 
 	@ConditionalOnMissingBean
 	@Bean
 	public PasswordEncoder passwordEncoder() {
+		UserProperties.PasswordEncoderProperties encoder = userProperties.getPassword().getEncoder();
+		boolean calibrate = encoder.isCalibrate();
+		Duration target = encoder.getTargetDuration();
 
-		return new BCryptPasswordEncoder();
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		int bcryptStrength = calibrate && BCRYPT.equals(encoder.getAlgorithm())
+			? PasswordEncoderCalibrator.calibrateExponential(BCryptPasswordEncoder::new, encoder.getBcryptStrength(),
+			encoder.getBcryptMaximumStrength(), target)
+			: encoder.getBcryptStrength();
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+		encoders.put(BCRYPT, bcrypt);
+		encoders.put(PBKDF2, new Pbkdf2PasswordEncoder("", 16, encoder.getPbkdf2Iterations(),
+			Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+		if (ClassUtils.isPresent(ARGON2_REQUIRED_CLASS, getClass().getClassLoader())) {
+			IntFunction<PasswordEncoder> argon2 = iterations -> new Argon2PasswordEncoder(16, 32, 1,
+				encoder.getArgon2MemoryKib(), iterations);
+			int argon2Iterations = calibrate && ARGON2.equals(encoder.getAlgorithm())
+				? PasswordEncoderCalibrator.calibrateLinear(argon2, encoder.getArgon2Iterations(),
+				encoder.getArgon2MaximumIterations(), target)
+				: encoder.getArgon2Iterations();
+			encoders.put(ARGON2, argon2.apply(argon2Iterations));
+		}
+		if (!encoders.containsKey(encoder.getAlgorithm())) {
+			throw new IllegalStateException(String.format(
+				"Password encoder %s is not available, argon2 requires org.bouncycastle:bcprov-jdk18on.",
+				encoder.getAlgorithm()));
+		}
+
+		DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encoder.getAlgorithm(), encoders);
+		// hashes stored before the algorithm prefix was introduced are plain BCrypt
+		passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return passwordEncoder;
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public UserDetailsPasswordService userDetailsPasswordService(UserService userService) {
+		return new UserPasswordUpgrader(userService);
 	}
 
 	@ConditionalOnMissingBean
 	@Bean
-	public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, UserService userService) {
-		DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
-		authenticationProvider.setUserDetailsService((email) -> {
-			User user = userService.findByEmail(email);
+	public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, UserService userService,
+		GrantedAuthorityRegistry grantedAuthorityRegistry, UserDetailsPasswordService userDetailsPasswordService,
+		ObjectProvider<VerifiedCredentialsCache<UserDetails>> verifiedCredentialsCache,
+		PasswordHashingExecutor passwordHashingExecutor) {
+		UserDetailsService userDetailsService = email -> {
+			UserCredentials credentials = userService.findCredentialsByEmail(email);
 			return new org.springframework.security.core.userdetails.User(
-				user.getEmail(), user.getPassword(), user.getAuthorities().stream()
-				.map(SimpleGrantedAuthority::new).collect(Collectors.toSet()));
-		});
-		authenticationProvider.setPasswordEncoder(passwordEncoder);
-		return authenticationProvider;
+				credentials.email(), credentials.password(), credentials.authorities().stream()
+				.map(grantedAuthorityRegistry::authority).collect(Collectors.toSet()));
+		};
+		// only the hashing of a login runs on the hashing pool, the user lookup stays on the request thread, and
+		// hashes of an outdated algorithm or work factor are re-encoded on successful login
+		AsyncAuthenticationProvider authenticationProvider = new HashingExecutorAuthenticationProvider(
+			userDetailsService, passwordEncoder, userDetailsPasswordService, passwordHashingExecutor);
+		VerifiedCredentialsCache<UserDetails> cache = verifiedCredentialsCache.getIfAvailable();
+		return cache != null ? new CachingAuthenticationProvider(authenticationProvider, cache) : authenticationProvider;
+	}
+
+	private Executor batchExecutor() {
+		return switch (userProperties.getJwt().getBatch().getExecutor()) {
+			case "fork-join" -> ForkJoinPool.commonPool();
+			case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+			default -> throw new IllegalArgumentException(
+				String.format("Unknown batch executor: %s.", userProperties.getJwt().getBatch().getExecutor()));
+		};
+	}
+
+	private JwtKey toJwtKey(UserProperties.JwtKeyProperties key) {
+		if (key.getSecret() != null) {
+			return JwtKey.hmac(key.getKid(), key.getSecret(), key.getActivateAt());
+		}
+		if (key.getPrivateKey() != null) {
+			return JwtKey.asymmetric(key.getKid(), PemKeys.privateKey(key.getPrivateKey()),
+				PemKeys.publicKey(key.getPublicKey()), key.getActivateAt());
+		}
+		return JwtKey.verificationOnly(key.getKid(), PemKeys.publicKey(key.getPublicKey()));
 	}
 }
@@ -1,20 +1,37 @@
 package com.comex.usermodule.configuration;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.security.core.userdetails.UserDetails;
 
 import com.comex.usermodule.adapter.PasswordEncoderAdapter;
+import com.comex.usermodule.core.cache.CacheInvalidationHandler;
+import com.comex.usermodule.core.cache.CachingUserRepository;
+import com.comex.usermodule.core.cache.InvalidatingEventPublisher;
+import com.comex.usermodule.core.cache.UserCache;
 import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
+import com.comex.usermodule.core.port.CacheInvalidationBus;
 import com.comex.usermodule.core.port.EventPublisher;
 import com.comex.usermodule.core.port.PasswordEncoder;
 import com.comex.usermodule.core.port.UserAuthenticator;
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.core.service.RefreshTokenService;
 import com.comex.usermodule.core.service.UserAuthenticationService;
+import com.comex.usermodule.core.service.UserImportService;
 import com.comex.usermodule.core.service.UserService;
 import com.comex.usermodule.core.service.UserVerificationService;
+import com.comex.usermodule.core.verification.ExpiredVerificationCodePurger;
 import com.comex.usermodule.infrastructure.messaging.EventPublisherMock;
+import com.comex.usermodule.metrics.PasswordHashingMetrics;
+import com.comex.usermodule.metrics.UserCacheMetrics;
+import com.comex.usermodule.metrics.VerifiedCredentialsCacheMetrics;
 
 @AutoConfiguration
 public class UserConfiguration {
@@ -32,28 +49,108 @@ public class UserConfiguration {
 	@ConditionalOnMissingBean
 	@Bean
 	public UserMapper userMapper(PasswordEncoder passwordEncoderAdapter) {
-		return new UserMapper(passwordEncoderAdapter);
+		return new UserMapper(passwordEncoderAdapter, userProperties.getVerification().getCodeLifetime());
 	}
 
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public ExpiredVerificationCodePurger expiredVerificationCodePurger(UserRepository userRepository) {
+		UserProperties.VerificationProperties verification = userProperties.getVerification();
+		return new ExpiredVerificationCodePurger(userRepository, verification.getPurgeInterval(),
+			verification.getPurgeBatchSize());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public UserAuthenticationService userAuthenticationService(UserAuthenticator userAuthenticator,
+		ObjectProvider<RefreshTokenService> refreshTokenService) {
+		return new UserAuthenticationService(userAuthenticator, refreshTokenService.getIfAvailable());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean(destroyMethod = "close")
+	public PasswordHashingExecutor passwordHashingExecutor() {
+		UserProperties.HashingProperties hashing = userProperties.getPassword().getHashing();
+		return new PasswordHashingExecutor(hashing.getThreads(), hashing.getQueueCapacity());
+	}
+
+	@Bean
+	public PasswordHashingMetrics passwordHashingMetrics(PasswordHashingExecutor passwordHashingExecutor) {
+		return new PasswordHashingMetrics(passwordHashingExecutor);
+	}
+
+	@ConditionalOnProperty(name = "user.password.credentials-cache.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	public VerifiedCredentialsCache<UserDetails> verifiedCredentialsCache() {
+		UserProperties.CredentialsCacheProperties credentialsCache = userProperties.getPassword().getCredentialsCache();
+		return new VerifiedCredentialsCache<>(credentialsCache.getTimeToLive(), credentialsCache.getMaximumSize());
+	}
+
+	@ConditionalOnProperty(name = "user.password.credentials-cache.enabled", havingValue = "true")
+	@Bean
+	public VerifiedCredentialsCacheMetrics verifiedCredentialsCacheMetrics(
+		VerifiedCredentialsCache<UserDetails> verifiedCredentialsCache) {
+		return new VerifiedCredentialsCacheMetrics(verifiedCredentialsCache);
+	}
+
+	@ConditionalOnProperty(name = "user.user-cache.enabled", havingValue = "true")
 	@ConditionalOnMissingBean
 	@Bean
-	public UserAuthenticationService userAuthenticationService(UserAuthenticator userAuthenticator) {
-		return new UserAuthenticationService(userAuthenticator);
+	public UserCache userCache() {
+		UserProperties.UserCacheProperties userCache = userProperties.getUserCache();
+		return new UserCache(userCache.getTimeToLive(), userCache.getMaximumSize());
+	}
+
+	@ConditionalOnProperty(name = "user.user-cache.enabled", havingValue = "true")
+	@Bean
+	public UserCacheMetrics userCacheMetrics(UserCache userCache) {
+		return new UserCacheMetrics(userCache);
+	}
+
+	@ConditionalOnProperty(name = "user.cache-invalidation.enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	public CacheInvalidationHandler cacheInvalidationHandler(CacheInvalidationBus cacheInvalidationBus,
+		ObjectProvider<UserCache> userCache,
+		ObjectProvider<VerifiedCredentialsCache<UserDetails>> verifiedCredentialsCache,
+		ObjectProvider<RoleCatalog<?>> roleCatalog) {
+		CacheInvalidationHandler handler = new CacheInvalidationHandler(userCache.getIfAvailable(),
+			verifiedCredentialsCache.getIfAvailable(), roleCatalog.getIfAvailable());
+		cacheInvalidationBus.subscribe(handler);
+		return handler;
 	}
 
 	@ConditionalOnMissingBean
 	@Bean
 	public UserVerificationService userVerificationService(UserRepository userRepository, EventPublisher eventPublisher,
-		UserMapper userMapper) {
-		return new UserVerificationService(userRepository, eventPublisher, userMapper);
+		UserMapper userMapper, ObjectProvider<VerifiedCredentialsCache<UserDetails>> verifiedCredentialsCache,
+		ObjectProvider<UserCache> userCache) {
+		UserCache cache = userCache.getIfAvailable();
+		return new UserVerificationService(cached(userRepository, cache), invalidating(eventPublisher, cache),
+			userMapper, verifiedCredentialsCache.getIfAvailable());
 	}
 
 	@ConditionalOnMissingBean
 	@Bean
 	public UserService userService(UserRepository userRepository, EventPublisher eventPublisher,
-		UserMapper userMapper) {
+		UserMapper userMapper, PasswordHashingExecutor passwordHashingExecutor,
+		ObjectProvider<VerifiedCredentialsCache<UserDetails>> verifiedCredentialsCache,
+		ObjectProvider<UserCache> userCache, ObjectProvider<RefreshTokenService> refreshTokenService) {
+		UserCache cache = userCache.getIfAvailable();
+		return new UserService(userProperties.isVerificationRequired(), cached(userRepository, cache),
+			invalidating(eventPublisher, cache), userMapper, passwordHashingExecutor,
+			verifiedCredentialsCache.getIfAvailable(), refreshTokenService.getIfAvailable());
+	}
 
-		return new UserService(userProperties.isVerificationRequired(), userRepository, eventPublisher, userMapper);
+	@ConditionalOnMissingBean
+	@Bean
+	public UserImportService userImportService(UserRepository userRepository, EventPublisher eventPublisher,
+		UserMapper userMapper, PasswordHashingExecutor passwordHashingExecutor, ObjectProvider<UserCache> userCache) {
+		UserCache cache = userCache.getIfAvailable();
+		return new UserImportService(userProperties.isVerificationRequired(), cached(userRepository, cache),
+			invalidating(eventPublisher, cache), userMapper, passwordHashingExecutor,
+			userProperties.getBulkImport().getBatchSize());
 	}
 
 	@ConditionalOnMissingBean
@@ -61,4 +158,16 @@ public class UserConfiguration {
 	public EventPublisher eventPublisherMock() {
 		return new EventPublisherMock();
 	}
+
+	/**
+	 * The services read through the cache rather than the store's repository being replaced, so the stores keep
+	 * registering their repository as the only {@link UserRepository} bean.
+	 */
+	private static UserRepository cached(UserRepository userRepository, UserCache userCache) {
+		return userCache == null ? userRepository : new CachingUserRepository(userRepository, userCache);
+	}
+
+	private static EventPublisher invalidating(EventPublisher eventPublisher, UserCache userCache) {
+		return userCache == null ? eventPublisher : new InvalidatingEventPublisher(eventPublisher, userCache);
+	}
 }
@@ -1,6 +1,13 @@
 package com.comex.usermodule.configuration;
 
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import lombok.Data;
@@ -10,8 +17,15 @@ import lombok.Data;
 public class UserProperties {
 
 	private JwtProperties jwt = new JwtProperties();
+	private TokenProperties token = new TokenProperties();
+	private PasswordProperties password = new PasswordProperties();
+	private BulkImportProperties bulkImport = new BulkImportProperties();
 	private boolean verificationRequired = false;
+	private VerificationProperties verification = new VerificationProperties();
 	private PersistenceProperties persistence = new PersistenceProperties();
+	private RoleCatalogProperties roleCatalog = new RoleCatalogProperties();
+	private UserCacheProperties userCache = new UserCacheProperties();
+	private CacheInvalidationProperties cacheInvalidation = new CacheInvalidationProperties();
 	private DynamoDbProperties dynamodb = new DynamoDbProperties();
 
 	@Data
@@ -19,12 +33,250 @@ public class UserProperties {
 
 		private String jwtSecretKey = "simpleSecretKeyasdadadadadadadadasdadasdasdasd";
 		private Long jwtExpiration = 3600L * 1000L;
+		private ClaimsCacheProperties claimsCache = new ClaimsCacheProperties();
+		private List<JwtKeyProperties> keys = new ArrayList<>();
+		private Duration keyRotationCheckInterval = Duration.ofMinutes(1);
+		private String engine = "compact";
+		private RevocationProperties revocation = new RevocationProperties();
+		private BatchProperties batch = new BatchProperties();
+		private CompactAuthoritiesProperties compactAuthorities = new CompactAuthoritiesProperties();
+	}
+
+	@Data
+	public static class CompactAuthoritiesProperties {
+
+		/**
+		 * Decodes compact {@code roles} claims; enable on every verifying service before {@link #issue}.
+		 */
+		private boolean enabled = false;
+		/**
+		 * Issues tokens with compact {@code roles} claims.
+		 */
+		private boolean issue = false;
+		private int version = 1;
+		/**
+		 * Ordered authority names per dictionary version; versions are kept until their tokens have expired.
+		 */
+		private Map<Integer, List<String>> dictionaries = new HashMap<>();
+	}
+
+	@Data
+	public static class BatchProperties {
+
+		private String executor = "fork-join";
+		private int maximumSize = 256;
+	}
+
+	@Data
+	public static class RevocationProperties {
+
+		private boolean enabled = false;
+		private Duration refreshInterval = Duration.ofSeconds(30);
+		private long expectedRevocations = 100_000;
+		private double falsePositiveProbability = 0.01;
+		/**
+		 * How often revocations of tokens that have since expired are deleted, zero or negative to keep them.
+		 */
+		private Duration purgeInterval = Duration.ofHours(1);
+		private int purgeBatchSize = 500;
+	}
+
+	@Data
+	public static class JwtKeyProperties {
+
+		private String kid;
+		private String secret;
+		private String privateKey;
+		private String publicKey;
+		private Instant activateAt;
+	}
+
+	@Data
+	public static class ClaimsCacheProperties {
+
+		private boolean enabled = false;
+		private int maximumSize = 10_000;
+	}
+
+	@Data
+	public static class TokenProperties {
+
+		private String mode = "jwt";
+		private ReferenceTokenProperties reference = new ReferenceTokenProperties();
+		private RefreshTokenProperties refresh = new RefreshTokenProperties();
+	}
+
+	@Data
+	public static class RefreshTokenProperties {
+
+		private boolean enabled = false;
+		private Duration lifetime = Duration.ofDays(14);
+	}
+
+	@Data
+	public static class ReferenceTokenProperties {
+
+		private Duration idleTimeout = Duration.ofMinutes(30);
+		private Duration maxLifetime = Duration.ofHours(12);
+		private int maximumSize = 100_000;
+		private boolean writeThrough = false;
+		/**
+		 * With write-through, how long a handle is served from memory before the repository is checked again for a
+		 * revocation made through another node.
+		 */
+		private Duration revalidationInterval = Duration.ofSeconds(30);
+	}
+
+	@Data
+	public static class PasswordProperties {
+
+		private HashingProperties hashing = new HashingProperties();
+		private PasswordEncoderProperties encoder = new PasswordEncoderProperties();
+		private CredentialsCacheProperties credentialsCache = new CredentialsCacheProperties();
+	}
+
+	@Data
+	public static class CredentialsCacheProperties {
+
+		private boolean enabled = false;
+		private Duration timeToLive = Duration.ofSeconds(30);
+		private int maximumSize = 1_000;
+	}
+
+	@Data
+	public static class PasswordEncoderProperties {
+
+		/**
+		 * Algorithm new hashes are encoded with: bcrypt, argon2 or pbkdf2. Hashes of the other algorithms keep
+		 * matching and are re-encoded on the next login.
+		 */
+		private String algorithm = "bcrypt";
+		private boolean calibrate = true;
+		private Duration targetDuration = Duration.ofMillis(100);
+		/**
+		 * BCrypt strength, the lower bound when calibrating.
+		 */
+		private int bcryptStrength = 10;
+		private int bcryptMaximumStrength = 16;
+		/**
+		 * Argon2id iterations, the lower bound when calibrating.
+		 */
+		private int argon2Iterations = 2;
+		private int argon2MaximumIterations = 32;
+		private int argon2MemoryKib = 19_456;
+		/**
+		 * PBKDF2-HMAC-SHA256 iterations. Never calibrated, since PBKDF2 hashes do not record their iteration count.
+		 */
+		private int pbkdf2Iterations = 600_000;
+	}
+
+	@Data
+	public static class HashingProperties {
+
+		/**
+		 * Number of hashing threads, defaults to the number of available processors.
+		 */
+		private int threads = Runtime.getRuntime().availableProcessors();
+		private int queueCapacity = 100;
+	}
+
+	@Data
+	public static class BulkImportProperties {
+
+		/**
+		 * Rows hashed, saved and reported together, which also bounds the memory an import holds.
+		 */
+		private int batchSize = 500;
+	}
+
+	@Data
+	public static class VerificationProperties {
+
+		private Duration codeLifetime = Duration.ofDays(1);
+		/**
+		 * How often verification codes not used within their lifetime are cleared, zero or negative to keep them. The
+		 * users stay unverified.
+		 */
+		private Duration purgeInterval = Duration.ofHours(1);
+		private int purgeBatchSize = 500;
+	}
+
+	@Data
+	public static class RoleCatalogProperties {
+
+		private Duration refreshInterval = Duration.ofMinutes(5);
+		/**
+		 * Permissions per role, for stores without a role table (DynamoDB).
+		 */
+		private Map<String, List<String>> roles = new HashMap<>(Map.of("ROLE_USER", List.of(), "ROLE_ADMIN", List.of()));
+	}
+
+	@Data
+	public static class UserCacheProperties {
+
+		private boolean enabled = false;
+		/**
+		 * Bounds how long a user changed on another node is served stale, e.g. a password reset elsewhere.
+		 */
+		private Duration timeToLive = Duration.ofSeconds(30);
+		/**
+		 * Maximum number of entries of each index: by email, credentials by email and by verification code.
+		 */
+		private int maximumSize = 10_000;
+	}
+
+	@Data
+	public static class CacheInvalidationProperties {
+
+		/**
+		 * Applies changes made by other nodes to the user cache, credentials cache and role catalog of this node as
+		 * they commit; needs a CacheInvalidationBus, which the PostgreSQL starter provides.
+		 */
+		private boolean enabled = false;
+		private Duration reconnectDelay = Duration.ofSeconds(5);
+		/**
+		 * How long the listening connection may be quiet before it is checked to still be alive.
+		 */
+		private Duration validationInterval = Duration.ofSeconds(10);
 	}
 
 	@Data
 	public static class PersistenceProperties {
 
+		/**
+		 * Persistence adapter: postgresql (JPA), jdbc (plain JDBC on the same schema) or dynamodb.
+		 */
 		private String type = "postgresql";
+		/**
+		 * Hibernate JDBC batch size; ids are allocated in blocks, see spring.liquibase.parameters.id_block_size.
+		 */
+		private int jdbcBatchSize = 50;
+		/**
+		 * Read replicas of the PostgreSQL primary; lookups run on them once any is configured.
+		 */
+		private List<ReplicaProperties> replicas = new ArrayList<>();
+		/**
+		 * Replay lag beyond which a replica is skipped until it catches up.
+		 */
+		private Duration replicaMaximumLag = Duration.ofSeconds(1);
+		private Duration replicaLagCheckInterval = Duration.ofSeconds(1);
+		/**
+		 * How long lookups of a user saved, or invalidated by another node, read from the primary rather than from a
+		 * replica. Keep it above the replica maximum lag plus the lag check interval, the longest a replica in use
+		 * can be behind.
+		 */
+		private Duration readYourWritesWindow = Duration.ofSeconds(5);
+	}
+
+	@Data
+	public static class ReplicaProperties {
+
+		private String url;
+		/**
+		 * Defaults to spring.datasource.username, like the password to spring.datasource.password.
+		 */
+		private String username;
+		private String password;
 	}
 
 	@Data
@@ -33,5 +285,8 @@ public class UserProperties {
 		private String tableName = "users";
 		private String region = "us-east-1";
 		private String endpoint;
+		private String referenceTokenTableName = "reference-tokens";
+		private String revokedTokenTableName = "revoked-tokens";
+		private String refreshTokenTableName = "refresh-tokens";
 	}
 }
@@ -0,0 +1,46 @@
+package com.comex.usermodule.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PasswordHashingMetrics implements MeterBinder {
+
+	private final PasswordHashingExecutor passwordHashingExecutor;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("user.password.hashing.queue.depth", passwordHashingExecutor,
+				PasswordHashingExecutor::queueDepth)
+			.description("Number of password hashing tasks waiting for a hashing thread")
+			.register(registry);
+		Gauge.builder("user.password.hashing.queue.capacity", passwordHashingExecutor,
+				PasswordHashingExecutor::getQueueCapacity)
+			.description("Number of password hashing tasks that can wait before requests are rejected")
+			.register(registry);
+		Gauge.builder("user.password.hashing.active", passwordHashingExecutor, PasswordHashingExecutor::activeCount)
+			.description("Number of hashing threads currently busy")
+			.register(registry);
+		FunctionTimer.builder("user.password.hashing.wait", passwordHashingExecutor,
+				PasswordHashingExecutor::waitCount, PasswordHashingExecutor::waitTotalNanos, TimeUnit.NANOSECONDS)
+			.description("Time password hashing tasks spent queued before a hashing thread picked them up")
+			.register(registry);
+		FunctionTimer.builder("user.password.hashing.duration", passwordHashingExecutor,
+				PasswordHashingExecutor::executionCount, PasswordHashingExecutor::executionTotalNanos,
+				TimeUnit.NANOSECONDS)
+			.description("Time spent on a hashing thread by logins and sign-ups, dominated by the password hash")
+			.register(registry);
+		FunctionCounter.builder("user.password.hashing.rejections", passwordHashingExecutor,
+				PasswordHashingExecutor::rejectionCount)
+			.description("Number of requests rejected with 503 because the hashing queue was full")
+			.register(registry);
+	}
+}
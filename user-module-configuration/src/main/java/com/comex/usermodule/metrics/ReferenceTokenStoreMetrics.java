@@ -0,0 +1,26 @@
+package com.comex.usermodule.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.comex.usermodule.core.token.ReferenceTokenStore;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ReferenceTokenStoreMetrics implements MeterBinder {
+
+	private final ReferenceTokenStore referenceTokenStore;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, referenceTokenStore.getCache(), "user.token.reference");
+		FunctionTimer.builder("user.token.reference.resolution", referenceTokenStore,
+				ReferenceTokenStore::resolutionCount, ReferenceTokenStore::resolutionTotalNanos, TimeUnit.NANOSECONDS)
+			.description("Time spent resolving reference tokens, including repository reads on a local miss")
+			.register(registry);
+	}
+}
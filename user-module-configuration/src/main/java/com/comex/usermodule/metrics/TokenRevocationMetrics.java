@@ -0,0 +1,37 @@
+package com.comex.usermodule.metrics;
+
+import com.comex.usermodule.core.revocation.TokenRevocationList;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TokenRevocationMetrics implements MeterBinder {
+
+	private final TokenRevocationList tokenRevocationList;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("user.jwt.revocation.filter.false.positive.probability", tokenRevocationList,
+				TokenRevocationList::expectedFalsePositiveProbability)
+			.description("False positive probability of the revocation Bloom filter, estimated from its fill ratio")
+			.register(registry);
+		Gauge.builder("user.jwt.revocation.filter.false.positive.rate", tokenRevocationList,
+				TokenRevocationList::observedFalsePositiveRate)
+			.description("Share of Bloom filter hits that turned out not to be revoked")
+			.register(registry);
+		FunctionCounter.builder("user.jwt.revocation.checks", tokenRevocationList, TokenRevocationList::checkCount)
+			.description("Number of tokens checked against the revocation list")
+			.register(registry);
+		FunctionCounter.builder("user.jwt.revocation.filter.hits", tokenRevocationList,
+				TokenRevocationList::filterHitCount)
+			.description("Number of checks that had to be confirmed against the revocation store")
+			.register(registry);
+		FunctionCounter.builder("user.jwt.revocation.filter.false.positives", tokenRevocationList,
+				TokenRevocationList::falsePositiveCount)
+			.register(registry);
+	}
+}
@@ -0,0 +1,20 @@
+package com.comex.usermodule.metrics;
+
+import com.comex.usermodule.core.cache.UserCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserCacheMetrics implements MeterBinder {
+
+	private final UserCache userCache;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		userCache.getCaches().forEach((index, cache) ->
+			CaffeineCacheMetrics.monitor(registry, cache, "user.cache", "index", index));
+	}
+}
@@ -0,0 +1,19 @@
+package com.comex.usermodule.metrics;
+
+import com.comex.usermodule.core.jwt.VerifiedClaimsCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class VerifiedClaimsCacheMetrics implements MeterBinder {
+
+	private final VerifiedClaimsCache verifiedClaimsCache;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, verifiedClaimsCache.getCache(), "user.jwt.claims");
+	}
+}
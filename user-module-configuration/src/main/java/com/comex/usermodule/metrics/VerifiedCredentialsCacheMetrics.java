@@ -0,0 +1,19 @@
+package com.comex.usermodule.metrics;
+
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class VerifiedCredentialsCacheMetrics implements MeterBinder {
+
+	private final VerifiedCredentialsCache<?> verifiedCredentialsCache;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, verifiedCredentialsCache.getCache(), "user.password.credentials");
+	}
+}
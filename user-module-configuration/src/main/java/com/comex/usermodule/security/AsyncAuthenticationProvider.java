@@ -0,0 +1,35 @@
+package com.comex.usermodule.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * An {@link AuthenticationProvider} that can authenticate without the calling thread waiting for the password check.
+ * Authenticating synchronously waits for the asynchronous result.
+ */
+public interface AsyncAuthenticationProvider extends AuthenticationProvider {
+
+	/**
+	 * @throws java.util.concurrent.RejectedExecutionException when the password hashing queue is full
+	 */
+	CompletableFuture<Authentication> authenticateAsync(Authentication authentication);
+
+	@Override
+	default Authentication authenticate(Authentication authentication) throws AuthenticationException {
+		try {
+			return authenticateAsync(authentication).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
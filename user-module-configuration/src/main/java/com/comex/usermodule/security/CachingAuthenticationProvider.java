@@ -0,0 +1,52 @@
+package com.comex.usermodule.security;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves repeated logins with recently verified credentials from a {@link VerifiedCredentialsCache} and delegates
+ * everything else, including failed and non username/password authentications, to the wrapped provider. Only
+ * successful authentications are cached, so a wrong password always reaches the password encoder.
+ */
+@RequiredArgsConstructor
+public class CachingAuthenticationProvider implements AsyncAuthenticationProvider {
+
+	private final AsyncAuthenticationProvider delegate;
+	private final VerifiedCredentialsCache<UserDetails> verifiedCredentialsCache;
+
+	@Override
+	public CompletableFuture<Authentication> authenticateAsync(Authentication authentication) {
+		if (!(authentication instanceof UsernamePasswordAuthenticationToken)
+			|| !(authentication.getCredentials() instanceof String password)) {
+			return delegate.authenticateAsync(authentication);
+		}
+
+		String email = authentication.getName();
+		UserDetails cached = verifiedCredentialsCache.get(email, password);
+		if (cached != null) {
+			UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(cached,
+				null, cached.getAuthorities());
+			result.setDetails(authentication.getDetails());
+			return CompletableFuture.completedFuture(result);
+		}
+
+		return delegate.authenticateAsync(authentication).thenApply(result -> {
+			if (result != null && result.isAuthenticated() && result.getPrincipal() instanceof UserDetails userDetails) {
+				verifiedCredentialsCache.put(email, password, userDetails);
+			}
+			return result;
+		});
+	}
+
+	@Override
+	public boolean supports(Class<?> authentication) {
+		return delegate.supports(authentication);
+	}
+}
@@ -0,0 +1,118 @@
+package com.comex.usermodule.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.comex.usermodule.core.jwt.AuthorityClaimCodec;
+
+/**
+ * Shared {@link GrantedAuthority} instances for the small, fixed set of authorities in the system, and immutable
+ * authority lists cached per distinct {@code roles} claim.
+ * <p>
+ * Tokens of users with the same roles carry the same claim, so after warm-up decoding the claim is a single map
+ * lookup and allocates nothing. On a miss the claim is scanned once for separators instead of regex splitting, or
+ * decoded by the {@link AuthorityClaimCodec} when it is in the compact bitmask format.
+ */
+public class GrantedAuthorityRegistry {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final int maximumSize;
+	private final AuthorityClaimCodec authorityClaimCodec;
+	private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+	private final Map<String, List<GrantedAuthority>> authorityLists = new ConcurrentHashMap<>();
+
+	public GrantedAuthorityRegistry() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	public GrantedAuthorityRegistry(int maximumSize) {
+		this(maximumSize, null);
+	}
+
+	/**
+	 * @param authorityClaimCodec decodes compact claims, {@code null} to reject them
+	 */
+	public GrantedAuthorityRegistry(int maximumSize, AuthorityClaimCodec authorityClaimCodec) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		this.maximumSize = maximumSize;
+		this.authorityClaimCodec = authorityClaimCodec;
+	}
+
+	public GrantedAuthority authority(String name) {
+		GrantedAuthority authority = authorities.get(name);
+		if (authority != null) {
+			return authority;
+		}
+		if (authorities.size() >= maximumSize) {
+			// only reachable with an unexpected authority explosion, keep serving without growing the registry
+			return new SimpleGrantedAuthority(name);
+		}
+		return authorities.computeIfAbsent(name, SimpleGrantedAuthority::new);
+	}
+
+	/**
+	 * Decodes a comma separated or compact {@code roles} claim into an immutable list of shared authorities. Empty
+	 * segments are skipped.
+	 *
+	 * @throws IllegalArgumentException if the claim is compact and cannot be decoded
+	 */
+	public List<GrantedAuthority> decode(String roles) {
+		if (roles == null || roles.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<GrantedAuthority> cached = authorityLists.get(roles);
+		if (cached != null) {
+			return cached;
+		}
+
+		List<GrantedAuthority> decoded = Collections.unmodifiableList(
+			AuthorityClaimCodec.isCompact(roles) ? decodeCompact(roles) : scan(roles));
+		if (authorityLists.size() >= maximumSize) {
+			authorityLists.clear();
+		}
+		authorityLists.put(roles, decoded);
+		return decoded;
+	}
+
+	public int size() {
+		return authorities.size();
+	}
+
+	private List<GrantedAuthority> decodeCompact(String roles) {
+		if (authorityClaimCodec == null) {
+			throw new IllegalArgumentException("Compact authorities claims are not enabled.");
+		}
+		List<GrantedAuthority> decoded = new ArrayList<>(4);
+		for (String name : authorityClaimCodec.decode(roles)) {
+			decoded.add(authority(name));
+		}
+		return decoded;
+	}
+
+	private List<GrantedAuthority> scan(String roles) {
+		List<GrantedAuthority> decoded = new ArrayList<>(4);
+		int start = 0;
+		int length = roles.length();
+		while (start <= length) {
+			int end = roles.indexOf(',', start);
+			if (end < 0) {
+				end = length;
+			}
+			if (end > start) {
+				decoded.add(authority(roles.substring(start, end)));
+			}
+			start = end + 1;
+		}
+		return decoded;
+	}
+}
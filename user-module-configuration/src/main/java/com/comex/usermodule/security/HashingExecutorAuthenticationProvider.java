@@ -0,0 +1,104 @@
+package com.comex.usermodule.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authenticates username and password logins like a
+ * {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider}, but verifies the password on the
+ * {@link PasswordHashingExecutor}: the user is loaded on the calling thread, only the password check occupies the
+ * CPU-sized pool and the authentication completes off the pool, so no thread waits for the hashing.
+ * <p>
+ * A hash of an outdated algorithm or work factor is re-encoded on the pool after a successful check. When the queue
+ * has no room for it the upgrade is left to the next login instead of failing this one.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HashingExecutorAuthenticationProvider implements AsyncAuthenticationProvider {
+
+	private static final String BAD_CREDENTIALS = "Bad credentials";
+
+	private final UserDetailsService userDetailsService;
+	private final PasswordEncoder passwordEncoder;
+	private final UserDetailsPasswordService userDetailsPasswordService;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+	@Override
+	public CompletableFuture<Authentication> authenticateAsync(Authentication authentication) {
+		if (!(authentication.getCredentials() instanceof String password)) {
+			throw new BadCredentialsException(BAD_CREDENTIALS);
+		}
+		UserDetails user = loadUser(authentication.getName());
+		userDetailsChecker.check(user);
+
+		return passwordHashingExecutor.submit(() -> passwordEncoder.matches(password, user.getPassword()))
+			.thenCompose(matches -> {
+				if (!matches) {
+					throw new BadCredentialsException(BAD_CREDENTIALS);
+				}
+				return upgradeEncoding(user, password);
+			})
+			.thenApply(authenticated -> authenticated(authentication, authenticated));
+	}
+
+	@Override
+	public boolean supports(Class<?> authentication) {
+		return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+	}
+
+	private UserDetails loadUser(String username) {
+		try {
+			UserDetails user = userDetailsService.loadUserByUsername(username);
+			if (user == null) {
+				throw new InternalAuthenticationServiceException(
+					"UserDetailsService returned null, which is an interface contract violation");
+			}
+			return user;
+		} catch (UsernameNotFoundException e) {
+			throw new BadCredentialsException(BAD_CREDENTIALS);
+		} catch (AuthenticationException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new InternalAuthenticationServiceException(e.getMessage(), e);
+		}
+	}
+
+	private CompletableFuture<UserDetails> upgradeEncoding(UserDetails user, String password) {
+		if (userDetailsPasswordService == null || !passwordEncoder.upgradeEncoding(user.getPassword())) {
+			return CompletableFuture.completedFuture(user);
+		}
+		try {
+			return passwordHashingExecutor.submit(() -> passwordEncoder.encode(password))
+				.thenApply(encodedPassword -> userDetailsPasswordService.updatePassword(user, encodedPassword));
+		} catch (RejectedExecutionException e) {
+			log.debug("Password hashing queue is full, not upgrading password hash of user: {}.", user.getUsername());
+			return CompletableFuture.completedFuture(user);
+		}
+	}
+
+	private static Authentication authenticated(Authentication authentication, UserDetails user) {
+		UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(user, null,
+			user.getAuthorities());
+		result.setDetails(authentication.getDetails());
+		return result;
+	}
+}
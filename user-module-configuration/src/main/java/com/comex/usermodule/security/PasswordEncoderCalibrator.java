@@ -0,0 +1,66 @@
+package com.comex.usermodule.security;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the work factor of a password encoder at startup so that hashing one password takes close to, but not more
+ * than, a target duration on the current hardware. The configured work factor is a floor: calibration only ever
+ * raises it.
+ */
+@Slf4j
+public final class PasswordEncoderCalibrator {
+
+	private static final String SAMPLE_PASSWORD = "calibration-Password-123";
+	private static final int SAMPLES = 3;
+
+	private PasswordEncoderCalibrator() {
+	}
+
+	/**
+	 * For encoders whose cost doubles with every step of the work factor, such as the BCrypt strength.
+	 */
+	public static int calibrateExponential(IntFunction<PasswordEncoder> encoderFactory, int minimum, int maximum,
+		Duration target) {
+		long measured = measureNanos(encoderFactory.apply(minimum));
+		int cost = minimum;
+		long projected = measured;
+		while (cost < maximum && projected * 2 <= target.toNanos()) {
+			projected *= 2;
+			cost++;
+		}
+		log.info("Calibrated password encoder work factor to {} (~{} ms per hash, {} ms at {}).", cost,
+			projected / 1_000_000L, measured / 1_000_000L, minimum);
+		return cost;
+	}
+
+	/**
+	 * For encoders whose cost grows linearly with the work factor, such as Argon2 iterations.
+	 */
+	public static int calibrateLinear(IntFunction<PasswordEncoder> encoderFactory, int minimum, int maximum,
+		Duration target) {
+		long measured = measureNanos(encoderFactory.apply(minimum));
+		int cost = (int) Math.max(minimum, Math.min(maximum, minimum * target.toNanos() / Math.max(1L, measured)));
+		log.info("Calibrated password encoder work factor to {} (~{} ms per hash, {} ms at {}).", cost,
+			measured * cost / minimum / 1_000_000L, measured / 1_000_000L, minimum);
+		return cost;
+	}
+
+	/**
+	 * Fastest of a few runs after a warm-up run, which filters out JIT compilation and scheduling noise.
+	 */
+	private static long measureNanos(PasswordEncoder encoder) {
+		encoder.encode(SAMPLE_PASSWORD);
+		long fastest = Long.MAX_VALUE;
+		for (int i = 0; i < SAMPLES; i++) {
+			long start = System.nanoTime();
+			encoder.encode(SAMPLE_PASSWORD);
+			fastest = Math.min(fastest, System.nanoTime() - start);
+		}
+		return fastest;
+	}
+}
@@ -1,13 +1,14 @@
 package com.comex.usermodule.security;
 
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.dto.CreateUserDto;
 import com.comex.usermodule.core.dto.LoginUserOAuth2Dto;
 import com.comex.usermodule.core.port.UserGoogleAuthenticator;
-import com.comex.usermodule.core.service.JwtService;
 import com.comex.usermodule.core.service.UserService;
+import com.comex.usermodule.core.token.TokenIssuer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,14 +16,30 @@ import lombok.RequiredArgsConstructor;
 public class UserGoogleSpringAuthenticator implements UserGoogleAuthenticator {
 
 	private final UserService userService;
-	private final JwtService jwtService;
+	private final TokenIssuer tokenIssuer;
 
+	/**
+	 * Signs a first-time user up with a random password. The success handler calling this has to answer
+	 * synchronously, so it waits for the sign-up, but hashing that password still goes through the bounded hashing
+	 * pool rather than running on the request thread.
+	 */
 	@Override
 	public String authenticate(LoginUserOAuth2Dto loginUserOAuth2Dto) {
 		User user = userService.findByEmailOptional(loginUserOAuth2Dto.email())
-			.orElseGet(() -> userService.createUser(new CreateUserDto(loginUserOAuth2Dto.email(),
-				UUID.randomUUID().toString(), loginUserOAuth2Dto.email())));
+			.orElseGet(() -> createUser(new CreateUserDto(loginUserOAuth2Dto.email(), UUID.randomUUID().toString(),
+				loginUserOAuth2Dto.email())));
 
-		return jwtService.generateToken(user);
+		return tokenIssuer.issueToken(user);
+	}
+
+	private User createUser(CreateUserDto createUserDto) {
+		try {
+			return userService.createUserAsync(createUserDto).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
 	}
 }
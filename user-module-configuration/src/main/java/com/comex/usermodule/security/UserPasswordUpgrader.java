@@ -0,0 +1,35 @@
+package com.comex.usermodule.security;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+
+import com.comex.usermodule.core.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores the re-encoded password of a user who logged in with a hash produced by an outdated algorithm or work
+ * factor. Called by the authentication provider after a successful password check, so the raw password is never
+ * kept around for it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserPasswordUpgrader implements UserDetailsPasswordService {
+
+	private final UserService userService;
+
+	@Override
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		try {
+			userService.updatePassword(user.getUsername(), newPassword);
+		} catch (RuntimeException e) {
+			// the login already succeeded, the upgrade is retried on the next one
+			log.warn("Could not upgrade password hash of user: {}.", user.getUsername(), e);
+		}
+		return User.withUserDetails(user)
+			.password(newPassword)
+			.build();
+	}
+}
@@ -1,38 +1,67 @@
 package com.comex.usermodule.security;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import com.comex.usermodule.core.domain.Role;
 import com.comex.usermodule.core.dto.LoginUserDto;
 import com.comex.usermodule.core.port.UserAuthenticator;
-import com.comex.usermodule.core.service.JwtService;
+import com.comex.usermodule.core.service.RefreshTokenService;
+import com.comex.usermodule.core.token.TokenIssuer;
+import com.comex.usermodule.core.token.TokenPair;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Authenticates logins through the {@link AuthenticationManager}, or asynchronously through the
+ * {@link AsyncAuthenticationProvider} when there is one, which verifies passwords without the calling thread waiting.
+ */
 @RequiredArgsConstructor
 public class UserSpringAuthenticator implements UserAuthenticator {
 
 	private final AuthenticationManager authenticationManager;
-	private final JwtService jwtService;
+	private final AsyncAuthenticationProvider authenticationProvider;
+	private final TokenIssuer tokenIssuer;
+	private final RefreshTokenService refreshTokenService;
+
+	public UserSpringAuthenticator(AuthenticationManager authenticationManager, TokenIssuer tokenIssuer) {
+		this(authenticationManager, null, tokenIssuer, null);
+	}
+
+	@Override
+	public TokenPair authenticate(LoginUserDto loginUserDto) {
+		return issueTokens(authenticationManager.authenticate(toAuthenticationToken(loginUserDto)));
+	}
 
 	@Override
-	public String authenticate(LoginUserDto loginUserDto) {
-		Authentication authentication = authenticationManager.authenticate(
-			new UsernamePasswordAuthenticationToken(loginUserDto.email(), loginUserDto.password()));
+	public CompletableFuture<TokenPair> authenticateAsync(LoginUserDto loginUserDto) {
+		if (authenticationProvider == null) {
+			return UserAuthenticator.super.authenticateAsync(loginUserDto);
+		}
+		return authenticationProvider.authenticateAsync(toAuthenticationToken(loginUserDto))
+			.thenApply(this::issueTokens);
+	}
+
+	private TokenPair issueTokens(Authentication authentication) {
 		User user = (User) authentication.getPrincipal();
-		return jwtService.generateToken(com.comex.usermodule.core.domain.User
+		com.comex.usermodule.core.domain.User authenticatedUser = com.comex.usermodule.core.domain.User
 			.builder()
 			.email(user.getUsername())
 			.roles(user.getAuthorities().stream()
 				.map(a -> new Role(a.getAuthority(), Collections.emptySet()))
 				.collect(Collectors.toSet()))
-			.build());
+			.build();
+		return new TokenPair(tokenIssuer.issueToken(authenticatedUser),
+			refreshTokenService != null ? refreshTokenService.issue(authenticatedUser) : null);
+	}
+
+	private static UsernamePasswordAuthenticationToken toAuthenticationToken(LoginUserDto loginUserDto) {
+		return new UsernamePasswordAuthenticationToken(loginUserDto.email(), loginUserDto.password());
 	}
 }
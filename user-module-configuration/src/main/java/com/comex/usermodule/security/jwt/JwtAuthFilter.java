@@ -1,19 +1,19 @@
 package com.comex.usermodule.security.jwt;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.revocation.TokenRevocationList;
 import com.comex.usermodule.core.service.JwtService;
+import com.comex.usermodule.core.token.ReferenceTokenStore;
+import com.comex.usermodule.security.GrantedAuthorityRegistry;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +26,13 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
 	private final JwtService jwtService;
+	private final ReferenceTokenStore referenceTokenStore;
+	private final TokenRevocationList revocationList;
+	private final GrantedAuthorityRegistry grantedAuthorityRegistry;
+
+	public JwtAuthFilter(JwtService jwtService) {
+		this(jwtService, null, null, new GrantedAuthorityRegistry());
+	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -45,18 +52,32 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		log.debug("Extracted JWT token: {}", token);
 
 		try {
-			Claims claims = jwtService.extractAllClaims(token);
+			JwtClaims claims = isReferenceToken(token)
+				? referenceTokenStore.resolve(token)
+				: jwtService.verifyToken(token);
 			log.debug("Extracted claims: {}", claims);
 
-			String username = claims.getSubject();
+			if (revocationList != null && claims.id() != null && revocationList.isRevoked(claims.id())) {
+				log.debug("Token {} is revoked.", claims.id());
+				response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+				response.getWriter().write("Invalid or expired JWT token.");
+				return;
+			}
+
+			String username = claims.subject();
 			log.debug("Username from token: {}", username);
 
-			List<GrantedAuthority> authorities = Arrays.stream(((String) claims.get("roles")).split(","))
-				.map(SimpleGrantedAuthority::new)
-				.collect(Collectors.toList());
+			List<GrantedAuthority> authorities = grantedAuthorityRegistry.decode(claims.roles());
 
 			log.debug("Extracted roles: {}", authorities);
 
+			if (authorities.isEmpty()) {
+				log.debug("Token for {} carries no roles.", username);
+				response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+				response.getWriter().write("Invalid or expired JWT token.");
+				return;
+			}
+
 			if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 				UsernamePasswordAuthenticationToken authentication =
 					new UsernamePasswordAuthenticationToken(username, null, authorities);
@@ -74,4 +95,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	private boolean isReferenceToken(String token) {
+		// reference tokens are opaque Base64URL handles, JWTs always contain the segment separators
+		return referenceTokenStore != null && token.indexOf('.') < 0;
+	}
 }
@@ -0,0 +1,85 @@
+package com.comex.usermodule.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.service.JwtService;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+	private static final String TOKEN = "a.b.c";
+
+	@Mock
+	private JwtService jwtService;
+
+	private JwtAuthFilter sut;
+
+	@BeforeEach
+	void setUp() {
+		sut = new JwtAuthFilter(jwtService);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void testAuthenticatesTokenWithRoles() throws Exception {
+		// GIVEN
+		when(jwtService.verifyToken(TOKEN)).thenReturn(new JwtClaims("test@example.com", "ROLE_USER,READ", 0L, 60L));
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// WHEN
+		MockHttpServletResponse response = filter(filterChain);
+
+		// THEN
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(filterChain.getRequest()).isNotNull();
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(authentication.getName()).isEqualTo("test@example.com");
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+			.containsExactly("ROLE_USER", "READ");
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	void testRejectsTokenWithoutRoles(String roles) throws Exception {
+		// GIVEN
+		when(jwtService.verifyToken(TOKEN)).thenReturn(new JwtClaims("test@example.com", roles, 0L, 60L));
+		MockFilterChain filterChain = new MockFilterChain();
+
+		// WHEN
+		MockHttpServletResponse response = filter(filterChain);
+
+		// THEN
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(filterChain.getRequest()).isNull();
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	private MockHttpServletResponse filter(MockFilterChain filterChain) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/me");
+		request.addHeader("Authorization", "Bearer " + TOKEN);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		sut.doFilter(request, response, filterChain);
+		return response;
+	}
+}
@@ -0,0 +1,39 @@
+package com.comex.usermodule.core.cache;
+
+/**
+ * A change that makes node-local caches of users or roles stale, sent over a {@link
+ * com.comex.usermodule.core.port.CacheInvalidationBus}.
+ *
+ * @param type what changed
+ * @param email the email of the changed user, {@link Type#USER} only
+ * @param verificationCode the verification code of the changed user if it has one, {@link Type#USER} only
+ */
+public record CacheInvalidation(Type type, String email, String verificationCode) {
+
+	public enum Type {
+		/**
+		 * One user was updated or deleted.
+		 */
+		USER,
+		/**
+		 * Roles, permissions or their assignment changed, which affects the authorities of any user.
+		 */
+		ROLES,
+		/**
+		 * Changes may have been missed, e.g. while the bus was disconnected; everything must be reloaded.
+		 */
+		ALL
+	}
+
+	public static CacheInvalidation user(String email, String verificationCode) {
+		return new CacheInvalidation(Type.USER, email, verificationCode);
+	}
+
+	public static CacheInvalidation roles() {
+		return new CacheInvalidation(Type.ROLES, null, null);
+	}
+
+	public static CacheInvalidation all() {
+		return new CacheInvalidation(Type.ALL, null, null);
+	}
+}
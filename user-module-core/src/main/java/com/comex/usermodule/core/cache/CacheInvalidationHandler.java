@@ -0,0 +1,58 @@
+package com.comex.usermodule.core.cache;
+
+import java.util.function.Consumer;
+
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
+import com.comex.usermodule.core.role.RoleCatalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the invalidations received from a {@link com.comex.usermodule.core.port.CacheInvalidationBus} to the caches
+ * of this node. Each cache is optional.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationHandler implements Consumer<CacheInvalidation> {
+
+	private final UserCache userCache;
+	private final VerifiedCredentialsCache<?> verifiedCredentialsCache;
+	private final RoleCatalog<?> roleCatalog;
+
+	@Override
+	public void accept(CacheInvalidation invalidation) {
+		log.debug("Applying cache invalidation {}.", invalidation);
+		switch (invalidation.type()) {
+			case USER -> {
+				if (userCache != null) {
+					userCache.invalidate(invalidation.email(), invalidation.verificationCode());
+				}
+				if (verifiedCredentialsCache != null) {
+					verifiedCredentialsCache.invalidate(invalidation.email());
+				}
+			}
+			case ROLES, ALL -> {
+				// cached users and principals carry the authorities of their roles
+				if (roleCatalog != null) {
+					refreshRoleCatalog();
+				}
+				if (userCache != null) {
+					userCache.invalidateAll();
+				}
+				if (verifiedCredentialsCache != null) {
+					verifiedCredentialsCache.invalidateAll();
+				}
+			}
+		}
+	}
+
+	private void refreshRoleCatalog() {
+		try {
+			roleCatalog.refresh();
+		} catch (RuntimeException e) {
+			// the scheduled refresh retries
+			log.error("Role catalog refresh after invalidation failed.", e);
+		}
+	}
+}
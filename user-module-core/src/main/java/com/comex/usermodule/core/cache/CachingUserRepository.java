@@ -0,0 +1,122 @@
+package com.comex.usermodule.core.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.port.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read-through {@link UserRepository} decorator over a {@link UserCache}, for any store.
+ * <p>
+ * Users are returned as copies, since callers change the user they read before saving it and a failed save must not
+ * leave the change in the cache. Writes go to the store first and invalidate the user afterwards.
+ */
+@RequiredArgsConstructor
+public class CachingUserRepository implements UserRepository {
+
+	private final UserRepository delegate;
+	private final UserCache userCache;
+
+	@Override
+	public User save(User user) {
+		try {
+			return delegate.save(user);
+		} finally {
+			userCache.invalidate(user);
+		}
+	}
+
+	@Override
+	public List<User> saveAll(List<User> users) {
+		try {
+			return delegate.saveAll(users);
+		} finally {
+			users.forEach(userCache::invalidate);
+		}
+	}
+
+	@Override
+	public User findByEmail(String email) {
+		User cached = userCache.getByEmail(email);
+		if (cached != null) {
+			return copy(cached);
+		}
+		long stamp = userCache.stamp();
+		User user = delegate.findByEmail(email);
+		userCache.putByEmail(email, copy(user), stamp);
+		return user;
+	}
+
+	@Override
+	public Optional<User> findByEmailOptional(String email) {
+		User cached = userCache.getByEmail(email);
+		if (cached != null) {
+			return Optional.of(copy(cached));
+		}
+		long stamp = userCache.stamp();
+		Optional<User> user = delegate.findByEmailOptional(email);
+		user.ifPresent(found -> userCache.putByEmail(email, copy(found), stamp));
+		return user;
+	}
+
+	@Override
+	public Optional<UserCredentials> findCredentialsByEmail(String email) {
+		UserCredentials cached = userCache.getCredentials(email);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		long stamp = userCache.stamp();
+		Optional<UserCredentials> credentials = delegate.findCredentialsByEmail(email);
+		credentials.ifPresent(found -> userCache.putCredentials(email, found, stamp));
+		return credentials;
+	}
+
+	@Override
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		// covers users of any status, which the cache does not hold
+		return delegate.findExistingEmails(emails);
+	}
+
+	@Override
+	public User findByVerificationCode(String verificationCode) {
+		User cached = userCache.getByVerificationCode(verificationCode);
+		if (cached != null) {
+			return copy(cached);
+		}
+		long stamp = userCache.stamp();
+		User user = delegate.findByVerificationCode(verificationCode);
+		userCache.putByVerificationCode(verificationCode, copy(user), stamp);
+		return user;
+	}
+
+	@Override
+	public int clearExpiredVerificationCodes(Instant expiredBefore, int limit) {
+		// only pending users are changed, which are cached by their expired code at most and fail verification anyway
+		return delegate.clearExpiredVerificationCodes(expiredBefore, limit);
+	}
+
+	private static User copy(User user) {
+		if (user == null) {
+			return null;
+		}
+		// roles are shared, they are not changed in place
+		return User.builder()
+			.id(user.getId())
+			.username(user.getUsername())
+			.password(user.getPassword())
+			.roles(user.getRoles())
+			.email(user.getEmail())
+			.createdAt(user.getCreatedAt())
+			.status(user.getStatus())
+			.verificationCode(user.getVerificationCode())
+			.verificationCodeExpiresAt(user.getVerificationCodeExpiresAt())
+			.build();
+	}
+}
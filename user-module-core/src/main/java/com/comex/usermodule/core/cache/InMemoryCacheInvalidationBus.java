@@ -0,0 +1,26 @@
+package com.comex.usermodule.core.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.comex.usermodule.core.port.CacheInvalidationBus;
+
+/**
+ * Single-node {@link CacheInvalidationBus} that calls the subscribers on the publishing thread, for tests and
+ * deployments of one node.
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+	private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+	}
+
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> subscriber) {
+		subscribers.add(subscriber);
+	}
+}
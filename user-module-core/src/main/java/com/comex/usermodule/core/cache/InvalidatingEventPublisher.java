@@ -0,0 +1,31 @@
+package com.comex.usermodule.core.cache;
+
+import java.util.List;
+
+import com.comex.usermodule.core.event.UserEvent;
+import com.comex.usermodule.core.port.EventPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link EventPublisher} decorator that lets the node's {@link UserCache} see the events it publishes. Consumers of
+ * the events on other nodes call {@link UserCache#onEvent(UserEvent)} themselves.
+ */
+@RequiredArgsConstructor
+public class InvalidatingEventPublisher implements EventPublisher {
+
+	private final EventPublisher delegate;
+	private final UserCache userCache;
+
+	@Override
+	public void publish(UserEvent userEvent) {
+		userCache.onEvent(userEvent);
+		delegate.publish(userEvent);
+	}
+
+	@Override
+	public void publishAll(List<? extends UserEvent> userEvents) {
+		userEvents.forEach(userCache::onEvent);
+		delegate.publishAll(userEvents);
+	}
+}
@@ -0,0 +1,184 @@
+package com.comex.usermodule.core.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.event.UserEvent;
+import com.comex.usermodule.core.event.UserVerifiedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded, concurrent cache of recently read users, shared by every {@link CachingUserRepository} of a node.
+ * <p>
+ * Verified users and their credentials are indexed by email, users of any status by verification code. Only found
+ * users are cached, so a user registered or verified on another node is seen on the next lookup. Entries expire after
+ * a fixed time to live counted from the read, which bounds how long a change written by another node goes unnoticed,
+ * and are dropped as soon as the user is saved through this node or a {@link UserVerifiedEvent} is received. Each
+ * index is a Caffeine cache of its own.
+ */
+public class UserCache {
+
+	private final int maximumSize;
+	private final Region<User> usersByEmail;
+	private final Region<UserCredentials> credentialsByEmail;
+	private final Region<User> usersByVerificationCode;
+	/**
+	 * Counts invalidations, so that a read racing with a save does not cache the user it loaded before the save.
+	 */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public UserCache(Duration timeToLive, int maximumSize) {
+		this(timeToLive, maximumSize, Clock.systemUTC());
+	}
+
+	/**
+	 * @param maximumSize the maximum number of entries of each index
+	 */
+	public UserCache(Duration timeToLive, int maximumSize, Clock clock) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		this.maximumSize = maximumSize;
+		this.usersByEmail = new Region<>(timeToLive, clock);
+		this.credentialsByEmail = new Region<>(timeToLive, clock);
+		this.usersByVerificationCode = new Region<>(timeToLive, clock);
+	}
+
+	/**
+	 * Returns the stamp to pass to the {@code put} methods, taken before loading the value from the store.
+	 */
+	public long stamp() {
+		return invalidations.get();
+	}
+
+	public User getByEmail(String email) {
+		return usersByEmail.get(email);
+	}
+
+	public void putByEmail(String email, User user, long stamp) {
+		usersByEmail.put(email, user, stamp);
+	}
+
+	public UserCredentials getCredentials(String email) {
+		return credentialsByEmail.get(email);
+	}
+
+	public void putCredentials(String email, UserCredentials credentials, long stamp) {
+		credentialsByEmail.put(email, credentials, stamp);
+	}
+
+	public User getByVerificationCode(String verificationCode) {
+		return usersByVerificationCode.get(verificationCode);
+	}
+
+	public void putByVerificationCode(String verificationCode, User user, long stamp) {
+		usersByVerificationCode.put(verificationCode, user, stamp);
+	}
+
+	/**
+	 * Drops every entry of the user, called after the user has been written.
+	 */
+	public void invalidate(User user) {
+		invalidate(user.getEmail(), user.getVerificationCode());
+	}
+
+	/**
+	 * Drops the entries of the user with the email and verification code, either of which may be {@code null}.
+	 */
+	public void invalidate(String email, String verificationCode) {
+		invalidations.incrementAndGet();
+		if (email != null) {
+			usersByEmail.remove(email);
+			credentialsByEmail.remove(email);
+		}
+		if (verificationCode != null) {
+			usersByVerificationCode.remove(verificationCode);
+		}
+	}
+
+	/**
+	 * Drops the entries an event makes stale. A {@link UserVerifiedEvent} only carries the id and the verification
+	 * code of the user, so the email indexes are scanned for the id; verifications are rare next to lookups.
+	 */
+	public void onEvent(UserEvent event) {
+		if (!(event instanceof UserVerifiedEvent verifiedEvent)) {
+			return;
+		}
+		invalidations.incrementAndGet();
+		if (verifiedEvent.getVerificationCode() != null) {
+			usersByVerificationCode.remove(verifiedEvent.getVerificationCode());
+		}
+		if (verifiedEvent.getId() != null) {
+			removeById(verifiedEvent.getId());
+		}
+	}
+
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		usersByEmail.cache.invalidateAll();
+		credentialsByEmail.cache.invalidateAll();
+		usersByVerificationCode.cache.invalidateAll();
+	}
+
+	public long size() {
+		return usersByEmail.cache.estimatedSize() + credentialsByEmail.cache.estimatedSize()
+			+ usersByVerificationCode.cache.estimatedSize();
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The underlying cache of every index by index name, whose statistics are exported as metrics.
+	 */
+	public Map<String, Cache<?, ?>> getCaches() {
+		return Map.of("email", usersByEmail.cache, "credentials", credentialsByEmail.cache, "verification-code",
+			usersByVerificationCode.cache);
+	}
+
+	private void removeById(Long id) {
+		// credentials are only cached for verified users, whose email is known when they are saved
+		usersByEmail.cache.asMap().values().removeIf(user -> id.equals(user.getId()));
+		usersByVerificationCode.cache.asMap().values().removeIf(user -> id.equals(user.getId()));
+	}
+
+	private final class Region<V> {
+
+		private final Cache<String, V> cache;
+
+		private Region(Duration timeToLive, Clock clock) {
+			this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(timeToLive)
+				.ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+				.recordStats()
+				.build();
+		}
+
+		private V get(String key) {
+			return key == null ? null : cache.getIfPresent(key);
+		}
+
+		private void put(String key, V value, long stamp) {
+			if (key == null || value == null) {
+				return;
+			}
+			cache.put(key, value);
+			if (invalidations.get() != stamp) {
+				// invalidated while the value was loaded, it may predate the write
+				cache.asMap().remove(key, value);
+			}
+		}
+
+		private void remove(String key) {
+			cache.invalidate(key);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.comex.usermodule.core.domain;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide dictionary assigning every role and permission name a small, stable integer id, in order of first
+ * appearance, so that sets of authorities can be held as bitsets. Ids are never reused or removed; the vocabulary of
+ * roles and permissions is small and fixed by the role catalog, so the dictionary stays small too.
+ * <p>
+ * Lookups of known names are lock-free and allocation-free; only registering a new name takes a lock.
+ */
+public final class AuthorityDictionary {
+
+	private static final AuthorityDictionary GLOBAL = new AuthorityDictionary();
+
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+	private volatile String[] names = new String[0];
+
+	AuthorityDictionary() {
+	}
+
+	public static AuthorityDictionary global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Returns the id of the name, registering it first if it is new.
+	 */
+	public int register(String name) {
+		Integer id = ids.get(name);
+		return id != null ? id : registerNew(name);
+	}
+
+	/**
+	 * Returns the id of the name, or -1 if the name was never registered.
+	 */
+	public int idOf(String name) {
+		Integer id = ids.get(name);
+		return id != null ? id : -1;
+	}
+
+	public String nameOf(int id) {
+		return names[id];
+	}
+
+	public int size() {
+		return names.length;
+	}
+
+	private synchronized int registerNew(String name) {
+		Integer id = ids.get(name);
+		if (id != null) {
+			return id;
+		}
+		String[] current = names;
+		String[] next = Arrays.copyOf(current, current.length + 1);
+		next[current.length] = name;
+		// publish the name before the id, so a reader that sees the id always finds the name
+		names = next;
+		ids.put(name, current.length);
+		return current.length;
+	}
+}
@@ -0,0 +1,161 @@
+package com.comex.usermodule.core.domain;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of authority names, stored as a bitset over the ids of the {@link AuthorityDictionary}. Membership
+ * checks and unions work on the bit words and never allocate beyond the resulting set, and the set is still a
+ * regular {@code Set<String>} for code that iterates names.
+ */
+public final class AuthoritySet extends AbstractSet<String> {
+
+	public static final AuthoritySet EMPTY = new AuthoritySet(new long[0], AuthorityDictionary.global());
+
+	private final long[] words;
+	private final AuthorityDictionary dictionary;
+	private final int size;
+
+	private AuthoritySet(long[] words, AuthorityDictionary dictionary) {
+		this.words = words;
+		this.dictionary = dictionary;
+		int bits = 0;
+		for (long word : words) {
+			bits += Long.bitCount(word);
+		}
+		this.size = bits;
+	}
+
+	public static AuthoritySet of(Collection<String> names) {
+		return of(names, AuthorityDictionary.global());
+	}
+
+	static AuthoritySet of(Collection<String> names, AuthorityDictionary dictionary) {
+		if (names == null || names.isEmpty()) {
+			return EMPTY;
+		}
+		int[] ids = new int[names.size()];
+		int maxId = -1;
+		int i = 0;
+		for (String name : names) {
+			ids[i] = dictionary.register(name);
+			maxId = Math.max(maxId, ids[i++]);
+		}
+		long[] words = new long[(maxId >> 6) + 1];
+		for (int id : ids) {
+			words[id >> 6] |= 1L << id;
+		}
+		return new AuthoritySet(words, dictionary);
+	}
+
+	/**
+	 * Returns the union of the sets, allocating nothing but the result.
+	 */
+	public static AuthoritySet union(Iterable<AuthoritySet> sets) {
+		int length = 0;
+		AuthorityDictionary dictionary = AuthorityDictionary.global();
+		for (AuthoritySet set : sets) {
+			length = Math.max(length, set.words.length);
+			dictionary = set.dictionary;
+		}
+		if (length == 0) {
+			return EMPTY;
+		}
+		long[] words = new long[length];
+		for (AuthoritySet set : sets) {
+			for (int i = 0; i < set.words.length; i++) {
+				words[i] |= set.words[i];
+			}
+		}
+		return new AuthoritySet(words, dictionary);
+	}
+
+	public AuthoritySet union(AuthoritySet other) {
+		if (other.containsAll(this)) {
+			return other;
+		}
+		if (containsAll(other)) {
+			return this;
+		}
+		long[] words = Arrays.copyOf(this.words, Math.max(this.words.length, other.words.length));
+		for (int i = 0; i < other.words.length; i++) {
+			words[i] |= other.words[i];
+		}
+		return new AuthoritySet(words, dictionary);
+	}
+
+	public boolean contains(int id) {
+		int word = id >> 6;
+		return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+	}
+
+	@Override
+	public boolean contains(Object name) {
+		return name instanceof String authority && contains(dictionary.idOf(authority));
+	}
+
+	/**
+	 * Bitwise subset check when both sets are authority sets, element by element otherwise.
+	 */
+	@Override
+	public boolean containsAll(Collection<?> names) {
+		if (!(names instanceof AuthoritySet other)) {
+			return super.containsAll(names);
+		}
+		for (int i = 0; i < other.words.length; i++) {
+			long word = i < words.length ? words[i] : 0L;
+			if ((other.words[i] & ~word) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<>() {
+
+			private int next = nextSetBit(0);
+
+			@Override
+			public boolean hasNext() {
+				return next >= 0;
+			}
+
+			@Override
+			public String next() {
+				if (next < 0) {
+					throw new NoSuchElementException();
+				}
+				String name = dictionary.nameOf(next);
+				next = nextSetBit(next + 1);
+				return name;
+			}
+		};
+	}
+
+	private int nextSetBit(int from) {
+		int word = from >> 6;
+		if (word >= words.length) {
+			return -1;
+		}
+		long bits = words[word] & (-1L << from);
+		while (true) {
+			if (bits != 0) {
+				return (word << 6) + Long.numberOfTrailingZeros(bits);
+			}
+			if (++word == words.length) {
+				return -1;
+			}
+			bits = words[word];
+		}
+	}
+}
@@ -3,28 +3,58 @@ package com.comex.usermodule.core.domain;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Data
 public class Role {
 
 	private String name;
 	private Set<String> permissions;
+	/**
+	 * The role name and permissions as a bitset, built on first use. Reset by the setters; the permissions set
+	 * itself is treated as immutable once the authorities have been read.
+	 */
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private transient AuthoritySet authorities;
 
 	public Role(String name) {
 		this.name = name;
 	}
 
-	public Set<String> getAuthorities() {
-		Set<String> authorities = new HashSet<>();
-		authorities.add(this.name);
-		authorities.addAll(this.permissions);
-		return authorities;
+	public Role(String name, Set<String> permissions) {
+		this.name = name;
+		this.permissions = permissions;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+		this.authorities = null;
+	}
+
+	public void setPermissions(Set<String> permissions) {
+		this.permissions = permissions;
+		this.authorities = null;
+	}
+
+	public AuthoritySet getAuthorities() {
+		AuthoritySet current = authorities;
+		if (current == null) {
+			Set<String> names = new HashSet<>();
+			if (name != null) {
+				names.add(name);
+			}
+			if (permissions != null) {
+				names.addAll(permissions);
+			}
+			current = AuthoritySet.of(names);
+			authorities = current;
+		}
+		return current;
 	}
 }
@@ -2,15 +2,13 @@ package com.comex.usermodule.core.domain;
 
 import java.time.Instant;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
-@Builder
-@AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class User {
@@ -23,10 +21,45 @@ public class User {
 	private Instant createdAt;
 	private UserStatus status;
 	private String verificationCode;
+	/**
+	 * When the verification code stops being accepted, {@code null} for codes that never expire.
+	 */
+	private Instant verificationCodeExpiresAt;
+	/**
+	 * Union of the authorities of all roles, computed on first use and reset by {@link #setRoles(Set)}. The roles
+	 * set itself is treated as immutable once the authorities have been read.
+	 */
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private transient AuthoritySet authorities;
 
-	public Set<String> getAuthorities() {
-		return roles.stream()
-			.flatMap(r -> r.getAuthorities().stream())
-			.collect(Collectors.toSet());
+	@Builder(toBuilder = true)
+	public User(Long id, String username, String password, Set<Role> roles, String email, Instant createdAt,
+		UserStatus status, String verificationCode, Instant verificationCodeExpiresAt) {
+		this.id = id;
+		this.username = username;
+		this.password = password;
+		this.roles = roles;
+		this.email = email;
+		this.createdAt = createdAt;
+		this.status = status;
+		this.verificationCode = verificationCode;
+		this.verificationCodeExpiresAt = verificationCodeExpiresAt;
+	}
+
+	public void setRoles(Set<Role> roles) {
+		this.roles = roles;
+		this.authorities = null;
+	}
+
+	public AuthoritySet getAuthorities() {
+		AuthoritySet current = authorities;
+		if (current == null) {
+			current = roles == null || roles.isEmpty() ? AuthoritySet.EMPTY : AuthoritySet.union(roles.stream()
+				.map(Role::getAuthorities)
+				.toList());
+			authorities = current;
+		}
+		return current;
 	}
 }
@@ -0,0 +1,9 @@
+package com.comex.usermodule.core.domain;
+
+import java.util.Set;
+
+/**
+ * What a login needs to know about a verified user: the password hash and the authorities of all of its roles.
+ */
+public record UserCredentials(String email, String password, Set<String> authorities) {
+}
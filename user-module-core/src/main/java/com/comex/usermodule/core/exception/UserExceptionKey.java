@@ -3,6 +3,10 @@ package com.comex.usermodule.core.exception;
 public enum UserExceptionKey {
 
 	NOT_FOUND,
+	VERIFICATION_CODE_EXPIRED,
 	JWT_TOKEN_INVALID,
-	JWT_TOKEN_EXPIRED
+	JWT_TOKEN_EXPIRED,
+	TOKEN_NOT_REVOCABLE,
+	REFRESH_TOKEN_REUSED,
+	TOKEN_REVOKED
 }
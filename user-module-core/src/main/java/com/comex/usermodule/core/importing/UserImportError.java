@@ -0,0 +1,4 @@
+package com.comex.usermodule.core.importing;
+
+public record UserImportError(long line, String email, String message) {
+}
@@ -0,0 +1,10 @@
+package com.comex.usermodule.core.importing;
+
+import java.util.List;
+
+/**
+ * Outcome of one import batch. Every row up to and including {@code checkpoint} has been either imported or
+ * reported, so an interrupted import is resumed by passing the last received checkpoint.
+ */
+public record UserImportProgress(long checkpoint, int imported, List<UserImportError> errors) {
+}
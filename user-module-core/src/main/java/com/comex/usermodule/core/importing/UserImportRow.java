@@ -0,0 +1,22 @@
+package com.comex.usermodule.core.importing;
+
+import com.comex.usermodule.core.dto.CreateUserDto;
+
+/**
+ * One record of an import source, numbered from 1 in input order. Records the reader could not parse carry the
+ * parse error instead of a user, so they are reported like any other failed row.
+ */
+public record UserImportRow(long line, CreateUserDto user, String error) {
+
+	public static UserImportRow valid(long line, CreateUserDto user) {
+		return new UserImportRow(line, user, null);
+	}
+
+	public static UserImportRow invalid(long line, String error) {
+		return new UserImportRow(line, null, error);
+	}
+
+	public boolean isValid() {
+		return error == null;
+	}
+}
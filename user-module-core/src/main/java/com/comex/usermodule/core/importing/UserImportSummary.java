@@ -0,0 +1,4 @@
+package com.comex.usermodule.core.importing;
+
+public record UserImportSummary(long checkpoint, long imported, long failed) {
+}
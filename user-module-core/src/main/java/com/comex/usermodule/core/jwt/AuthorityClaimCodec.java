@@ -0,0 +1,117 @@
+package com.comex.usermodule.core.jwt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.comex.usermodule.core.domain.AuthoritySet;
+
+/**
+ * Compact encoding of the {@code roles} claim as a versioned bitmask over a configured permission dictionary:
+ * {@code ~<version>.<Base64URL bytes>}, where bit {@code i} (byte {@code i / 8}, bit {@code i % 8}) stands for the
+ * {@code i}-th name of the dictionary of that version. The claim stays the same size however long the names are.
+ * <p>
+ * Dictionaries are shared by every service verifying the tokens, so they must be stable: a dictionary that changes
+ * gets a new version, and old versions stay configured until the tokens encoded with them have expired. Tokens of
+ * users with an authority missing from the current dictionary fall back to the comma separated format, so both
+ * formats are always decoded.
+ */
+public class AuthorityClaimCodec {
+
+	private static final char PREFIX = '~';
+	private static final char SEPARATOR = '.';
+
+	private final int version;
+	private final Map<String, Integer> bits;
+	private final Map<Integer, String[]> dictionaries;
+
+	/**
+	 * @param version the dictionary version tokens are encoded with
+	 * @param dictionaries the ordered authority names of every version still accepted, the current one included
+	 */
+	public AuthorityClaimCodec(int version, Map<Integer, List<String>> dictionaries) {
+		List<String> current = dictionaries.get(version);
+		if (current == null) {
+			throw new IllegalArgumentException(String.format("No authority dictionary of version %d.", version));
+		}
+		this.version = version;
+		this.bits = new HashMap<>();
+		for (int bit = 0; bit < current.size(); bit++) {
+			if (bits.putIfAbsent(current.get(bit), bit) != null) {
+				throw new IllegalArgumentException(
+					String.format("Authority %s is listed twice in dictionary %d.", current.get(bit), version));
+			}
+		}
+		this.dictionaries = new HashMap<>();
+		dictionaries.forEach((dictionaryVersion, names) ->
+			this.dictionaries.put(dictionaryVersion, names.toArray(String[]::new)));
+	}
+
+	public static boolean isCompact(String claim) {
+		return claim != null && !claim.isEmpty() && claim.charAt(0) == PREFIX;
+	}
+
+	/**
+	 * Encodes the authorities as a bitmask over the current dictionary, or comma separated when one of them is not
+	 * in the dictionary.
+	 */
+	public String encode(Collection<String> authorities) {
+		byte[] mask = new byte[0];
+		for (String authority : authorities) {
+			Integer bit = bits.get(authority);
+			if (bit == null) {
+				return String.join(",", authorities);
+			}
+			if (bit / 8 >= mask.length) {
+				mask = Arrays.copyOf(mask, bit / 8 + 1);
+			}
+			mask[bit / 8] |= (byte) (1 << (bit % 8));
+		}
+		return PREFIX + Integer.toString(version) + SEPARATOR + Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(mask);
+	}
+
+	/**
+	 * Decodes a compact claim.
+	 *
+	 * @throws IllegalArgumentException if the claim is malformed, of an unknown version or sets a bit the dictionary
+	 * of its version does not have
+	 */
+	public AuthoritySet decode(String claim) {
+		int separator = claim.indexOf(SEPARATOR);
+		if (!isCompact(claim) || separator < 0) {
+			throw new IllegalArgumentException("Authorities claim is not in the compact format.");
+		}
+
+		String[] names;
+		byte[] mask;
+		try {
+			names = dictionaries.get(Integer.parseInt(claim, 1, separator, 10));
+			mask = Base64.getUrlDecoder().decode(claim.substring(separator + 1));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Authorities claim has an invalid version.", e);
+		}
+		if (names == null) {
+			throw new IllegalArgumentException("Authorities claim has an unknown dictionary version.");
+		}
+
+		List<String> authorities = new ArrayList<>(4);
+		for (int index = 0; index < mask.length; index++) {
+			for (int bit = 0; bit < 8; bit++) {
+				if ((mask[index] & (1 << bit)) == 0) {
+					continue;
+				}
+				int id = index * 8 + bit;
+				if (id >= names.length) {
+					throw new IllegalArgumentException("Authorities claim sets a bit outside of its dictionary.");
+				}
+				authorities.add(names[id]);
+			}
+		}
+		return AuthoritySet.of(authorities);
+	}
+}
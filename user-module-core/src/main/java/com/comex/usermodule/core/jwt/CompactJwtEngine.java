@@ -0,0 +1,310 @@
+package com.comex.usermodule.core.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.jsonwebtoken.security.SignatureException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Specialized engine for the fixed user-module token shape: an HMAC header written by one of the ring's signers and a
+ * flat payload of string and integer claims.
+ * <p>
+ * The header segment is matched against the pre-encoded headers of the ring instead of being parsed, the HMAC is
+ * verified over the raw token bytes in place, and the payload is read by a minimal JSON scanner straight into a
+ * {@link JwtClaims}. Tokens of any other shape (asymmetric keys, unknown headers, nested claims) are handed to the
+ * fallback engine, so the result never differs from jjwt. Unlike jjwt, tokens without an {@code exp} claim are
+ * rejected, whatever their shape: every token the module issues carries one.
+ */
+@RequiredArgsConstructor
+public class CompactJwtEngine implements JwtEngine {
+
+	private static final byte[] BASE64_URL_VALUES = base64UrlValues();
+
+	private final JwtKeyRing keyRing;
+	private final JwtEngine fallback;
+
+	@Override
+	public JwtClaims verify(String token) {
+		JwtClaims claims = verifyClaims(token);
+		if (!claims.hasExpiration()) {
+			throw new IllegalArgumentException("JWT has no exp claim.");
+		}
+		return claims;
+	}
+
+	private JwtClaims verifyClaims(String token) {
+		if (token == null || token.isEmpty()) {
+			throw new IllegalArgumentException("Token must not be empty.");
+		}
+		int headerEnd = token.indexOf('.');
+		int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+		if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+			return fallback.verify(token);
+		}
+
+		HmacJwtSigner verifier = keyRing.hmacVerifier(token, headerEnd);
+		if (verifier == null) {
+			return fallback.verify(token);
+		}
+
+		byte[] bytes = token.getBytes(StandardCharsets.ISO_8859_1);
+		if (!verifier.verifySignature(bytes, payloadEnd)) {
+			throw new SignatureException("JWT signature does not match locally computed signature.");
+		}
+
+		JwtClaims claims = PayloadScanner.scan(decodeBase64Url(bytes, headerEnd + 1, payloadEnd));
+		return claims != null ? claims : fallback.verify(token);
+	}
+
+	private static byte[] decodeBase64Url(byte[] source, int from, int to) {
+		int length = to - from;
+		if (length % 4 == 1) {
+			throw new IllegalArgumentException("Invalid Base64URL payload length.");
+		}
+		byte[] decoded = new byte[length * 3 / 4];
+		int bits = 0;
+		int bitCount = 0;
+		int position = 0;
+		for (int i = from; i < to; i++) {
+			int value = source[i] < 0 ? -1 : BASE64_URL_VALUES[source[i]];
+			if (value < 0) {
+				throw new IllegalArgumentException("Invalid Base64URL character in payload.");
+			}
+			bits = (bits << 6) | value;
+			bitCount += 6;
+			if (bitCount >= 8) {
+				bitCount -= 8;
+				decoded[position++] = (byte) (bits >> bitCount);
+			}
+		}
+		return decoded;
+	}
+
+	private static byte[] base64UrlValues() {
+		byte[] values = new byte[128];
+		Arrays.fill(values, (byte) -1);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (int i = 0; i < alphabet.length(); i++) {
+			values[alphabet.charAt(i)] = (byte) i;
+		}
+		return values;
+	}
+
+	/**
+	 * Reads the flat JSON object of the payload. Returns {@code null} when it meets a construct outside the token
+	 * shape (nested values, fractional numbers, a not-before claim), in which case the caller falls back to the general parser.
+	 */
+	static final class PayloadScanner {
+
+		private static final byte[] SUB = "sub".getBytes(StandardCharsets.US_ASCII);
+		private static final byte[] ROLES = "roles".getBytes(StandardCharsets.US_ASCII);
+		private static final byte[] JTI = "jti".getBytes(StandardCharsets.US_ASCII);
+		private static final byte[] IAT = "iat".getBytes(StandardCharsets.US_ASCII);
+		private static final byte[] EXP = "exp".getBytes(StandardCharsets.US_ASCII);
+		private static final byte[] NBF = "nbf".getBytes(StandardCharsets.US_ASCII);
+
+		private final byte[] json;
+		private int position;
+
+		private PayloadScanner(byte[] json) {
+			this.json = json;
+		}
+
+		static JwtClaims scan(byte[] json) {
+			return new PayloadScanner(json).scanObject();
+		}
+
+		private JwtClaims scanObject() {
+			String subject = null;
+			String roles = null;
+			String id = null;
+			long issuedAt = 0L;
+			long expiration = 0L;
+
+			expect('{');
+			if (peek() == '}') {
+				position++;
+				return new JwtClaims(null, null, 0L, 0L);
+			}
+			while (true) {
+				expect('"');
+				int nameStart = position;
+				int nameEnd = skipString();
+				expect(':');
+
+				byte next = peek();
+				if (next == '"') {
+					position++;
+					if (nameEquals(nameStart, nameEnd, SUB)) {
+						subject = readString();
+					} else if (nameEquals(nameStart, nameEnd, ROLES)) {
+						roles = readString();
+					} else if (nameEquals(nameStart, nameEnd, JTI)) {
+						id = readString();
+					} else {
+						skipString();
+					}
+				} else if (next == '-' || (next >= '0' && next <= '9')) {
+					long value = readLong();
+					if (value == Long.MIN_VALUE || nameEquals(nameStart, nameEnd, NBF)) {
+						return null;
+					}
+					if (nameEquals(nameStart, nameEnd, IAT)) {
+						issuedAt = value;
+					} else if (nameEquals(nameStart, nameEnd, EXP)) {
+						expiration = value;
+					}
+				} else if (!skipLiteral()) {
+					return null;
+				}
+
+				byte separator = peek();
+				position++;
+				if (separator == '}') {
+					return trailingWhitespaceOnly() ? new JwtClaims(subject, roles, issuedAt, expiration, id)
+						: null;
+				}
+				if (separator != ',') {
+					throw new IllegalArgumentException("Malformed JWT payload.");
+				}
+				skipWhitespace();
+			}
+		}
+
+		private boolean nameEquals(int start, int end, byte[] name) {
+			if (end - start != name.length) {
+				return false;
+			}
+			for (int i = 0; i < name.length; i++) {
+				if (json[start + i] != name[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Skips a string whose opening quote was consumed and returns the index of its closing quote.
+		 */
+		private int skipString() {
+			while (position < json.length) {
+				byte current = json[position++];
+				if (current == '\\') {
+					position++;
+				} else if (current == '"') {
+					return position - 1;
+				}
+			}
+			throw new IllegalArgumentException("Unterminated string in JWT payload.");
+		}
+
+		private String readString() {
+			int start = position;
+			int end = skipString();
+			for (int i = start; i < end; i++) {
+				if (json[i] == '\\') {
+					return unescape(start, end);
+				}
+			}
+			return new String(json, start, end - start, StandardCharsets.UTF_8);
+		}
+
+		private String unescape(int start, int end) {
+			StringBuilder value = new StringBuilder(end - start);
+			int chunkStart = start;
+			int i = start;
+			while (i < end) {
+				if (json[i] != '\\') {
+					i++;
+					continue;
+				}
+				value.append(new String(json, chunkStart, i - chunkStart, StandardCharsets.UTF_8));
+				byte escaped = json[i + 1];
+				switch (escaped) {
+					case '"', '\\', '/' -> value.append((char) escaped);
+					case 'b' -> value.append('\b');
+					case 'f' -> value.append('\f');
+					case 'n' -> value.append('\n');
+					case 'r' -> value.append('\r');
+					case 't' -> value.append('\t');
+					case 'u' -> {
+						value.append((char) Integer.parseInt(
+							new String(json, i + 2, 4, StandardCharsets.US_ASCII), 16));
+						i += 4;
+					}
+					default -> throw new IllegalArgumentException("Invalid escape in JWT payload.");
+				}
+				i += 2;
+				chunkStart = i;
+			}
+			value.append(new String(json, chunkStart, end - chunkStart, StandardCharsets.UTF_8));
+			return value.toString();
+		}
+
+		/**
+		 * Reads an integer, or returns {@code Long.MIN_VALUE} for numbers outside the token shape.
+		 */
+		private long readLong() {
+			boolean negative = json[position] == '-';
+			if (negative) {
+				position++;
+			}
+			int digitsStart = position;
+			long value = 0L;
+			while (position < json.length && json[position] >= '0' && json[position] <= '9') {
+				if (position - digitsStart >= 18) {
+					return Long.MIN_VALUE;
+				}
+				value = value * 10 + (json[position++] - '0');
+			}
+			if (position == digitsStart) {
+				throw new IllegalArgumentException("Malformed number in JWT payload.");
+			}
+			byte next = peek();
+			if (next == '.' || next == 'e' || next == 'E') {
+				return Long.MIN_VALUE;
+			}
+			return negative ? -value : value;
+		}
+
+		private boolean skipLiteral() {
+			for (String literal : new String[] {"true", "false", "null"}) {
+				if (position + literal.length() <= json.length
+					&& new String(json, position, literal.length(), StandardCharsets.US_ASCII).equals(literal)) {
+					position += literal.length();
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void expect(char expected) {
+			skipWhitespace();
+			if (position >= json.length || json[position] != expected) {
+				throw new IllegalArgumentException("Malformed JWT payload.");
+			}
+			position++;
+		}
+
+		private byte peek() {
+			skipWhitespace();
+			if (position >= json.length) {
+				throw new IllegalArgumentException("Unexpected end of JWT payload.");
+			}
+			return json[position];
+		}
+
+		private boolean trailingWhitespaceOnly() {
+			skipWhitespace();
+			return position == json.length;
+		}
+
+		private void skipWhitespace() {
+			while (position < json.length
+				&& (json[position] == ' ' || json[position] == '\t' || json[position] == '\n' || json[position] == '\r')) {
+				position++;
+			}
+		}
+	}
+}
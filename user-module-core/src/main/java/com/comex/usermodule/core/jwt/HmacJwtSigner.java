@@ -0,0 +1,139 @@
+package com.comex.usermodule.core.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * Compact JWS signer for the user-module token shape ({@code roles}, {@code sub}, {@code iat}, {@code exp} and
+ * an optional {@code jti}).
+ * <p>
+ * The key material, the Base64URL header segment and one {@link Mac} per thread are prepared once, so issuing a
+ * token only serializes the payload and runs the HMAC. Produced tokens are byte-for-byte what the jjwt builder
+ * would produce for the same claims and are verified by the regular jjwt parser. The same prepared state verifies
+ * signatures for {@link CompactJwtEngine}.
+ */
+public class HmacJwtSigner implements JwtSigner {
+
+	private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+	private final String algorithm;
+	private final byte[] encodedHeader;
+	private final String headerSegment;
+	private final ThreadLocal<Mac> macs;
+
+	public HmacJwtSigner(SecretKey signingKey) {
+		this(signingKey, null);
+	}
+
+	public HmacJwtSigner(SecretKey signingKey, String keyId) {
+		this.algorithm = jwsAlgorithm(signingKey);
+		this.encodedHeader = BASE64_URL.encode(header(algorithm, keyId).getBytes(StandardCharsets.UTF_8));
+		this.headerSegment = new String(encodedHeader, StandardCharsets.ISO_8859_1);
+		this.macs = ThreadLocal.withInitial(() -> newMac(signingKey));
+		// fail fast on unusable keys instead of on the first login
+		newMac(signingKey);
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	@Override
+	public String sign(String subject, String roles, String tokenId, long issuedAtMillis, long expirationMillis) {
+		StringBuilder payload = new StringBuilder(112 + roles.length() + subject.length());
+		payload.append("{\"roles\":");
+		JsonStrings.appendQuoted(payload, roles);
+		payload.append(",\"sub\":");
+		JsonStrings.appendQuoted(payload, subject);
+		payload.append(",\"iat\":").append(issuedAtMillis / 1000L);
+		payload.append(",\"exp\":").append(expirationMillis / 1000L);
+		if (tokenId != null) {
+			payload.append(",\"jti\":");
+			JsonStrings.appendQuoted(payload, tokenId);
+		}
+		payload.append('}');
+
+		byte[] encodedPayload = BASE64_URL.encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+
+		int signingInputLength = encodedHeader.length + 1 + encodedPayload.length;
+		byte[] signingInput = new byte[signingInputLength];
+		System.arraycopy(encodedHeader, 0, signingInput, 0, encodedHeader.length);
+		signingInput[encodedHeader.length] = '.';
+		System.arraycopy(encodedPayload, 0, signingInput, encodedHeader.length + 1, encodedPayload.length);
+
+		byte[] encodedSignature = BASE64_URL.encode(macs.get().doFinal(signingInput));
+
+		byte[] token = Arrays.copyOf(signingInput, signingInputLength + 1 + encodedSignature.length);
+		token[signingInputLength] = '.';
+		System.arraycopy(encodedSignature, 0, token, signingInputLength + 1, encodedSignature.length);
+		// Base64URL output is pure ASCII, so Latin-1 decoding is a straight copy into a compact string
+		return new String(token, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Whether the token's header segment, ending at {@code headerEnd}, is exactly the one this signer writes.
+	 */
+	public boolean matchesHeader(String token, int headerEnd) {
+		return headerEnd == headerSegment.length() && token.regionMatches(0, headerSegment, 0, headerEnd);
+	}
+
+	/**
+	 * Verifies the signature of an ASCII encoded compact token in place: the MAC runs over the first
+	 * {@code signingInputLength} bytes and is compared in constant time with the segment that follows the dot.
+	 */
+	public boolean verifySignature(byte[] token, int signingInputLength) {
+		Mac mac = macs.get();
+		mac.update(token, 0, signingInputLength);
+		byte[] expected = BASE64_URL.encode(mac.doFinal());
+
+		int signatureStart = signingInputLength + 1;
+		if (token.length - signatureStart != expected.length) {
+			return false;
+		}
+		int difference = 0;
+		for (int i = 0; i < expected.length; i++) {
+			difference |= expected[i] ^ token[signatureStart + i];
+		}
+		return difference == 0;
+	}
+
+	static String jwsAlgorithm(SecretKey signingKey) {
+		return switch (signingKey.getAlgorithm()) {
+			case "HmacSHA256" -> "HS256";
+			case "HmacSHA384" -> "HS384";
+			case "HmacSHA512" -> "HS512";
+			default -> throw new IllegalArgumentException(
+				String.format("Unsupported HMAC key algorithm: %s.", signingKey.getAlgorithm()));
+		};
+	}
+
+	private static String header(String algorithm, String keyId) {
+		StringBuilder header = new StringBuilder(32);
+		header.append('{');
+		if (keyId != null) {
+			header.append("\"kid\":");
+			JsonStrings.appendQuoted(header, keyId);
+			header.append(',');
+		}
+		header.append("\"alg\":");
+		JsonStrings.appendQuoted(header, algorithm);
+		header.append('}');
+		return header.toString();
+	}
+
+	private static Mac newMac(SecretKey signingKey) {
+		try {
+			Mac mac = Mac.getInstance(signingKey.getAlgorithm());
+			mac.init(signingKey);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(
+				String.format("Unable to initialize %s for token signing.", signingKey.getAlgorithm()), e);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.comex.usermodule.core.jwt;
+
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * General purpose engine backed by the jjwt parser. Handles every algorithm of the {@link JwtKeyRing}, including
+ * asymmetric keys, and serves as the fallback of {@link CompactJwtEngine}.
+ */
+public class JjwtEngine implements JwtEngine {
+
+	private final JwtParser jwtParser;
+
+	public JjwtEngine(JwtKeyRing keyRing) {
+		this.jwtParser = Jwts.parser()
+			.keyLocator(keyRing)
+			.build();
+	}
+
+	@Override
+	public JwtClaims verify(String token) {
+		Claims claims;
+		try {
+			claims = jwtParser.parseSignedClaims(token).getPayload();
+		} catch (ExpiredJwtException e) {
+			// signature was valid, the caller decides what an expired token means
+			claims = e.getClaims();
+		}
+		return new JwtClaims(claims.getSubject(), claims.get("roles", String.class), epochSeconds(claims.getIssuedAt()),
+			epochSeconds(claims.getExpiration()), claims.getId());
+	}
+
+	private static long epochSeconds(Date date) {
+		return date == null ? 0L : date.getTime() / 1000L;
+	}
+}
@@ -0,0 +1,32 @@
+package com.comex.usermodule.core.jwt;
+
+import java.security.PrivateKey;
+import java.util.Date;
+import java.util.Map;
+
+import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Signer for asymmetric (RSA/EC) keys, delegating to the jjwt builder which picks the JWS algorithm from the key.
+ */
+@RequiredArgsConstructor
+public class JjwtSigner implements JwtSigner {
+
+	private final PrivateKey signingKey;
+	private final String keyId;
+
+	@Override
+	public String sign(String subject, String roles, String tokenId, long issuedAtMillis, long expirationMillis) {
+		return Jwts
+			.builder()
+			.header().keyId(keyId).and()
+			.claims(Map.of("roles", roles))
+			.subject(subject)
+			.issuedAt(new Date(issuedAtMillis))
+			.expiration(new Date(expirationMillis))
+			.id(tokenId)
+			.signWith(signingKey)
+			.compact();
+	}
+}
@@ -0,0 +1,33 @@
+package com.comex.usermodule.core.jwt;
+
+final class JsonStrings {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	static void appendQuoted(StringBuilder target, String value) {
+		target.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> target.append("\\\"");
+				case '\\' -> target.append("\\\\");
+				case '\n' -> target.append("\\n");
+				case '\r' -> target.append("\\r");
+				case '\t' -> target.append("\\t");
+				case '\b' -> target.append("\\b");
+				case '\f' -> target.append("\\f");
+				default -> {
+					if (c < 0x20) {
+						target.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+					} else {
+						target.append(c);
+					}
+				}
+			}
+		}
+		target.append('"');
+	}
+
+	private JsonStrings() {
+	}
+}
@@ -0,0 +1,25 @@
+package com.comex.usermodule.core.jwt;
+
+/**
+ * Immutable view of the claims carried by user-module tokens. Timestamps are epoch seconds as in the JWT itself, and
+ * {@code 0} means the claim is absent. The {@code id} is the {@code jti} claim, {@code null} for tokens issued
+ * without one.
+ */
+public record JwtClaims(String subject, String roles, long issuedAt, long expiration, String id) {
+
+	public JwtClaims(String subject, String roles, long issuedAt, long expiration) {
+		this(subject, roles, issuedAt, expiration, null);
+	}
+
+	public boolean hasExpiration() {
+		return expiration != 0L;
+	}
+
+	public long expirationMillis() {
+		return expiration * 1000L;
+	}
+
+	public boolean isExpired(long nowMillis) {
+		return hasExpiration() && expirationMillis() < nowMillis;
+	}
+}
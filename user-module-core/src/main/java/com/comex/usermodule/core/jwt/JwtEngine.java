@@ -0,0 +1,11 @@
+package com.comex.usermodule.core.jwt;
+
+/**
+ * Verifies a compact JWS and returns its claims. Implementations throw {@link io.jsonwebtoken.JwtException} or
+ * {@link IllegalArgumentException} for tokens that are malformed or carry an invalid signature, and leave the
+ * expiration check to the caller.
+ */
+public interface JwtEngine {
+
+	JwtClaims verify(String token);
+}
@@ -0,0 +1,52 @@
+package com.comex.usermodule.core.jwt;
+
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One entry of the {@link JwtKeyRing}: the pre-built verification key, the signer when the private part is known,
+ * and the instant from which the key is used for signing.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtKey {
+
+	private final String keyId;
+	private final Key verificationKey;
+	private final JwtSigner signer;
+	private final Instant activateAt;
+
+	public static JwtKey hmac(String keyId, String base64Secret, Instant activateAt) {
+		return hmac(keyId, Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret)), activateAt);
+	}
+
+	public static JwtKey hmac(String keyId, SecretKey secretKey, Instant activateAt) {
+		return new JwtKey(keyId, secretKey, new HmacJwtSigner(secretKey, keyId), orEpoch(activateAt));
+	}
+
+	public static JwtKey asymmetric(String keyId, PrivateKey privateKey, PublicKey publicKey, Instant activateAt) {
+		return new JwtKey(keyId, publicKey, new JjwtSigner(privateKey, keyId), orEpoch(activateAt));
+	}
+
+	public static JwtKey verificationOnly(String keyId, PublicKey publicKey) {
+		return new JwtKey(keyId, publicKey, null, Instant.EPOCH);
+	}
+
+	public boolean canSign() {
+		return signer != null;
+	}
+
+	private static Instant orEpoch(Instant activateAt) {
+		return activateAt != null ? activateAt : Instant.EPOCH;
+	}
+}
@@ -0,0 +1,214 @@
+package com.comex.usermodule.core.jwt;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Set of keys used to sign and verify tokens, indexed by {@code kid}.
+ * <p>
+ * The key with the latest {@code activateAt} that is not in the future signs new tokens. A key that was superseded
+ * keeps verifying for {@code retention} (the token lifetime), so tokens it signed expire at their natural, spread out
+ * {@code exp} instead of all at once. Keys activating in the future are already accepted, which lets every node verify
+ * tokens of a node that switched a little earlier. Key lookups go through an immutable snapshot that is recomputed by
+ * {@link #rotate()}, so verification never parses key material per token.
+ */
+@Slf4j
+public class JwtKeyRing implements Locator<Key> {
+
+	private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+	private final List<JwtKey> keys;
+	private final Duration retention;
+	private volatile Snapshot snapshot;
+
+	public JwtKeyRing(List<JwtKey> keys, Duration retention) {
+		if (keys.stream().noneMatch(JwtKey::canSign)) {
+			throw new IllegalArgumentException("Key ring needs at least one key that can sign tokens.");
+		}
+		Set<String> keyIds = new HashSet<>();
+		for (JwtKey key : keys) {
+			if (!keyIds.add(key.getKeyId())) {
+				throw new IllegalArgumentException(String.format("Duplicate key id: %s.", key.getKeyId()));
+			}
+		}
+
+		this.keys = keys.stream()
+			.sorted(Comparator.comparing(JwtKey::getActivateAt))
+			.toList();
+		this.retention = retention;
+		this.snapshot = computeSnapshot(Instant.now());
+	}
+
+	public static JwtKeyRing of(JwtKey key) {
+		return new JwtKeyRing(List.of(key), Duration.ZERO);
+	}
+
+	public void rotate() {
+		rotate(Instant.now());
+	}
+
+	public void rotate(Instant now) {
+		Snapshot next = computeSnapshot(now);
+		if (!Objects.equals(next.signingKey().getKeyId(), snapshot.signingKey().getKeyId())) {
+			log.info("Rotated JWT signing key from: {} to: {}.", snapshot.signingKey().getKeyId(),
+				next.signingKey().getKeyId());
+		}
+		snapshot = next;
+	}
+
+	public JwtKey signingKey() {
+		return snapshot.signingKey();
+	}
+
+	public Key verificationKey(String keyId) {
+		Snapshot current = snapshot;
+		Key key = keyId == null ? current.defaultVerificationKey() : current.verificationKeys().get(keyId);
+		if (key == null) {
+			throw new JwtException(String.format("No verification key for key id: %s.", keyId));
+		}
+		return key;
+	}
+
+	@Override
+	public Key locate(Header header) {
+		return verificationKey(header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null);
+	}
+
+	/**
+	 * HMAC key whose header segment is exactly the one of the token, or {@code null} when the token was not written
+	 * by one of the ring's HMAC signers. Does not allocate.
+	 */
+	public HmacJwtSigner hmacVerifier(String token, int headerEnd) {
+		for (HmacJwtSigner verifier : snapshot.hmacVerifiers()) {
+			if (verifier.matchesHeader(token, headerEnd)) {
+				return verifier;
+			}
+		}
+		return null;
+	}
+
+	public int size() {
+		return keys.size();
+	}
+
+	/**
+	 * Public JWK set of the asymmetric keys that currently verify tokens. HMAC secrets are never published.
+	 */
+	public Map<String, Object> jwks() {
+		List<Map<String, Object>> publicKeys = new ArrayList<>();
+		snapshot.verificationKeys().forEach((keyId, key) -> {
+			Map<String, Object> jwk = toJwk(keyId, key);
+			if (jwk != null) {
+				publicKeys.add(jwk);
+			}
+		});
+		publicKeys.sort(Comparator.comparing(jwk -> (String) jwk.get("kid")));
+		return Map.of("keys", publicKeys);
+	}
+
+	private Snapshot computeSnapshot(Instant now) {
+		List<JwtKey> signingKeys = keys.stream()
+			.filter(JwtKey::canSign)
+			.toList();
+
+		JwtKey signingKey = signingKeys.stream()
+			.filter(key -> !key.getActivateAt().isAfter(now))
+			.reduce((first, second) -> second)
+			.orElseThrow(() -> new IllegalStateException(String.format("No JWT signing key is active at %s.", now)));
+
+		Map<String, Key> verificationKeys = new HashMap<>();
+		List<HmacJwtSigner> hmacVerifiers = new ArrayList<>();
+		Key defaultVerificationKey = null;
+		for (JwtKey key : keys) {
+			if (key.canSign() && isRetired(key, signingKeys, now)) {
+				continue;
+			}
+			if (key.getSigner() instanceof HmacJwtSigner hmacSigner) {
+				hmacVerifiers.add(hmacSigner);
+			}
+			if (key.getKeyId() == null) {
+				defaultVerificationKey = key.getVerificationKey();
+			} else {
+				verificationKeys.put(key.getKeyId(), key.getVerificationKey());
+			}
+		}
+		return new Snapshot(signingKey, Map.copyOf(verificationKeys), defaultVerificationKey,
+			hmacVerifiers.toArray(HmacJwtSigner[]::new));
+	}
+
+	private boolean isRetired(JwtKey key, List<JwtKey> signingKeys, Instant now) {
+		int index = signingKeys.indexOf(key);
+		if (index == signingKeys.size() - 1) {
+			return false;
+		}
+		Instant supersededAt = signingKeys.get(index + 1).getActivateAt();
+		return !supersededAt.isAfter(now) && !supersededAt.plus(retention).isAfter(now);
+	}
+
+	private static Map<String, Object> toJwk(String keyId, Key key) {
+		Map<String, Object> jwk = new LinkedHashMap<>();
+		if (key instanceof RSAPublicKey rsaKey) {
+			jwk.put("kty", "RSA");
+			jwk.put("kid", keyId);
+			jwk.put("use", "sig");
+			jwk.put("n", encodeUnsigned(rsaKey.getModulus(), 0));
+			jwk.put("e", encodeUnsigned(rsaKey.getPublicExponent(), 0));
+			return jwk;
+		}
+		if (key instanceof ECPublicKey ecKey) {
+			int fieldSize = ecKey.getParams().getCurve().getField().getFieldSize();
+			int coordinateLength = (fieldSize + 7) / 8;
+			jwk.put("kty", "EC");
+			jwk.put("kid", keyId);
+			jwk.put("use", "sig");
+			jwk.put("crv", switch (fieldSize) {
+				case 256 -> "P-256";
+				case 384 -> "P-384";
+				case 521 -> "P-521";
+				default -> throw new IllegalArgumentException(String.format("Unsupported EC curve size: %d.", fieldSize));
+			});
+			jwk.put("x", encodeUnsigned(ecKey.getW().getAffineX(), coordinateLength));
+			jwk.put("y", encodeUnsigned(ecKey.getW().getAffineY(), coordinateLength));
+			return jwk;
+		}
+		return null;
+	}
+
+	private static String encodeUnsigned(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		if (bytes.length < length) {
+			byte[] padded = new byte[length];
+			System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+			bytes = padded;
+		}
+		return BASE64_URL.encodeToString(bytes);
+	}
+
+	private record Snapshot(JwtKey signingKey, Map<String, Key> verificationKeys, Key defaultVerificationKey,
+							HmacJwtSigner[] hmacVerifiers) {
+	}
+}
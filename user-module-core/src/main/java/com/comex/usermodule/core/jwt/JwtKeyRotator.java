@@ -0,0 +1,39 @@
+package com.comex.usermodule.core.jwt;
+
+import java.time.Duration;
+
+import com.comex.usermodule.core.scheduling.PeriodicTask;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically re-evaluates the {@link JwtKeyRing} so scheduled keys start signing and superseded keys are dropped
+ * once every token they signed has expired.
+ */
+@Slf4j
+public class JwtKeyRotator implements AutoCloseable {
+
+	private final JwtKeyRing keyRing;
+	private final Duration checkInterval;
+	private final PeriodicTask task;
+
+	public JwtKeyRotator(JwtKeyRing keyRing, Duration checkInterval) {
+		this.keyRing = keyRing;
+		this.checkInterval = checkInterval;
+		this.task = new PeriodicTask("jwt-key-rotation", keyRing::rotate);
+	}
+
+	public void start() {
+		if (keyRing.size() < 2) {
+			log.debug("Single JWT key configured, key rotation is not scheduled.");
+			return;
+		}
+		log.info("Scheduling JWT key rotation check every {}.", checkInterval);
+		task.start(checkInterval, checkInterval);
+	}
+
+	@Override
+	public void close() {
+		task.close();
+	}
+}
@@ -0,0 +1,13 @@
+package com.comex.usermodule.core.jwt;
+
+public interface JwtSigner {
+
+	default String sign(String subject, String roles, long issuedAtMillis, long expirationMillis) {
+		return sign(subject, roles, null, issuedAtMillis, expirationMillis);
+	}
+
+	/**
+	 * Signs a token carrying the given {@code jti}, omitted from the payload when {@code tokenId} is {@code null}.
+	 */
+	String sign(String subject, String roles, String tokenId, long issuedAtMillis, long expirationMillis);
+}
@@ -0,0 +1,52 @@
+package com.comex.usermodule.core.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Parses PEM encoded PKCS#8 private keys and X.509 public keys for the RSA and EC families.
+ */
+public final class PemKeys {
+
+	private static final List<String> KEY_ALGORITHMS = List.of("RSA", "EC");
+
+	public static PrivateKey privateKey(String pem) {
+		PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(decode(pem));
+		for (String algorithm : KEY_ALGORITHMS) {
+			try {
+				return KeyFactory.getInstance(algorithm).generatePrivate(keySpec);
+			} catch (GeneralSecurityException e) {
+				// try the next key family
+			}
+		}
+		throw new IllegalArgumentException("Private key is neither a PKCS#8 RSA nor EC key.");
+	}
+
+	public static PublicKey publicKey(String pem) {
+		X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decode(pem));
+		for (String algorithm : KEY_ALGORITHMS) {
+			try {
+				return KeyFactory.getInstance(algorithm).generatePublic(keySpec);
+			} catch (GeneralSecurityException e) {
+				// try the next key family
+			}
+		}
+		throw new IllegalArgumentException("Public key is neither an X.509 RSA nor EC key.");
+	}
+
+	private static byte[] decode(String pem) {
+		String base64 = pem
+			.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+			.replaceAll("\\s", "");
+		return Base64.getDecoder().decode(base64);
+	}
+
+	private PemKeys() {
+	}
+}
@@ -0,0 +1,21 @@
+package com.comex.usermodule.core.jwt;
+
+import com.comex.usermodule.core.exception.UserExceptionKey;
+
+/**
+ * Outcome of validating one token of a batch: the verified claims, or the reason the token was rejected.
+ */
+public record TokenVerdict(JwtClaims claims, UserExceptionKey error) {
+
+	public static TokenVerdict valid(JwtClaims claims) {
+		return new TokenVerdict(claims, null);
+	}
+
+	public static TokenVerdict invalid(UserExceptionKey error) {
+		return new TokenVerdict(null, error);
+	}
+
+	public boolean isValid() {
+		return error == null;
+	}
+}
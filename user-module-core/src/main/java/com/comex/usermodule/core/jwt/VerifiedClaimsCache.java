@@ -0,0 +1,107 @@
+package com.comex.usermodule.core.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded, concurrent cache of claims whose signature and expiration were already verified.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the compact token, so the cache never retains raw bearer tokens,
+ * and an entry is never served after the token's own {@code exp}.
+ */
+public class VerifiedClaimsCache {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available.", e);
+		}
+	});
+
+	private final int maximumSize;
+	private final Cache<TokenDigest, JwtClaims> cache;
+
+	public VerifiedClaimsCache(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		this.maximumSize = maximumSize;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new TokenExpiry())
+			.recordStats()
+			.build();
+	}
+
+	public JwtClaims get(String token) {
+		if (token == null || token.isEmpty()) {
+			return null;
+		}
+		return cache.getIfPresent(TokenDigest.of(token));
+	}
+
+	public void put(String token, JwtClaims claims) {
+		if (!claims.hasExpiration()) {
+			// never cache tokens without exp, they could otherwise be served forever
+			return;
+		}
+		cache.put(TokenDigest.of(token), claims);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The underlying cache, whose statistics are exported as metrics.
+	 */
+	public Cache<?, ?> getCache() {
+		return cache;
+	}
+
+	/**
+	 * Expires every entry at the {@code exp} of its token.
+	 */
+	private static final class TokenExpiry implements Expiry<TokenDigest, JwtClaims> {
+
+		@Override
+		public long expireAfterCreate(TokenDigest key, JwtClaims claims, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(claims.expirationMillis() - System.currentTimeMillis());
+		}
+
+		@Override
+		public long expireAfterUpdate(TokenDigest key, JwtClaims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(TokenDigest key, JwtClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+	private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+		static TokenDigest of(String token) {
+			MessageDigest digest = SHA_256.get();
+			ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+			return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.comex.usermodule.core.mapper;
 import static com.comex.usermodule.core.domain.UserStatus.CREATED;
 import static com.comex.usermodule.core.domain.UserStatus.VERIFIED;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.UUID;
@@ -14,22 +15,37 @@ import com.comex.usermodule.core.event.UserCreatedEvent;
 import com.comex.usermodule.core.event.UserVerifiedEvent;
 import com.comex.usermodule.core.port.PasswordEncoder;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 public class UserMapper {
 
+	public static final Duration DEFAULT_VERIFICATION_CODE_LIFETIME = Duration.ofDays(1);
+
 	private final PasswordEncoder passwordEncoder;
+	private final Duration verificationCodeLifetime;
+
+	public UserMapper(PasswordEncoder passwordEncoder) {
+		this(passwordEncoder, DEFAULT_VERIFICATION_CODE_LIFETIME);
+	}
+
+	public UserMapper(PasswordEncoder passwordEncoder, Duration verificationCodeLifetime) {
+		this.passwordEncoder = passwordEncoder;
+		this.verificationCodeLifetime = verificationCodeLifetime;
+	}
 
+	/**
+	 * Maps a registration to a new user, which gets a verification code valid for the configured lifetime if it has
+	 * to be verified.
+	 */
 	public User toUser(CreateUserDto registerUserDto, boolean verificationRequired) {
+		Instant now = Instant.now();
 		return User.builder()
 			.username(registerUserDto.username())
 			.password(passwordEncoder.encode(registerUserDto.password()))
 			.email(registerUserDto.email())
-			.createdAt(Instant.now())
+			.createdAt(now)
 			.roles(Collections.singleton(new Role("ROLE_USER")))
 			.status(verificationRequired ? CREATED : VERIFIED)
-			.verificationCode(UUID.randomUUID().toString())
+			.verificationCode(verificationRequired ? UUID.randomUUID().toString() : null)
+			.verificationCodeExpiresAt(verificationRequired ? now.plus(verificationCodeLifetime) : null)
 			.build();
 	}
 
@@ -0,0 +1,153 @@
+package com.comex.usermodule.core.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs password hashing and verification work on a dedicated, CPU-sized pool with a bounded queue, so a burst of
+ * logins or sign-ups cannot occupy every request thread of the server.
+ * <p>
+ * A full queue fails fast with a {@link RejectedExecutionException} thrown by {@link #submit(Supplier)} instead of
+ * queueing more work than the pool can hash within a reasonable time.
+ * <p>
+ * The returned futures are completed on virtual threads rather than on the pool, so whatever a caller chains to them,
+ * e.g. saving a user or issuing tokens, never holds a hashing thread.
+ */
+@Slf4j
+public class PasswordHashingExecutor implements AutoCloseable {
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+	private final ThreadPoolExecutor executor;
+	private final ExecutorService completions = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("password-hashing-completion-", 0).factory());
+	private final int queueCapacity;
+
+	private final LongAdder waits = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder executions = new LongAdder();
+	private final LongAdder executionNanos = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	public PasswordHashingExecutor(int threads, int queueCapacity) {
+		if (threads <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException("Threads and queue capacity must be positive.");
+		}
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.queueCapacity = queueCapacity;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+			Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Queues the task and returns a future completed with its result or failure, off the hashing pool.
+	 *
+	 * @throws RejectedExecutionException when the queue is full
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		long submittedAt = System.nanoTime();
+		try {
+			executor.execute(() -> {
+				long startedAt = System.nanoTime();
+				waits.increment();
+				waitNanos.add(startedAt - submittedAt);
+				T result = null;
+				Throwable failure = null;
+				try {
+					result = task.get();
+				} catch (Throwable e) {
+					failure = e;
+				}
+				// recorded before completing, so callers observe the timings of the work they waited for
+				executions.increment();
+				executionNanos.add(System.nanoTime() - startedAt);
+				complete(future, result, failure);
+			});
+		} catch (RejectedExecutionException e) {
+			rejections.increment();
+			log.warn("Password hashing queue is full ({} tasks), rejecting request.", queueCapacity);
+			throw e;
+		}
+		return future;
+	}
+
+	private <T> void complete(CompletableFuture<T> future, T result, Throwable failure) {
+		completions.execute(() -> {
+			if (failure != null) {
+				future.completeExceptionally(failure);
+			} else {
+				future.complete(result);
+			}
+		});
+	}
+
+	public int queueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getThreads() {
+		return executor.getCorePoolSize();
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public int activeCount() {
+		return executor.getActiveCount();
+	}
+
+	public long waitCount() {
+		return waits.sum();
+	}
+
+	public long waitTotalNanos() {
+		return waitNanos.sum();
+	}
+
+	public long executionCount() {
+		return executions.sum();
+	}
+
+	public long executionTotalNanos() {
+		return executionNanos.sum();
+	}
+
+	public long rejectionCount() {
+		return rejections.sum();
+	}
+
+	@Override
+	public void close() {
+		shutdown(executor);
+		// then the completions of the hashing that finished, whose continuations may still be running
+		shutdown(completions);
+	}
+
+	private static void shutdown(ExecutorService executorService) {
+		executorService.shutdown();
+		try {
+			if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				executorService.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			executorService.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
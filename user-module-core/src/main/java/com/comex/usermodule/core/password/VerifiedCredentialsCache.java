@@ -0,0 +1,121 @@
+package com.comex.usermodule.core.password;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded, concurrent cache of recently verified credentials, which lets repeated logins with the same credentials
+ * skip the password hash check for a short time.
+ * <p>
+ * Entries are indexed by email and hold an HMAC-SHA256 of the email and password under a key generated per instance,
+ * so neither the password nor anything an offline attack could be run against outlives the process. Entries expire
+ * after a fixed time to live counted from verification and are dropped as soon as the user's password or status
+ * changes. A lookup with a different password than the cached one is counted as a hit by the cache statistics.
+ *
+ * @param <T> the authenticated principal served on a hit
+ */
+public class VerifiedCredentialsCache<T> {
+
+	private static final String HMAC_SHA_256 = "HmacSHA256";
+
+	private final int maximumSize;
+	private final ThreadLocal<Mac> mac;
+	private final Cache<String, Entry<T>> entries;
+
+	public VerifiedCredentialsCache(Duration timeToLive, int maximumSize) {
+		this(timeToLive, maximumSize, Clock.systemUTC());
+	}
+
+	public VerifiedCredentialsCache(Duration timeToLive, int maximumSize, Clock clock) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		this.maximumSize = maximumSize;
+		this.entries = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(timeToLive)
+			.ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+			.recordStats()
+			.build();
+
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		SecretKeySpec secretKey = new SecretKeySpec(key, HMAC_SHA_256);
+		this.mac = ThreadLocal.withInitial(() -> {
+			try {
+				Mac instance = Mac.getInstance(HMAC_SHA_256);
+				instance.init(secretKey);
+				return instance;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("HmacSHA256 is not available.", e);
+			}
+		});
+	}
+
+	/**
+	 * Returns the principal of a previous successful verification of exactly these credentials, or {@code null}.
+	 */
+	public T get(String email, String password) {
+		if (email == null || password == null) {
+			return null;
+		}
+
+		Entry<T> entry = entries.getIfPresent(email);
+		if (entry == null || !MessageDigest.isEqual(entry.mac, mac(email, password))) {
+			// on a different password, the stored one is still the last verified
+			return null;
+		}
+		return entry.principal;
+	}
+
+	public void put(String email, String password, T principal) {
+		entries.put(email, new Entry<>(mac(email, password), principal));
+	}
+
+	public void invalidate(String email) {
+		if (email != null) {
+			entries.invalidate(email);
+		}
+	}
+
+	public void invalidateAll() {
+		entries.invalidateAll();
+	}
+
+	public long size() {
+		return entries.estimatedSize();
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The underlying cache, whose statistics are exported as metrics.
+	 */
+	public Cache<?, ?> getCache() {
+		return entries;
+	}
+
+	private byte[] mac(String email, String password) {
+		Mac instance = mac.get();
+		instance.update(email.getBytes(StandardCharsets.UTF_8));
+		// separates the email from the password, so that moving characters between them changes the mac
+		instance.update((byte) 0);
+		return instance.doFinal(password.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private record Entry<T>(byte[] mac, T principal) {
+	}
+}
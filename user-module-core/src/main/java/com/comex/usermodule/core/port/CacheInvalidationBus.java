@@ -0,0 +1,24 @@
+package com.comex.usermodule.core.port;
+
+import java.util.function.Consumer;
+
+import com.comex.usermodule.core.cache.CacheInvalidation;
+
+/**
+ * Channel that tells every node of a deployment about changes to users and roles, so that each can drop what it
+ * cached from the store.
+ */
+public interface CacheInvalidationBus {
+
+	/**
+	 * Sends the invalidation to every node, this one included. Stores that can, deliver it only once the surrounding
+	 * transaction has committed.
+	 */
+	void publish(CacheInvalidation invalidation);
+
+	/**
+	 * Registers a subscriber called with every invalidation received. Subscribers run on the bus thread and must not
+	 * block.
+	 */
+	void subscribe(Consumer<CacheInvalidation> subscriber);
+}
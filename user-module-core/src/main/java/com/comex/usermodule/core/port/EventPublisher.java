@@ -1,8 +1,17 @@
 package com.comex.usermodule.core.port;
 
+import java.util.List;
+
 import com.comex.usermodule.core.event.UserEvent;
 
 public interface EventPublisher {
 
 	void publish(UserEvent userEvent);
+
+	/**
+	 * Publishes events in one go where the transport supports it, e.g. one producer batch per import batch.
+	 */
+	default void publishAll(List<? extends UserEvent> userEvents) {
+		userEvents.forEach(this::publish);
+	}
 }
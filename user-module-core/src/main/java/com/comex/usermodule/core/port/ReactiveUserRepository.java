@@ -0,0 +1,42 @@
+package com.comex.usermodule.core.port;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+
+/**
+ * Non-blocking counterpart of {@link UserRepository} for event-loop applications: every method returns at once and
+ * completes its stage when the store answers, without holding a thread meanwhile. Lookups complete with an empty
+ * {@link Optional} rather than failing when nothing matches.
+ * <p>
+ * Stages are used rather than a reactive library type so that the core stays free of one; adapters backed by
+ * Reactor hand out {@code Mono#toFuture()} and callers convert back with {@code Mono.fromCompletionStage}.
+ */
+public interface ReactiveUserRepository {
+
+	CompletionStage<User> save(User user);
+
+	/**
+	 * Finds a verified user, like {@link UserRepository#findByEmailOptional(String)}.
+	 */
+	CompletionStage<Optional<User>> findByEmail(String email);
+
+	/**
+	 * Looks up only the credentials of a verified user, for the login path.
+	 */
+	CompletionStage<Optional<UserCredentials>> findCredentialsByEmail(String email);
+
+	/**
+	 * Returns those of the given emails that already belong to a user, whatever the user's status.
+	 */
+	CompletionStage<Set<String>> findExistingEmails(Collection<String> emails);
+
+	/**
+	 * Finds a user of any status by the code it was sent for verification.
+	 */
+	CompletionStage<Optional<User>> findByVerificationCode(String verificationCode);
+}
@@ -0,0 +1,22 @@
+package com.comex.usermodule.core.port;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.comex.usermodule.core.token.ReferenceToken;
+
+public interface ReferenceTokenRepository {
+
+	void save(ReferenceToken referenceToken);
+
+	Optional<ReferenceToken> findById(String id);
+
+	/**
+	 * Moves the expiry of a stored token without recreating it when it was deleted meanwhile.
+	 *
+	 * @return {@code false} when no token with the id is stored, e.g. because it was revoked on another node
+	 */
+	boolean updateExpiresAt(String id, Instant expiresAt);
+
+	void deleteById(String id);
+}
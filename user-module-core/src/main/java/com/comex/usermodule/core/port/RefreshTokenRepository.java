@@ -0,0 +1,26 @@
+package com.comex.usermodule.core.port;
+
+import java.util.Optional;
+
+import com.comex.usermodule.core.token.RefreshToken;
+
+public interface RefreshTokenRepository {
+
+	void save(RefreshToken refreshToken);
+
+	Optional<RefreshToken> findById(String id);
+
+	/**
+	 * Atomically marks the token as used.
+	 *
+	 * @return {@code false} when the token was already used or no longer exists
+	 */
+	boolean markUsed(String id);
+
+	void deleteByFamilyId(String familyId);
+
+	/**
+	 * Deletes every token family of the user, e.g. after its password changed.
+	 */
+	void deleteBySubject(String subject);
+}
@@ -0,0 +1,25 @@
+package com.comex.usermodule.core.port;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.comex.usermodule.core.revocation.RevokedToken;
+
+public interface RevokedTokenRepository {
+
+	void save(RevokedToken revokedToken);
+
+	Optional<RevokedToken> findById(String id);
+
+	/**
+	 * Revocations recorded at or after {@code since} whose token has not expired yet.
+	 */
+	List<RevokedToken> findRevokedSince(Instant since);
+
+	/**
+	 * Deletes at most {@code limit} revocations of tokens expired before {@code expiredBefore} and returns how many
+	 * were deleted.
+	 */
+	int deleteExpired(Instant expiredBefore, int limit);
+}
@@ -1,8 +1,21 @@
 package com.comex.usermodule.core.port;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.comex.usermodule.core.dto.LoginUserDto;
+import com.comex.usermodule.core.token.TokenPair;
 
 public interface UserAuthenticator {
 
-	String authenticate(LoginUserDto loginUserDto);
+	TokenPair authenticate(LoginUserDto loginUserDto);
+
+	/**
+	 * Authenticates without the calling thread waiting for the password check. Authenticators that cannot verify
+	 * passwords asynchronously authenticate on the calling thread.
+	 *
+	 * @throws java.util.concurrent.RejectedExecutionException when the password hashing queue is full
+	 */
+	default CompletableFuture<TokenPair> authenticateAsync(LoginUserDto loginUserDto) {
+		return CompletableFuture.completedFuture(authenticate(loginUserDto));
+	}
 }
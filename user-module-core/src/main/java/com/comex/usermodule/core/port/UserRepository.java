@@ -1,16 +1,60 @@
 package com.comex.usermodule.core.port;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 
 public interface UserRepository {
 
 	User save(User user);
 
+	/**
+	 * Saves new users in as few round trips as the store allows. Either all users are saved or the call fails, in
+	 * which case callers may retry them one by one to find the offending ones.
+	 */
+	default List<User> saveAll(List<User> users) {
+		return users.stream()
+			.map(this::save)
+			.toList();
+	}
+
 	User findByEmail(String email);
 
 	Optional<User> findByEmailOptional(String email);
 
+	/**
+	 * Looks up only the credentials of a verified user, for the login path. Stores should override the default
+	 * implementation, which loads and maps the whole user, with a narrow query.
+	 */
+	default Optional<UserCredentials> findCredentialsByEmail(String email) {
+		return findByEmailOptional(email)
+			.map(user -> new UserCredentials(user.getEmail(), user.getPassword(), user.getAuthorities()));
+	}
+
+	/**
+	 * Returns those of the given emails that already belong to a user, whatever the user's status. The default
+	 * implementation only sees verified users and should be overridden by stores that can do better.
+	 */
+	default Set<String> findExistingEmails(Collection<String> emails) {
+		return emails.stream()
+			.filter(email -> findByEmailOptional(email).isPresent())
+			.collect(Collectors.toSet());
+	}
+
 	User findByVerificationCode(String verificationCode);
+
+	/**
+	 * Removes the verification code and its expiry from up to {@code limit} users whose code expired before the given
+	 * instant, returning how many were cleared. The users themselves are kept, unverified, so they can be given a new
+	 * code. The default implementation clears nothing, for stores without an index over pending codes.
+	 */
+	default int clearExpiredVerificationCodes(Instant expiredBefore, int limit) {
+		return 0;
+	}
 }
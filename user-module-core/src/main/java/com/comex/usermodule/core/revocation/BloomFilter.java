@@ -0,0 +1,106 @@
+package com.comex.usermodule.core.revocation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings. Inserts and lookups never block each other; the filter can only grow, so it
+ * is replaced rather than cleared when its content goes stale.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashCount;
+	private final AtomicLong setBits = new AtomicLong();
+
+	private BloomFilter(long bitSize, int hashCount) {
+		this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+		this.bitSize = bitSize;
+		this.hashCount = hashCount;
+	}
+
+	/**
+	 * Sizes the filter so that it stays at {@code falsePositiveProbability} with {@code expectedInsertions} entries.
+	 */
+	public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("Expected insertions must be positive.");
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("False positive probability must be between 0 and 1.");
+		}
+		long bitSize = Math.max(64,
+			(long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+		int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+		return new BloomFilter(bitSize, hashCount);
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			setBit(Math.floorMod(hash1 + i * hash2, bitSize));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Probability that {@link #mightContain} answers {@code true} for a value never put, estimated from the share
+	 * of bits currently set.
+	 */
+	public double expectedFalsePositiveProbability() {
+		return Math.pow((double) setBits.get() / bitSize, hashCount);
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public int hashCount() {
+		return hashCount;
+	}
+
+	private void setBit(long bit) {
+		int index = (int) (bit >>> 6);
+		long mask = 1L << bit;
+		long word;
+		do {
+			word = words.get(index);
+			if ((word & mask) != 0) {
+				return;
+			}
+		} while (!words.compareAndSet(index, word, word | mask));
+		setBits.incrementAndGet();
+	}
+
+	private static long hash(String value) {
+		// FNV-1a over the UTF-16 code units, finalized with the murmur3 mixer for a well distributed 64-bit hash
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
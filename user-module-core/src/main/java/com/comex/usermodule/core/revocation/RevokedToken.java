@@ -0,0 +1,10 @@
+package com.comex.usermodule.core.revocation;
+
+import java.time.Instant;
+
+/**
+ * A revoked token, identified by its {@code jti}. The entry is only relevant until {@code expiresAt}, the token's
+ * own expiration, after which the token is rejected anyway.
+ */
+public record RevokedToken(String id, Instant revokedAt, Instant expiresAt) {
+}
@@ -0,0 +1,33 @@
+package com.comex.usermodule.core.revocation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+import com.comex.usermodule.core.scheduling.BatchedPurger;
+
+/**
+ * Periodically deletes the revocations of tokens that have expired, which are rejected anyway, in batches of a
+ * bounded size. This keeps the revocation store, and so the rebuilds of the {@link TokenRevocationList}, down to the
+ * tokens that could still be presented. A zero or negative interval disables the purge.
+ */
+public class RevokedTokenPurger extends BatchedPurger {
+
+	private final RevokedTokenRepository revokedTokenRepository;
+
+	public RevokedTokenPurger(RevokedTokenRepository revokedTokenRepository, Duration purgeInterval, int batchSize) {
+		this(revokedTokenRepository, purgeInterval, batchSize, Clock.systemUTC());
+	}
+
+	public RevokedTokenPurger(RevokedTokenRepository revokedTokenRepository, Duration purgeInterval, int batchSize,
+		Clock clock) {
+		super("revoked-token-purge", "expired token revocations", purgeInterval, batchSize, clock);
+		this.revokedTokenRepository = revokedTokenRepository;
+	}
+
+	@Override
+	protected int purgeBatch(Instant now, int batchSize) {
+		return revokedTokenRepository.deleteExpired(now, batchSize);
+	}
+}
@@ -0,0 +1,166 @@
+package com.comex.usermodule.core.revocation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node-local view of the revoked token IDs, answering most lookups from a Bloom filter without touching the
+ * {@link RevokedTokenRepository}.
+ * <p>
+ * A filter miss proves the token is not revoked; only a filter hit is confirmed against the repository, and the
+ * answer is remembered so a hot token is confirmed once. The filter is kept current by {@link #refresh()}, which
+ * pulls the revocations recorded since the previous refresh (minus an overlap absorbing clock skew between nodes)
+ * and rebuilds the filter from the unexpired revocations once it is saturated. Revocations made on other nodes are
+ * therefore visible after at most one refresh interval.
+ */
+@Slf4j
+public class TokenRevocationList {
+
+	private static final int MAXIMUM_CONFIRMED_VALID = 10_000;
+
+	private final RevokedTokenRepository repository;
+	private final long expectedRevocations;
+	private final double falsePositiveProbability;
+	private final Duration refreshOverlap;
+	private final Clock clock;
+
+	private volatile BloomFilter filter;
+	private volatile Instant watermark;
+	private final AtomicLong filterInsertions = new AtomicLong();
+	private final Map<String, Instant> confirmedRevoked = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> confirmedValid = new ConcurrentHashMap<>();
+
+	private final LongAdder checks = new LongAdder();
+	private final LongAdder filterHits = new LongAdder();
+	private final LongAdder falsePositives = new LongAdder();
+
+	public TokenRevocationList(RevokedTokenRepository repository, long expectedRevocations,
+		double falsePositiveProbability, Duration refreshOverlap) {
+		this(repository, expectedRevocations, falsePositiveProbability, refreshOverlap, Clock.systemUTC());
+	}
+
+	public TokenRevocationList(RevokedTokenRepository repository, long expectedRevocations,
+		double falsePositiveProbability, Duration refreshOverlap, Clock clock) {
+		this.repository = repository;
+		this.expectedRevocations = expectedRevocations;
+		this.falsePositiveProbability = falsePositiveProbability;
+		this.refreshOverlap = refreshOverlap;
+		this.clock = clock;
+		this.filter = BloomFilter.create(expectedRevocations, falsePositiveProbability);
+	}
+
+	public void revoke(String tokenId, Instant expiresAt) {
+		RevokedToken revokedToken = new RevokedToken(tokenId, clock.instant(), expiresAt);
+		repository.save(revokedToken);
+		add(revokedToken);
+		confirmedRevoked.put(tokenId, expiresAt);
+		log.info("Revoked token {}.", tokenId);
+	}
+
+	public boolean isRevoked(String tokenId) {
+		checks.increment();
+		if (!filter.mightContain(tokenId)) {
+			return false;
+		}
+		filterHits.increment();
+		if (confirmedRevoked.containsKey(tokenId)) {
+			return true;
+		}
+		if (confirmedValid.containsKey(tokenId)) {
+			falsePositives.increment();
+			return false;
+		}
+
+		Optional<RevokedToken> revokedToken = repository.findById(tokenId);
+		if (revokedToken.isPresent()) {
+			confirmedRevoked.put(tokenId, revokedToken.get().expiresAt());
+			return true;
+		}
+		falsePositives.increment();
+		if (confirmedValid.size() >= MAXIMUM_CONFIRMED_VALID) {
+			confirmedValid.clear();
+		}
+		confirmedValid.put(tokenId, Boolean.TRUE);
+		return false;
+	}
+
+	/**
+	 * Pulls the revocations recorded since the previous refresh, or rebuilds the filter from every unexpired
+	 * revocation on the first call and once the filter is saturated.
+	 */
+	public void refresh() {
+		Instant start = clock.instant();
+		Instant previous = watermark;
+		if (previous == null || isSaturated()) {
+			rebuild(start);
+			return;
+		}
+
+		List<RevokedToken> revokedTokens = repository.findRevokedSince(previous.minus(refreshOverlap));
+		revokedTokens.forEach(this::add);
+		confirmedRevoked.values().removeIf(expiresAt -> expiresAt.isBefore(start));
+		watermark = start;
+		log.debug("Refreshed token revocations, {} pulled since {}.", revokedTokens.size(), previous);
+	}
+
+	public double expectedFalsePositiveProbability() {
+		return filter.expectedFalsePositiveProbability();
+	}
+
+	public long checkCount() {
+		return checks.sum();
+	}
+
+	public long filterHitCount() {
+		return filterHits.sum();
+	}
+
+	public long falsePositiveCount() {
+		return falsePositives.sum();
+	}
+
+	/**
+	 * Share of filter hits that the repository reported as not revoked.
+	 */
+	public double observedFalsePositiveRate() {
+		long hits = filterHitCount();
+		return hits == 0 ? 0.0 : (double) falsePositiveCount() / hits;
+	}
+
+	private boolean isSaturated() {
+		return filterInsertions.get() > expectedRevocations
+			|| filter.expectedFalsePositiveProbability() > 2 * falsePositiveProbability;
+	}
+
+	private void rebuild(Instant start) {
+		List<RevokedToken> revokedTokens = repository.findRevokedSince(Instant.EPOCH);
+		BloomFilter rebuilt = BloomFilter.create(expectedRevocations, falsePositiveProbability);
+		revokedTokens.forEach(revokedToken -> rebuilt.put(revokedToken.id()));
+
+		confirmedRevoked.values().removeIf(expiresAt -> expiresAt.isBefore(start));
+		// local revocations racing with the rebuild are carried over, the rest arrive with the next refresh
+		confirmedRevoked.keySet().forEach(rebuilt::put);
+		filter = rebuilt;
+		filterInsertions.set(revokedTokens.size());
+		confirmedValid.clear();
+		watermark = start;
+		log.info("Rebuilt token revocation filter from {} revocations.", revokedTokens.size());
+	}
+
+	private void add(RevokedToken revokedToken) {
+		filter.put(revokedToken.id());
+		filterInsertions.incrementAndGet();
+		confirmedValid.remove(revokedToken.id());
+	}
+}
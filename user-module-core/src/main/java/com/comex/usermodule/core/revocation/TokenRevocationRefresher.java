@@ -0,0 +1,37 @@
+package com.comex.usermodule.core.revocation;
+
+import java.time.Duration;
+
+import com.comex.usermodule.core.scheduling.PeriodicTask;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically refreshes the {@link TokenRevocationList}; the refresh interval bounds how long a revocation made on
+ * another node can go unnoticed.
+ */
+@Slf4j
+public class TokenRevocationRefresher implements AutoCloseable {
+
+	private final TokenRevocationList revocationList;
+	private final Duration refreshInterval;
+	private final PeriodicTask task;
+
+	public TokenRevocationRefresher(TokenRevocationList revocationList, Duration refreshInterval) {
+		this.revocationList = revocationList;
+		this.refreshInterval = refreshInterval;
+		this.task = new PeriodicTask("jwt-revocation-refresh", revocationList::refresh);
+	}
+
+	public void start() {
+		// the initial load runs before the node serves requests, so revoked tokens are never accepted at startup
+		revocationList.refresh();
+		log.info("Scheduling token revocation refresh every {}.", refreshInterval);
+		task.start(refreshInterval, refreshInterval);
+	}
+
+	@Override
+	public void close() {
+		task.close();
+	}
+}
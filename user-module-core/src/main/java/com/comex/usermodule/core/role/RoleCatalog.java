@@ -0,0 +1,76 @@
+package com.comex.usermodule.core.role;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node-local, immutable snapshot of the roles and their permissions, keyed by role name, so that resolving the roles
+ * of a user being written makes no store call.
+ * <p>
+ * The snapshot is loaded on first use and replaced as a whole by {@link #refresh()}, so concurrent readers always see
+ * either the previous or the new catalog, never a partially loaded one. A failed refresh keeps the previous snapshot.
+ *
+ * @param <R> the role representation of the persistence backend
+ */
+@Slf4j
+public class RoleCatalog<R> {
+
+	private final Supplier<? extends Collection<R>> loader;
+	private final Function<R, String> nameOf;
+
+	private volatile Map<String, R> roles;
+
+	/**
+	 * @param loader loads every role from its source, called on first use and on every refresh
+	 * @param nameOf the name a role is looked up by
+	 */
+	public RoleCatalog(Supplier<? extends Collection<R>> loader, Function<R, String> nameOf) {
+		this.loader = loader;
+		this.nameOf = nameOf;
+	}
+
+	/**
+	 * Returns the role with the name, or {@code null} if the catalog has no such role.
+	 */
+	public R find(String name) {
+		return snapshot().get(name);
+	}
+
+	public Collection<R> roles() {
+		return snapshot().values();
+	}
+
+	public int size() {
+		return snapshot().size();
+	}
+
+	/**
+	 * Reloads the roles from their source and atomically replaces the snapshot.
+	 */
+	public synchronized void refresh() {
+		Map<String, R> loaded = new HashMap<>();
+		for (R role : loader.get()) {
+			loaded.put(nameOf.apply(role), role);
+		}
+		roles = Map.copyOf(loaded);
+		log.debug("Loaded role catalog of {} roles.", loaded.size());
+	}
+
+	private Map<String, R> snapshot() {
+		Map<String, R> snapshot = roles;
+		if (snapshot == null) {
+			synchronized (this) {
+				if (roles == null) {
+					refresh();
+				}
+				snapshot = roles;
+			}
+		}
+		return snapshot;
+	}
+}
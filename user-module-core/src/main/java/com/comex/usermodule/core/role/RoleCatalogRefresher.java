@@ -0,0 +1,54 @@
+package com.comex.usermodule.core.role;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the {@link RoleCatalog} at startup and refreshes it periodically; the refresh interval bounds how long a role
+ * or permission change in the store goes unnoticed. A zero or negative interval only loads the catalog at startup.
+ */
+@Slf4j
+public class RoleCatalogRefresher implements AutoCloseable {
+
+	private final RoleCatalog<?> roleCatalog;
+	private final Duration refreshInterval;
+	private final ScheduledExecutorService executor;
+
+	public RoleCatalogRefresher(RoleCatalog<?> roleCatalog, Duration refreshInterval) {
+		this.roleCatalog = roleCatalog;
+		this.refreshInterval = refreshInterval;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "role-catalog-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void start() {
+		// the initial load runs before the node serves requests, so the first writes make no store call either
+		roleCatalog.refresh();
+		if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+			return;
+		}
+		log.info("Scheduling role catalog refresh every {}.", refreshInterval);
+		executor.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private void refresh() {
+		try {
+			roleCatalog.refresh();
+		} catch (RuntimeException e) {
+			log.error("Role catalog refresh failed.", e);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.comex.usermodule.core.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically purges records that expired, in batches of a bounded size so that no single statement holds locks on
+ * many rows. A zero or negative interval disables the purge.
+ */
+@Slf4j
+public abstract class BatchedPurger implements AutoCloseable {
+
+	private final String description;
+	private final Duration purgeInterval;
+	private final int batchSize;
+	private final Clock clock;
+	private final PeriodicTask task;
+
+	/**
+	 * @param name the name of the thread running the purge
+	 * @param description what is purged, for the logs
+	 */
+	protected BatchedPurger(String name, String description, Duration purgeInterval, int batchSize, Clock clock) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive.");
+		}
+		this.description = description;
+		this.purgeInterval = purgeInterval;
+		this.batchSize = batchSize;
+		this.clock = clock;
+		this.task = new PeriodicTask(name, this::purge);
+	}
+
+	public void start() {
+		if (purgeInterval.isZero() || purgeInterval.isNegative()) {
+			return;
+		}
+		log.info("Scheduling purge of {} every {}.", description, purgeInterval);
+		// the first purge runs in the background too, a backlog must not delay startup
+		task.start(Duration.ZERO, purgeInterval);
+	}
+
+	@Override
+	public void close() {
+		task.close();
+	}
+
+	/**
+	 * Purges every record expired by now, one batch per store call, and returns how many were purged.
+	 */
+	public long purge() {
+		Instant now = clock.instant();
+		long purged = 0;
+		int batch;
+		do {
+			batch = purgeBatch(now, batchSize);
+			purged += batch;
+		} while (batch >= batchSize && !Thread.currentThread().isInterrupted());
+		if (purged > 0) {
+			log.info("Purged {} {}.", purged, description);
+		}
+		return purged;
+	}
+
+	/**
+	 * Purges at most {@code batchSize} records expired before {@code now} and returns how many were purged.
+	 */
+	protected abstract int purgeBatch(Instant now, int batchSize);
+}
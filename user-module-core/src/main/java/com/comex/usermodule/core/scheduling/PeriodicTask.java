@@ -0,0 +1,51 @@
+package com.comex.usermodule.core.scheduling;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a task on a daemon thread of its own, with a fixed delay between the end of a run and the start of the next.
+ * A failed run is logged and does not cancel the following ones.
+ */
+@Slf4j
+public class PeriodicTask implements AutoCloseable {
+
+	private final String name;
+	private final Runnable task;
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * @param name the name of the thread running the task
+	 */
+	public PeriodicTask(String name, Runnable task) {
+		this.name = name;
+		this.task = task;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void start(Duration initialDelay, Duration interval) {
+		executor.scheduleWithFixedDelay(this::run, initialDelay.toMillis(), interval.toMillis(),
+			TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private void run() {
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			log.error("Periodic task {} failed.", name, e);
+		}
+	}
+}
@@ -3,49 +3,164 @@ package com.comex.usermodule.core.service;
 import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_EXPIRED;
 import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_INVALID;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
-
-import javax.crypto.SecretKey;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.jwt.AuthorityClaimCodec;
+import com.comex.usermodule.core.jwt.CompactJwtEngine;
+import com.comex.usermodule.core.jwt.JjwtEngine;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.jwt.JwtEngine;
+import com.comex.usermodule.core.jwt.JwtKey;
+import com.comex.usermodule.core.jwt.JwtKeyRing;
+import com.comex.usermodule.core.jwt.TokenVerdict;
+import com.comex.usermodule.core.jwt.VerifiedClaimsCache;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class JwtService {
 
-	private String jwtSecretKey;
-	private Long jwtExpiration;
-	private JwtParser jwtParser;
+	private static final int PARALLEL_THRESHOLD = 32;
+	private static final int MINIMUM_CHUNK_SIZE = 16;
+
+	private final long jwtExpiration;
+	private final JwtKeyRing keyRing;
+	private final JwtEngine jwtEngine;
+	private final JwtParser jwtParser;
+	private final VerifiedClaimsCache claimsCache;
+	private final Executor batchExecutor;
+	private final AuthorityClaimCodec authorityClaimCodec;
 
 	public JwtService(String jwtSecretKey, Long jwtExpiration) {
-		this.jwtSecretKey = jwtSecretKey;
+		this(jwtSecretKey, jwtExpiration, null);
+	}
+
+	public JwtService(String jwtSecretKey, Long jwtExpiration, VerifiedClaimsCache claimsCache) {
+		this(JwtKeyRing.of(JwtKey.hmac(null, jwtSecretKey, null)), jwtExpiration, claimsCache);
+	}
+
+	public JwtService(JwtKeyRing keyRing, Long jwtExpiration, VerifiedClaimsCache claimsCache) {
+		this(keyRing, jwtExpiration, new CompactJwtEngine(keyRing, new JjwtEngine(keyRing)), claimsCache);
+	}
+
+	public JwtService(JwtKeyRing keyRing, Long jwtExpiration, JwtEngine jwtEngine, VerifiedClaimsCache claimsCache) {
+		this(keyRing, jwtExpiration, jwtEngine, claimsCache, ForkJoinPool.commonPool());
+	}
+
+	public JwtService(JwtKeyRing keyRing, Long jwtExpiration, JwtEngine jwtEngine, VerifiedClaimsCache claimsCache,
+		Executor batchExecutor) {
+		this(keyRing, jwtExpiration, jwtEngine, claimsCache, batchExecutor, null);
+	}
+
+	/**
+	 * @param authorityClaimCodec encodes the {@code roles} claim of generated tokens in the compact format,
+	 * {@code null} to keep the comma separated names
+	 */
+	public JwtService(JwtKeyRing keyRing, Long jwtExpiration, JwtEngine jwtEngine, VerifiedClaimsCache claimsCache,
+		Executor batchExecutor, AuthorityClaimCodec authorityClaimCodec) {
 		this.jwtExpiration = jwtExpiration;
+		this.keyRing = keyRing;
+		this.jwtEngine = jwtEngine;
+		this.claimsCache = claimsCache;
+		this.batchExecutor = batchExecutor;
+		this.authorityClaimCodec = authorityClaimCodec;
 		this.jwtParser = Jwts.parser()
-			.verifyWith(getSignInKey())
+			.keyLocator(keyRing)
 			.build();
 	}
 
 	public String generateToken(User user) {
 		log.info("Generating JWT token for user: {}.", user.getEmail());
-		return Jwts
-			.builder()
-			.claims(Map.of("roles", String.join(",", user.getAuthorities())))
-			.subject(user.getEmail())
-			.issuedAt(new Date(System.currentTimeMillis()))
-			.expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-			.signWith(getSignInKey())
-			.compact();
+		long now = System.currentTimeMillis();
+		String roles = authorityClaimCodec != null
+			? authorityClaimCodec.encode(user.getAuthorities())
+			: String.join(",", user.getAuthorities());
+		return keyRing.signingKey().getSigner()
+			.sign(user.getEmail(), roles, UUID.randomUUID().toString(), now,
+				now + jwtExpiration);
+	}
+
+	/**
+	 * Verifies the token through the configured engine and returns the user-module claims. This is the request path
+	 * used by the authentication filter, served from the verified-claims cache when one is configured.
+	 */
+	public JwtClaims verifyToken(String token) {
+
+		if (claimsCache != null) {
+			JwtClaims cachedClaims = claimsCache.get(token);
+			if (cachedClaims != null) {
+				return cachedClaims;
+			}
+		}
+
+		JwtClaims claims;
+		try {
+			claims = jwtEngine.verify(token);
+		} catch (JwtException | IllegalArgumentException e) {
+			log.error("Token: {} is invalid.", token, e);
+			throw new UserException(JWT_TOKEN_INVALID, String.format("Token: %s is invalid.", token));
+		}
+
+		// every issued token carries exp, one without it would otherwise never expire
+		if (!claims.hasExpiration()) {
+			throw new UserException(JWT_TOKEN_INVALID, String.format("Token: %s has no expiration.", token));
+		}
+		if (claims.isExpired(System.currentTimeMillis())) {
+			throw new UserException(JWT_TOKEN_EXPIRED, String.format("Token: %s is expired.", token));
+		}
+
+		if (claimsCache != null) {
+			claimsCache.put(token, claims);
+		}
+		return claims;
 	}
 
+	/**
+	 * Verifies every token of the batch and returns one verdict per token, in request order. Invalid tokens are
+	 * reported in their verdict instead of failing the batch. Batches of at least {@value #PARALLEL_THRESHOLD} tokens
+	 * are split into chunks verified concurrently on the batch executor; all of them share the verified-claims cache.
+	 */
+	public List<TokenVerdict> verifyTokens(List<String> tokens) {
+		int size = tokens.size();
+		TokenVerdict[] verdicts = new TokenVerdict[size];
+		int chunks = size < PARALLEL_THRESHOLD
+			? 1
+			: Math.min(Runtime.getRuntime().availableProcessors(), size / MINIMUM_CHUNK_SIZE);
+		if (chunks <= 1) {
+			verifyRange(tokens, verdicts, 0, size);
+			return Arrays.asList(verdicts);
+		}
+
+		// the calling thread verifies the first chunk itself instead of idling until the others complete
+		int chunkSize = (size + chunks - 1) / chunks;
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks - 1];
+		for (int chunk = 1; chunk < chunks; chunk++) {
+			int from = Math.min(size, chunk * chunkSize);
+			int to = Math.min(size, from + chunkSize);
+			futures[chunk - 1] = CompletableFuture.runAsync(() -> verifyRange(tokens, verdicts, from, to),
+				batchExecutor);
+		}
+		verifyRange(tokens, verdicts, 0, Math.min(size, chunkSize));
+		CompletableFuture.allOf(futures).join();
+		return Arrays.asList(verdicts);
+	}
+
+	/**
+	 * Parses the token with jjwt and returns every claim it carries.
+	 */
 	public Claims extractAllClaims(String token) {
 
 		Claims claims;
@@ -58,18 +173,57 @@ public class JwtService {
 			throw new UserException(JWT_TOKEN_INVALID, String.format("Token: %s is invalid.", token));
 		}
 
+		if (claims.getExpiration() == null) {
+			throw new UserException(JWT_TOKEN_INVALID, String.format("Token: %s has no expiration.", token));
+		}
 		if (isTokenExpired(claims)) {
 			throw new UserException(JWT_TOKEN_EXPIRED, String.format("Token: %s is expired.", token));
 		}
 		return claims;
 	}
 
-	private Boolean isTokenExpired(Claims claims) {
-		return claims.getExpiration().before(new Date());
+	public Map<String, Object> getJwks() {
+		return keyRing.jwks();
+	}
+
+	private void verifyRange(List<String> tokens, TokenVerdict[] verdicts, int from, int to) {
+		for (int i = from; i < to; i++) {
+			verdicts[i] = verdict(tokens.get(i));
+		}
+	}
+
+	private TokenVerdict verdict(String token) {
+		if (token == null || token.isEmpty()) {
+			return TokenVerdict.invalid(JWT_TOKEN_INVALID);
+		}
+
+		JwtClaims claims = claimsCache != null ? claimsCache.get(token) : null;
+		if (claims != null) {
+			return TokenVerdict.valid(claims);
+		}
+
+		try {
+			claims = jwtEngine.verify(token);
+		} catch (JwtException | IllegalArgumentException e) {
+			// rejected tokens are an expected batch outcome, the verdict carries the reason
+			log.debug("Token in batch is invalid: {}.", e.getMessage());
+			return TokenVerdict.invalid(JWT_TOKEN_INVALID);
+		}
+
+		if (!claims.hasExpiration()) {
+			return TokenVerdict.invalid(JWT_TOKEN_INVALID);
+		}
+		if (claims.isExpired(System.currentTimeMillis())) {
+			return TokenVerdict.invalid(JWT_TOKEN_EXPIRED);
+		}
+
+		if (claimsCache != null) {
+			claimsCache.put(token, claims);
+		}
+		return TokenVerdict.valid(claims);
 	}
 
-	private SecretKey getSignInKey() {
-		byte[] keyBytes = Decoders.BASE64.decode(jwtSecretKey);
-		return Keys.hmacShaKeyFor(keyBytes);
+	private Boolean isTokenExpired(Claims claims) {
+		return claims.getExpiration().before(new Date());
 	}
 }
@@ -0,0 +1,131 @@
+package com.comex.usermodule.core.service;
+
+import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_EXPIRED;
+import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_INVALID;
+import static com.comex.usermodule.core.exception.UserExceptionKey.REFRESH_TOKEN_REUSED;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.token.RefreshToken;
+import com.comex.usermodule.core.token.TokenHandles;
+import com.comex.usermodule.core.token.TokenIssuer;
+import com.comex.usermodule.core.token.TokenPair;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues refresh tokens at login and exchanges them for a new access token without re-authenticating the password.
+ * <p>
+ * Every refresh token is single use: a refresh marks it used and rotates in a new one of the same family. Presenting
+ * a used token means it was copied, so the whole family is deleted and both the thief and the legitimate client have
+ * to log in again.
+ * <p>
+ * A refresh re-reads the user, so the new tokens carry its current authorities, and a user that was deleted or is no
+ * longer verified loses the whole family. Changing the password revokes every family of the user.
+ */
+@Slf4j
+public class RefreshTokenService {
+
+	private final RefreshTokenRepository repository;
+	private final UserRepository userRepository;
+	private final TokenIssuer tokenIssuer;
+	private final Duration lifetime;
+	private final Clock clock;
+
+	public RefreshTokenService(RefreshTokenRepository repository, UserRepository userRepository,
+		TokenIssuer tokenIssuer, Duration lifetime) {
+		this(repository, userRepository, tokenIssuer, lifetime, Clock.systemUTC());
+	}
+
+	public RefreshTokenService(RefreshTokenRepository repository, UserRepository userRepository,
+		TokenIssuer tokenIssuer, Duration lifetime, Clock clock) {
+		this.repository = repository;
+		this.userRepository = userRepository;
+		this.tokenIssuer = tokenIssuer;
+		this.lifetime = lifetime;
+		this.clock = clock;
+	}
+
+	/**
+	 * Starts a new token family for a freshly authenticated user.
+	 */
+	public String issue(User user) {
+		log.info("Issuing refresh token for user: {}.", user.getEmail());
+		return issue(UUID.randomUUID().toString(), user.getEmail(), String.join(",", user.getAuthorities()));
+	}
+
+	public TokenPair refresh(String handle) {
+		if (handle == null || handle.isEmpty()) {
+			throw new UserException(JWT_TOKEN_INVALID, "Refresh token is empty.");
+		}
+
+		String id = TokenHandles.digest(handle);
+		RefreshToken refreshToken = repository.findById(id)
+			.orElseThrow(() -> new UserException(JWT_TOKEN_INVALID, "Refresh token is unknown."));
+
+		if (refreshToken.used() || !repository.markUsed(id)) {
+			log.warn("Refresh token reuse detected for user: {}, revoking token family {}.", refreshToken.subject(),
+				refreshToken.familyId());
+			repository.deleteByFamilyId(refreshToken.familyId());
+			throw new UserException(REFRESH_TOKEN_REUSED,
+				String.format("Refresh token of user: %s was already used.", refreshToken.subject()));
+		}
+
+		if (refreshToken.expiresAt().isBefore(clock.instant())) {
+			throw new UserException(JWT_TOKEN_EXPIRED, "Refresh token is expired.");
+		}
+
+		UserCredentials credentials = userRepository.findCredentialsByEmail(refreshToken.subject())
+			.orElse(null);
+		if (credentials == null) {
+			log.warn("Refresh token of missing or unverified user: {}, revoking token family {}.",
+				refreshToken.subject(), refreshToken.familyId());
+			repository.deleteByFamilyId(refreshToken.familyId());
+			throw new UserException(JWT_TOKEN_INVALID,
+				String.format("Refresh token of user: %s has no verified user.", refreshToken.subject()));
+		}
+
+		log.info("Refreshing tokens of user: {}.", credentials.email());
+		String accessToken = tokenIssuer.issueToken(toUser(credentials));
+		return new TokenPair(accessToken, issue(refreshToken.familyId(), credentials.email(),
+			String.join(",", credentials.authorities())));
+	}
+
+	/**
+	 * Revokes every refresh token of the user, so that sessions started before e.g. a password change end.
+	 */
+	public void revokeAll(String email) {
+		log.info("Revoking refresh tokens of user: {}.", email);
+		repository.deleteBySubject(email);
+	}
+
+	private String issue(String familyId, String subject, String roles) {
+		String handle = TokenHandles.newHandle();
+		Instant now = clock.instant();
+		repository.save(new RefreshToken(TokenHandles.digest(handle), familyId, subject, roles, now,
+			now.plus(lifetime), false));
+		return handle;
+	}
+
+	private User toUser(UserCredentials credentials) {
+		Set<String> authorities = credentials.authorities();
+		return User.builder()
+			.email(credentials.email())
+			.roles(authorities == null ? Collections.emptySet() : authorities.stream()
+				.map(authority -> new Role(authority, Collections.emptySet()))
+				.collect(Collectors.toSet()))
+			.build();
+	}
+}
@@ -0,0 +1,42 @@
+package com.comex.usermodule.core.service;
+
+import static com.comex.usermodule.core.exception.UserExceptionKey.TOKEN_NOT_REVOCABLE;
+
+import java.time.Instant;
+
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.revocation.TokenRevocationList;
+import com.comex.usermodule.core.token.ReferenceTokenStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revokes a bearer token before its expiration: reference tokens are dropped from their store, JWTs are added to
+ * the {@link TokenRevocationList} by their {@code jti}. Either collaborator is {@code null} when its feature is off.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+	private final JwtService jwtService;
+	private final ReferenceTokenStore referenceTokenStore;
+	private final TokenRevocationList revocationList;
+
+	public void revoke(String token) {
+		if (referenceTokenStore != null && token.indexOf('.') < 0) {
+			log.info("Revoking reference token.");
+			referenceTokenStore.revoke(token);
+			return;
+		}
+
+		JwtClaims claims = jwtService.verifyToken(token);
+		if (revocationList == null || claims.id() == null) {
+			throw new UserException(TOKEN_NOT_REVOCABLE,
+				String.format("Token of user: %s cannot be revoked.", claims.subject()));
+		}
+		log.info("Revoking token {} of user: {}.", claims.id(), claims.subject());
+		revocationList.revoke(claims.id(), Instant.ofEpochSecond(claims.expiration()));
+	}
+}
@@ -0,0 +1,78 @@
+package com.comex.usermodule.core.service;
+
+import static com.comex.usermodule.core.exception.UserExceptionKey.TOKEN_REVOKED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.jwt.TokenVerdict;
+import com.comex.usermodule.core.revocation.TokenRevocationList;
+import com.comex.usermodule.core.token.ReferenceTokenStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Validates batches of bearer tokens for callers such as API gateways, applying the same checks as the
+ * authentication filter: reference tokens are resolved from their store, JWTs are verified through
+ * {@link JwtService#verifyTokens(List)} and then checked against the revocation list. Either collaborator is
+ * {@code null} when its feature is off.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenValidationService {
+
+	private final JwtService jwtService;
+	private final ReferenceTokenStore referenceTokenStore;
+	private final TokenRevocationList revocationList;
+	private final int maximumBatchSize;
+
+	public List<TokenVerdict> validate(List<String> tokens) {
+		if (tokens.size() > maximumBatchSize) {
+			throw new IllegalArgumentException(
+				String.format("Batch of %d tokens exceeds the maximum of %d.", tokens.size(), maximumBatchSize));
+		}
+		log.debug("Validating batch of {} tokens.", tokens.size());
+
+		// reference handles are resolved from their store, only JWT-shaped tokens are handed to the verifier
+		TokenVerdict[] verdicts = new TokenVerdict[tokens.size()];
+		List<Integer> jwtPositions = new ArrayList<>(tokens.size());
+		List<String> jwts = new ArrayList<>(tokens.size());
+		for (int i = 0; i < tokens.size(); i++) {
+			String token = tokens.get(i);
+			if (isReferenceToken(token)) {
+				verdicts[i] = resolve(token);
+			} else {
+				jwtPositions.add(i);
+				jwts.add(token);
+			}
+		}
+		if (!jwts.isEmpty()) {
+			List<TokenVerdict> jwtVerdicts = jwtService.verifyTokens(jwts);
+			for (int j = 0; j < jwtVerdicts.size(); j++) {
+				TokenVerdict verdict = jwtVerdicts.get(j);
+				verdicts[jwtPositions.get(j)] = isRevoked(verdict) ? TokenVerdict.invalid(TOKEN_REVOKED) : verdict;
+			}
+		}
+		return Arrays.asList(verdicts);
+	}
+
+	private TokenVerdict resolve(String handle) {
+		try {
+			return TokenVerdict.valid(referenceTokenStore.resolve(handle));
+		} catch (UserException e) {
+			return TokenVerdict.invalid(e.getErrorKey());
+		}
+	}
+
+	private boolean isRevoked(TokenVerdict verdict) {
+		return revocationList != null && verdict.isValid() && verdict.claims().id() != null
+			&& revocationList.isRevoked(verdict.claims().id());
+	}
+
+	private boolean isReferenceToken(String token) {
+		return referenceTokenStore != null && token != null && !token.isEmpty() && token.indexOf('.') < 0;
+	}
+}
@@ -1,7 +1,13 @@
 package com.comex.usermodule.core.service;
 
+import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_INVALID;
+
+import java.util.concurrent.CompletableFuture;
+
 import com.comex.usermodule.core.dto.LoginUserDto;
+import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.port.UserAuthenticator;
+import com.comex.usermodule.core.token.TokenPair;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +17,32 @@ import lombok.extern.slf4j.Slf4j;
 public class UserAuthenticationService {
 
 	private final UserAuthenticator userAuthenticator;
+	private final RefreshTokenService refreshTokenService;
 
-	public String login(LoginUserDto loginUserDto) {
+	public UserAuthenticationService(UserAuthenticator userAuthenticator) {
+		this(userAuthenticator, null);
+	}
+
+	/**
+	 * Logs the user in without the calling thread waiting for the password check, which runs on the password hashing
+	 * executor. The returned future completes once the tokens are issued.
+	 *
+	 * @throws java.util.concurrent.RejectedExecutionException when the hashing queue is full
+	 */
+	public CompletableFuture<TokenPair> loginAsync(LoginUserDto loginUserDto) {
+		log.info("Login user request: {}.", loginUserDto);
+		return userAuthenticator.authenticateAsync(loginUserDto);
+	}
+
+	public TokenPair login(LoginUserDto loginUserDto) {
 		log.info("Login user request: {}.", loginUserDto);
 		return userAuthenticator.authenticate(loginUserDto);
 	}
+
+	public TokenPair refresh(String refreshToken) {
+		if (refreshTokenService == null) {
+			throw new UserException(JWT_TOKEN_INVALID, "Refresh tokens are not enabled.");
+		}
+		return refreshTokenService.refresh(refreshToken);
+	}
 }
@@ -0,0 +1,205 @@
+package com.comex.usermodule.core.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.dto.CreateUserDto;
+import com.comex.usermodule.core.importing.UserImportError;
+import com.comex.usermodule.core.importing.UserImportProgress;
+import com.comex.usermodule.core.importing.UserImportRow;
+import com.comex.usermodule.core.importing.UserImportSummary;
+import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+import com.comex.usermodule.core.port.EventPublisher;
+import com.comex.usermodule.core.port.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates users from a stream of rows in fixed size batches: the rows of a batch are validated, checked against
+ * existing users, hashed in parallel on the {@link PasswordHashingExecutor}, saved with one
+ * {@link UserRepository#saveAll(List)} and announced with one {@link EventPublisher#publishAll(List)}.
+ * <p>
+ * Only one batch is held in memory at a time, whatever the size of the input, and its outcome is handed to the
+ * caller as soon as it is written, so neither the rows nor the error report accumulate.
+ */
+@Slf4j
+public class UserImportService {
+
+	private final Boolean verificationRequired;
+	private final UserRepository userRepository;
+	private final EventPublisher eventPublisher;
+	private final UserMapper userMapper;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final int batchSize;
+
+	public UserImportService(Boolean verificationRequired, UserRepository userRepository, EventPublisher eventPublisher,
+		UserMapper userMapper, PasswordHashingExecutor passwordHashingExecutor, int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive.");
+		}
+		this.verificationRequired = verificationRequired;
+		this.userRepository = userRepository;
+		this.eventPublisher = eventPublisher;
+		this.userMapper = userMapper;
+		this.passwordHashingExecutor = passwordHashingExecutor;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Imports the rows after {@code checkpoint}, reporting the outcome of every batch to {@code progress}.
+	 *
+	 * @param checkpoint the checkpoint of the last batch of an interrupted import, 0 to start from the first row
+	 */
+	public UserImportSummary importUsers(Iterator<UserImportRow> rows, long checkpoint,
+		Consumer<UserImportProgress> progress) {
+		log.info("Importing users after row {}.", checkpoint);
+		long imported = 0;
+		long failed = 0;
+		long lastCheckpoint = checkpoint;
+
+		List<UserImportRow> batch = new ArrayList<>(batchSize);
+		while (rows.hasNext() || !batch.isEmpty()) {
+			// a null row marks the end of the input and flushes the last, partial batch
+			UserImportRow row = rows.hasNext() ? rows.next() : null;
+			if (row != null && row.line() <= checkpoint) {
+				continue;
+			}
+			if (row != null) {
+				batch.add(row);
+			}
+			if (batch.size() == batchSize || row == null) {
+				UserImportProgress batchProgress = importBatch(batch);
+				imported += batchProgress.imported();
+				failed += batchProgress.errors().size();
+				lastCheckpoint = batchProgress.checkpoint();
+				progress.accept(batchProgress);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+
+		log.info("Imported {} users, {} rows failed.", imported, failed);
+		return new UserImportSummary(lastCheckpoint, imported, failed);
+	}
+
+	private UserImportProgress importBatch(List<UserImportRow> batch) {
+		List<UserImportError> errors = new ArrayList<>();
+		List<UserImportRow> accepted = validate(batch, errors);
+
+		Set<String> existingEmails = accepted.isEmpty() ? Set.of() : userRepository.findExistingEmails(
+			accepted.stream().map(row -> row.user().email()).toList());
+		List<UserImportRow> fresh = new ArrayList<>(accepted.size());
+		for (UserImportRow row : accepted) {
+			if (existingEmails.contains(row.user().email())) {
+				errors.add(error(row, "User with this email already exists."));
+			} else {
+				fresh.add(row);
+			}
+		}
+
+		List<User> saved = save(fresh, hash(fresh), errors);
+		if (!saved.isEmpty()) {
+			eventPublisher.publishAll(saved.stream().map(userMapper::toUserCreatedEvent).toList());
+		}
+
+		errors.sort(Comparator.comparingLong(UserImportError::line));
+		return new UserImportProgress(batch.get(batch.size() - 1).line(), saved.size(), errors);
+	}
+
+	private List<UserImportRow> validate(List<UserImportRow> batch, List<UserImportError> errors) {
+		Set<String> emails = new HashSet<>();
+		Set<String> usernames = new HashSet<>();
+		List<UserImportRow> accepted = new ArrayList<>(batch.size());
+		for (UserImportRow row : batch) {
+			if (!row.isValid()) {
+				errors.add(new UserImportError(row.line(), null, row.error()));
+				continue;
+			}
+			CreateUserDto user = row.user();
+			if (isBlank(user.email()) || isBlank(user.username()) || isBlank(user.password())) {
+				errors.add(error(row, "Username, email and password are required."));
+			} else if (!emails.add(user.email()) || !usernames.add(user.username())) {
+				errors.add(error(row, "Duplicate username or email within the import."));
+			} else {
+				accepted.add(row);
+			}
+		}
+		return accepted;
+	}
+
+	/**
+	 * Hashes the passwords in one slice per hashing thread, the calling thread taking the first slice. Slices the
+	 * hashing queue has no room for are hashed by the calling thread as well, so a busy server slows the import
+	 * down instead of failing it.
+	 */
+	private List<User> hash(List<UserImportRow> rows) {
+		int slices = passwordHashingExecutor == null ? 1
+			: Math.min(passwordHashingExecutor.getThreads(), rows.size());
+		if (slices <= 1) {
+			return toUsers(rows);
+		}
+
+		int sliceSize = (rows.size() + slices - 1) / slices;
+		List<CompletableFuture<List<User>>> futures = new ArrayList<>(slices - 1);
+		for (int from = sliceSize; from < rows.size(); from += sliceSize) {
+			List<UserImportRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+			try {
+				futures.add(passwordHashingExecutor.submit(() -> toUsers(slice)));
+			} catch (RejectedExecutionException e) {
+				futures.add(CompletableFuture.completedFuture(toUsers(slice)));
+			}
+		}
+
+		List<User> users = new ArrayList<>(rows.size());
+		users.addAll(toUsers(rows.subList(0, sliceSize)));
+		futures.forEach(future -> users.addAll(future.join()));
+		return users;
+	}
+
+	private List<User> toUsers(List<UserImportRow> rows) {
+		return rows.stream()
+			.map(row -> userMapper.toUser(row.user(), verificationRequired))
+			.toList();
+	}
+
+	/**
+	 * Saves the batch at once and falls back to saving user by user when that fails, which isolates the rows
+	 * rejected by the store (e.g. a taken username) from the rest of the batch.
+	 */
+	private List<User> save(List<UserImportRow> rows, List<User> users, List<UserImportError> errors) {
+		if (users.isEmpty()) {
+			return users;
+		}
+		try {
+			return userRepository.saveAll(users);
+		} catch (RuntimeException e) {
+			log.warn("Saving import batch of {} users failed, retrying one by one.", users.size(), e);
+		}
+
+		List<User> saved = new ArrayList<>(users.size());
+		for (int i = 0; i < users.size(); i++) {
+			try {
+				saved.add(userRepository.save(users.get(i)));
+			} catch (RuntimeException e) {
+				errors.add(error(rows.get(i), "User could not be saved."));
+			}
+		}
+		return saved;
+	}
+
+	private static UserImportError error(UserImportRow row, String message) {
+		return new UserImportError(row.line(), row.user().email(), message);
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
@@ -1,10 +1,17 @@
 package com.comex.usermodule.core.service;
 
+import static com.comex.usermodule.core.exception.UserExceptionKey.NOT_FOUND;
+
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 import com.comex.usermodule.core.dto.CreateUserDto;
+import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
 import com.comex.usermodule.core.port.EventPublisher;
 import com.comex.usermodule.core.port.UserRepository;
 
@@ -19,19 +26,81 @@ public class UserService {
 	private final UserRepository userRepository;
 	private final EventPublisher eventPublisher;
 	private final UserMapper userMapper;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final VerifiedCredentialsCache<?> verifiedCredentialsCache;
+	private final RefreshTokenService refreshTokenService;
+
+	public UserService(Boolean verificationRequired, UserRepository userRepository, EventPublisher eventPublisher,
+		UserMapper userMapper) {
+		this(verificationRequired, userRepository, eventPublisher, userMapper, null);
+	}
+
+	public UserService(Boolean verificationRequired, UserRepository userRepository, EventPublisher eventPublisher,
+		UserMapper userMapper, PasswordHashingExecutor passwordHashingExecutor) {
+		this(verificationRequired, userRepository, eventPublisher, userMapper, passwordHashingExecutor, null);
+	}
+
+	public UserService(Boolean verificationRequired, UserRepository userRepository, EventPublisher eventPublisher,
+		UserMapper userMapper, PasswordHashingExecutor passwordHashingExecutor,
+		VerifiedCredentialsCache<?> verifiedCredentialsCache) {
+		this(verificationRequired, userRepository, eventPublisher, userMapper, passwordHashingExecutor,
+			verifiedCredentialsCache, null);
+	}
+
+	/**
+	 * Encodes the password of the new user on the password hashing executor when one is configured, since that
+	 * dominates the cost of a sign-up, and saves and announces the user once it is done, off the hashing pool.
+	 *
+	 * @throws java.util.concurrent.RejectedExecutionException when the hashing queue is full
+	 */
+	public CompletableFuture<User> createUserAsync(CreateUserDto createUserDto) {
+		if (passwordHashingExecutor == null) {
+			return CompletableFuture.completedFuture(createUser(createUserDto));
+		}
+		return passwordHashingExecutor.submit(() -> userMapper.toUser(createUserDto, verificationRequired))
+			.thenApply(user -> save(createUserDto, user));
+	}
 
 	public User createUser(CreateUserDto createUserDto) {
+		return save(createUserDto, userMapper.toUser(createUserDto, verificationRequired));
+	}
+
+	private User save(CreateUserDto createUserDto, User newUser) {
 		log.info("Saving user: {}.", createUserDto);
-		User user = userRepository.save(userMapper.toUser(createUserDto, verificationRequired));
+		User user = userRepository.save(newUser);
 		// publish event
 		eventPublisher.publish(userMapper.toUserCreatedEvent(user));
 		return user;
 	}
 
+	/**
+	 * Replaces the stored password hash, e.g. after a login re-encoded it with the current algorithm and work factor.
+	 * Refresh tokens issued before are revoked.
+	 */
+	public User updatePassword(String email, String encodedPassword) {
+		log.info("Updating password hash of user: {}.", email);
+		User user = userRepository.findByEmail(email);
+		user.setPassword(encodedPassword);
+		User saved = userRepository.save(user);
+		if (verifiedCredentialsCache != null) {
+			verifiedCredentialsCache.invalidate(email);
+		}
+		if (refreshTokenService != null) {
+			refreshTokenService.revokeAll(email);
+		}
+		return saved;
+	}
+
 	public User findByEmail(String email) {
 		return userRepository.findByEmail(email);
 	}
 
+	public UserCredentials findCredentialsByEmail(String email) {
+		return userRepository.findCredentialsByEmail(email)
+			.orElseThrow(() -> new UserException(NOT_FOUND,
+				String.format("Verified user with email: %s not found.", email)));
+	}
+
 	public Optional<User> findByEmailOptional(String email) {
 		return userRepository.findByEmailOptional(email);
 	}
@@ -2,9 +2,15 @@ package com.comex.usermodule.core.service;
 
 
 import static com.comex.usermodule.core.domain.UserStatus.VERIFIED;
+import static com.comex.usermodule.core.exception.UserExceptionKey.VERIFICATION_CODE_EXPIRED;
+
+import java.time.Instant;
 
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.event.UserVerifiedEvent;
+import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
 import com.comex.usermodule.core.port.EventPublisher;
 import com.comex.usermodule.core.port.UserRepository;
 
@@ -18,13 +24,31 @@ public class UserVerificationService {
 	private final UserRepository userRepository;
 	private final EventPublisher eventPublisher;
 	private final UserMapper userMapper;
+	private final VerifiedCredentialsCache<?> verifiedCredentialsCache;
+
+	public UserVerificationService(UserRepository userRepository, EventPublisher eventPublisher, UserMapper userMapper) {
+		this(userRepository, eventPublisher, userMapper, null);
+	}
 
 	public void verify(String verificationCode) {
 		log.info("Verifying user with verification code: {}.", verificationCode);
 		User user = userRepository.findByVerificationCode(verificationCode);
+		Instant expiresAt = user.getVerificationCodeExpiresAt();
+		if (expiresAt != null && expiresAt.isBefore(Instant.now())) {
+			throw new UserException(VERIFICATION_CODE_EXPIRED,
+				String.format("Verification code: %s has expired.", verificationCode));
+		}
+		UserVerifiedEvent userVerifiedEvent = userMapper.toUserVerifiedEvent(user);
 		user.setStatus(VERIFIED);
+		// a used code is dropped, which keeps the verification code index down to pending registrations
+		user.setVerificationCode(null);
+		user.setVerificationCodeExpiresAt(null);
 		userRepository.save(user);
+		if (verifiedCredentialsCache != null) {
+			// logins cached before the status change must be checked again
+			verifiedCredentialsCache.invalidate(user.getEmail());
+		}
 		// publish event
-		eventPublisher.publish(userMapper.toUserVerifiedEvent(user));
+		eventPublisher.publish(userVerifiedEvent);
 	}
 }
@@ -0,0 +1,10 @@
+package com.comex.usermodule.core.token;
+
+import java.time.Instant;
+
+/**
+ * Persistent form of an opaque reference token. The {@code id} is the digest of the handle handed to the client, so
+ * a leaked store never yields usable tokens; {@code expiresAt} is the current end of the sliding expiry window.
+ */
+public record ReferenceToken(String id, String subject, String roles, Instant issuedAt, Instant expiresAt) {
+}
@@ -0,0 +1,289 @@
+package com.comex.usermodule.core.token;
+
+import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_EXPIRED;
+import static com.comex.usermodule.core.exception.UserExceptionKey.JWT_TOKEN_INVALID;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues opaque reference tokens and resolves them from a bounded, concurrent in-memory store.
+ * <p>
+ * Every successful resolution slides the token's expiry by the idle timeout, capped by the maximum lifetime counted
+ * from issuance. When a {@link ReferenceTokenRepository} is configured, tokens are written through on issue and
+ * revoke, resolved from it on a local miss (e.g. a token issued by another node), and the persisted expiry is
+ * refreshed at most once per half idle timeout instead of on every request. A token held locally is also checked to
+ * still be stored once per revalidation interval, so that a token revoked on another node stops resolving here within
+ * that interval instead of at its maximum lifetime.
+ * <p>
+ * The store is a Caffeine cache bounded by the maximum size. It keeps a token for one more idle timeout after its
+ * expiry, so that a late use is still reported as expired rather than unknown. Tokens evicted for size are only lost
+ * when no repository is configured; otherwise they are reloaded on their next use.
+ */
+@Slf4j
+public class ReferenceTokenStore {
+
+	private final long idleTimeoutMillis;
+	private final long maxLifetimeMillis;
+	private final long revalidationIntervalMillis;
+	private final int maximumSize;
+	private final ReferenceTokenRepository repository;
+	private final Clock clock;
+	private final Cache<String, Entry> entries;
+
+	private final LongAdder resolutions = new LongAdder();
+	private final LongAdder resolutionNanos = new LongAdder();
+
+	public ReferenceTokenStore(Duration idleTimeout, Duration maxLifetime, int maximumSize,
+		ReferenceTokenRepository repository, Duration revalidationInterval) {
+		this(idleTimeout, maxLifetime, maximumSize, repository, revalidationInterval, Clock.systemUTC());
+	}
+
+	public ReferenceTokenStore(Duration idleTimeout, Duration maxLifetime, int maximumSize,
+		ReferenceTokenRepository repository, Duration revalidationInterval, Clock clock) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		this.idleTimeoutMillis = idleTimeout.toMillis();
+		this.maxLifetimeMillis = maxLifetime.toMillis();
+		this.revalidationIntervalMillis = revalidationInterval.toMillis();
+		this.maximumSize = maximumSize;
+		this.repository = repository;
+		this.clock = clock;
+		this.entries = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new RetentionExpiry())
+			.ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+			.recordStats()
+			.build();
+	}
+
+	public String issue(User user) {
+		log.info("Issuing reference token for user: {}.", user.getEmail());
+		return issue(user.getEmail(), String.join(",", user.getAuthorities()));
+	}
+
+	public String issue(String subject, String roles) {
+		String handle = TokenHandles.newHandle();
+
+		long now = clock.millis();
+		Entry entry = new Entry(digest(handle), subject, roles, now, slidExpiresAt(now, now));
+		if (repository != null) {
+			repository.save(entry.toReferenceToken());
+			entry.persistedExpiresAt = entry.expiresAt;
+		}
+		entry.validatedAt = now;
+		put(entry);
+		return handle;
+	}
+
+	/**
+	 * Resolves the handle to the claims it stands for and slides its expiry.
+	 */
+	public JwtClaims resolve(String handle) {
+		long start = System.nanoTime();
+		try {
+			if (handle == null || handle.isEmpty()) {
+				throw new UserException(JWT_TOKEN_INVALID, "Reference token is empty.");
+			}
+
+			String id = digest(handle);
+			long now = clock.millis();
+			Entry entry = entries.getIfPresent(id);
+			if (entry == null) {
+				entry = load(id, now);
+			} else if (repository != null && now - entry.validatedAt >= revalidationIntervalMillis
+				&& !isStored(entry)) {
+				rejectRevoked(entry);
+			}
+
+			if (entry.expiresAt < now) {
+				remove(id, entry);
+				throw new UserException(JWT_TOKEN_EXPIRED, "Reference token is expired.");
+			}
+
+			entry.expiresAt = slidExpiresAt(entry.issuedAt, now);
+			if (repository != null && entry.expiresAt - entry.persistedExpiresAt > idleTimeoutMillis / 2
+				&& !touch(entry)) {
+				rejectRevoked(entry);
+			}
+			return new JwtClaims(entry.subject, entry.roles, entry.issuedAt / 1000L, entry.expiresAt / 1000L);
+		} finally {
+			resolutions.increment();
+			resolutionNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	public void revoke(String handle) {
+		String id = digest(handle);
+		entries.invalidate(id);
+		if (repository != null) {
+			repository.deleteById(id);
+		}
+	}
+
+	public long size() {
+		return entries.estimatedSize();
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public long resolutionCount() {
+		return resolutions.sum();
+	}
+
+	public long resolutionTotalNanos() {
+		return resolutionNanos.sum();
+	}
+
+	/**
+	 * The underlying cache, whose statistics are exported as metrics.
+	 */
+	public Cache<?, ?> getCache() {
+		return entries;
+	}
+
+	private Entry load(String id, long now) {
+		Optional<ReferenceToken> referenceToken = repository != null ? repository.findById(id) : Optional.empty();
+		Entry entry = referenceToken
+			.map(Entry::new)
+			.orElseThrow(() -> new UserException(JWT_TOKEN_INVALID, "Reference token is unknown."));
+		entry.validatedAt = now;
+		put(entry);
+		return entry;
+	}
+
+	/**
+	 * Checks that the token was not revoked on another node since it was last seen in the repository. A failing
+	 * repository leaves the local entry valid, the check is retried on the next resolution.
+	 */
+	private boolean isStored(Entry entry) {
+		try {
+			if (repository.findById(entry.id).isEmpty()) {
+				return false;
+			}
+			entry.validatedAt = clock.millis();
+		} catch (RuntimeException e) {
+			log.warn("Could not revalidate reference token {}.", entry.id, e);
+		}
+		return true;
+	}
+
+	/**
+	 * Moves the persisted expiry, which fails when the token was revoked on another node: the update never recreates
+	 * a deleted token.
+	 */
+	private boolean touch(Entry entry) {
+		try {
+			if (!repository.updateExpiresAt(entry.id, Instant.ofEpochMilli(entry.expiresAt))) {
+				return false;
+			}
+			entry.persistedExpiresAt = entry.expiresAt;
+			entry.validatedAt = clock.millis();
+		} catch (RuntimeException e) {
+			// the local entry stays valid, the write is retried on the next resolution
+			log.warn("Could not refresh expiry of reference token {}.", entry.id, e);
+		}
+		return true;
+	}
+
+	private void rejectRevoked(Entry entry) {
+		entries.asMap().remove(entry.id, entry);
+		throw new UserException(JWT_TOKEN_INVALID, "Reference token is revoked.");
+	}
+
+	private void put(Entry entry) {
+		entries.put(entry.id, entry);
+	}
+
+	private void remove(String id, Entry entry) {
+		entries.asMap().remove(id, entry);
+		if (repository != null) {
+			repository.deleteById(id);
+		}
+	}
+
+	/**
+	 * Expiry of a token used at {@code now}: one idle timeout later, capped by the maximum lifetime.
+	 */
+	private long slidExpiresAt(long issuedAt, long now) {
+		return Math.min(now + idleTimeoutMillis, issuedAt + maxLifetimeMillis);
+	}
+
+	private static String digest(String handle) {
+		return TokenHandles.digest(handle);
+	}
+
+	/**
+	 * Keeps every token one idle timeout past its expiry. A read is about to slide the expiry, so the retention is
+	 * computed from the slid expiry already.
+	 */
+	private final class RetentionExpiry implements Expiry<String, Entry> {
+
+		@Override
+		public long expireAfterCreate(String id, Entry entry, long currentTime) {
+			return retention(entry.expiresAt, currentTime);
+		}
+
+		@Override
+		public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+			return retention(entry.expiresAt, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+			long now = TimeUnit.NANOSECONDS.toMillis(currentTime);
+			return entry.expiresAt < now ? currentDuration
+				: retention(slidExpiresAt(entry.issuedAt, now), currentTime);
+		}
+
+		private long retention(long expiresAt, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(expiresAt + idleTimeoutMillis) - currentTime;
+		}
+	}
+
+	private static final class Entry {
+
+		private final String id;
+		private final String subject;
+		private final String roles;
+		private final long issuedAt;
+		private volatile long expiresAt;
+		private volatile long persistedExpiresAt;
+		private volatile long validatedAt;
+
+		private Entry(String id, String subject, String roles, long issuedAt, long expiresAt) {
+			this.id = id;
+			this.subject = subject;
+			this.roles = roles;
+			this.issuedAt = issuedAt;
+			this.expiresAt = expiresAt;
+		}
+
+		private Entry(ReferenceToken referenceToken) {
+			this(referenceToken.id(), referenceToken.subject(), referenceToken.roles(),
+				referenceToken.issuedAt().toEpochMilli(), referenceToken.expiresAt().toEpochMilli());
+			this.persistedExpiresAt = expiresAt;
+		}
+
+		private ReferenceToken toReferenceToken() {
+			return new ReferenceToken(id, subject, roles, Instant.ofEpochMilli(issuedAt), Instant.ofEpochMilli(expiresAt));
+		}
+	}
+}
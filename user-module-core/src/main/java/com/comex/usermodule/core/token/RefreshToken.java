@@ -0,0 +1,12 @@
+package com.comex.usermodule.core.token;
+
+import java.time.Instant;
+
+/**
+ * Persistent form of a refresh token. The {@code id} is the digest of the handle handed to the client; every token
+ * rotated out of the same login shares its {@code familyId}, so presenting an already {@code used} token revokes the
+ * whole family.
+ */
+public record RefreshToken(String id, String familyId, String subject, String roles, Instant issuedAt,
+						   Instant expiresAt, boolean used) {
+}
@@ -0,0 +1,38 @@
+package com.comex.usermodule.core.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Random opaque handles handed to clients and the digests they are stored under, so a leaked store never yields
+ * usable tokens.
+ */
+public final class TokenHandles {
+
+	private static final int HANDLE_BYTES = 32;
+	private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available.", e);
+		}
+	});
+
+	private TokenHandles() {
+	}
+
+	public static String newHandle() {
+		byte[] random = new byte[HANDLE_BYTES];
+		SECURE_RANDOM.nextBytes(random);
+		return BASE64_URL.encodeToString(random);
+	}
+
+	public static String digest(String handle) {
+		return BASE64_URL.encodeToString(SHA_256.get().digest(handle.getBytes(StandardCharsets.US_ASCII)));
+	}
+}
@@ -0,0 +1,12 @@
+package com.comex.usermodule.core.token;
+
+import com.comex.usermodule.core.domain.User;
+
+/**
+ * Issues the bearer token returned to a user after a successful login, either a self-contained JWT or an opaque
+ * reference token depending on the configured token mode.
+ */
+public interface TokenIssuer {
+
+	String issueToken(User user);
+}
@@ -0,0 +1,7 @@
+package com.comex.usermodule.core.token;
+
+/**
+ * Tokens returned by a login or a refresh; {@code refreshToken} is {@code null} when refresh tokens are disabled.
+ */
+public record TokenPair(String accessToken, String refreshToken) {
+}
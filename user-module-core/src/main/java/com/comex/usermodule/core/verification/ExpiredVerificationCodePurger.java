@@ -0,0 +1,33 @@
+package com.comex.usermodule.core.verification;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.scheduling.BatchedPurger;
+
+/**
+ * Periodically clears verification codes that expired before they were used, in batches of a bounded size so that no
+ * single statement holds locks on many rows. This keeps the verification code index down to the pending codes. The
+ * users are kept, unverified, so they can be given a new code. A zero or negative interval disables the purge.
+ */
+public class ExpiredVerificationCodePurger extends BatchedPurger {
+
+	private final UserRepository userRepository;
+
+	public ExpiredVerificationCodePurger(UserRepository userRepository, Duration purgeInterval, int batchSize) {
+		this(userRepository, purgeInterval, batchSize, Clock.systemUTC());
+	}
+
+	public ExpiredVerificationCodePurger(UserRepository userRepository, Duration purgeInterval, int batchSize,
+		Clock clock) {
+		super("expired-verification-code-purge", "expired verification codes", purgeInterval, batchSize, clock);
+		this.userRepository = userRepository;
+	}
+
+	@Override
+	protected int purgeBatch(Instant now, int batchSize) {
+		return userRepository.clearExpiredVerificationCodes(now, batchSize);
+	}
+}
@@ -0,0 +1,67 @@
+package com.comex.usermodule.core.cache;
+
+import static com.comex.usermodule.core.helper.UserTestInventory.DEFAULT_EMAIL;
+import static com.comex.usermodule.core.helper.UserTestInventory.DEFAULT_PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.helper.UserTestInventory;
+import com.comex.usermodule.core.password.VerifiedCredentialsCache;
+import com.comex.usermodule.core.role.RoleCatalog;
+
+class CacheInvalidationHandlerTest {
+
+	private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+	private final AtomicReference<List<Role>> roles = new AtomicReference<>(List.of(new Role("ROLE_USER", Set.of())));
+
+	private UserCache userCache;
+	private VerifiedCredentialsCache<String> verifiedCredentialsCache;
+	private RoleCatalog<Role> roleCatalog;
+
+	@BeforeEach
+	void setUp() {
+		userCache = new UserCache(Duration.ofMinutes(1), 100);
+		verifiedCredentialsCache = new VerifiedCredentialsCache<>(Duration.ofMinutes(1), 100);
+		roleCatalog = new RoleCatalog<>(roles::get, Role::getName);
+		bus.subscribe(new CacheInvalidationHandler(userCache, verifiedCredentialsCache, roleCatalog));
+
+		userCache.putByEmail(DEFAULT_EMAIL, UserTestInventory.verifiedUser(), userCache.stamp());
+		userCache.putByEmail("other@example.com", UserTestInventory.userWithEmail("other@example.com"),
+			userCache.stamp());
+		verifiedCredentialsCache.put(DEFAULT_EMAIL, DEFAULT_PASSWORD, "principal");
+	}
+
+	@Test
+	void testUserInvalidationDropsOnlyThatUser() {
+		// WHEN
+		bus.publish(CacheInvalidation.user(DEFAULT_EMAIL, null));
+
+		// THEN
+		assertThat(userCache.getByEmail(DEFAULT_EMAIL)).isNull();
+		assertThat(userCache.getByEmail("other@example.com")).isNotNull();
+		assertThat(verifiedCredentialsCache.get(DEFAULT_EMAIL, DEFAULT_PASSWORD)).isNull();
+	}
+
+	@Test
+	void testRolesInvalidationRefreshesCatalogAndDropsAllUsers() {
+		// GIVEN
+		assertThat(roleCatalog.find("ROLE_ADMIN")).isNull();
+		roles.set(List.of(new Role("ROLE_USER", Set.of()), new Role("ROLE_ADMIN", Set.of("DELETE"))));
+
+		// WHEN
+		bus.publish(CacheInvalidation.roles());
+
+		// THEN
+		assertThat(roleCatalog.find("ROLE_ADMIN").getPermissions()).containsExactly("DELETE");
+		assertThat(userCache.size()).isZero();
+		assertThat(verifiedCredentialsCache.size()).isZero();
+	}
+}
@@ -0,0 +1,163 @@
+package com.comex.usermodule.core.cache;
+
+import static com.comex.usermodule.core.helper.UserTestInventory.DEFAULT_EMAIL;
+import static com.comex.usermodule.core.helper.UserTestInventory.DEFAULT_VERIFICATION_CODE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.event.UserVerifiedEvent;
+import com.comex.usermodule.core.helper.UserTestInventory;
+import com.comex.usermodule.core.port.EventPublisher;
+import com.comex.usermodule.core.port.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+	private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private EventPublisher eventPublisher;
+
+	private MutableClock clock;
+	private UserCache userCache;
+	private CachingUserRepository sut;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		userCache = new UserCache(TIME_TO_LIVE, 100, clock);
+		sut = new CachingUserRepository(userRepository, userCache);
+	}
+
+	@Test
+	void testFindByEmailReadsThroughOnceAndReturnsCopies() {
+		// GIVEN
+		when(userRepository.findByEmailOptional(DEFAULT_EMAIL)).thenReturn(Optional.of(UserTestInventory.verifiedUser()));
+		sut.findByEmailOptional(DEFAULT_EMAIL).orElseThrow().setPassword("changed-but-not-saved");
+
+		// WHEN
+		User user = sut.findByEmail(DEFAULT_EMAIL);
+
+		// THEN
+		assertThat(user.getPassword()).isEqualTo(UserTestInventory.DEFAULT_ENCODED_PASSWORD);
+		verify(userRepository, times(1)).findByEmailOptional(DEFAULT_EMAIL);
+		assertThat(userCache.getCaches().get("email").stats().hitCount()).isEqualTo(1);
+		assertThat(userCache.getCaches().get("email").stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testSaveInvalidatesUser() {
+		// GIVEN
+		User user = UserTestInventory.verifiedUser();
+		when(userRepository.findByEmail(DEFAULT_EMAIL)).thenReturn(user);
+		when(userRepository.save(user)).thenReturn(user);
+		sut.findByEmail(DEFAULT_EMAIL);
+
+		// WHEN
+		sut.save(user);
+		sut.findByEmail(DEFAULT_EMAIL);
+
+		// THEN
+		verify(userRepository, times(2)).findByEmail(DEFAULT_EMAIL);
+	}
+
+	@Test
+	void testPublishedVerifiedEventInvalidatesVerificationCode() {
+		// GIVEN
+		User user = UserTestInventory.pendingUser();
+		when(userRepository.findByVerificationCode(DEFAULT_VERIFICATION_CODE)).thenReturn(user);
+		sut.findByVerificationCode(DEFAULT_VERIFICATION_CODE);
+		UserVerifiedEvent event = UserVerifiedEvent.builder()
+			.id(user.getId())
+			.verificationCode(DEFAULT_VERIFICATION_CODE)
+			.build();
+
+		// WHEN
+		new InvalidatingEventPublisher(eventPublisher, userCache).publish(event);
+		sut.findByVerificationCode(DEFAULT_VERIFICATION_CODE);
+
+		// THEN
+		verify(eventPublisher).publish(event);
+		verify(userRepository, times(2)).findByVerificationCode(DEFAULT_VERIFICATION_CODE);
+	}
+
+	@Test
+	void testEntriesExpireAfterTimeToLive() {
+		// GIVEN
+		when(userRepository.findByEmail(DEFAULT_EMAIL)).thenReturn(UserTestInventory.verifiedUser());
+		sut.findByEmail(DEFAULT_EMAIL);
+		clock.advance(TIME_TO_LIVE.plusSeconds(1));
+
+		// WHEN
+		sut.findByEmail(DEFAULT_EMAIL);
+
+		// THEN
+		verify(userRepository, times(2)).findByEmail(DEFAULT_EMAIL);
+		assertThat(userCache.getCaches().get("email").stats().missCount()).isEqualTo(2);
+	}
+
+	@Test
+	void testUserLoadedBeforeConcurrentSaveIsNotCached() {
+		// GIVEN
+		User stale = UserTestInventory.verifiedUser();
+		when(userRepository.findByEmail(DEFAULT_EMAIL)).thenAnswer(invocation -> {
+			// another thread saves the user while this read is in flight
+			userCache.invalidate(UserTestInventory.verifiedUser());
+			return stale;
+		});
+
+		// WHEN
+		sut.findByEmail(DEFAULT_EMAIL);
+		sut.findByEmail(DEFAULT_EMAIL);
+
+		// THEN
+		verify(userRepository, times(2)).findByEmail(DEFAULT_EMAIL);
+		assertThat(userCache.size()).isZero();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.comex.usermodule.core.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class AuthoritySetTest {
+
+	private final AuthorityDictionary dictionary = new AuthorityDictionary();
+
+	@Test
+	void testOfBehavesLikeSetOfNames() {
+		// GIVEN / WHEN
+		AuthoritySet sut = AuthoritySet.of(Set.of("ROLE_USER", "READ", "WRITE"), dictionary);
+
+		// THEN
+		assertThat(sut).hasSize(3).containsExactlyInAnyOrder("ROLE_USER", "READ", "WRITE");
+		assertThat(sut).isEqualTo(Set.of("ROLE_USER", "READ", "WRITE"));
+		assertThat(sut.hashCode()).isEqualTo(Set.of("ROLE_USER", "READ", "WRITE").hashCode());
+		assertThat(sut.contains("DELETE")).isFalse();
+		assertThat(sut.contains(dictionary.idOf("READ"))).isTrue();
+	}
+
+	@Test
+	void testUnionSpansMultipleWords() {
+		// GIVEN
+		List<String> names = IntStream.range(0, 130).mapToObj(i -> "PERMISSION_" + i).toList();
+		AuthoritySet low = AuthoritySet.of(names.subList(0, 2), dictionary);
+		AuthoritySet high = AuthoritySet.of(names.subList(128, 130), dictionary);
+
+		// WHEN
+		AuthoritySet sut = AuthoritySet.union(List.of(low, high));
+
+		// THEN
+		assertThat(sut).containsExactlyInAnyOrder("PERMISSION_0", "PERMISSION_1", "PERMISSION_128",
+			"PERMISSION_129");
+		assertThat(sut.containsAll(low)).isTrue();
+		assertThat(low.containsAll(sut)).isFalse();
+		assertThat(low.union(high)).isEqualTo(sut);
+		assertThat(sut.union(low)).isSameAs(sut);
+	}
+
+	@Test
+	void testUserAuthoritiesAreUnionOfRolesAndResetWithRoles() {
+		// GIVEN
+		User sut = User.builder()
+			.roles(Set.of(new Role("ROLE_USER", Set.of("READ")), new Role("ROLE_ADMIN", Set.of("READ", "DELETE"))))
+			.build();
+
+		// WHEN
+		AuthoritySet authorities = sut.getAuthorities();
+
+		// THEN
+		assertThat(authorities).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN", "READ", "DELETE");
+		assertThat(sut.getAuthorities()).isSameAs(authorities);
+
+		sut.setRoles(Set.of(new Role("ROLE_USER")));
+		assertThat(sut.getAuthorities()).containsExactly("ROLE_USER");
+	}
+}
@@ -0,0 +1,61 @@
+package com.comex.usermodule.core.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class AuthorityClaimCodecTest {
+
+	private static final List<String> VERSION_1 = List.of("ROLE_USER", "ROLE_ADMIN", "READ", "WRITE", "DELETE");
+	private static final List<String> VERSION_2 = List.of("ROLE_USER", "ROLE_ADMIN", "READ", "WRITE", "DELETE",
+		"AUDIT", "EXPORT", "IMPORT", "INVITE");
+
+	private final AuthorityClaimCodec sut = new AuthorityClaimCodec(2, Map.of(1, VERSION_1, 2, VERSION_2));
+
+	@Test
+	void testEncodeRoundTrips() {
+		// GIVEN
+		Set<String> authorities = Set.of("ROLE_USER", "READ", "INVITE");
+
+		// WHEN
+		String claim = sut.encode(authorities);
+
+		// THEN
+		assertThat(claim).isEqualTo("~2.BQE");
+		assertThat(AuthorityClaimCodec.isCompact(claim)).isTrue();
+		assertThat(sut.decode(claim)).isEqualTo(authorities);
+	}
+
+	@Test
+	void testEncodeFallsBackToNamesForUnknownAuthority() {
+		// GIVEN / WHEN
+		String claim = sut.encode(List.of("ROLE_USER", "UNLISTED"));
+
+		// THEN
+		assertThat(claim).isEqualTo("ROLE_USER,UNLISTED");
+		assertThat(AuthorityClaimCodec.isCompact(claim)).isFalse();
+	}
+
+	@Test
+	void testDecodeAcceptsPreviousVersion() {
+		// GIVEN
+		String claim = new AuthorityClaimCodec(1, Map.of(1, VERSION_1)).encode(Set.of("ROLE_ADMIN", "DELETE"));
+
+		// WHEN / THEN
+		assertThat(sut.decode(claim)).containsExactlyInAnyOrder("ROLE_ADMIN", "DELETE");
+	}
+
+	@Test
+	void testDecodeRejectsUnknownVersionAndBitsOutsideDictionary() {
+		// GIVEN / WHEN / THEN
+		assertThatThrownBy(() -> sut.decode("~3.AQ")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> sut.decode("~1.AAE")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> sut.decode("~x.AQ")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> sut.decode("~1.!!")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
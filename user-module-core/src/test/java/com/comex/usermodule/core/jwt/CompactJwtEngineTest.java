@@ -0,0 +1,205 @@
+package com.comex.usermodule.core.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class CompactJwtEngineTest {
+
+	private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(
+		"ThisIsAVerySecureSecretKeyForTestingPurposesOnly123456789".getBytes(StandardCharsets.UTF_8));
+
+	private final JwtKeyRing keyRing = JwtKeyRing.of(JwtKey.hmac(null, SECRET_KEY, null));
+	private final JwtEngine jjwtEngine = new JjwtEngine(keyRing);
+	private final JwtEngine sut = new CompactJwtEngine(keyRing, jjwtEngine);
+
+	@ParameterizedTest
+	@ValueSource(strings = {"ROLE_USER", "ROLE_USER,ROLE_ADMIN,READ", "", "quote\"back\\slash/tab\tunicodeé☃"})
+	void testVerifyMatchesJjwtForSignerTokens(String roles) {
+		// GIVEN
+		long now = System.currentTimeMillis();
+		String token = keyRing.signingKey().getSigner().sign("test@example.com", roles, now, now + 60_000L);
+
+		// WHEN
+		JwtClaims claims = sut.verify(token);
+
+		// THEN
+		assertThat(claims).isEqualTo(jjwtEngine.verify(token));
+		assertThat(claims.roles()).isEqualTo(roles);
+	}
+
+	@Test
+	void testVerifyMatchesJjwtForKeyIdTokens() {
+		// GIVEN
+		JwtKeyRing keyIdRing = JwtKeyRing.of(JwtKey.hmac("key-1", SECRET_KEY, null));
+		JwtEngine keyIdJjwtEngine = new JjwtEngine(keyIdRing);
+		JwtEngine keyIdSut = new CompactJwtEngine(keyIdRing, keyIdJjwtEngine);
+		long now = System.currentTimeMillis();
+		String token = keyIdRing.signingKey().getSigner().sign("test@example.com", "ROLE_USER", now, now + 60_000L);
+
+		// WHEN
+		JwtClaims claims = keyIdSut.verify(token);
+
+		// THEN
+		assertThat(claims).isEqualTo(keyIdJjwtEngine.verify(token));
+	}
+
+	@Test
+	void testVerifyMatchesJjwtForTokenIds() {
+		// GIVEN
+		long now = System.currentTimeMillis();
+		String token = keyRing.signingKey().getSigner().sign("test@example.com", "ROLE_USER", "token-id", now,
+			now + 60_000L);
+
+		// WHEN
+		JwtClaims claims = sut.verify(token);
+
+		// THEN
+		assertThat(claims).isEqualTo(jjwtEngine.verify(token));
+		assertThat(claims.id()).isEqualTo("token-id");
+	}
+
+	@Test
+	void testVerifyMatchesJjwtForTokensWithAdditionalClaims() {
+		// GIVEN
+		long now = System.currentTimeMillis();
+		String token = Jwts.builder()
+			.subject("test@example.com")
+			.claims(Map.of("roles", "ROLE_USER", "tenant", "acme", "active", true, "level", 3))
+			.claim("address", Map.of("city", "Belgrade"))
+			.issuedAt(new Date(now))
+			.expiration(new Date(now + 60_000L))
+			.signWith(SECRET_KEY)
+			.compact();
+
+		// WHEN
+		JwtClaims claims = sut.verify(token);
+
+		// THEN
+		assertThat(claims).isEqualTo(jjwtEngine.verify(token));
+	}
+
+	@Test
+	void testVerifyReturnsClaimsOfExpiredTokenLikeJjwt() {
+		// GIVEN
+		long now = System.currentTimeMillis();
+		String token = keyRing.signingKey().getSigner().sign("test@example.com", "ROLE_USER", now - 120_000L,
+			now - 60_000L);
+
+		// WHEN
+		JwtClaims claims = sut.verify(token);
+
+		// THEN
+		assertThat(claims).isEqualTo(jjwtEngine.verify(token));
+		assertThat(claims.isExpired(now)).isTrue();
+	}
+
+	@Test
+	void testVerifyRejectsTokenWithoutExpiration() {
+		// GIVEN
+		String token = Jwts.builder()
+			.subject("test@example.com")
+			.claim("roles", "ROLE_USER")
+			.signWith(SECRET_KEY, Jwts.SIG.HS256)
+			.compact();
+		String signerToken = keyRing.signingKey().getSigner().sign("test@example.com", "ROLE_USER", 0L, 0L);
+
+		// WHEN / THEN
+		assertThat(jjwtEngine.verify(token).hasExpiration()).isFalse();
+		assertThatThrownBy(() -> sut.verify(token)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> sut.verify(signerToken)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testVerifyRejectsTokenNotYetValidLikeJjwt() {
+		// GIVEN
+		long now = System.currentTimeMillis();
+		String token = Jwts.builder()
+			.subject("test@example.com")
+			.notBefore(new Date(now + 3_600_000L))
+			.signWith(SECRET_KEY)
+			.compact();
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> jjwtEngine.verify(token)).isInstanceOf(JwtException.class);
+		assertThatThrownBy(() -> sut.verify(token)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void testVerifyRejectsTamperedTokens() {
+		// GIVEN
+		long now = System.currentTimeMillis();
+		String token = keyRing.signingKey().getSigner().sign("test@example.com", "ROLE_USER", now, now + 60_000L);
+		String[] parts = token.split("\\.");
+		String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+			"{\"roles\":\"ROLE_ADMIN\",\"sub\":\"test@example.com\"}".getBytes(StandardCharsets.UTF_8));
+		char last = parts[2].charAt(parts[2].length() - 1);
+		String flippedSignature = parts[2].substring(0, parts[2].length() - 1) + (last == 'A' ? 'B' : 'A');
+
+		// WHEN / THEN
+		for (String tampered : new String[] {
+			parts[0] + "." + forgedPayload + "." + parts[2],
+			parts[0] + "." + parts[1] + "." + flippedSignature,
+			parts[0] + "." + parts[1] + "."}) {
+			assertThatThrownBy(() -> jjwtEngine.verify(tampered)).isInstanceOf(JwtException.class);
+			assertThatThrownBy(() -> sut.verify(tampered)).isInstanceOf(JwtException.class);
+		}
+	}
+
+	@Test
+	void testVerifyRejectsUnsecuredTokens() {
+		// GIVEN
+		String token = Jwts.builder()
+			.subject("test@example.com")
+			.claim("roles", "ROLE_ADMIN")
+			.compact();
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> jjwtEngine.verify(token)).isInstanceOf(JwtException.class);
+		assertThatThrownBy(() -> sut.verify(token)).isInstanceOf(JwtException.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"invalid.jwt.token", "not-a-jwt-token", "a.b.c.d"})
+	void testVerifyRejectsMalformedTokens(String token) {
+		// GIVEN / WHEN / THEN
+		assertThatThrownBy(() -> sut.verify(token))
+			.isInstanceOfAny(JwtException.class, IllegalArgumentException.class);
+	}
+
+	@Test
+	void testVerifyFallsBackForAsymmetricKeys() throws Exception {
+		// GIVEN
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		KeyPair keyPair = generator.generateKeyPair();
+		JwtKeyRing ecRing = JwtKeyRing.of(JwtKey.asymmetric("ec-key", keyPair.getPrivate(), keyPair.getPublic(), null));
+		JwtEngine ecSut = new CompactJwtEngine(ecRing, new JjwtEngine(ecRing));
+		long now = System.currentTimeMillis();
+		String token = ecRing.signingKey().getSigner().sign("test@example.com", "ROLE_USER", now, now + 60_000L);
+
+		// WHEN
+		JwtClaims claims = ecSut.verify(token);
+
+		// THEN
+		assertThat(claims.subject()).isEqualTo("test@example.com");
+		assertThat(claims.roles()).isEqualTo("ROLE_USER");
+	}
+}
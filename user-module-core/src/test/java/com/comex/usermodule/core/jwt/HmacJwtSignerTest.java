@@ -0,0 +1,84 @@
+package com.comex.usermodule.core.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Date;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class HmacJwtSignerTest {
+
+	private static final long ISSUED_AT = 1_700_000_000_000L;
+	private static final long EXPIRATION = ISSUED_AT + 3_600_000L;
+
+	@ParameterizedTest
+	@ValueSource(ints = {32, 48, 64})
+	void testSignMatchesJjwtBuilder(int keyLength) {
+		// GIVEN
+		SecretKey key = Keys.hmacShaKeyFor(keyBytes(keyLength));
+		HmacJwtSigner sut = new HmacJwtSigner(key);
+		String subject = "test@example.com";
+		String roles = "ROLE_USER,READ,\"quoted\\\"";
+
+		// WHEN
+		String token = sut.sign(subject, roles, ISSUED_AT, EXPIRATION);
+
+		// THEN
+		String expected = Jwts.builder()
+			.claims(Map.of("roles", roles))
+			.subject(subject)
+			.issuedAt(new Date(ISSUED_AT))
+			.expiration(new Date(EXPIRATION))
+			.signWith(key)
+			.compact();
+		assertThat(token).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {32, 64})
+	void testSignedTokenIsVerifiedByJjwtParser(int keyLength) {
+		// GIVEN
+		SecretKey key = Keys.hmacShaKeyFor(keyBytes(keyLength));
+		HmacJwtSigner sut = new HmacJwtSigner(key, "key-1");
+		long now = System.currentTimeMillis();
+
+		// WHEN
+		String token = sut.sign("test@example.com", "ROLE_USER", now, now + 60_000L);
+
+		// THEN
+		Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+		assertThat(claims.getSubject()).isEqualTo("test@example.com");
+		assertThat(claims.get("roles")).isEqualTo("ROLE_USER");
+		assertThat(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getHeader().getKeyId())
+			.isEqualTo("key-1");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"AES", "HmacMD5"})
+	void testConstructorRejectsNonHmacShaKeys(String algorithm) {
+		// GIVEN
+		SecretKey key = new SecretKeySpec(keyBytes(32), algorithm);
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> new HmacJwtSigner(key))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static byte[] keyBytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (i * 31 + 7);
+		}
+		return bytes;
+	}
+}
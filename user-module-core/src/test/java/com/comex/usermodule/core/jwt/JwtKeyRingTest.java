@@ -0,0 +1,154 @@
+package com.comex.usermodule.core.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+
+class JwtKeyRingTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	private static final Duration RETENTION = Duration.ofHours(1);
+
+	@Test
+	void testSigningKeyIsLatestActivatedKey() {
+		// GIVEN
+		JwtKeyRing sut = new JwtKeyRing(List.of(
+			hmacKey("key-1", NOW.minus(Duration.ofDays(2))),
+			hmacKey("key-2", NOW.minus(Duration.ofDays(1))),
+			hmacKey("key-3", NOW.plus(Duration.ofDays(1)))), RETENTION);
+
+		// WHEN
+		sut.rotate(NOW);
+
+		// THEN
+		assertThat(sut.signingKey().getKeyId()).isEqualTo("key-2");
+	}
+
+	@Test
+	void testSupersededKeyVerifiesForRetentionThenIsDropped() {
+		// GIVEN
+		JwtKeyRing sut = new JwtKeyRing(List.of(
+			hmacKey("key-1", NOW.minus(Duration.ofDays(1))),
+			hmacKey("key-2", NOW)), RETENTION);
+
+		// WHEN
+		sut.rotate(NOW.plus(RETENTION).minusSeconds(1));
+
+		// THEN
+		assertThat(sut.signingKey().getKeyId()).isEqualTo("key-2");
+		assertThat(sut.verificationKey("key-1")).isNotNull();
+
+		// WHEN
+		sut.rotate(NOW.plus(RETENTION));
+
+		// THEN
+		assertThatThrownBy(() -> sut.verificationKey("key-1"))
+			.isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void testScheduledKeyVerifiesBeforeItSigns() {
+		// GIVEN
+		JwtKeyRing sut = new JwtKeyRing(List.of(
+			hmacKey("key-1", NOW.minus(Duration.ofDays(1))),
+			hmacKey("key-2", NOW.plus(Duration.ofMinutes(5)))), RETENTION);
+
+		// WHEN
+		sut.rotate(NOW);
+
+		// THEN
+		assertThat(sut.signingKey().getKeyId()).isEqualTo("key-1");
+		assertThat(sut.verificationKey("key-2")).isNotNull();
+	}
+
+	@Test
+	void testTokensOfEveryActiveKeyAreVerified() {
+		// GIVEN
+		JwtKeyRing sut = new JwtKeyRing(List.of(
+			hmacKey("key-1", NOW.minus(Duration.ofDays(1))),
+			hmacKey("key-2", NOW.minus(Duration.ofMinutes(5)))), RETENTION);
+		sut.rotate(NOW);
+		long now = System.currentTimeMillis();
+		String oldToken = hmacKey("key-1", null).getSigner().sign("old@example.com", "ROLE_USER", now, now + 60_000L);
+		String newToken = sut.signingKey().getSigner().sign("new@example.com", "ROLE_USER", now, now + 60_000L);
+
+		// WHEN
+		Claims oldClaims = Jwts.parser().keyLocator(sut).build().parseSignedClaims(oldToken).getPayload();
+		Claims newClaims = Jwts.parser().keyLocator(sut).build().parseSignedClaims(newToken).getPayload();
+
+		// THEN
+		assertThat(oldClaims.getSubject()).isEqualTo("old@example.com");
+		assertThat(newClaims.getSubject()).isEqualTo("new@example.com");
+	}
+
+	@Test
+	void testJwksPublishesOnlyAsymmetricPublicKeys() throws Exception {
+		// GIVEN
+		KeyPair ecKeyPair = ecKeyPair();
+		JwtKeyRing sut = new JwtKeyRing(List.of(
+			hmacKey("hmac-key", NOW.minus(Duration.ofDays(1))),
+			JwtKey.asymmetric("ec-key", ecKeyPair.getPrivate(), ecKeyPair.getPublic(), NOW)), RETENTION);
+
+		// WHEN
+		Map<String, Object> jwks = sut.jwks();
+
+		// THEN
+		List<?> keys = (List<?>) jwks.get("keys");
+		assertThat(keys).hasSize(1);
+		Map<?, ?> jwk = (Map<?, ?>) keys.get(0);
+		assertThat(jwk.get("kid")).isEqualTo("ec-key");
+		assertThat(jwk.get("kty")).isEqualTo("EC");
+		assertThat(jwk.get("crv")).isEqualTo("P-256");
+		assertThat(Base64.getUrlDecoder().decode((String) jwk.get("x"))).hasSize(32);
+		assertThat(jwk.containsKey("d")).isFalse();
+	}
+
+	@Test
+	void testAsymmetricSigningKeyIssuesVerifiableTokens() throws Exception {
+		// GIVEN
+		KeyPair ecKeyPair = ecKeyPair();
+		JwtKeyRing sut = JwtKeyRing.of(JwtKey.asymmetric("ec-key", ecKeyPair.getPrivate(), ecKeyPair.getPublic(), null));
+		long now = System.currentTimeMillis();
+
+		// WHEN
+		String token = sut.signingKey().getSigner().sign("test@example.com", "ROLE_USER", now, now + 60_000L);
+
+		// THEN
+		Claims claims = Jwts.parser().keyLocator(sut).build().parseSignedClaims(token).getPayload();
+		assertThat(claims.getSubject()).isEqualTo("test@example.com");
+	}
+
+	@Test
+	void testConstructorRejectsDuplicateKeyIds() {
+		// GIVEN / WHEN / THEN
+		assertThatThrownBy(() -> new JwtKeyRing(List.of(hmacKey("key-1", null), hmacKey("key-1", NOW)), RETENTION))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static JwtKey hmacKey(String keyId, Instant activateAt) {
+		String secret = Base64.getEncoder().encodeToString(
+			("SecretKeyForTestingPurposesOnly-" + keyId + "-0123456789abcdef").getBytes());
+		return JwtKey.hmac(keyId, secret, activateAt);
+	}
+
+	private static KeyPair ecKeyPair() throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		return generator.generateKeyPair();
+	}
+}
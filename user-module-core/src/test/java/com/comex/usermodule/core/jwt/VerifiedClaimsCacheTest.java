@@ -0,0 +1,74 @@
+package com.comex.usermodule.core.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedClaimsCacheTest {
+
+	private static final String TOKEN = "header.payload.signature";
+
+	private VerifiedClaimsCache sut;
+
+	@BeforeEach
+	void setUp() {
+		sut = new VerifiedClaimsCache(10);
+	}
+
+	@Test
+	void testGetReturnsCachedClaims() {
+		// GIVEN
+		JwtClaims claims = claimsExpiringIn(60_000L);
+		sut.put(TOKEN, claims);
+
+		// WHEN
+		JwtClaims result = sut.get(TOKEN);
+
+		// THEN
+		assertThat(result).isSameAs(claims);
+		assertThat(sut.getCache().stats().hitCount()).isEqualTo(1);
+		assertThat(sut.getCache().stats().missCount()).isZero();
+	}
+
+	@Test
+	void testGetReturnsNullForUnknownToken() {
+		// GIVEN
+		sut.put(TOKEN, claimsExpiringIn(60_000L));
+
+		// WHEN
+		JwtClaims result = sut.get("other.payload.signature");
+
+		// THEN
+		assertThat(result).isNull();
+		assertThat(sut.getCache().stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testGetDropsEntriesPastTokenExpiration() {
+		// GIVEN
+		sut.put(TOKEN, claimsExpiringIn(-1_000L));
+
+		// WHEN
+		JwtClaims result = sut.get(TOKEN);
+
+		// THEN
+		assertThat(result).isNull();
+		sut.getCache().cleanUp();
+		assertThat(sut.size()).isZero();
+	}
+
+	@Test
+	void testPutIgnoresClaimsWithoutExpiration() {
+		// GIVEN / WHEN
+		sut.put(TOKEN, new JwtClaims("test@example.com", "ROLE_USER", 0L, 0L));
+
+		// THEN
+		assertThat(sut.size()).isZero();
+	}
+
+	private static JwtClaims claimsExpiringIn(long millis) {
+		long now = System.currentTimeMillis();
+		return new JwtClaims("test@example.com", "ROLE_USER", now / 1000L, (now + millis) / 1000L);
+	}
+}
@@ -0,0 +1,103 @@
+package com.comex.usermodule.core.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashingExecutorTest {
+
+	private PasswordHashingExecutor sut;
+
+	@BeforeEach
+	void setUp() {
+		sut = new PasswordHashingExecutor(1, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		sut.close();
+	}
+
+	@Test
+	void testSubmitCompletesWithResultAndRecordsTimings() throws Exception {
+		// GIVEN / WHEN
+		String result = sut.submit(() -> "hashed").get(5, TimeUnit.SECONDS);
+
+		// THEN
+		assertThat(result).isEqualTo("hashed");
+		assertThat(sut.waitCount()).isEqualTo(1);
+		assertThat(sut.executionCount()).isEqualTo(1);
+		assertThat(sut.executionTotalNanos()).isPositive();
+	}
+
+	@Test
+	void testSubmitCompletesExceptionallyWhenTaskFails() {
+		// GIVEN / WHEN
+		CompletableFuture<String> future = sut.submit(() -> {
+			throw new IllegalStateException("Bad credentials.");
+		});
+
+		// THEN
+		assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void testChainedStagesDoNotRunOnHashingPool() throws Exception {
+		// GIVEN
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> hashing = sut.submit(() -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return Thread.currentThread().getName();
+		});
+
+		// WHEN
+		CompletableFuture<String> continuation = hashing.thenApply(hashedOn -> Thread.currentThread().getName());
+		release.countDown();
+
+		// THEN
+		assertThat(hashing.get(5, TimeUnit.SECONDS)).matches("password-hashing-\\d+");
+		// the completing thread or one waiting for the result, never a hashing thread
+		assertThat(continuation.get(5, TimeUnit.SECONDS)).doesNotMatch("password-hashing-\\d+");
+	}
+
+	@Test
+	void testSubmitRejectsWhenQueueIsFull() throws Exception {
+		// GIVEN
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Boolean> busy = sut.submit(() -> {
+			running.countDown();
+			try {
+				return release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		running.await(5, TimeUnit.SECONDS);
+		CompletableFuture<String> queued = sut.submit(() -> "queued");
+
+		// WHEN / THEN
+		assertThat(sut.queueDepth()).isEqualTo(1);
+		assertThatThrownBy(() -> sut.submit(() -> "rejected")).isInstanceOf(RejectedExecutionException.class);
+		assertThat(sut.rejectionCount()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+	}
+}
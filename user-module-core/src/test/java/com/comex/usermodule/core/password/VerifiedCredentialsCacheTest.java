@@ -0,0 +1,109 @@
+package com.comex.usermodule.core.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedCredentialsCacheTest {
+
+	private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+	private static final String EMAIL = "test@example.com";
+
+	private MutableClock clock;
+	private VerifiedCredentialsCache<String> sut;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		sut = new VerifiedCredentialsCache<>(TIME_TO_LIVE, 100, clock);
+	}
+
+	@Test
+	void testGetReturnsPrincipalOfSameCredentials() {
+		// GIVEN
+		sut.put(EMAIL, "password", "principal");
+
+		// WHEN
+		String principal = sut.get(EMAIL, "password");
+
+		// THEN
+		assertThat(principal).isEqualTo("principal");
+		assertThat(sut.getCache().stats().hitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testGetMissesForDifferentPassword() {
+		// GIVEN
+		sut.put(EMAIL, "password", "principal");
+
+		// WHEN / THEN
+		assertThat(sut.get(EMAIL, "wrong-password")).isNull();
+		assertThat(sut.get(EMAIL + "p", "assword")).isNull();
+		assertThat(sut.get(EMAIL, "password")).isEqualTo("principal");
+	}
+
+	@Test
+	void testGetMissesAfterTimeToLive() {
+		// GIVEN
+		sut.put(EMAIL, "password", "principal");
+		clock.advance(TIME_TO_LIVE.plusSeconds(1));
+
+		// WHEN
+		String principal = sut.get(EMAIL, "password");
+
+		// THEN
+		assertThat(principal).isNull();
+		sut.getCache().cleanUp();
+		assertThat(sut.size()).isZero();
+		assertThat(sut.getCache().stats().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testInvalidateRemovesCredentialsOfUser() {
+		// GIVEN
+		sut.put(EMAIL, "password", "principal");
+		sut.put("other@example.com", "password", "other");
+
+		// WHEN
+		sut.invalidate(EMAIL);
+
+		// THEN
+		assertThat(sut.get(EMAIL, "password")).isNull();
+		assertThat(sut.get("other@example.com", "password")).isEqualTo("other");
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.comex.usermodule.core.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void testMightContainHasNoFalseNegativesAndStaysNearTargetProbability() {
+		// GIVEN
+		BloomFilter sut = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			sut.put("revoked-" + i);
+		}
+
+		// WHEN
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (sut.mightContain(UUID.randomUUID().toString())) {
+				falsePositives++;
+			}
+		}
+
+		// THEN
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(sut.mightContain("revoked-" + i)).isTrue();
+		}
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+		assertThat(sut.expectedFalsePositiveProbability()).isBetween(0.005, 0.015);
+	}
+
+	@Test
+	void testCreateRejectsInvalidSizing() {
+		// GIVEN / WHEN / THEN
+		assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> BloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
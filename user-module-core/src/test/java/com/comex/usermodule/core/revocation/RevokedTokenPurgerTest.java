@@ -0,0 +1,42 @@
+package com.comex.usermodule.core.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenPurgerTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Mock
+	private RevokedTokenRepository revokedTokenRepository;
+
+	@Test
+	void testPurgeDeletesInBatchesUntilNoneLeft() {
+		// GIVEN
+		RevokedTokenPurger sut = new RevokedTokenPurger(revokedTokenRepository, Duration.ofHours(1), 100,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+		when(revokedTokenRepository.deleteExpired(NOW, 100)).thenReturn(100, 100, 42);
+
+		// WHEN
+		long purged = sut.purge();
+
+		// THEN
+		assertThat(purged).isEqualTo(242);
+		verify(revokedTokenRepository, times(3)).deleteExpired(NOW, 100);
+	}
+}
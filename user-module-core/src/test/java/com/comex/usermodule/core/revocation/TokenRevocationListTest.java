@@ -0,0 +1,107 @@
+package com.comex.usermodule.core.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	private static final Duration OVERLAP = Duration.ofSeconds(30);
+
+	@Mock
+	private RevokedTokenRepository repository;
+
+	private TokenRevocationList sut;
+
+	@BeforeEach
+	void setUp() {
+		sut = new TokenRevocationList(repository, 1_000, 0.01, OVERLAP, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void testIsRevokedAnswersFilterMissWithoutRepository() {
+		// GIVEN / WHEN
+		boolean revoked = sut.isRevoked("valid-token-id");
+
+		// THEN
+		assertThat(revoked).isFalse();
+		verify(repository, never()).findById(any());
+	}
+
+	@Test
+	void testRevokeIsVisibleLocallyWithoutRepositoryRead() {
+		// GIVEN
+		sut.revoke("token-id", NOW.plusSeconds(3600));
+
+		// WHEN
+		boolean revoked = sut.isRevoked("token-id");
+
+		// THEN
+		assertThat(revoked).isTrue();
+		verify(repository).save(new RevokedToken("token-id", NOW, NOW.plusSeconds(3600)));
+		verify(repository, never()).findById(any());
+	}
+
+	@Test
+	void testRefreshPullsRevocationsOfOtherNodesIncrementally() {
+		// GIVEN
+		RevokedToken remote = new RevokedToken("remote-token-id", NOW, NOW.plusSeconds(3600));
+		when(repository.findRevokedSince(Instant.EPOCH)).thenReturn(List.of());
+		when(repository.findRevokedSince(NOW.minus(OVERLAP))).thenReturn(List.of(remote));
+		when(repository.findById("remote-token-id")).thenReturn(Optional.of(remote));
+		sut.refresh();
+		assertThat(sut.isRevoked("remote-token-id")).isFalse();
+
+		// WHEN
+		sut.refresh();
+
+		// THEN
+		assertThat(sut.isRevoked("remote-token-id")).isTrue();
+		assertThat(sut.isRevoked("remote-token-id")).isTrue();
+		verify(repository, times(1)).findById("remote-token-id");
+	}
+
+	@Test
+	void testFalsePositiveIsConfirmedOnceAndCounted() {
+		// GIVEN
+		TokenRevocationList saturatedSut = new TokenRevocationList(repository, 1, 0.5, OVERLAP,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+		when(repository.findRevokedSince(Instant.EPOCH)).thenReturn(IntStream.range(0, 200)
+			.mapToObj(i -> new RevokedToken("revoked-" + i, NOW, NOW.plusSeconds(3600)))
+			.toList());
+		when(repository.findById("valid-token-id")).thenReturn(Optional.empty());
+		saturatedSut.refresh();
+
+		// WHEN
+		boolean first = saturatedSut.isRevoked("valid-token-id");
+		boolean second = saturatedSut.isRevoked("valid-token-id");
+
+		// THEN
+		assertThat(first).isFalse();
+		assertThat(second).isFalse();
+		assertThat(saturatedSut.falsePositiveCount()).isEqualTo(2);
+		assertThat(saturatedSut.observedFalsePositiveRate()).isEqualTo(1.0);
+		verify(repository, times(1)).findById("valid-token-id");
+	}
+}
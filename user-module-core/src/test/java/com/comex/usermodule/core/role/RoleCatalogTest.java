@@ -0,0 +1,69 @@
+package com.comex.usermodule.core.role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.comex.usermodule.core.domain.Role;
+
+class RoleCatalogTest {
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final AtomicReference<List<Role>> source = new AtomicReference<>(List.of(
+		new Role("ROLE_USER", Set.of("READ")), new Role("ROLE_ADMIN", Set.of("READ", "DELETE"))));
+	private final RoleCatalog<Role> sut = new RoleCatalog<>(() -> {
+		loads.incrementAndGet();
+		List<Role> roles = source.get();
+		if (roles == null) {
+			throw new IllegalStateException("store unavailable");
+		}
+		return roles;
+	}, Role::getName);
+
+	@Test
+	void testFindLoadsCatalogOnce() {
+		// GIVEN / WHEN
+		Role user = sut.find("ROLE_USER");
+		Role admin = sut.find("ROLE_ADMIN");
+
+		// THEN
+		assertThat(user.getPermissions()).containsExactly("READ");
+		assertThat(admin.getPermissions()).containsExactlyInAnyOrder("READ", "DELETE");
+		assertThat(sut.find("ROLE_UNKNOWN")).isNull();
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void testRefreshReplacesSnapshot() {
+		// GIVEN
+		sut.find("ROLE_USER");
+		source.set(List.of(new Role("ROLE_USER", Set.of("READ", "WRITE"))));
+
+		// WHEN
+		sut.refresh();
+
+		// THEN
+		assertThat(sut.find("ROLE_USER").getPermissions()).containsExactlyInAnyOrder("READ", "WRITE");
+		assertThat(sut.find("ROLE_ADMIN")).isNull();
+		assertThat(sut.size()).isEqualTo(1);
+	}
+
+	@Test
+	void testFailedRefreshKeepsPreviousSnapshot() {
+		// GIVEN
+		sut.refresh();
+		source.set(null);
+
+		// WHEN
+		assertThatThrownBy(sut::refresh).isInstanceOf(IllegalStateException.class);
+
+		// THEN
+		assertThat(sut.roles()).extracting(Role::getName).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+	}
+}
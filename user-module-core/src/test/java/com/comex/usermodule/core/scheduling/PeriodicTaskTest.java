@@ -0,0 +1,33 @@
+package com.comex.usermodule.core.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class PeriodicTaskTest {
+
+	@Test
+	void testFailedRunDoesNotCancelFollowingRuns() throws Exception {
+		// GIVEN
+		CountDownLatch runs = new CountDownLatch(3);
+		AtomicReference<String> thread = new AtomicReference<>();
+		try (PeriodicTask sut = new PeriodicTask("periodic-test", () -> {
+			thread.set(Thread.currentThread().getName());
+			runs.countDown();
+			throw new IllegalStateException("store unavailable");
+		})) {
+
+			// WHEN
+			sut.start(Duration.ZERO, Duration.ofMillis(1));
+
+			// THEN
+			assertThat(runs.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(thread.get()).isEqualTo("periodic-test");
+		}
+	}
+}
@@ -3,16 +3,30 @@ package com.comex.usermodule.core.service;
 import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.exception.UserExceptionKey;
+import com.comex.usermodule.core.jwt.AuthorityClaimCodec;
+import com.comex.usermodule.core.jwt.CompactJwtEngine;
+import com.comex.usermodule.core.jwt.JjwtEngine;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.jwt.JwtKey;
+import com.comex.usermodule.core.jwt.JwtKeyRing;
+import com.comex.usermodule.core.jwt.TokenVerdict;
+import com.comex.usermodule.core.jwt.VerifiedClaimsCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.comex.usermodule.core.helper.UserTestInventory.*;
 import static org.assertj.core.api.Assertions.*;
@@ -124,4 +138,156 @@ class JwtServiceTest {
                 .extracting("errorKey")
                 .isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
     }
+
+    @Test
+    void testVerifyTokenServesRepeatedTokenFromCache() {
+        // GIVEN
+        VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(100);
+        JwtService cachingService = new JwtService(TEST_SECRET_KEY, TEST_EXPIRATION, claimsCache);
+        String token = cachingService.generateToken(verifiedUser());
+
+        // WHEN
+        JwtClaims first = cachingService.verifyToken(token);
+        JwtClaims second = cachingService.verifyToken(token);
+
+        // THEN
+        assertThat(second).isSameAs(first);
+        assertThat(claimsCache.getCache().stats().hitCount()).isEqualTo(1);
+        assertThat(claimsCache.getCache().stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testVerifyTokenDoesNotCacheInvalidToken() {
+        // GIVEN
+        VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(100);
+        JwtService cachingService = new JwtService(TEST_SECRET_KEY, TEST_EXPIRATION, claimsCache);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> cachingService.verifyToken("invalid.jwt.token"))
+                .isInstanceOf(UserException.class);
+        assertThat(claimsCache.size()).isZero();
+    }
+
+    @Test
+    void testVerifyToken() {
+        // GIVEN
+        User user = userBuilder()
+                .roles(Set.of(userRole(), adminRole()))
+                .build();
+        String token = sut.generateToken(user);
+
+        // WHEN
+        JwtClaims claims = sut.verifyToken(token);
+
+        // THEN
+        assertThat(claims.subject()).isEqualTo(DEFAULT_EMAIL);
+        assertThat(claims.roles().split(",")).containsExactlyInAnyOrderElementsOf(user.getAuthorities());
+        assertThat(claims.expiration() - claims.issuedAt()).isEqualTo(TEST_EXPIRATION / 1000L);
+    }
+
+    @Test
+    void testGenerateTokenWithCompactAuthorities() {
+        // GIVEN
+        AuthorityClaimCodec codec = new AuthorityClaimCodec(1,
+                Map.of(1, List.of("ROLE_USER", "ROLE_ADMIN", "READ", "WRITE", "DELETE", "ADMIN")));
+        JwtKeyRing keyRing = JwtKeyRing.of(JwtKey.hmac(null, TEST_SECRET_KEY, null));
+        JwtService compactService = new JwtService(keyRing, TEST_EXPIRATION, new CompactJwtEngine(keyRing,
+                new JjwtEngine(keyRing)), null, ForkJoinPool.commonPool(), codec);
+        User user = userBuilder()
+                .roles(Set.of(userRole(), adminRole()))
+                .build();
+
+        // WHEN
+        JwtClaims claims = compactService.verifyToken(compactService.generateToken(user));
+
+        // THEN
+        assertThat(claims.roles()).isEqualTo("~1.Pw");
+        assertThat(codec.decode(claims.roles())).isEqualTo(user.getAuthorities());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"invalid.jwt.token", "not-a-jwt-token"})
+    void testVerifyTokenThrowsExceptionForInvalidToken(String invalidToken) {
+        // GIVEN / WHEN / THEN
+        assertThatThrownBy(() -> sut.verifyToken(invalidToken))
+                .isInstanceOf(UserException.class)
+                .extracting("errorKey")
+                .isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+    }
+
+    @Test
+    void testVerifyTokenThrowsExceptionForTokenWithoutExpiration() {
+        // GIVEN
+        String token = Jwts.builder()
+                .subject("test@example.com")
+                .claim("roles", "ROLE_USER")
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(TEST_SECRET_KEY)))
+                .compact();
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> sut.verifyToken(token))
+                .isInstanceOf(UserException.class)
+                .extracting("errorKey")
+                .isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+        assertThat(sut.verifyTokens(List.of(token)).get(0).error()).isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+    }
+
+    @Test
+    void testVerifyTokenThrowsExceptionForExpiredToken() throws InterruptedException {
+        // GIVEN
+        JwtService shortExpirationService = new JwtService(TEST_SECRET_KEY, SHORT_EXPIRATION);
+        String token = shortExpirationService.generateToken(verifiedUser());
+
+        Thread.sleep(1100);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> shortExpirationService.verifyToken(token))
+                .isInstanceOf(UserException.class)
+                .extracting("errorKey")
+                .isEqualTo(UserExceptionKey.JWT_TOKEN_EXPIRED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 200})
+    void testVerifyTokensReturnsVerdictPerTokenInRequestOrder(int batchSize) {
+        // GIVEN
+        String token = sut.generateToken(verifiedUser());
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            tokens.add(i % 3 == 0 ? token : i % 3 == 1 ? "invalid.jwt.token" : null);
+        }
+
+        // WHEN
+        List<TokenVerdict> verdicts = sut.verifyTokens(tokens);
+
+        // THEN
+        assertThat(verdicts).hasSize(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            TokenVerdict verdict = verdicts.get(i);
+            if (i % 3 == 0) {
+                assertThat(verdict.isValid()).isTrue();
+                assertThat(verdict.claims().subject()).isEqualTo(DEFAULT_EMAIL);
+            } else {
+                assertThat(verdict.isValid()).isFalse();
+                assertThat(verdict.error()).isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+            }
+        }
+    }
+
+    @Test
+    void testVerifyTokensSharesClaimsCache() {
+        // GIVEN
+        VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(100);
+        JwtService cachingService = new JwtService(TEST_SECRET_KEY, TEST_EXPIRATION, claimsCache);
+        String token = cachingService.generateToken(verifiedUser());
+        JwtClaims claims = cachingService.verifyToken(token);
+
+        // WHEN
+        List<TokenVerdict> verdicts = cachingService.verifyTokens(List.of(token, token));
+
+        // THEN
+        assertThat(verdicts).extracting(TokenVerdict::claims).containsOnly(claims);
+        assertThat(claimsCache.getCache().stats().hitCount()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,223 @@
+package com.comex.usermodule.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.exception.UserExceptionKey;
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.token.RefreshToken;
+import com.comex.usermodule.core.token.TokenHandles;
+import com.comex.usermodule.core.token.TokenIssuer;
+import com.comex.usermodule.core.token.TokenPair;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	private static final Duration LIFETIME = Duration.ofDays(14);
+	private static final String HANDLE = "refresh-handle";
+	private static final String ACCESS_TOKEN = "header.payload.signature";
+	private static final String EMAIL = "test@example.com";
+
+	@Mock
+	private RefreshTokenRepository repository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private TokenIssuer tokenIssuer;
+
+	@Captor
+	private ArgumentCaptor<RefreshToken> refreshTokenCaptor;
+
+	@Captor
+	private ArgumentCaptor<User> userCaptor;
+
+	private RefreshTokenService sut;
+
+	@BeforeEach
+	void setUp() {
+		sut = new RefreshTokenService(repository, userRepository, tokenIssuer, LIFETIME, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void testIssueStartsNewFamilyStoredUnderDigest() {
+		// GIVEN
+		User user = User.builder()
+			.email("test@example.com")
+			.roles(Set.of(new Role("ROLE_USER", Set.of("READ"))))
+			.build();
+
+		// WHEN
+		String handle = sut.issue(user);
+
+		// THEN
+		verify(repository).save(refreshTokenCaptor.capture());
+		RefreshToken refreshToken = refreshTokenCaptor.getValue();
+		assertThat(refreshToken.id()).isEqualTo(TokenHandles.digest(handle)).isNotEqualTo(handle);
+		assertThat(refreshToken.familyId()).isNotBlank();
+		assertThat(refreshToken.subject()).isEqualTo("test@example.com");
+		assertThat(refreshToken.roles().split(",")).containsExactlyInAnyOrder("ROLE_USER", "READ");
+		assertThat(refreshToken.expiresAt()).isEqualTo(NOW.plus(LIFETIME));
+		assertThat(refreshToken.used()).isFalse();
+	}
+
+	@Test
+	void testRefreshRotatesTokenWithinFamily() {
+		// GIVEN
+		String id = TokenHandles.digest(HANDLE);
+		when(repository.findById(id)).thenReturn(Optional.of(refreshToken(id, false, NOW.plusSeconds(60))));
+		when(repository.markUsed(id)).thenReturn(true);
+		when(userRepository.findCredentialsByEmail(EMAIL))
+			.thenReturn(Optional.of(new UserCredentials(EMAIL, "{bcrypt}hash", Set.of("ROLE_USER", "READ"))));
+		when(tokenIssuer.issueToken(any())).thenReturn(ACCESS_TOKEN);
+
+		// WHEN
+		TokenPair tokenPair = sut.refresh(HANDLE);
+
+		// THEN
+		assertThat(tokenPair.accessToken()).isEqualTo(ACCESS_TOKEN);
+		assertThat(tokenPair.refreshToken()).isNotEqualTo(HANDLE);
+		verify(tokenIssuer).issueToken(userCaptor.capture());
+		assertThat(userCaptor.getValue().getEmail()).isEqualTo(EMAIL);
+		assertThat(userCaptor.getValue().getAuthorities()).containsExactlyInAnyOrder("ROLE_USER", "READ");
+		verify(repository).save(refreshTokenCaptor.capture());
+		assertThat(refreshTokenCaptor.getValue().id()).isEqualTo(TokenHandles.digest(tokenPair.refreshToken()));
+		assertThat(refreshTokenCaptor.getValue().familyId()).isEqualTo("family-1");
+	}
+
+	@Test
+	void testRefreshIssuesCurrentAuthoritiesOfUser() {
+		// GIVEN
+		String id = TokenHandles.digest(HANDLE);
+		when(repository.findById(id)).thenReturn(Optional.of(refreshToken(id, false, NOW.plusSeconds(60))));
+		when(repository.markUsed(id)).thenReturn(true);
+		when(userRepository.findCredentialsByEmail(EMAIL))
+			.thenReturn(Optional.of(new UserCredentials(EMAIL, "{bcrypt}hash", Set.of("ROLE_USER"))));
+		when(tokenIssuer.issueToken(any())).thenReturn(ACCESS_TOKEN);
+
+		// WHEN
+		sut.refresh(HANDLE);
+
+		// THEN
+		verify(tokenIssuer).issueToken(userCaptor.capture());
+		assertThat(userCaptor.getValue().getAuthorities()).containsExactly("ROLE_USER");
+		verify(repository).save(refreshTokenCaptor.capture());
+		assertThat(refreshTokenCaptor.getValue().roles()).isEqualTo("ROLE_USER");
+	}
+
+	@Test
+	void testRefreshRevokesFamilyWhenUserIsMissing() {
+		// GIVEN
+		String id = TokenHandles.digest(HANDLE);
+		when(repository.findById(id)).thenReturn(Optional.of(refreshToken(id, false, NOW.plusSeconds(60))));
+		when(repository.markUsed(id)).thenReturn(true);
+		when(userRepository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.empty());
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.refresh(HANDLE))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+		verify(repository).deleteByFamilyId("family-1");
+		verify(tokenIssuer, never()).issueToken(any());
+		verify(repository, never()).save(any());
+	}
+
+	@Test
+	void testRevokeAllDeletesEveryFamilyOfUser() {
+		// WHEN
+		sut.revokeAll(EMAIL);
+
+		// THEN
+		verify(repository).deleteBySubject(EMAIL);
+	}
+
+	@Test
+	void testRefreshRevokesFamilyWhenUsedTokenIsPresented() {
+		// GIVEN
+		String id = TokenHandles.digest(HANDLE);
+		when(repository.findById(id)).thenReturn(Optional.of(refreshToken(id, true, NOW.plusSeconds(60))));
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.refresh(HANDLE))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.REFRESH_TOKEN_REUSED);
+		verify(repository).deleteByFamilyId("family-1");
+		verify(tokenIssuer, never()).issueToken(any());
+	}
+
+	@Test
+	void testRefreshRevokesFamilyWhenConcurrentRefreshWins() {
+		// GIVEN
+		String id = TokenHandles.digest(HANDLE);
+		when(repository.findById(id)).thenReturn(Optional.of(refreshToken(id, false, NOW.plusSeconds(60))));
+		when(repository.markUsed(id)).thenReturn(false);
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.refresh(HANDLE))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.REFRESH_TOKEN_REUSED);
+		verify(repository).deleteByFamilyId("family-1");
+		verify(repository, never()).save(any());
+	}
+
+	@Test
+	void testRefreshRejectsExpiredToken() {
+		// GIVEN
+		String id = TokenHandles.digest(HANDLE);
+		when(repository.findById(id)).thenReturn(Optional.of(refreshToken(id, false, NOW.minusSeconds(1))));
+		when(repository.markUsed(id)).thenReturn(true);
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.refresh(HANDLE))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_EXPIRED);
+		verify(tokenIssuer, never()).issueToken(any());
+	}
+
+	@Test
+	void testRefreshRejectsUnknownToken() {
+		// GIVEN
+		when(repository.findById(TokenHandles.digest(HANDLE))).thenReturn(Optional.empty());
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.refresh(HANDLE))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+	}
+
+	private RefreshToken refreshToken(String id, boolean used, Instant expiresAt) {
+		return new RefreshToken(id, "family-1", "test@example.com", "ROLE_USER,READ", NOW.minusSeconds(60),
+			expiresAt, used);
+	}
+}
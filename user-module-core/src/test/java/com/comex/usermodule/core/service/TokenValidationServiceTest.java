@@ -0,0 +1,104 @@
+package com.comex.usermodule.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.exception.UserExceptionKey;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.jwt.TokenVerdict;
+import com.comex.usermodule.core.revocation.TokenRevocationList;
+import com.comex.usermodule.core.token.ReferenceTokenStore;
+
+@ExtendWith(MockitoExtension.class)
+class TokenValidationServiceTest {
+
+	private static final JwtClaims CLAIMS = new JwtClaims("test@example.com", "ROLE_USER", 0L, 60L, "token-id");
+
+	@Mock
+	private JwtService jwtService;
+
+	@Mock
+	private ReferenceTokenStore referenceTokenStore;
+
+	@Mock
+	private TokenRevocationList revocationList;
+
+	private TokenValidationService sut;
+
+	@BeforeEach
+	void setUp() {
+		sut = new TokenValidationService(jwtService, referenceTokenStore, revocationList, 10);
+	}
+
+	@Test
+	void testValidateRejectsRevokedTokens() {
+		// GIVEN
+		List<String> tokens = List.of("a.b.c", "d.e.f");
+		JwtClaims otherClaims = new JwtClaims("other@example.com", "ROLE_USER", 0L, 60L, "other-id");
+		when(jwtService.verifyTokens(tokens)).thenReturn(List.of(TokenVerdict.valid(CLAIMS),
+			TokenVerdict.valid(otherClaims)));
+		when(revocationList.isRevoked("token-id")).thenReturn(true);
+		when(revocationList.isRevoked("other-id")).thenReturn(false);
+
+		// WHEN
+		List<TokenVerdict> verdicts = sut.validate(tokens);
+
+		// THEN
+		assertThat(verdicts).containsExactly(TokenVerdict.invalid(UserExceptionKey.TOKEN_REVOKED),
+			TokenVerdict.valid(otherClaims));
+	}
+
+	@Test
+	void testValidateResolvesReferenceTokens() {
+		// GIVEN
+		List<String> tokens = List.of("known-handle", "unknown-handle");
+		when(referenceTokenStore.resolve("known-handle")).thenReturn(CLAIMS);
+		when(referenceTokenStore.resolve("unknown-handle"))
+			.thenThrow(new UserException(UserExceptionKey.JWT_TOKEN_INVALID, "Reference token is unknown."));
+
+		// WHEN
+		List<TokenVerdict> verdicts = sut.validate(tokens);
+
+		// THEN
+		assertThat(verdicts).containsExactly(TokenVerdict.valid(CLAIMS),
+			TokenVerdict.invalid(UserExceptionKey.JWT_TOKEN_INVALID));
+		verifyNoInteractions(jwtService);
+	}
+
+	@Test
+	void testValidateVerifiesOnlyJwtsInMixedBatch() {
+		// GIVEN
+		List<String> tokens = List.of("known-handle", "a.b.c");
+		JwtClaims jwtClaims = new JwtClaims("other@example.com", "ROLE_USER", 0L, 60L, "other-id");
+		when(referenceTokenStore.resolve("known-handle")).thenReturn(CLAIMS);
+		when(jwtService.verifyTokens(List.of("a.b.c"))).thenReturn(List.of(TokenVerdict.valid(jwtClaims)));
+		when(revocationList.isRevoked("other-id")).thenReturn(false);
+
+		// WHEN
+		List<TokenVerdict> verdicts = sut.validate(tokens);
+
+		// THEN
+		assertThat(verdicts).containsExactly(TokenVerdict.valid(CLAIMS), TokenVerdict.valid(jwtClaims));
+	}
+
+	@Test
+	void testValidateRejectsOversizedBatch() {
+		// GIVEN
+		List<String> tokens = List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11");
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.validate(tokens)).isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(jwtService);
+	}
+}
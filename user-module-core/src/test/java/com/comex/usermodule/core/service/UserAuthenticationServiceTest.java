@@ -1,7 +1,10 @@
 package com.comex.usermodule.core.service;
 
 import com.comex.usermodule.core.dto.LoginUserDto;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.exception.UserExceptionKey;
 import com.comex.usermodule.core.port.UserAuthenticator;
+import com.comex.usermodule.core.token.TokenPair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -9,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 //import org.springframework.security.authentication.BadCredentialsException;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.comex.usermodule.core.helper.UserTestInventory.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,17 +35,47 @@ class UserAuthenticationServiceTest {
         // GIVEN
         LoginUserDto loginUserDto = loginUserDto(DEFAULT_EMAIL, DEFAULT_PASSWORD);
 
-        when(userAuthenticator.authenticate(loginUserDto)).thenReturn(VALID_JWT_TOKEN);
+        when(userAuthenticator.authenticate(loginUserDto)).thenReturn(new TokenPair(VALID_JWT_TOKEN, null));
 
         // WHEN
-        String token = sut.login(loginUserDto);
+        TokenPair tokenPair = sut.login(loginUserDto);
 
         // THEN
-        assertThat(token).isNotNull();
-        assertThat(token).isEqualTo(VALID_JWT_TOKEN);
+        assertThat(tokenPair).isNotNull();
+        assertThat(tokenPair.accessToken()).isEqualTo(VALID_JWT_TOKEN);
         verify(userAuthenticator, times(1)).authenticate(loginUserDto);
     }
 
+    @Test
+    void testLoginAsyncDoesNotWaitForAuthentication() {
+        // GIVEN
+        LoginUserDto loginUserDto = loginUserDto(DEFAULT_EMAIL, DEFAULT_PASSWORD);
+        CompletableFuture<TokenPair> authentication = new CompletableFuture<>();
+
+        when(userAuthenticator.authenticateAsync(loginUserDto)).thenReturn(authentication);
+
+        // WHEN
+        CompletableFuture<TokenPair> tokenPair = sut.loginAsync(loginUserDto);
+
+        // THEN
+        assertThat(tokenPair).isNotDone();
+        authentication.complete(new TokenPair(VALID_JWT_TOKEN, null));
+        assertThat(tokenPair).isCompletedWithValue(new TokenPair(VALID_JWT_TOKEN, null));
+        verify(userAuthenticator, never()).authenticate(loginUserDto);
+    }
+
+    @Test
+    void testRefreshThrowsExceptionWhenRefreshTokensAreDisabled() {
+        // GIVEN
+        UserAuthenticationService sutWithoutRefresh = new UserAuthenticationService(userAuthenticator);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> sutWithoutRefresh.refresh("refresh-token"))
+                .isInstanceOf(UserException.class)
+                .extracting("errorKey")
+                .isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+    }
+
 //    @Test
 //    void testLoginThrowsExceptionWhenAuthenticationFails() {
 //        // GIVEN
@@ -0,0 +1,153 @@
+package com.comex.usermodule.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.dto.CreateUserDto;
+import com.comex.usermodule.core.importing.UserImportError;
+import com.comex.usermodule.core.importing.UserImportProgress;
+import com.comex.usermodule.core.importing.UserImportRow;
+import com.comex.usermodule.core.importing.UserImportSummary;
+import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
+import com.comex.usermodule.core.port.EventPublisher;
+import com.comex.usermodule.core.port.PasswordEncoder;
+import com.comex.usermodule.core.port.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private EventPublisher eventPublisher;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	private final List<UserImportProgress> progress = new ArrayList<>();
+	private PasswordHashingExecutor passwordHashingExecutor;
+	private UserImportService sut;
+
+	@BeforeEach
+	void setUp() {
+		passwordHashingExecutor = new PasswordHashingExecutor(2, 10);
+		sut = new UserImportService(false, userRepository, eventPublisher, new UserMapper(passwordEncoder),
+			passwordHashingExecutor, 3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		passwordHashingExecutor.close();
+	}
+
+	@Test
+	void testImportUsersSavesAndPublishesInBatches() {
+		// GIVEN
+		when(passwordEncoder.encode(any())).thenReturn("encoded");
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+		when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// WHEN
+		UserImportSummary summary = sut.importUsers(rows(1, 7).iterator(), 0, progress::add);
+
+		// THEN
+		assertThat(summary).isEqualTo(new UserImportSummary(7, 7, 0));
+		assertThat(progress).extracting(UserImportProgress::checkpoint).containsExactly(3L, 6L, 7L);
+		assertThat(progress).extracting(UserImportProgress::imported).containsExactly(3, 3, 1);
+		verify(userRepository, times(3)).saveAll(anyList());
+		verify(userRepository, never()).save(any());
+		verify(eventPublisher, times(3)).publishAll(anyList());
+	}
+
+	@Test
+	void testImportUsersResumesAfterCheckpoint() {
+		// GIVEN
+		when(passwordEncoder.encode(any())).thenReturn("encoded");
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+		when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// WHEN
+		UserImportSummary summary = sut.importUsers(rows(1, 7).iterator(), 6, progress::add);
+
+		// THEN
+		assertThat(summary).isEqualTo(new UserImportSummary(7, 1, 0));
+		assertThat(progress).singleElement().extracting(UserImportProgress::checkpoint).isEqualTo(7L);
+	}
+
+	@Test
+	void testImportUsersReportsInvalidDuplicateAndExistingRows() {
+		// GIVEN
+		List<UserImportRow> rows = List.of(
+			UserImportRow.invalid(1, "Malformed row."),
+			UserImportRow.valid(2, new CreateUserDto("user2", "password", "")),
+			UserImportRow.valid(3, new CreateUserDto("user3", "password", "taken@example.com")),
+			UserImportRow.valid(4, new CreateUserDto("user4", "password", "user4@example.com")),
+			UserImportRow.valid(5, new CreateUserDto("user5", "password", "user4@example.com")));
+		when(passwordEncoder.encode(any())).thenReturn("encoded");
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@example.com"));
+		when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// WHEN
+		UserImportSummary summary = sut.importUsers(rows.iterator(), 0, progress::add);
+
+		// THEN
+		assertThat(summary).isEqualTo(new UserImportSummary(5, 1, 4));
+		assertThat(progress)
+			.flatExtracting(UserImportProgress::errors)
+			.extracting(UserImportError::line)
+			.containsExactly(1L, 2L, 3L, 5L);
+	}
+
+	@Test
+	void testImportUsersIsolatesRowsRejectedByTheStore() {
+		// GIVEN
+		when(passwordEncoder.encode(any())).thenReturn("encoded");
+		when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+		when(userRepository.saveAll(anyList())).thenThrow(new IllegalStateException("duplicate username"));
+		when(userRepository.save(any())).thenAnswer(invocation -> {
+			User user = invocation.getArgument(0);
+			if (user.getUsername().equals("user2")) {
+				throw new IllegalStateException("duplicate username");
+			}
+			return user;
+		});
+
+		// WHEN
+		UserImportSummary summary = sut.importUsers(rows(1, 3).iterator(), 0, progress::add);
+
+		// THEN
+		assertThat(summary).isEqualTo(new UserImportSummary(3, 2, 1));
+		assertThat(progress.get(0).errors())
+			.singleElement()
+			.extracting(UserImportError::line, UserImportError::email)
+			.containsExactly(2L, "user2@example.com");
+	}
+
+	private static List<UserImportRow> rows(long from, long to) {
+		return LongStream.rangeClosed(from, to)
+			.mapToObj(line -> UserImportRow.valid(line,
+				new CreateUserDto("user" + line, "password", "user" + line + "@example.com")))
+			.toList();
+	}
+}
@@ -1,10 +1,14 @@
 package com.comex.usermodule.core.service;
 
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.core.dto.CreateUserDto;
 import com.comex.usermodule.core.event.UserCreatedEvent;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.exception.UserExceptionKey;
 import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.password.PasswordHashingExecutor;
 import com.comex.usermodule.core.port.EventPublisher;
 import com.comex.usermodule.core.port.PasswordEncoder;
 import com.comex.usermodule.core.port.UserRepository;
@@ -19,11 +23,16 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static com.comex.usermodule.core.helper.UserTestInventory.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +48,9 @@ class UserServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private RefreshTokenService refreshTokenService;
+
 	private UserMapper userMapper;
 	private UserService sut;
 
@@ -92,6 +104,36 @@ class UserServiceTest {
 		);
 	}
 
+	@Test
+	void testCreateUserAsyncHashesOnPoolAndSavesOffPool() throws Exception {
+		// GIVEN
+		CreateUserDto createUserDto = createUserDto("testuser", "password123", "test@example.com");
+		List<String> threads = new CopyOnWriteArrayList<>();
+
+		when(passwordEncoder.encode("password123")).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			return DEFAULT_ENCODED_PASSWORD;
+		});
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			return invocation.getArgument(0);
+		});
+
+		try (PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 1)) {
+			sut = new UserService(true, userRepository, eventPublisher, userMapper, passwordHashingExecutor);
+
+			// WHEN
+			User result = sut.createUserAsync(createUserDto).get(5, TimeUnit.SECONDS);
+
+			// THEN
+			assertThat(result.getPassword()).isEqualTo(DEFAULT_ENCODED_PASSWORD);
+			assertThat(threads).hasSize(2);
+			assertThat(threads.get(0)).matches("password-hashing-\\d+");
+			assertThat(threads.get(1)).doesNotMatch("password-hashing-\\d+");
+			verify(eventPublisher).publish(any(UserCreatedEvent.class));
+		}
+	}
+
 	@Test
 	void testFindByEmail() {
 		// GIVEN
@@ -112,6 +154,66 @@ class UserServiceTest {
 		verifyNoInteractions(eventPublisher);
 	}
 
+	@Test
+	void testFindCredentialsByEmail() {
+		// GIVEN
+		UserCredentials credentials = new UserCredentials(DEFAULT_EMAIL, DEFAULT_ENCODED_PASSWORD, Set.of("ROLE_USER"));
+
+		when(userRepository.findCredentialsByEmail(DEFAULT_EMAIL)).thenReturn(Optional.of(credentials));
+
+		// WHEN
+		UserCredentials result = sut.findCredentialsByEmail(DEFAULT_EMAIL);
+
+		// THEN
+		assertThat(result).isEqualTo(credentials);
+		verify(userRepository, never()).findByEmail(any());
+	}
+
+	@Test
+	void testFindCredentialsByEmailThrowsWhenNotFound() {
+		// GIVEN
+		when(userRepository.findCredentialsByEmail(DEFAULT_EMAIL)).thenReturn(Optional.empty());
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.findCredentialsByEmail(DEFAULT_EMAIL))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.NOT_FOUND);
+	}
+
+	@Test
+	void testUpdatePassword() {
+		// GIVEN
+		User user = userWithEmail(DEFAULT_EMAIL);
+
+		when(userRepository.findByEmail(DEFAULT_EMAIL)).thenReturn(user);
+		when(userRepository.save(user)).thenReturn(user);
+
+		// WHEN
+		User result = sut.updatePassword(DEFAULT_EMAIL, "{argon2}encoded");
+
+		// THEN
+		assertThat(result.getPassword()).isEqualTo("{argon2}encoded");
+		verify(userRepository).save(user);
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void testUpdatePasswordRevokesRefreshTokens() {
+		// GIVEN
+		sut = new UserService(true, userRepository, eventPublisher, userMapper, null, null, refreshTokenService);
+		User user = userWithEmail(DEFAULT_EMAIL);
+
+		when(userRepository.findByEmail(DEFAULT_EMAIL)).thenReturn(user);
+		when(userRepository.save(user)).thenReturn(user);
+
+		// WHEN
+		sut.updatePassword(DEFAULT_EMAIL, "{argon2}encoded");
+
+		// THEN
+		verify(refreshTokenService).revokeAll(DEFAULT_EMAIL);
+	}
+
 	@ParameterizedTest
 	@MethodSource("provideFindByEmailOptionalScenarios")
 	void testFindByEmailOptional(String email, boolean shouldExist) {
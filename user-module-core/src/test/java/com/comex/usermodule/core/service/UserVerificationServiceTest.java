@@ -3,11 +3,15 @@ package com.comex.usermodule.core.service;
 import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.core.event.UserVerifiedEvent;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.exception.UserExceptionKey;
 import com.comex.usermodule.core.mapper.UserMapper;
 import com.comex.usermodule.core.port.EventPublisher;
 import com.comex.usermodule.core.port.PasswordEncoder;
 import com.comex.usermodule.core.port.UserRepository;
 
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.comex.usermodule.core.helper.UserTestInventory.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -80,11 +85,29 @@ class UserVerificationServiceTest {
 		assertThat(savedUser.getEmail()).isEqualTo(originalEmail);
 		assertThat(savedUser.getUsername()).isEqualTo(originalUsername);
 		assertThat(savedUser.getPassword()).isEqualTo(originalPassword);
+		assertThat(savedUser.getVerificationCode()).isNull();
+		assertThat(savedUser.getVerificationCodeExpiresAt()).isNull();
 
 		verify(eventPublisher).publish(eventCaptor.capture());
 		UserVerifiedEvent publishedEvent = eventCaptor.getValue();
 		assertThat(publishedEvent).isNotNull();
 		assertThat(publishedEvent.getId()).isEqualTo(pendingUser.getId());
-		assertThat(publishedEvent.getVerificationCode()).isEqualTo(pendingUser.getVerificationCode());
+		assertThat(publishedEvent.getVerificationCode()).isEqualTo(verificationCode);
+	}
+
+	@Test
+	void testVerifyRejectsExpiredCode() {
+		// GIVEN
+		User pendingUser = pendingUser();
+		pendingUser.setVerificationCodeExpiresAt(Instant.now().minusSeconds(1));
+		when(userRepository.findByVerificationCode(DEFAULT_VERIFICATION_CODE)).thenReturn(pendingUser);
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.verify(DEFAULT_VERIFICATION_CODE))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.VERIFICATION_CODE_EXPIRED);
+		verify(userRepository, never()).save(any(User.class));
+		verifyNoInteractions(eventPublisher);
 	}
 }
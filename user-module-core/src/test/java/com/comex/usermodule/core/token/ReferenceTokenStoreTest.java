@@ -0,0 +1,248 @@
+package com.comex.usermodule.core.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.exception.UserExceptionKey;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceTokenStoreTest {
+
+	private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+	private static final Duration MAX_LIFETIME = Duration.ofHours(2);
+	private static final Duration REVALIDATION_INTERVAL = Duration.ofSeconds(30);
+
+	@Mock
+	private ReferenceTokenRepository repository;
+
+	@Captor
+	private ArgumentCaptor<ReferenceToken> referenceTokenCaptor;
+
+	private MutableClock clock;
+	private ReferenceTokenStore sut;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		sut = new ReferenceTokenStore(IDLE_TIMEOUT, MAX_LIFETIME, 100, null, REVALIDATION_INTERVAL, clock);
+	}
+
+	@Test
+	void testResolveReturnsClaimsOfIssuedHandle() {
+		// GIVEN
+		String handle = sut.issue("test@example.com", "ROLE_USER,READ");
+
+		// WHEN
+		JwtClaims claims = sut.resolve(handle);
+
+		// THEN
+		assertThat(handle).hasSize(43).doesNotContain(".");
+		assertThat(claims.subject()).isEqualTo("test@example.com");
+		assertThat(claims.roles()).isEqualTo("ROLE_USER,READ");
+	}
+
+	@Test
+	void testResolveSlidesExpiryUntilMaxLifetime() {
+		// GIVEN
+		String handle = sut.issue("test@example.com", "ROLE_USER");
+
+		// WHEN / THEN
+		for (int i = 0; i < 4; i++) {
+			clock.advance(IDLE_TIMEOUT.minusMinutes(1));
+			assertThat(sut.resolve(handle).subject()).isEqualTo("test@example.com");
+		}
+		clock.advance(IDLE_TIMEOUT.minusMinutes(1));
+		assertThatThrownBy(() -> sut.resolve(handle))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_EXPIRED);
+	}
+
+	@Test
+	void testResolveRejectsIdleHandle() {
+		// GIVEN
+		String handle = sut.issue("test@example.com", "ROLE_USER");
+		clock.advance(IDLE_TIMEOUT.plusSeconds(1));
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.resolve(handle))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_EXPIRED);
+		assertThat(sut.size()).isZero();
+	}
+
+	@Test
+	void testResolveRejectsUnknownAndRevokedHandles() {
+		// GIVEN
+		String handle = sut.issue("test@example.com", "ROLE_USER");
+		sut.revoke(handle);
+
+		// WHEN / THEN
+		for (String unknown : new String[] {handle, "unknown-handle"}) {
+			assertThatThrownBy(() -> sut.resolve(unknown))
+				.isInstanceOf(UserException.class)
+				.extracting("errorKey")
+				.isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+		}
+		assertThat(sut.resolutionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void testResolveForgetsHandleOneIdleTimeoutAfterExpiry() {
+		// GIVEN
+		String handle = sut.issue("test@example.com", "ROLE_USER");
+		clock.advance(IDLE_TIMEOUT.multipliedBy(2).plusSeconds(1));
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> sut.resolve(handle))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+		sut.getCache().cleanUp();
+		assertThat(sut.size()).isZero();
+	}
+
+	@Test
+	void testWriteThroughPersistsAndReloadsHandles() {
+		// GIVEN
+		ReferenceTokenStore writingSut = new ReferenceTokenStore(IDLE_TIMEOUT, MAX_LIFETIME, 100, repository,
+			REVALIDATION_INTERVAL, clock);
+		String handle = writingSut.issue("test@example.com", "ROLE_USER");
+		verify(repository).save(referenceTokenCaptor.capture());
+		ReferenceToken persisted = referenceTokenCaptor.getValue();
+		when(repository.findById(persisted.id())).thenReturn(Optional.of(persisted));
+		ReferenceTokenStore otherNode = new ReferenceTokenStore(IDLE_TIMEOUT, MAX_LIFETIME, 100, repository,
+			REVALIDATION_INTERVAL, clock);
+
+		// WHEN
+		JwtClaims claims = otherNode.resolve(handle);
+
+		// THEN
+		assertThat(persisted.id()).isNotEqualTo(handle);
+		assertThat(persisted.expiresAt()).isEqualTo(clock.instant().plus(IDLE_TIMEOUT));
+		assertThat(claims.subject()).isEqualTo("test@example.com");
+		verify(repository, times(1)).save(any());
+	}
+
+	@Test
+	void testWriteThroughRefreshesPersistedExpiryAtMostOncePerHalfIdleTimeout() {
+		// GIVEN
+		ReferenceTokenStore writingSut = new ReferenceTokenStore(IDLE_TIMEOUT, MAX_LIFETIME, 100, repository,
+			REVALIDATION_INTERVAL, clock);
+		String handle = writingSut.issue("test@example.com", "ROLE_USER");
+
+		verify(repository).save(referenceTokenCaptor.capture());
+		ReferenceToken persisted = referenceTokenCaptor.getValue();
+		when(repository.findById(persisted.id())).thenReturn(Optional.of(persisted));
+		when(repository.updateExpiresAt(any(), any())).thenReturn(true);
+
+		// WHEN
+		clock.advance(Duration.ofMinutes(10));
+		writingSut.resolve(handle);
+		verify(repository, never()).updateExpiresAt(any(), any());
+		clock.advance(Duration.ofMinutes(10));
+		writingSut.resolve(handle);
+
+		// THEN
+		verify(repository, times(1)).save(any());
+		verify(repository, times(1)).updateExpiresAt(persisted.id(), clock.instant().plus(IDLE_TIMEOUT));
+		verify(repository, never()).deleteById(any());
+	}
+
+	@Test
+	void testWriteThroughRejectsHandleRevokedOnOtherNodeAfterRevalidationInterval() {
+		// GIVEN
+		ReferenceTokenStore writingSut = new ReferenceTokenStore(IDLE_TIMEOUT, MAX_LIFETIME, 100, repository,
+			REVALIDATION_INTERVAL, clock);
+		String handle = writingSut.issue("test@example.com", "ROLE_USER");
+		verify(repository).save(referenceTokenCaptor.capture());
+		ReferenceToken persisted = referenceTokenCaptor.getValue();
+		writingSut.resolve(handle);
+
+		// WHEN
+		// revoked on another node, which deleted the persisted token
+		when(repository.findById(persisted.id())).thenReturn(Optional.empty());
+		clock.advance(Duration.ofSeconds(10));
+		writingSut.resolve(handle);
+		clock.advance(REVALIDATION_INTERVAL);
+
+		// THEN
+		assertThatThrownBy(() -> writingSut.resolve(handle))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+		assertThat(writingSut.size()).isZero();
+		verify(repository, times(1)).findById(persisted.id());
+	}
+
+	@Test
+	void testWriteThroughDoesNotRecreateHandleRevokedOnOtherNode() {
+		// GIVEN
+		ReferenceTokenStore writingSut = new ReferenceTokenStore(IDLE_TIMEOUT, MAX_LIFETIME, 100, repository,
+			Duration.ofHours(1), clock);
+		String handle = writingSut.issue("test@example.com", "ROLE_USER");
+		when(repository.updateExpiresAt(any(), any())).thenReturn(false);
+
+		// WHEN
+		clock.advance(Duration.ofMinutes(20));
+
+		// THEN
+		assertThatThrownBy(() -> writingSut.resolve(handle))
+			.isInstanceOf(UserException.class)
+			.extracting("errorKey")
+			.isEqualTo(UserExceptionKey.JWT_TOKEN_INVALID);
+		verify(repository, times(1)).save(any());
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
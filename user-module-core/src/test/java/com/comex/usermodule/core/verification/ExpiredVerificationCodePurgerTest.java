@@ -0,0 +1,42 @@
+package com.comex.usermodule.core.verification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.comex.usermodule.core.port.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredVerificationCodePurgerTest {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Test
+	void testPurgeClearsInBatchesUntilNoneLeft() {
+		// GIVEN
+		ExpiredVerificationCodePurger sut = new ExpiredVerificationCodePurger(userRepository, Duration.ofHours(1),
+			100, Clock.fixed(NOW, ZoneOffset.UTC));
+		when(userRepository.clearExpiredVerificationCodes(NOW, 100)).thenReturn(100, 100, 42);
+
+		// WHEN
+		long purged = sut.purge();
+
+		// THEN
+		assertThat(purged).isEqualTo(242);
+		verify(userRepository, times(3)).clearExpiredVerificationCodes(NOW, 100);
+	}
+}
@@ -0,0 +1,23 @@
+package com.comex.usermodule.endpoint.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.comex.usermodule.core.service.JwtService;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+
+	private final JwtService jwtService;
+
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, Object>> jwks() {
+		return ResponseEntity.ok(jwtService.getJwks());
+	}
+}
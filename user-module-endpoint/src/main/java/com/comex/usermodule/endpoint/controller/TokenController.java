@@ -0,0 +1,72 @@
+package com.comex.usermodule.endpoint.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.comex.usermodule.core.service.TokenRevocationService;
+import com.comex.usermodule.core.service.TokenValidationService;
+import com.comex.usermodule.core.service.UserAuthenticationService;
+import com.comex.usermodule.endpoint.mapper.UserWebMapper;
+import com.comex.usermodule.endpoint.model.LoginTokenResponse;
+import com.comex.usermodule.endpoint.model.RefreshTokenRequest;
+import com.comex.usermodule.endpoint.model.TokenVerdictResponse;
+import com.comex.usermodule.endpoint.model.ValidateTokensRequest;
+import com.comex.usermodule.endpoint.model.ValidateTokensResponse;
+
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+
+@SecurityRequirement(name = "BearerAuth")
+@RequiredArgsConstructor
+@RequestMapping("/user/token")
+@RestController
+public class TokenController {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final TokenRevocationService tokenRevocationService;
+	private final UserAuthenticationService userAuthenticationService;
+	private final TokenValidationService tokenValidationService;
+	private final UserWebMapper userWebMapper;
+
+	@PostMapping("/refresh")
+	public ResponseEntity<LoginTokenResponse> refresh(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+		return ResponseEntity.ok(userWebMapper.toLoginTokenResponse(
+			userAuthenticationService.refresh(refreshTokenRequest.refreshToken())));
+	}
+
+	@PostMapping("/revoke")
+	public ResponseEntity<Void> revoke(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+		if (!authorization.startsWith(BEARER_PREFIX)) {
+			return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+		}
+		tokenRevocationService.revoke(authorization.substring(BEARER_PREFIX.length()));
+		return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+	}
+
+	@PostMapping("/validate")
+	public ResponseEntity<ValidateTokensResponse> validate(@RequestBody ValidateTokensRequest validateTokensRequest) {
+		if (validateTokensRequest.tokens() == null) {
+			return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+		}
+		List<TokenVerdictResponse> verdicts = tokenValidationService.validate(validateTokensRequest.tokens())
+			.stream()
+			.map(userWebMapper::toTokenVerdictResponse)
+			.toList();
+		return ResponseEntity.ok(new ValidateTokensResponse(verdicts));
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<Void> handleIllegalArgument(IllegalArgumentException e) {
+		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+	}
+}
@@ -1,7 +1,12 @@
 package com.comex.usermodule.endpoint.controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -28,21 +33,24 @@ import lombok.RequiredArgsConstructor;
 @RestController
 public class UserController {
 
+	private static final String RETRY_AFTER_SECONDS = "1";
+
 	private final UserService userService;
 	private final UserAuthenticationService userAuthenticationService;
 	private final UserVerificationService userVerificationService;
 	private final UserWebMapper userWebMapper;
 
 	@PostMapping
-	public ResponseEntity<Void> createUser(@RequestBody CreateUserRequest createUserRequest) {
-		userService.createUser(userWebMapper.toCreateUserDto(createUserRequest));
-		return new ResponseEntity<>(HttpStatus.CREATED);
+	public CompletableFuture<ResponseEntity<Void>> createUser(@RequestBody CreateUserRequest createUserRequest) {
+		return userService.createUserAsync(userWebMapper.toCreateUserDto(createUserRequest))
+			.thenApply(user -> new ResponseEntity<>(HttpStatus.CREATED));
 	}
 
 	@PostMapping("/login")
-	public ResponseEntity<LoginTokenResponse> login(@RequestBody LoginUserRequest loginUserRequest) {
+	public CompletableFuture<ResponseEntity<LoginTokenResponse>> login(@RequestBody LoginUserRequest loginUserRequest) {
 		LoginUserDto loginUserDto = userWebMapper.toLoginUserDto(loginUserRequest);
-		return ResponseEntity.ok(new LoginTokenResponse(userAuthenticationService.login(loginUserDto)));
+		return userAuthenticationService.loginAsync(loginUserDto)
+			.thenApply(tokenPair -> ResponseEntity.ok(userWebMapper.toLoginTokenResponse(tokenPair)));
 	}
 
 	@GetMapping("/verify")
@@ -55,4 +63,11 @@ public class UserController {
 	public ResponseEntity<UserResponse> findByEmail(@RequestParam("email") String email) {
 		return ResponseEntity.ok(userWebMapper.toUserResponse(userService.findByEmail(email)));
 	}
+
+	@ExceptionHandler(RejectedExecutionException.class)
+	public ResponseEntity<Void> handleRejectedExecution(RejectedExecutionException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+			.build();
+	}
 }
@@ -0,0 +1,83 @@
+package com.comex.usermodule.endpoint.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.comex.usermodule.core.importing.UserImportSummary;
+import com.comex.usermodule.core.service.UserImportService;
+import com.comex.usermodule.endpoint.mapper.UserWebMapper;
+import com.comex.usermodule.endpoint.reader.UserImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bulk user import. The request body is streamed as NDJSON or CSV, and the response is streamed as NDJSON: one line
+ * per imported batch with its checkpoint and row errors, then a summary line with {@code "completed": true}. A
+ * response that ends without the summary was interrupted; repeating the request with the last checkpoint resumes
+ * the import after the rows already handled.
+ */
+@SecurityRequirement(name = "BearerAuth")
+@RequiredArgsConstructor
+@RequestMapping("/user/import")
+@RestController
+public class UserImportController {
+
+	private static final String NDJSON = "application/x-ndjson";
+	private static final String CSV = "text/csv";
+
+	private final UserImportService userImportService;
+	private final UserWebMapper userWebMapper;
+	private final ObjectMapper objectMapper;
+
+	@PostMapping(consumes = {NDJSON, CSV}, produces = NDJSON)
+	public ResponseEntity<StreamingResponseBody> importUsers(InputStream body,
+		@RequestHeader("Content-Type") MediaType contentType,
+		@RequestParam(name = "checkpoint", defaultValue = "0") long checkpoint) {
+		InputStreamReader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+		UserImportReader rows = contentType.isCompatibleWith(MediaType.parseMediaType(CSV))
+			? UserImportReader.csv(reader)
+			: UserImportReader.ndjson(reader, objectMapper);
+
+		StreamingResponseBody response = outputStream -> {
+			UserImportSummary summary = userImportService.importUsers(rows, checkpoint,
+				progress -> writeLine(outputStream, userWebMapper.toUserImportProgressResponse(progress)));
+			writeLine(outputStream, userWebMapper.toUserImportSummaryResponse(summary));
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(NDJSON))
+			.body(response);
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<Void> handleIllegalArgument(IllegalArgumentException e) {
+		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+	}
+
+	private void writeLine(OutputStream outputStream, Object value) {
+		try {
+			outputStream.write(objectMapper.writeValueAsBytes(value));
+			outputStream.write('\n');
+			// every batch reaches the client as soon as it is written, with its checkpoint
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
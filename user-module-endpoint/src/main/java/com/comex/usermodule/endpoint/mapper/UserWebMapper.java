@@ -2,18 +2,43 @@ package com.comex.usermodule.endpoint.mapper;
 
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.dto.CreateUserDto;
 import com.comex.usermodule.core.dto.LoginUserDto;
+import com.comex.usermodule.core.exception.UserExceptionKey;
+import com.comex.usermodule.core.importing.UserImportProgress;
+import com.comex.usermodule.core.importing.UserImportSummary;
+import com.comex.usermodule.core.jwt.AuthorityClaimCodec;
+import com.comex.usermodule.core.jwt.JwtClaims;
+import com.comex.usermodule.core.jwt.TokenVerdict;
+import com.comex.usermodule.core.token.TokenPair;
 import com.comex.usermodule.endpoint.model.CreateUserRequest;
+import com.comex.usermodule.endpoint.model.LoginTokenResponse;
 import com.comex.usermodule.endpoint.model.LoginUserRequest;
+import com.comex.usermodule.endpoint.model.TokenVerdictResponse;
+import com.comex.usermodule.endpoint.model.UserImportErrorResponse;
+import com.comex.usermodule.endpoint.model.UserImportProgressResponse;
+import com.comex.usermodule.endpoint.model.UserImportSummaryResponse;
 import com.comex.usermodule.endpoint.model.UserResponse;
 
 @Component
 public class UserWebMapper {
 
+	private final AuthorityClaimCodec authorityClaimCodec;
+
+	public UserWebMapper() {
+		this.authorityClaimCodec = null;
+	}
+
+	@Autowired
+	public UserWebMapper(ObjectProvider<AuthorityClaimCodec> authorityClaimCodec) {
+		this.authorityClaimCodec = authorityClaimCodec.getIfAvailable();
+	}
+
 	public CreateUserDto toCreateUserDto(CreateUserRequest createUserRequest) {
 		return new CreateUserDto(createUserRequest.username(), createUserRequest.password(), createUserRequest.email());
 	}
@@ -22,6 +47,45 @@ public class UserWebMapper {
 		return new LoginUserDto(loginUserRequest.email(), loginUserRequest.password());
 	}
 
+	public LoginTokenResponse toLoginTokenResponse(TokenPair tokenPair) {
+		return new LoginTokenResponse(tokenPair.accessToken(), tokenPair.refreshToken());
+	}
+
+	/**
+	 * Reports the roles of a valid token comma separated, decoding compact claims, so that callers never see the
+	 * bitmask format. A compact claim that cannot be decoded makes the verdict invalid.
+	 */
+	public TokenVerdictResponse toTokenVerdictResponse(TokenVerdict tokenVerdict) {
+		if (!tokenVerdict.isValid()) {
+			return invalidTokenVerdictResponse(tokenVerdict.error());
+		}
+		JwtClaims claims = tokenVerdict.claims();
+		String roles = claims.roles();
+		if (AuthorityClaimCodec.isCompact(roles)) {
+			if (authorityClaimCodec == null) {
+				return invalidTokenVerdictResponse(UserExceptionKey.JWT_TOKEN_INVALID);
+			}
+			try {
+				roles = String.join(",", authorityClaimCodec.decode(roles));
+			} catch (IllegalArgumentException e) {
+				return invalidTokenVerdictResponse(UserExceptionKey.JWT_TOKEN_INVALID);
+			}
+		}
+		return new TokenVerdictResponse(true, claims.subject(), roles, claims.issuedAt(), claims.expiration(), null);
+	}
+
+	public UserImportProgressResponse toUserImportProgressResponse(UserImportProgress userImportProgress) {
+		return new UserImportProgressResponse(userImportProgress.checkpoint(), userImportProgress.imported(),
+			userImportProgress.errors().stream()
+				.map(error -> new UserImportErrorResponse(error.line(), error.email(), error.message()))
+				.toList());
+	}
+
+	public UserImportSummaryResponse toUserImportSummaryResponse(UserImportSummary userImportSummary) {
+		return new UserImportSummaryResponse(userImportSummary.checkpoint(), userImportSummary.imported(),
+			userImportSummary.failed(), true);
+	}
+
 	public UserResponse toUserResponse(User user) {
 		return new UserResponse(
 			user.getId(),
@@ -34,4 +98,8 @@ public class UserWebMapper {
 				.collect(Collectors.toSet())
 		);
 	}
+
+	private TokenVerdictResponse invalidTokenVerdictResponse(UserExceptionKey error) {
+		return new TokenVerdictResponse(false, null, null, null, null, error.name());
+	}
 }
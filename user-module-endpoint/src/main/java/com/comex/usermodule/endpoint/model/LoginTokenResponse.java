@@ -1,4 +1,7 @@
 package com.comex.usermodule.endpoint.model;
 
-public record LoginTokenResponse(String token) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoginTokenResponse(String token, String refreshToken) {
 }
@@ -0,0 +1,4 @@
+package com.comex.usermodule.endpoint.model;
+
+public record RefreshTokenRequest(String refreshToken) {
+}
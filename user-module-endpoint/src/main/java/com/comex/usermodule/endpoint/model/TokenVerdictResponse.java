@@ -0,0 +1,8 @@
+package com.comex.usermodule.endpoint.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenVerdictResponse(boolean valid, String subject, String roles, Long issuedAt, Long expiresAt,
+								   String error) {
+}
@@ -0,0 +1,7 @@
+package com.comex.usermodule.endpoint.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportErrorResponse(long line, String email, String message) {
+}
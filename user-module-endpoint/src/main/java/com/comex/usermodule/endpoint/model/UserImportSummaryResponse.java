@@ -0,0 +1,4 @@
+package com.comex.usermodule.endpoint.model;
+
+public record UserImportSummaryResponse(long checkpoint, long imported, long failed, boolean completed) {
+}
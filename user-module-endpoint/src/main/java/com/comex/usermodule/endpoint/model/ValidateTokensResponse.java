@@ -0,0 +1,6 @@
+package com.comex.usermodule.endpoint.model;
+
+import java.util.List;
+
+public record ValidateTokensResponse(List<TokenVerdictResponse> verdicts) {
+}
@@ -0,0 +1,163 @@
+package com.comex.usermodule.endpoint.reader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import com.comex.usermodule.core.dto.CreateUserDto;
+import com.comex.usermodule.core.importing.UserImportRow;
+import com.comex.usermodule.endpoint.model.CreateUserRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads import rows lazily, one line at a time, so an import never holds more of its input than the current line.
+ * Blank lines are skipped without consuming a row number. A line that cannot be parsed becomes an invalid row
+ * instead of failing the import.
+ */
+public abstract class UserImportReader implements Iterator<UserImportRow> {
+
+	private final BufferedReader reader;
+	private long line;
+	private String next;
+
+	protected UserImportReader(Reader reader) {
+		this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+	}
+
+	/**
+	 * Rows as JSON objects with the fields of {@link CreateUserRequest}, one per line.
+	 */
+	public static UserImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+		return new UserImportReader(reader) {
+
+			@Override
+			protected CreateUserDto parse(String line) throws JsonProcessingException {
+				CreateUserRequest request = objectMapper.readValue(line, CreateUserRequest.class);
+				return new CreateUserDto(request.username(), request.password(), request.email());
+			}
+		};
+	}
+
+	/**
+	 * Rows as comma separated values under a header naming the {@code username}, {@code email} and
+	 * {@code password} columns in any order. Values may be double quoted, with {@code ""} for a quote, but may not
+	 * span lines.
+	 */
+	public static UserImportReader csv(Reader reader) {
+		return new CsvUserImportReader(reader);
+	}
+
+	protected abstract CreateUserDto parse(String line) throws IOException;
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			next = readLine();
+		}
+		return next != null;
+	}
+
+	@Override
+	public UserImportRow next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		String current = next;
+		next = null;
+		line++;
+		try {
+			return UserImportRow.valid(line, parse(current));
+		} catch (IOException | IllegalArgumentException e) {
+			return UserImportRow.invalid(line, "Row could not be parsed.");
+		}
+	}
+
+	protected String readLine() {
+		try {
+			String current;
+			do {
+				current = reader.readLine();
+			} while (current != null && current.isBlank());
+			return current;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static final class CsvUserImportReader extends UserImportReader {
+
+		private int usernameColumn = -1;
+		private int emailColumn = -1;
+		private int passwordColumn = -1;
+
+		private CsvUserImportReader(Reader reader) {
+			super(reader);
+			String header = readLine();
+			if (header == null) {
+				return;
+			}
+			List<String> columns = split(header);
+			for (int i = 0; i < columns.size(); i++) {
+				switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+					case "username" -> usernameColumn = i;
+					case "email" -> emailColumn = i;
+					case "password" -> passwordColumn = i;
+					default -> {
+						// extra columns are ignored
+					}
+				}
+			}
+			if (usernameColumn < 0 || emailColumn < 0 || passwordColumn < 0) {
+				throw new IllegalArgumentException("CSV header must name the username, email and password columns.");
+			}
+		}
+
+		@Override
+		protected CreateUserDto parse(String line) {
+			List<String> values = split(line);
+			int required = Math.max(usernameColumn, Math.max(emailColumn, passwordColumn));
+			if (values.size() <= required) {
+				throw new IllegalArgumentException("Row has too few columns.");
+			}
+			return new CreateUserDto(values.get(usernameColumn), values.get(passwordColumn), values.get(emailColumn));
+		}
+
+		private static List<String> split(String line) {
+			List<String> values = new ArrayList<>();
+			StringBuilder value = new StringBuilder();
+			boolean quoted = false;
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if (quoted) {
+					if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						value.append('"');
+						i++;
+					} else if (c == '"') {
+						quoted = false;
+					} else {
+						value.append(c);
+					}
+				} else if (c == '"') {
+					quoted = true;
+				} else if (c == ',') {
+					values.add(value.toString());
+					value.setLength(0);
+				} else {
+					value.append(c);
+				}
+			}
+			if (quoted) {
+				throw new IllegalArgumentException("Unterminated quoted value.");
+			}
+			values.add(value.toString());
+			return values;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.comex.usermodule.endpoint.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.comex.usermodule.core.service.JwtService;
+
+@WebMvcTest(
+	controllers = JwksController.class,
+	excludeAutoConfiguration = {SecurityAutoConfiguration.class, OAuth2ClientAutoConfiguration.class})
+@Import(JwksController.class)
+class JwksControllerTest {
+
+	@Autowired
+	private MockMvc sut;
+
+	@MockBean
+	private JwtService jwtService;
+
+	@Test
+	void testJwks() throws Exception {
+		// GIVEN
+		when(jwtService.getJwks()).thenReturn(Map.of("keys", List.of(
+			Map.of("kty", "EC", "kid", "key-1", "use", "sig", "crv", "P-256", "x", "x-value", "y", "y-value"))));
+
+		// WHEN & THEN
+		sut.perform(get("/.well-known/jwks.json"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.keys.length()").value(1))
+			.andExpect(jsonPath("$.keys[0].kid").value("key-1"))
+			.andExpect(jsonPath("$.keys[0].crv").value("P-256"));
+	}
+}
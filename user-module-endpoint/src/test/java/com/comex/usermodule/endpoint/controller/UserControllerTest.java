@@ -4,6 +4,7 @@ import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.service.UserAuthenticationService;
 import com.comex.usermodule.core.service.UserService;
 import com.comex.usermodule.core.service.UserVerificationService;
+import com.comex.usermodule.core.token.TokenPair;
 import com.comex.usermodule.endpoint.mapper.UserWebMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,17 +17,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 
 import static com.comex.usermodule.core.helper.UserTestInventory.*;
 import static com.comex.usermodule.endpoint.helper.EndpointTestInventory.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -60,27 +67,55 @@ class UserControllerTest {
 			}
 			""";
 
+		when(userService.createUserAsync(any())).thenReturn(CompletableFuture.completedFuture(verifiedUser()));
+
 		// WHEN & THEN
-		sut.perform(post("/user")
+		MvcResult mvcResult = sut.perform(post("/user")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(requestBody))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		sut.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isCreated());
 
-		verify(userService).createUser(any());
+		verify(userService).createUserAsync(any());
+	}
+
+	@Test
+	void testCreateUserReturnsServiceUnavailableWhenHashingQueueIsFull() throws Exception {
+		// GIVEN
+		when(userService.createUserAsync(any())).thenThrow(new RejectedExecutionException("Queue is full."));
+
+		// WHEN & THEN
+		sut.perform(post("/user")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+					{
+						"username": "john_doe",
+						"password": "password123",
+						"email": "john@example.com"
+					}
+					"""))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().string("Retry-After", "1"));
 	}
 
 	@ParameterizedTest
 	@MethodSource("variousCreateUserRequests")
 	void testCreateUserWithVariousInputs(String requestBody) throws Exception {
 		// GIVEN - various request bodies provided by method source
+		when(userService.createUserAsync(any())).thenReturn(CompletableFuture.completedFuture(verifiedUser()));
 
 		// WHEN & THEN
-		sut.perform(post("/user")
+		MvcResult mvcResult = sut.perform(post("/user")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(requestBody))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		sut.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isCreated());
 
-		verify(userService, atLeastOnce()).createUser(any());
+		verify(userService, atLeastOnce()).createUserAsync(any());
 	}
 
 	static Stream<String> variousCreateUserRequests() {
@@ -96,11 +131,11 @@ class UserControllerTest {
 	@Test
 	void testLogin() throws Exception {
 		// GIVEN
-		when(userAuthenticationService.login(any()))
-			.thenReturn(VALID_JWT_TOKEN);
+		when(userAuthenticationService.loginAsync(any()))
+			.thenReturn(CompletableFuture.completedFuture(new TokenPair(VALID_JWT_TOKEN, null)));
 
 		// WHEN & THEN
-		sut.perform(post("/user/login")
+		MvcResult mvcResult = sut.perform(post("/user/login")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content("""
 					{
@@ -108,10 +143,31 @@ class UserControllerTest {
 						"password": "password123"
 					}
 					"""))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		sut.perform(asyncDispatch(mvcResult))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.token").value(VALID_JWT_TOKEN));
+			.andExpect(jsonPath("$.token").value(VALID_JWT_TOKEN))
+			.andExpect(jsonPath("$.refreshToken").doesNotExist());
+
+		verify(userAuthenticationService).loginAsync(any());
+	}
+
+	@Test
+	void testLoginReturnsServiceUnavailableWhenHashingQueueIsFull() throws Exception {
+		// GIVEN
+		when(userAuthenticationService.loginAsync(any())).thenThrow(new RejectedExecutionException("Queue is full."));
 
-		verify(userAuthenticationService).login(any());
+		// WHEN & THEN
+		sut.perform(post("/user/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+					{
+						"email": "john@example.com",
+						"password": "password123"
+					}
+					"""))
+			.andExpect(status().isServiceUnavailable());
 	}
 
 	// ==================== VERIFY TESTS ====================
@@ -0,0 +1,128 @@
+package com.comex.usermodule.endpoint.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.comex.usermodule.core.dto.CreateUserDto;
+import com.comex.usermodule.core.importing.UserImportError;
+import com.comex.usermodule.core.importing.UserImportProgress;
+import com.comex.usermodule.core.importing.UserImportRow;
+import com.comex.usermodule.core.importing.UserImportSummary;
+import com.comex.usermodule.core.service.UserImportService;
+import com.comex.usermodule.endpoint.mapper.UserWebMapper;
+
+@WebMvcTest(
+	controllers = UserImportController.class,
+	excludeAutoConfiguration = {SecurityAutoConfiguration.class, OAuth2ClientAutoConfiguration.class})
+@Import({UserImportController.class, UserWebMapper.class})
+class UserImportControllerTest {
+
+	@Autowired
+	private MockMvc sut;
+
+	@MockBean
+	private UserImportService userImportService;
+
+	@Test
+	void testImportUsersFromCsvStreamsProgressAndSummary() throws Exception {
+		// GIVEN
+		List<UserImportRow> rows = new ArrayList<>();
+		when(userImportService.importUsers(any(), eq(0L), any())).thenAnswer(invocation -> {
+			Iterator<UserImportRow> input = invocation.getArgument(0);
+			input.forEachRemaining(rows::add);
+			Consumer<UserImportProgress> progress = invocation.getArgument(2);
+			progress.accept(new UserImportProgress(3, 2,
+				List.of(new UserImportError(3, null, "Row could not be parsed."))));
+			return new UserImportSummary(3, 2, 1);
+		});
+
+		// WHEN
+		MvcResult result = sut.perform(post("/user/import")
+				.contentType("text/csv")
+				.content("""
+					email,username,password
+					first@example.com,first,"pass,""word""\"
+					second@example.com,second,password
+
+					"unterminated
+					"""))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// THEN
+		sut.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().string("""
+				{"checkpoint":3,"imported":2,"errors":[{"line":3,"message":"Row could not be parsed."}]}
+				{"checkpoint":3,"imported":2,"failed":1,"completed":true}
+				"""));
+		assertThat(rows).containsExactly(
+			UserImportRow.valid(1, new CreateUserDto("first", "pass,\"word\"", "first@example.com")),
+			UserImportRow.valid(2, new CreateUserDto("second", "password", "second@example.com")),
+			UserImportRow.invalid(3, "Row could not be parsed."));
+	}
+
+	@Test
+	void testImportUsersFromNdjsonResumesAfterCheckpoint() throws Exception {
+		// GIVEN
+		List<UserImportRow> rows = new ArrayList<>();
+		when(userImportService.importUsers(any(), eq(1L), any())).thenAnswer(invocation -> {
+			Iterator<UserImportRow> input = invocation.getArgument(0);
+			input.forEachRemaining(rows::add);
+			return new UserImportSummary(2, 0, 0);
+		});
+
+		// WHEN
+		MvcResult result = sut.perform(post("/user/import")
+				.param("checkpoint", "1")
+				.contentType("application/x-ndjson")
+				.content("""
+					{"username":"first","password":"password","email":"first@example.com"}
+					{"username":"second","password":"password","email":"second@example.com"}
+					"""))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// THEN
+		sut.perform(asyncDispatch(result))
+			.andExpect(status().isOk());
+		assertThat(rows).extracting(UserImportRow::line).containsExactly(1L, 2L);
+		assertThat(rows.get(1).user().email()).isEqualTo("second@example.com");
+	}
+
+	@Test
+	void testImportUsersRejectsCsvWithoutRequiredColumns() throws Exception {
+		// GIVEN / WHEN / THEN
+		sut.perform(post("/user/import")
+				.contentType("text/csv")
+				.content("""
+					email,username
+					first@example.com,first
+					"""))
+			.andExpect(status().isBadRequest());
+		verifyNoInteractions(userImportService);
+	}
+}
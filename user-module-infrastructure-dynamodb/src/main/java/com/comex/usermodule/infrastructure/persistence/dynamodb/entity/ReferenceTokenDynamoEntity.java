@@ -0,0 +1,54 @@
+package com.comex.usermodule.infrastructure.persistence.dynamodb.entity;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@DynamoDbBean
+public class ReferenceTokenDynamoEntity {
+
+	private String id;
+	private String subject;
+	private String roles;
+	private Instant issuedAt;
+	private Long expiresAt;
+
+	@DynamoDbPartitionKey
+	@DynamoDbAttribute("id")
+	public String getId() {
+		return id;
+	}
+
+	@DynamoDbAttribute("subject")
+	public String getSubject() {
+		return subject;
+	}
+
+	@DynamoDbAttribute("roles")
+	public String getRoles() {
+		return roles;
+	}
+
+	@DynamoDbAttribute("issuedAt")
+	public Instant getIssuedAt() {
+		return issuedAt;
+	}
+
+	/**
+	 * Epoch seconds, so the attribute can serve as the table's TTL attribute.
+	 */
+	@DynamoDbAttribute("expiresAt")
+	public Long getExpiresAt() {
+		return expiresAt;
+	}
+}
@@ -0,0 +1,72 @@
+package com.comex.usermodule.infrastructure.persistence.dynamodb.entity;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@DynamoDbBean
+public class RefreshTokenDynamoEntity {
+
+	public static final String FAMILY_INDEX = "family-index";
+	public static final String SUBJECT_INDEX = "subject-index";
+
+	private String id;
+	private String familyId;
+	private String subject;
+	private String roles;
+	private Instant issuedAt;
+	private Long expiresAt;
+	private Boolean used;
+
+	@DynamoDbPartitionKey
+	@DynamoDbAttribute("id")
+	public String getId() {
+		return id;
+	}
+
+	@DynamoDbSecondaryPartitionKey(indexNames = FAMILY_INDEX)
+	@DynamoDbAttribute("familyId")
+	public String getFamilyId() {
+		return familyId;
+	}
+
+	@DynamoDbSecondaryPartitionKey(indexNames = SUBJECT_INDEX)
+	@DynamoDbAttribute("subject")
+	public String getSubject() {
+		return subject;
+	}
+
+	@DynamoDbAttribute("roles")
+	public String getRoles() {
+		return roles;
+	}
+
+	@DynamoDbAttribute("issuedAt")
+	public Instant getIssuedAt() {
+		return issuedAt;
+	}
+
+	/**
+	 * Epoch seconds, so the attribute can serve as the table's TTL attribute.
+	 */
+	@DynamoDbAttribute("expiresAt")
+	public Long getExpiresAt() {
+		return expiresAt;
+	}
+
+	@DynamoDbAttribute("used")
+	public Boolean getUsed() {
+		return used;
+	}
+}
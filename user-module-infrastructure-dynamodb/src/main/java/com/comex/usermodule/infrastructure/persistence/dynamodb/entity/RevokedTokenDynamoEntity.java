@@ -0,0 +1,59 @@
+package com.comex.usermodule.infrastructure.persistence.dynamodb.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@DynamoDbBean
+public class RevokedTokenDynamoEntity {
+
+	public static final String REVOKED_AT_INDEX = "revoked-at-index";
+	public static final String BUCKET = "revoked";
+
+	private String id;
+	private String bucket;
+	private Long revokedAt;
+	private Long expiresAt;
+
+	@DynamoDbPartitionKey
+	@DynamoDbAttribute("id")
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Constant partition of the revoked-at index, so revocations can be queried by time instead of scanned.
+	 */
+	@DynamoDbSecondaryPartitionKey(indexNames = REVOKED_AT_INDEX)
+	@DynamoDbAttribute("bucket")
+	public String getBucket() {
+		return bucket;
+	}
+
+	/**
+	 * Epoch milliseconds.
+	 */
+	@DynamoDbSecondarySortKey(indexNames = REVOKED_AT_INDEX)
+	@DynamoDbAttribute("revokedAt")
+	public Long getRevokedAt() {
+		return revokedAt;
+	}
+
+	/**
+	 * Epoch seconds, so the attribute can serve as the table's TTL attribute.
+	 */
+	@DynamoDbAttribute("expiresAt")
+	public Long getExpiresAt() {
+		return expiresAt;
+	}
+}
@@ -26,6 +26,7 @@ public class UserDynamoEntity {
 	private Instant createdAt;
 	private String status;
 	private String verificationCode;
+	private Long verificationCodeExpiresAt;
 	private List<RoleDynamoEntity> roles;
 
 	@DynamoDbPartitionKey
@@ -40,6 +41,16 @@ public class UserDynamoEntity {
 		return verificationCode;
 	}
 
+	/**
+	 * Epoch seconds. Verification and the purge of expired codes remove it along with the code, which keeps the sparse
+	 * verification code index down to pending codes. Must not be the table's TTL attribute, which would delete the
+	 * user rather than its code.
+	 */
+	@DynamoDbAttribute("verificationCodeExpiresAt")
+	public Long getVerificationCodeExpiresAt() {
+		return verificationCodeExpiresAt;
+	}
+
 	@DynamoDbAttribute("id")
 	public String getId() {
 		return id;
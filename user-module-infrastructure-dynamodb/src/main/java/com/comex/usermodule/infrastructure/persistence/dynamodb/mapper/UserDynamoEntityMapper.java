@@ -1,5 +1,7 @@
 package com.comex.usermodule.infrastructure.persistence.dynamodb.mapper;
 
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -7,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.comex.usermodule.core.domain.Role;
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.PermissionDynamoEntity;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RoleDynamoEntity;
@@ -24,6 +27,8 @@ public class UserDynamoEntityMapper {
 			.status(user.getStatus().name())
 			.roles(roles)
 			.verificationCode(user.getVerificationCode())
+			.verificationCodeExpiresAt(user.getVerificationCodeExpiresAt() != null
+				? user.getVerificationCodeExpiresAt().getEpochSecond() : null)
 			.build();
 	}
 
@@ -41,9 +46,22 @@ public class UserDynamoEntityMapper {
 				.collect(Collectors.toSet()))
 			.status(UserStatus.valueOf(userDynamoEntity.getStatus()))
 			.verificationCode(userDynamoEntity.getVerificationCode())
+			.verificationCodeExpiresAt(userDynamoEntity.getVerificationCodeExpiresAt() != null
+				? Instant.ofEpochSecond(userDynamoEntity.getVerificationCodeExpiresAt()) : null)
 			.build();
 	}
 
+	public UserCredentials toUserCredentials(UserDynamoEntity userDynamoEntity) {
+		Set<String> authorities = new HashSet<>();
+		for (RoleDynamoEntity role : userDynamoEntity.getRoles()) {
+			authorities.add(role.getName());
+			if (role.getPermissions() != null) {
+				role.getPermissions().forEach(permission -> authorities.add(permission.getName()));
+			}
+		}
+		return new UserCredentials(userDynamoEntity.getEmail(), userDynamoEntity.getPassword(), authorities);
+	}
+
 	private Long parseIdToLong(String id) {
 		if (id == null) {
 			return null;
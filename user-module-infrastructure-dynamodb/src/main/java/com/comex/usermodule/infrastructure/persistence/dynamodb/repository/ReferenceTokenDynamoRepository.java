@@ -0,0 +1,83 @@
+package com.comex.usermodule.infrastructure.persistence.dynamodb.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.token.ReferenceToken;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.ReferenceTokenDynamoEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.IgnoreNullsMode;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReferenceTokenDynamoRepository implements ReferenceTokenRepository {
+
+	private static final Expression EXISTS = Expression.builder()
+		.expression("attribute_exists(id)")
+		.build();
+
+	private final DynamoDbEnhancedClient enhancedClient;
+	private final String tableName;
+
+	@Override
+	public void save(ReferenceToken referenceToken) {
+		log.debug("Saving reference token {} of user {}.", referenceToken.id(), referenceToken.subject());
+		getTable().putItem(ReferenceTokenDynamoEntity.builder()
+			.id(referenceToken.id())
+			.subject(referenceToken.subject())
+			.roles(referenceToken.roles())
+			.issuedAt(referenceToken.issuedAt())
+			.expiresAt(referenceToken.expiresAt().getEpochSecond())
+			.build());
+	}
+
+	@Override
+	public Optional<ReferenceToken> findById(String id) {
+		log.debug("Finding reference token {}.", id);
+		return Optional.ofNullable(getTable().getItem(Key.builder()
+				.partitionValue(id)
+				.build()))
+			.map(entity -> new ReferenceToken(entity.getId(), entity.getSubject(), entity.getRoles(),
+				entity.getIssuedAt(), Instant.ofEpochSecond(entity.getExpiresAt())));
+	}
+
+	@Override
+	public boolean updateExpiresAt(String id, Instant expiresAt) {
+		log.debug("Updating expiry of reference token {}.", id);
+		try {
+			getTable().updateItem(UpdateItemEnhancedRequest.builder(ReferenceTokenDynamoEntity.class)
+				.item(ReferenceTokenDynamoEntity.builder()
+					.id(id)
+					.expiresAt(expiresAt.getEpochSecond())
+					.build())
+				.ignoreNullsMode(IgnoreNullsMode.SCALAR_ONLY)
+				.conditionExpression(EXISTS)
+				.build());
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void deleteById(String id) {
+		log.debug("Deleting reference token {}.", id);
+		getTable().deleteItem(Key.builder()
+			.partitionValue(id)
+			.build());
+	}
+
+	private DynamoDbTable<ReferenceTokenDynamoEntity> getTable() {
+		return enhancedClient.table(tableName, TableSchema.fromBean(ReferenceTokenDynamoEntity.class));
+	}
+}
@@ -0,0 +1,110 @@
+package com.comex.usermodule.infrastructure.persistence.dynamodb.repository;
+
+import static com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RefreshTokenDynamoEntity.FAMILY_INDEX;
+import static com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RefreshTokenDynamoEntity.SUBJECT_INDEX;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.token.RefreshToken;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RefreshTokenDynamoEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.IgnoreNullsMode;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenDynamoRepository implements RefreshTokenRepository {
+
+	private static final Expression UNUSED = Expression.builder()
+		.expression("attribute_exists(id) AND #used = :unused")
+		.putExpressionName("#used", "used")
+		.putExpressionValue(":unused", AttributeValue.fromBool(false))
+		.build();
+
+	private final DynamoDbEnhancedClient enhancedClient;
+	private final String tableName;
+
+	@Override
+	public void save(RefreshToken refreshToken) {
+		log.debug("Saving refresh token {} of user {}.", refreshToken.id(), refreshToken.subject());
+		getTable().putItem(RefreshTokenDynamoEntity.builder()
+			.id(refreshToken.id())
+			.familyId(refreshToken.familyId())
+			.subject(refreshToken.subject())
+			.roles(refreshToken.roles())
+			.issuedAt(refreshToken.issuedAt())
+			.expiresAt(refreshToken.expiresAt().getEpochSecond())
+			.used(refreshToken.used())
+			.build());
+	}
+
+	@Override
+	public Optional<RefreshToken> findById(String id) {
+		log.debug("Finding refresh token {}.", id);
+		return Optional.ofNullable(getTable().getItem(Key.builder()
+				.partitionValue(id)
+				.build()))
+			.map(entity -> new RefreshToken(entity.getId(), entity.getFamilyId(), entity.getSubject(),
+				entity.getRoles(), entity.getIssuedAt(), Instant.ofEpochSecond(entity.getExpiresAt()),
+				Boolean.TRUE.equals(entity.getUsed())));
+	}
+
+	@Override
+	public boolean markUsed(String id) {
+		log.debug("Marking refresh token {} as used.", id);
+		try {
+			getTable().updateItem(UpdateItemEnhancedRequest.builder(RefreshTokenDynamoEntity.class)
+				.item(RefreshTokenDynamoEntity.builder()
+					.id(id)
+					.used(true)
+					.build())
+				.ignoreNullsMode(IgnoreNullsMode.SCALAR_ONLY)
+				.conditionExpression(UNUSED)
+				.build());
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void deleteByFamilyId(String familyId) {
+		log.debug("Deleting refresh token family {}.", familyId);
+		deleteByIndex(FAMILY_INDEX, familyId);
+	}
+
+	@Override
+	public void deleteBySubject(String subject) {
+		log.debug("Deleting refresh tokens of user {}.", subject);
+		deleteByIndex(SUBJECT_INDEX, subject);
+	}
+
+	private void deleteByIndex(String indexName, String value) {
+		DynamoDbTable<RefreshTokenDynamoEntity> table = getTable();
+		table.index(indexName)
+			.query(QueryConditional.keyEqualTo(Key.builder()
+				.partitionValue(value)
+				.build()))
+			.stream()
+			.flatMap(page -> page.items().stream())
+			.forEach(entity -> table.deleteItem(Key.builder()
+				.partitionValue(entity.getId())
+				.build()));
+	}
+
+	private DynamoDbTable<RefreshTokenDynamoEntity> getTable() {
+		return enhancedClient.table(tableName, TableSchema.fromBean(RefreshTokenDynamoEntity.class));
+	}
+}
@@ -0,0 +1,84 @@
+package com.comex.usermodule.infrastructure.persistence.dynamodb.repository;
+
+import static com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RevokedTokenDynamoEntity.BUCKET;
+import static com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RevokedTokenDynamoEntity.REVOKED_AT_INDEX;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+import com.comex.usermodule.core.revocation.RevokedToken;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RevokedTokenDynamoEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RevokedTokenDynamoRepository implements RevokedTokenRepository {
+
+	private final DynamoDbEnhancedClient enhancedClient;
+	private final String tableName;
+
+	@Override
+	public void save(RevokedToken revokedToken) {
+		log.debug("Saving revoked token {}.", revokedToken.id());
+		getTable().putItem(RevokedTokenDynamoEntity.builder()
+			.id(revokedToken.id())
+			.bucket(BUCKET)
+			.revokedAt(revokedToken.revokedAt().toEpochMilli())
+			.expiresAt(revokedToken.expiresAt().getEpochSecond())
+			.build());
+	}
+
+	@Override
+	public Optional<RevokedToken> findById(String id) {
+		log.debug("Finding revoked token {}.", id);
+		return Optional.ofNullable(getTable().getItem(Key.builder()
+				.partitionValue(id)
+				.build()))
+			.map(this::toRevokedToken);
+	}
+
+	@Override
+	public List<RevokedToken> findRevokedSince(Instant since) {
+		log.debug("Finding tokens revoked since {}.", since);
+		QueryConditional queryConditional = QueryConditional.sortGreaterThanOrEqualTo(Key.builder()
+			.partitionValue(BUCKET)
+			.sortValue(since.toEpochMilli())
+			.build());
+
+		// TTL deletion lags behind, so expired items are filtered here as well
+		Instant now = Instant.now();
+		return getTable().index(REVOKED_AT_INDEX)
+			.query(queryConditional)
+			.stream()
+			.flatMap(page -> page.items().stream())
+			.map(this::toRevokedToken)
+			.filter(revokedToken -> revokedToken.expiresAt().isAfter(now))
+			.toList();
+	}
+
+	/**
+	 * Expired revocations are deleted by the table's TTL on {@code expiresAt}, so there is nothing to purge.
+	 */
+	@Override
+	public int deleteExpired(Instant expiredBefore, int limit) {
+		return 0;
+	}
+
+	private RevokedToken toRevokedToken(RevokedTokenDynamoEntity entity) {
+		return new RevokedToken(entity.getId(), Instant.ofEpochMilli(entity.getRevokedAt()),
+			Instant.ofEpochSecond(entity.getExpiresAt()));
+	}
+
+	private DynamoDbTable<RevokedTokenDynamoEntity> getTable() {
+		return enhancedClient.table(tableName, TableSchema.fromBean(RevokedTokenDynamoEntity.class));
+	}
+}
@@ -2,16 +2,21 @@ package com.comex.usermodule.infrastructure.persistence.dynamodb.repository;
 
 import static com.comex.usermodule.core.exception.UserExceptionKey.NOT_FOUND;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RoleDynamoEntity;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.UserDynamoEntity;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.mapper.UserDynamoEntityMapper;
@@ -21,38 +26,110 @@ import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 @Slf4j
 @RequiredArgsConstructor
 public class UserDynamoRepository implements UserRepository {
 
+	// limits of a single BatchWriteItem and BatchGetItem request
+	private static final int WRITE_BATCH_SIZE = 25;
+	private static final int READ_BATCH_SIZE = 100;
+	private static final int MAX_WRITE_ATTEMPTS = 5;
+	private static final long BASE_BACKOFF_MILLIS = 50L;
+	private static final List<String> CREDENTIAL_ATTRIBUTES = List.of("email", "password", "status", "roles");
+	private static final String VERIFICATION_CODE_INDEX = "verification-code-index";
+	private static final String REMOVE_VERIFICATION_CODE = "REMOVE verificationCode, verificationCodeExpiresAt";
+
+	private final DynamoDbClient dynamoDbClient;
 	private final DynamoDbEnhancedClient enhancedClient;
 	private final String tableName;
 	private final UserDynamoEntityMapper userDynamoEntityMapper;
-	private final Map<String, RoleDynamoEntity> roleCache;
+	private final RoleCatalog<RoleDynamoEntity> roleCatalog;
 
 	@Override
 	public User save(User user) {
 		log.debug("Saving user {}.", user);
 
-		// Get roles from cache or create new ones
-		List<RoleDynamoEntity> roles = user.getRoles()
-			.stream()
-			.map(role -> roleCache.computeIfAbsent(role.getName(),
-				key -> userDynamoEntityMapper.toRoleDynamoEntity(role)))
-			.collect(Collectors.toList());
-
 		// Map and save user
-		UserDynamoEntity userDynamoEntity = userDynamoEntityMapper.toUserDynamoEntity(user, roles);
+		UserDynamoEntity userDynamoEntity = toUserDynamoEntity(user);
 		DynamoDbTable<UserDynamoEntity> table = getTable();
 		table.putItem(userDynamoEntity);
 
 		return userDynamoEntityMapper.toUser(userDynamoEntity);
 	}
 
+	/**
+	 * Writes the users with BatchWriteItem, 25 per request, retrying items DynamoDB left unprocessed with an
+	 * exponential backoff. Like {@link #save(User)}, puts are unconditional, so callers check for existing users
+	 * first, e.g. with {@link #findExistingEmails(Collection)}.
+	 */
+	@Override
+	public List<User> saveAll(List<User> users) {
+		log.debug("Saving {} users.", users.size());
+		DynamoDbTable<UserDynamoEntity> table = getTable();
+		List<UserDynamoEntity> entities = users.stream()
+			.map(this::toUserDynamoEntity)
+			.toList();
+
+		for (int from = 0; from < entities.size(); from += WRITE_BATCH_SIZE) {
+			List<UserDynamoEntity> pending = entities.subList(from, Math.min(from + WRITE_BATCH_SIZE, entities.size()));
+			for (int attempt = 1; !pending.isEmpty(); attempt++) {
+				if (attempt > MAX_WRITE_ATTEMPTS) {
+					throw new IllegalStateException(
+						String.format("DynamoDB left %d users unprocessed after %d attempts.", pending.size(),
+							MAX_WRITE_ATTEMPTS));
+				}
+				if (attempt > 1) {
+					backOff(attempt);
+				}
+				WriteBatch.Builder<UserDynamoEntity> writeBatch = WriteBatch.builder(UserDynamoEntity.class)
+					.mappedTableResource(table);
+				pending.forEach(writeBatch::addPutItem);
+				BatchWriteResult result = enhancedClient.batchWriteItem(request -> request
+					.addWriteBatch(writeBatch.build()));
+				pending = result.unprocessedPutItemsForTable(table);
+			}
+		}
+
+		return entities.stream()
+			.map(userDynamoEntityMapper::toUser)
+			.toList();
+	}
+
+	/**
+	 * Looks the emails up with BatchGetItem, 100 keys per request. The enhanced client follows up on unprocessed
+	 * keys while the result pages are iterated.
+	 */
+	@Override
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		DynamoDbTable<UserDynamoEntity> table = getTable();
+		List<String> distinctEmails = List.copyOf(new HashSet<>(emails));
+		Set<String> existing = new HashSet<>();
+		for (int from = 0; from < distinctEmails.size(); from += READ_BATCH_SIZE) {
+			ReadBatch.Builder<UserDynamoEntity> readBatch = ReadBatch.builder(UserDynamoEntity.class)
+				.mappedTableResource(table);
+			distinctEmails.subList(from, Math.min(from + READ_BATCH_SIZE, distinctEmails.size()))
+				.forEach(email -> readBatch.addGetItem(Key.builder().partitionValue(email).build()));
+			enhancedClient.batchGetItem(request -> request.addReadBatch(readBatch.build()))
+				.resultsForTable(table)
+				.forEach(user -> existing.add(user.getEmail()));
+		}
+		return existing;
+	}
+
 	@Override
 	public User findByEmail(String email) {
 		log.debug("Finding verified user by email: {}.", email);
@@ -84,12 +161,35 @@ public class UserDynamoRepository implements UserRepository {
 		return Optional.of(userDynamoEntityMapper.toUser(userDynamoEntity));
 	}
 
+	/**
+	 * Queries the user's partition with a projection of the attributes a login needs, so the verification code,
+	 * timestamps and ids are neither read nor mapped.
+	 */
+	@Override
+	public Optional<UserCredentials> findCredentialsByEmail(String email) {
+		log.debug("Finding credentials of verified user by email: {}.", email);
+		QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+			.queryConditional(QueryConditional.keyEqualTo(Key.builder()
+				.partitionValue(email)
+				.build()))
+			.attributesToProject(CREDENTIAL_ATTRIBUTES)
+			.limit(1)
+			.build();
+
+		return getTable().query(request)
+			.items()
+			.stream()
+			.findFirst()
+			.filter(user -> UserStatus.VERIFIED.name().equals(user.getStatus()))
+			.map(userDynamoEntityMapper::toUserCredentials);
+	}
+
 	@Override
 	public User findByVerificationCode(String verificationCode) {
 		log.debug("Finding user by verificationCode: {}.", verificationCode);
 
 		DynamoDbTable<UserDynamoEntity> table = getTable();
-		DynamoDbIndex<UserDynamoEntity> index = table.index("verification-code-index");
+		DynamoDbIndex<UserDynamoEntity> index = table.index(VERIFICATION_CODE_INDEX);
 
 		QueryConditional queryConditional = QueryConditional
 			.keyEqualTo(Key.builder()
@@ -106,6 +206,67 @@ public class UserDynamoRepository implements UserRepository {
 		return userDynamoEntityMapper.toUser(userDynamoEntity);
 	}
 
+	/**
+	 * Scans the sparse verification code index, which only holds users with a code, for codes expired before the
+	 * given instant and removes the code attributes of up to {@code limit} of them. Each removal is conditional on the
+	 * code still being expired, so a user verified or given a new code since the scan keeps it.
+	 */
+	@Override
+	public int clearExpiredVerificationCodes(Instant expiredBefore, int limit) {
+		Expression expired = Expression.builder()
+			.expression("verificationCodeExpiresAt < :expiredBefore")
+			.putExpressionValue(":expiredBefore", AttributeValue.fromN(Long.toString(expiredBefore.getEpochSecond())))
+			.build();
+		List<String> emails = getTable().index(VERIFICATION_CODE_INDEX)
+			.scan(ScanEnhancedRequest.builder()
+				.filterExpression(expired)
+				.attributesToProject("email")
+				.build())
+			.stream()
+			.flatMap(page -> page.items().stream())
+			.map(UserDynamoEntity::getEmail)
+			.limit(limit)
+			.toList();
+
+		int cleared = 0;
+		for (String email : emails) {
+			try {
+				dynamoDbClient.updateItem(UpdateItemRequest.builder()
+					.tableName(tableName)
+					.key(Map.of("email", AttributeValue.fromS(email)))
+					.updateExpression(REMOVE_VERIFICATION_CODE)
+					.conditionExpression(expired.expression())
+					.expressionAttributeValues(expired.expressionValues())
+					.build());
+				cleared++;
+			} catch (ConditionalCheckFailedException e) {
+				log.debug("Verification code of user {} changed since the scan, keeping it.", email);
+			}
+		}
+		return cleared;
+	}
+
+	private UserDynamoEntity toUserDynamoEntity(User user) {
+		// roles are embedded in the item, catalog roles carry their configured permissions
+		List<RoleDynamoEntity> roles = user.getRoles()
+			.stream()
+			.map(role -> {
+				RoleDynamoEntity catalogRole = roleCatalog.find(role.getName());
+				return catalogRole != null ? catalogRole : userDynamoEntityMapper.toRoleDynamoEntity(role);
+			})
+			.collect(Collectors.toList());
+		return userDynamoEntityMapper.toUserDynamoEntity(user, roles);
+	}
+
+	private static void backOff(int attempt) {
+		try {
+			Thread.sleep(BASE_BACKOFF_MILLIS << (attempt - 2));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while retrying unprocessed users.", e);
+		}
+	}
+
 	private DynamoDbTable<UserDynamoEntity> getTable() {
 		return enhancedClient.table(tableName, TableSchema.fromBean(UserDynamoEntity.class));
 	}
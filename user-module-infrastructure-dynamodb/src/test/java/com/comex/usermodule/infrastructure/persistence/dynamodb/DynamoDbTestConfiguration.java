@@ -1,6 +1,7 @@
 package com.comex.usermodule.infrastructure.persistence.dynamodb;
 
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RoleDynamoEntity;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.mapper.UserDynamoEntityMapper;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.repository.UserDynamoRepository;
@@ -13,10 +14,10 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
 import static com.comex.usermodule.infrastructure.persistence.dynamodb.AbstractDynamoDbIntegrationTest.localstack;
+import static com.comex.usermodule.infrastructure.persistence.dynamodb.helper.UserTestInventory.userRole;
 
 @TestConfiguration
 public class DynamoDbTestConfiguration {
@@ -39,8 +40,9 @@ public class DynamoDbTestConfiguration {
     }
 
     @Bean
-    public Map<String, RoleDynamoEntity> roleDynamoCache() {
-        return new ConcurrentHashMap<>();
+    public RoleCatalog<RoleDynamoEntity> roleCatalog(UserDynamoEntityMapper mapper) {
+        return new RoleCatalog<>(() -> List.of(mapper.toRoleDynamoEntity(userRole())),
+                RoleDynamoEntity::getName);
     }
 
     @Bean
@@ -50,9 +52,10 @@ public class DynamoDbTestConfiguration {
 
     @Bean
     public UserRepository userRepository(
+            DynamoDbClient dynamoDbClient,
             DynamoDbEnhancedClient enhancedClient,
             UserDynamoEntityMapper mapper,
-            Map<String, RoleDynamoEntity> roleDynamoCache) {
-        return new UserDynamoRepository(enhancedClient, "users", mapper, roleDynamoCache);
+            RoleCatalog<RoleDynamoEntity> roleCatalog) {
+        return new UserDynamoRepository(dynamoDbClient, enhancedClient, "users", mapper, roleCatalog);
     }
 }
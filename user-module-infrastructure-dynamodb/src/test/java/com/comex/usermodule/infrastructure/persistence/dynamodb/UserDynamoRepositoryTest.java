@@ -12,6 +12,9 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static com.comex.usermodule.infrastructure.persistence.dynamodb.helper.UserTestInventory.*;
@@ -127,4 +130,28 @@ class UserDynamoRepositoryTest extends AbstractDynamoDbIntegrationTest {
                 .isInstanceOf(UserException.class)
                 .hasMessageContaining("not found");
     }
+
+    @Test
+    void testClearExpiredVerificationCodesKeepsUser() {
+        // GIVEN
+        User expired = pendingUser();
+        expired.setVerificationCodeExpiresAt(Instant.now().minus(Duration.ofHours(1)));
+        sut.save(expired);
+        User pending = pendingUser();
+        pending.setEmail("pending@example.com");
+        pending.setVerificationCode("PENDING");
+        pending.setVerificationCodeExpiresAt(Instant.now().plus(Duration.ofHours(1)));
+        sut.save(pending);
+
+        // WHEN
+        int cleared = sut.clearExpiredVerificationCodes(Instant.now(), 100);
+
+        // THEN
+        assertThat(cleared).isEqualTo(1);
+        assertThat(sut.findByVerificationCode("PENDING").getEmail()).isEqualTo("pending@example.com");
+        assertThatThrownBy(() -> sut.findByVerificationCode(DEFAULT_VERIFICATION_CODE))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("not found");
+        assertThat(sut.findExistingEmails(List.of(DEFAULT_EMAIL))).containsExactly(DEFAULT_EMAIL);
+    }
 }
@@ -0,0 +1,197 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.comex.usermodule.core.cache.CacheInvalidation;
+import com.comex.usermodule.core.port.CacheInvalidationBus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CacheInvalidationBus} over PostgreSQL {@code LISTEN}/{@code NOTIFY} on the {@value #CHANNEL} channel.
+ * <p>
+ * The triggers of the module changelog notify on every update or delete of a user and every change of roles and
+ * permissions, within the writing transaction, so other nodes hear of a change only once it has committed, whichever
+ * node or tool made it. Each node holds one connection of the data source listening on the channel and hands the
+ * notifications to the subscribers as they arrive. Notifications sent while the connection is down are lost, so
+ * after a reconnect the subscribers get a {@link CacheInvalidation.Type#ALL} invalidation.
+ */
+@Slf4j
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, AutoCloseable {
+
+	public static final String CHANNEL = "user_cache";
+
+	private static final String USER = "user";
+	private static final String ROLES = "roles";
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final Duration reconnectDelay;
+	private final Duration validationInterval;
+	private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+	private final ExecutorService executor;
+
+	private volatile boolean running;
+	private volatile Connection connection;
+
+	/**
+	 * @param reconnectDelay the time to wait before connecting again after the connection failed
+	 * @param validationInterval how long the connection may be quiet before it is checked to still be alive
+	 */
+	public PostgresCacheInvalidationBus(DataSource dataSource, Duration reconnectDelay, Duration validationInterval) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.reconnectDelay = reconnectDelay;
+		this.validationInterval = validationInterval;
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "cache-invalidation-listener");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void start() {
+		running = true;
+		executor.execute(this::listen);
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		// unblocks the listener waiting for notifications
+		discard(connection);
+		executor.shutdownNow();
+	}
+
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		// joins the surrounding transaction, if any, and is delivered when it commits
+		jdbcTemplate.query("select pg_notify(?, ?)", resultSet -> null, CHANNEL, payload(invalidation));
+	}
+
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> subscriber) {
+		subscribers.add(subscriber);
+	}
+
+	/**
+	 * Formats an invalidation like the triggers do: {@code user <verification code> <email>} or {@code roles}.
+	 */
+	static String payload(CacheInvalidation invalidation) {
+		return switch (invalidation.type()) {
+			case USER -> USER + ' ' + (invalidation.verificationCode() == null ? "" : invalidation.verificationCode())
+				+ ' ' + invalidation.email();
+			case ROLES, ALL -> ROLES;
+		};
+	}
+
+	static CacheInvalidation parse(String payload) {
+		if (payload.startsWith(USER + ' ')) {
+			// the email comes last, so that nothing it may contain is taken for a separator
+			String[] parts = payload.split(" ", 3);
+			if (parts.length == 3) {
+				return CacheInvalidation.user(parts[2], parts[1].isEmpty() ? null : parts[1]);
+			}
+		}
+		if (payload.equals(ROLES)) {
+			return CacheInvalidation.roles();
+		}
+		// something this version does not know about changed, drop everything rather than miss it
+		log.warn("Unknown cache invalidation '{}', invalidating everything.", payload);
+		return CacheInvalidation.all();
+	}
+
+	private void listen() {
+		boolean firstAttempt = true;
+		while (running) {
+			Connection listening = null;
+			try {
+				listening = dataSource.getConnection();
+				connection = listening;
+				PGConnection pgConnection = listening.unwrap(PGConnection.class);
+				try (Statement statement = listening.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL);
+				}
+				if (!firstAttempt) {
+					log.info("Listening on {} again, invalidating all caches.", CHANNEL);
+					dispatch(CacheInvalidation.all());
+				}
+				firstAttempt = false;
+				receive(listening, pgConnection);
+			} catch (SQLException | RuntimeException e) {
+				firstAttempt = false;
+				if (!running) {
+					return;
+				}
+				log.warn("Listening on {} failed, reconnecting in {}.", CHANNEL, reconnectDelay, e);
+				try {
+					Thread.sleep(reconnectDelay.toMillis());
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			} finally {
+				connection = null;
+				discard(listening);
+			}
+		}
+	}
+
+	private void receive(Connection listening, PGConnection pgConnection) throws SQLException {
+		int timeoutMillis = (int) validationInterval.toMillis();
+		while (running) {
+			// returns as soon as a notification arrives
+			PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+			if (notifications == null || notifications.length == 0) {
+				// a connection dropped without a reset would otherwise wait forever
+				if (running && !listening.isValid(Math.max(1, timeoutMillis / 1000))) {
+					throw new SQLException("Listening connection is no longer valid.");
+				}
+				continue;
+			}
+			for (PGNotification notification : notifications) {
+				dispatch(parse(notification.getParameter()));
+			}
+		}
+	}
+
+	private void dispatch(CacheInvalidation invalidation) {
+		for (Consumer<CacheInvalidation> subscriber : subscribers) {
+			try {
+				subscriber.accept(invalidation);
+			} catch (RuntimeException e) {
+				log.error("Cache invalidation subscriber failed on {}.", invalidation, e);
+			}
+		}
+	}
+
+	/**
+	 * Aborts the physical connection rather than returning it to the pool, where it would go on listening and
+	 * buffering notifications for whoever borrows it next.
+	 */
+	private static void discard(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		try {
+			connection.abort(Runnable::run);
+			connection.close();
+		} catch (SQLException e) {
+			log.debug("Discarding the listening connection failed.", e);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.entity;
+
+import java.util.Set;
+
+/**
+ * A row of the role table together with the names of its permissions, as held by the role catalog.
+ */
+public record RoleRow(Long id, String name, Set<String> permissions) {
+}
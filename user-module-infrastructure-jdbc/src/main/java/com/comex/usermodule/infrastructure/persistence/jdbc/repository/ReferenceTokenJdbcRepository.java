@@ -0,0 +1,59 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.token.ReferenceToken;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReferenceTokenJdbcRepository implements ReferenceTokenRepository {
+
+	private static final String UPSERT = """
+		insert into reference_token (id, subject, roles, issued_at, expires_at) values (?, ?, ?, ?, ?)
+		on conflict (id) do update set subject = excluded.subject, roles = excluded.roles,
+			issued_at = excluded.issued_at, expires_at = excluded.expires_at
+		""";
+	private static final String FIND_BY_ID = "select id, subject, roles, issued_at, expires_at "
+		+ "from reference_token where id = ?";
+	private static final String UPDATE_EXPIRES_AT = "update reference_token set expires_at = ? where id = ?";
+	private static final String DELETE_BY_ID = "delete from reference_token where id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void save(ReferenceToken referenceToken) {
+		log.debug("Saving reference token {} of user {}.", referenceToken.id(), referenceToken.subject());
+		jdbcTemplate.update(UPSERT, referenceToken.id(), referenceToken.subject(), referenceToken.roles(),
+			Timestamp.from(referenceToken.issuedAt()), Timestamp.from(referenceToken.expiresAt()));
+	}
+
+	@Override
+	public Optional<ReferenceToken> findById(String id) {
+		log.debug("Finding reference token {}.", id);
+		return jdbcTemplate.query(FIND_BY_ID, (resultSet, rowNum) -> new ReferenceToken(resultSet.getString("id"),
+				resultSet.getString("subject"), resultSet.getString("roles"),
+				resultSet.getTimestamp("issued_at").toInstant(), resultSet.getTimestamp("expires_at").toInstant()), id)
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public boolean updateExpiresAt(String id, Instant expiresAt) {
+		log.debug("Updating expiry of reference token {}.", id);
+		return jdbcTemplate.update(UPDATE_EXPIRES_AT, Timestamp.from(expiresAt), id) > 0;
+	}
+
+	@Override
+	public void deleteById(String id) {
+		log.debug("Deleting reference token {}.", id);
+		jdbcTemplate.update(DELETE_BY_ID, id);
+	}
+}
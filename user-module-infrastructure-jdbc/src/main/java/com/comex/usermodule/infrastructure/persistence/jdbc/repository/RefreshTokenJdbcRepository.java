@@ -0,0 +1,69 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.repository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.token.RefreshToken;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenJdbcRepository implements RefreshTokenRepository {
+
+	private static final String UPSERT = """
+		insert into refresh_token (id, family_id, subject, roles, issued_at, expires_at, used)
+		values (?, ?, ?, ?, ?, ?, ?)
+		on conflict (id) do update set family_id = excluded.family_id, subject = excluded.subject,
+			roles = excluded.roles, issued_at = excluded.issued_at, expires_at = excluded.expires_at,
+			used = excluded.used
+		""";
+	private static final String FIND_BY_ID = "select id, family_id, subject, roles, issued_at, expires_at, used "
+		+ "from refresh_token where id = ?";
+	private static final String MARK_USED = "update refresh_token set used = true where id = ? and used = false";
+	private static final String DELETE_BY_FAMILY_ID = "delete from refresh_token where family_id = ?";
+	private static final String DELETE_BY_SUBJECT = "delete from refresh_token where subject = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void save(RefreshToken refreshToken) {
+		log.debug("Saving refresh token {} of user {}.", refreshToken.id(), refreshToken.subject());
+		jdbcTemplate.update(UPSERT, refreshToken.id(), refreshToken.familyId(), refreshToken.subject(),
+			refreshToken.roles(), Timestamp.from(refreshToken.issuedAt()), Timestamp.from(refreshToken.expiresAt()),
+			refreshToken.used());
+	}
+
+	@Override
+	public Optional<RefreshToken> findById(String id) {
+		log.debug("Finding refresh token {}.", id);
+		return jdbcTemplate.query(FIND_BY_ID, (resultSet, rowNum) -> new RefreshToken(resultSet.getString("id"),
+				resultSet.getString("family_id"), resultSet.getString("subject"), resultSet.getString("roles"),
+				resultSet.getTimestamp("issued_at").toInstant(), resultSet.getTimestamp("expires_at").toInstant(),
+				resultSet.getBoolean("used")), id)
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public boolean markUsed(String id) {
+		log.debug("Marking refresh token {} as used.", id);
+		return jdbcTemplate.update(MARK_USED, id) == 1;
+	}
+
+	@Override
+	public void deleteByFamilyId(String familyId) {
+		log.debug("Deleting refresh token family {}.", familyId);
+		jdbcTemplate.update(DELETE_BY_FAMILY_ID, familyId);
+	}
+
+	@Override
+	public void deleteBySubject(String subject) {
+		log.debug("Deleting refresh tokens of user {}.", subject);
+		jdbcTemplate.update(DELETE_BY_SUBJECT, subject);
+	}
+}
@@ -0,0 +1,65 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+import com.comex.usermodule.core.revocation.RevokedToken;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RevokedTokenJdbcRepository implements RevokedTokenRepository {
+
+	private static final String UPSERT = """
+		insert into revoked_token (id, revoked_at, expires_at) values (?, ?, ?)
+		on conflict (id) do update set revoked_at = excluded.revoked_at, expires_at = excluded.expires_at
+		""";
+	private static final String FIND_BY_ID = "select id, revoked_at, expires_at from revoked_token where id = ?";
+	private static final String FIND_REVOKED_SINCE = "select id, revoked_at, expires_at from revoked_token "
+		+ "where revoked_at >= ? and expires_at > ?";
+	private static final String DELETE_EXPIRED = "delete from revoked_token "
+		+ "where id in (select id from revoked_token where expires_at < ? limit ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void save(RevokedToken revokedToken) {
+		log.debug("Saving revoked token {}.", revokedToken.id());
+		jdbcTemplate.update(UPSERT, revokedToken.id(), Timestamp.from(revokedToken.revokedAt()),
+			Timestamp.from(revokedToken.expiresAt()));
+	}
+
+	@Override
+	public Optional<RevokedToken> findById(String id) {
+		log.debug("Finding revoked token {}.", id);
+		return jdbcTemplate.query(FIND_BY_ID, this::toRevokedToken, id)
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public List<RevokedToken> findRevokedSince(Instant since) {
+		log.debug("Finding tokens revoked since {}.", since);
+		return jdbcTemplate.query(FIND_REVOKED_SINCE, this::toRevokedToken, Timestamp.from(since),
+			Timestamp.from(Instant.now()));
+	}
+
+	@Override
+	public int deleteExpired(Instant expiredBefore, int limit) {
+		return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(expiredBefore), limit);
+	}
+
+	private RevokedToken toRevokedToken(ResultSet resultSet, int rowNum) throws SQLException {
+		return new RevokedToken(resultSet.getString("id"), resultSet.getTimestamp("revoked_at").toInstant(),
+			resultSet.getTimestamp("expires_at").toInstant());
+	}
+}
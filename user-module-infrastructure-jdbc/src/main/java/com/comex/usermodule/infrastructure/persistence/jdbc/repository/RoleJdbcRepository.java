@@ -0,0 +1,51 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the roles and their permissions for the role catalog in one query.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RoleJdbcRepository {
+
+	private static final String FIND_ALL = """
+		select r.id, r.name, p.name as permission
+		from role r
+			left join roles_permissions rp on rp.role_id = r.id
+			left join permission p on p.id = rp.permission_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<RoleRow> findAll() {
+		log.debug("Finding all roles.");
+		Map<Long, String> names = new LinkedHashMap<>();
+		Map<Long, Set<String>> permissions = new LinkedHashMap<>();
+		jdbcTemplate.query(FIND_ALL, resultSet -> {
+			long id = resultSet.getLong("id");
+			names.put(id, resultSet.getString("name"));
+			Set<String> rolePermissions = permissions.computeIfAbsent(id, key -> new HashSet<>());
+			String permission = resultSet.getString("permission");
+			if (permission != null) {
+				rolePermissions.add(permission);
+			}
+		});
+
+		List<RoleRow> roles = new ArrayList<>(names.size());
+		names.forEach((id, name) -> roles.add(new RoleRow(id, name, Set.copyOf(permissions.get(id)))));
+		return roles;
+	}
+}
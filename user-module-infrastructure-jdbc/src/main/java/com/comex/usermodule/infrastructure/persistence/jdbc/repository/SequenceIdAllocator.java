@@ -0,0 +1,74 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Hands out ids from blocks of a sequence the way Hibernate's pooled-lo optimizer does: every sequence value is the
+ * first id of a block of {@code increment} ids, so the adapters can share the sequence and a node makes one
+ * {@code nextval} call per block rather than per row.
+ */
+class SequenceIdAllocator {
+
+	private static final String NEXT_BLOCKS = "select nextval(?::regclass) from generate_series(1, ?)";
+	private static final String BLOCK_SIZE = "select increment_by from pg_sequences "
+		+ "where schemaname = current_schema() and sequencename = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String sequence;
+
+	private long blockSize;
+	private long next;
+	private long limit;
+
+	SequenceIdAllocator(JdbcTemplate jdbcTemplate, String sequence) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.sequence = sequence;
+	}
+
+	synchronized long nextId() {
+		if (next == limit) {
+			long block = jdbcTemplate.queryForObject(NEXT_BLOCKS, Long.class, sequence, 1);
+			next = block;
+			limit = block + blockSize();
+		}
+		return next++;
+	}
+
+	/**
+	 * Reserves the ids of a batch, starting with what is left of the current block and fetching the missing blocks in
+	 * one query.
+	 */
+	synchronized long[] nextIds(int count) {
+		long[] ids = new long[count];
+		int i = 0;
+		while (i < count && next < limit) {
+			ids[i++] = next++;
+		}
+		if (i == count) {
+			return ids;
+		}
+
+		long increment = blockSize();
+		List<Long> blocks = jdbcTemplate.queryForList(NEXT_BLOCKS, Long.class, sequence,
+			(count - i + increment - 1) / increment);
+		for (long block : blocks) {
+			next = block;
+			limit = block + increment;
+			while (i < count && next < limit) {
+				ids[i++] = next++;
+			}
+		}
+		return ids;
+	}
+
+	private long blockSize() {
+		if (blockSize == 0) {
+			// using only the first id of every value is safe whatever the increment, if it cannot be read
+			List<Long> configured = jdbcTemplate.queryForList(BLOCK_SIZE, Long.class, sequence);
+			blockSize = configured.isEmpty() || configured.get(0) <= 0 ? 1 : configured.get(0);
+		}
+		return blockSize;
+	}
+}
@@ -0,0 +1,267 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc.repository;
+
+import static com.comex.usermodule.core.exception.UserExceptionKey.NOT_FOUND;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link UserRepository} over the PostgreSQL schema of the module changelog with hand-written statements and no
+ * persistence context: a lookup is one query returning the user row and the names of its roles, mapped straight from
+ * the {@link ResultSet}, and a save is one insert or update plus the statements syncing its roles.
+ * <p>
+ * Permissions are taken from the role catalog rather than joined on every read, so a permission change is seen once
+ * the catalog is refreshed, as on the write path. Ids come from {@code user_id_seq} in pooled-lo blocks, so this
+ * adapter and the JPA one can write to the same database.
+ */
+@Slf4j
+public class UserJdbcRepository implements UserRepository {
+
+	private static final String SELECT_USER = """
+		select u.id, u.created_at, u.username, u.password, u.email, u.status, u.verification_code,
+			u.verification_code_expires_at, array_remove(array_agg(r.name), null) as roles
+		from user_table u
+			left join users_roles ur on ur.user_id = u.id
+			left join role r on r.id = ur.role_id
+		""";
+	private static final String FIND_BY_EMAIL = SELECT_USER + "where u.email = ? and u.status = ? group by u.id";
+	private static final String FIND_BY_VERIFICATION_CODE = SELECT_USER
+		+ "where u.verification_code = ? group by u.id";
+	private static final String FIND_CREDENTIALS = """
+		select u.password, array_remove(array_agg(r.name), null) as roles
+		from user_table u
+			left join users_roles ur on ur.user_id = u.id
+			left join role r on r.id = ur.role_id
+		where u.email = ? and u.status = ?
+		group by u.id
+		""";
+	private static final String FIND_EMAILS = "select email from user_table where email = any(?)";
+	private static final String INSERT_USER = "insert into user_table "
+		+ "(id, created_at, username, password, email, status, verification_code, verification_code_expires_at) "
+		+ "values (?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String UPDATE_USER = "update user_table set username = ?, password = ?, email = ?, "
+		+ "status = ?, verification_code = ?, verification_code_expires_at = ? where id = ?";
+	private static final String INSERT_USER_ROLE = "insert into users_roles (user_id, role_id) values (?, ?)";
+	// both only touch rows when the roles changed, so an unchanged user fires no role trigger
+	private static final String DELETE_STALE_USER_ROLES = "delete from users_roles "
+		+ "where user_id = ? and not (role_id = any(?))";
+	private static final String INSERT_MISSING_USER_ROLES = "insert into users_roles (user_id, role_id) "
+		+ "select ?, unnest(?) on conflict do nothing";
+	private static final String CLEAR_EXPIRED_VERIFICATION_CODES = """
+		update user_table
+		set verification_code = null, verification_code_expires_at = null
+		where id in (
+			select id from user_table
+			where verification_code is not null and verification_code_expires_at < ?
+			limit ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final RoleCatalog<RoleRow> roleCatalog;
+	private final SequenceIdAllocator idAllocator;
+	private final RowMapper<User> userRowMapper = this::toUser;
+
+	public UserJdbcRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		RoleCatalog<RoleRow> roleCatalog) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.roleCatalog = roleCatalog;
+		this.idAllocator = new SequenceIdAllocator(jdbcTemplate, "user_id_seq");
+	}
+
+	@Override
+	public User save(User user) {
+		log.debug("Saving user {}.", user);
+		Long[] roleIds = resolveRoleIds(user);
+		return transactionTemplate.execute(status -> {
+			if (user.getId() == null) {
+				user.setId(idAllocator.nextId());
+				jdbcTemplate.update(INSERT_USER, userRow(user));
+				jdbcTemplate.batchUpdate(INSERT_USER_ROLE, roleRows(user.getId(), roleIds));
+				return user;
+			}
+
+			int updated = jdbcTemplate.update(UPDATE_USER, user.getUsername(), user.getPassword(), user.getEmail(),
+				user.getStatus().name(), user.getVerificationCode(), toTimestamp(user.getVerificationCodeExpiresAt()),
+				user.getId());
+			if (updated == 0) {
+				throw new UserException(NOT_FOUND, String.format("User with id: %s not found.", user.getId()));
+			}
+			jdbcTemplate.update(DELETE_STALE_USER_ROLES, user.getId(), roleIds);
+			jdbcTemplate.update(INSERT_MISSING_USER_ROLES, user.getId(), roleIds);
+			return user;
+		});
+	}
+
+	/**
+	 * Inserts new users as two batches in one transaction with the ids of the whole batch reserved up front; a batch
+	 * containing users that are already stored is saved one by one. Copies of the users are inserted, leaving the
+	 * given users without ids so that they can still be saved as new users if the batch rolls back.
+	 */
+	@Override
+	public List<User> saveAll(List<User> users) {
+		if (users.stream().anyMatch(user -> user.getId() != null)) {
+			return UserRepository.super.saveAll(users);
+		}
+		log.debug("Saving {} users.", users.size());
+		return transactionTemplate.execute(status -> {
+			long[] ids = idAllocator.nextIds(users.size());
+
+			List<User> inserted = new ArrayList<>(users.size());
+			List<Object[]> userRows = new ArrayList<>(users.size());
+			List<Object[]> roleRows = new ArrayList<>(users.size());
+			for (int i = 0; i < users.size(); i++) {
+				User user = users.get(i).toBuilder().id(ids[i]).build();
+				inserted.add(user);
+				userRows.add(userRow(user));
+				roleRows.addAll(roleRows(user.getId(), resolveRoleIds(user)));
+			}
+
+			jdbcTemplate.batchUpdate(INSERT_USER, userRows);
+			jdbcTemplate.batchUpdate(INSERT_USER_ROLE, roleRows);
+			return inserted;
+		});
+	}
+
+	@Override
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		return new HashSet<>(jdbcTemplate.queryForList(FIND_EMAILS, String.class,
+			(Object) emails.toArray(String[]::new)));
+	}
+
+	@Override
+	public User findByEmail(String email) {
+		return findByEmailOptional(email)
+			.orElseThrow(() -> new UserException(NOT_FOUND,
+				String.format("Verified user with email: %s not found.", email)));
+	}
+
+	@Override
+	public Optional<User> findByEmailOptional(String email) {
+		log.debug("Finding verified user by email: {}.", email);
+		return jdbcTemplate.query(FIND_BY_EMAIL, userRowMapper, email, UserStatus.VERIFIED.name())
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public Optional<UserCredentials> findCredentialsByEmail(String email) {
+		log.debug("Finding credentials of verified user by email: {}.", email);
+		return jdbcTemplate.query(FIND_CREDENTIALS, (resultSet, rowNum) -> {
+				Set<String> authorities = new HashSet<>();
+				for (String name : roleNames(resultSet)) {
+					authorities.add(name);
+					RoleRow role = roleCatalog.find(name);
+					if (role != null) {
+						authorities.addAll(role.permissions());
+					}
+				}
+				return new UserCredentials(email, resultSet.getString("password"), authorities);
+			}, email, UserStatus.VERIFIED.name())
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public User findByVerificationCode(String verificationCode) {
+		log.debug("Finding user by verificationCode: {}.", verificationCode);
+		return jdbcTemplate.query(FIND_BY_VERIFICATION_CODE, userRowMapper, verificationCode)
+			.stream()
+			.findFirst()
+			.orElseThrow(() -> new UserException(NOT_FOUND,
+				String.format("User with verificationCode: %s not found.", verificationCode)));
+	}
+
+	@Override
+	public int clearExpiredVerificationCodes(Instant expiredBefore, int limit) {
+		return jdbcTemplate.update(CLEAR_EXPIRED_VERIFICATION_CODES, Timestamp.from(expiredBefore), limit);
+	}
+
+	private User toUser(ResultSet resultSet, int rowNum) throws SQLException {
+		Set<Role> roles = new HashSet<>();
+		for (String name : roleNames(resultSet)) {
+			RoleRow role = roleCatalog.find(name);
+			roles.add(new Role(name, role == null ? Set.of() : role.permissions()));
+		}
+		return User.builder()
+			.id(resultSet.getLong("id"))
+			.username(resultSet.getString("username"))
+			.password(resultSet.getString("password"))
+			.email(resultSet.getString("email"))
+			.createdAt(toInstant(resultSet.getTimestamp("created_at")))
+			.roles(roles)
+			.status(UserStatus.valueOf(resultSet.getString("status")))
+			.verificationCode(resultSet.getString("verification_code"))
+			.verificationCodeExpiresAt(toInstant(resultSet.getTimestamp("verification_code_expires_at")))
+			.build();
+	}
+
+	private static String[] roleNames(ResultSet resultSet) throws SQLException {
+		return (String[]) resultSet.getArray("roles").getArray();
+	}
+
+	/**
+	 * Resolves the ids of the roles of the user from the catalog; roles missing from the catalog are not assigned, as
+	 * they are not in the role table either.
+	 */
+	private Long[] resolveRoleIds(User user) {
+		if (user.getRoles() == null) {
+			return new Long[0];
+		}
+		return user.getRoles()
+			.stream()
+			.map(Role::getName)
+			.map(roleCatalog::find)
+			.filter(Objects::nonNull)
+			.map(RoleRow::id)
+			.distinct()
+			.toArray(Long[]::new);
+	}
+
+	private static Object[] userRow(User user) {
+		return new Object[] {user.getId(), Timestamp.from(user.getCreatedAt()), user.getUsername(),
+			user.getPassword(), user.getEmail(), user.getStatus().name(), user.getVerificationCode(),
+			toTimestamp(user.getVerificationCodeExpiresAt())};
+	}
+
+	private static List<Object[]> roleRows(Long userId, Long[] roleIds) {
+		List<Object[]> rows = new ArrayList<>(roleIds.length);
+		for (Long roleId : roleIds) {
+			rows.add(new Object[] {userId, roleId});
+		}
+		return rows;
+	}
+
+	private static Timestamp toTimestamp(Instant instant) {
+		return instant == null ? null : Timestamp.from(instant);
+	}
+
+	private static Instant toInstant(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toInstant();
+	}
+}
@@ -0,0 +1,31 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc;
+
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.RoleJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.UserJdbcRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class JdbcTestConfiguration {
+
+    @Bean
+    public RoleCatalog<RoleRow> roleCatalog(JdbcTemplate jdbcTemplate) {
+        return new RoleCatalog<>(new RoleJdbcRepository(jdbcTemplate)::findAll, RoleRow::name);
+    }
+
+    @Bean
+    public UserRepository userRepository(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            RoleCatalog<RoleRow> roleCatalog) {
+        return new UserJdbcRepository(jdbcTemplate, new TransactionTemplate(transactionManager), roleCatalog);
+    }
+}
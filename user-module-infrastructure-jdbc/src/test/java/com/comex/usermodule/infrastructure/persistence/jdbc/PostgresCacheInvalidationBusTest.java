@@ -0,0 +1,93 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc;
+
+import com.comex.usermodule.core.cache.CacheInvalidation;
+import com.comex.usermodule.infrastructure.persistence.jdbc.cache.PostgresCacheInvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// notifications are only delivered on commit, the test transaction would never deliver them
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostgresCacheInvalidationBusTest extends AbstractJdbcIntegrationTest {
+
+    private static final String APPLICATION_NAME = "cache-invalidation-test";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private final BlockingQueue<CacheInvalidation> received = new LinkedBlockingQueue<>();
+    private PostgresCacheInvalidationBus sut;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // a data source of its own, so that the listening connection can be told apart and killed
+        DriverManagerDataSource listeningDataSource = new DriverManagerDataSource(dataSourceProperties.getUrl(),
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword());
+        Properties properties = new Properties();
+        properties.setProperty("ApplicationName", APPLICATION_NAME);
+        listeningDataSource.setConnectionProperties(properties);
+        sut = new PostgresCacheInvalidationBus(listeningDataSource, Duration.ofMillis(100), Duration.ofMillis(200));
+        sut.subscribe(received::add);
+        sut.start();
+        awaitListening();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void testPublishedInvalidationIsReceived() throws InterruptedException {
+        // WHEN
+        sut.publish(CacheInvalidation.user("test@example.com", null));
+        sut.publish(CacheInvalidation.roles());
+
+        // THEN
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.user("test@example.com", null));
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.roles());
+    }
+
+    @Test
+    void testReconnectInvalidatesEverything() throws InterruptedException {
+        // GIVEN
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // WHEN
+        jdbcTemplate.query("select pg_terminate_backend(pid) from pg_stat_activity where application_name = ?",
+                resultSet -> null, APPLICATION_NAME);
+
+        // THEN
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.all());
+    }
+
+    private void awaitListening() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int attempt = 0; attempt < 50; attempt++) {
+            Integer listening = jdbcTemplate.queryForObject("select count(*) from pg_stat_activity "
+                    + "where application_name = ?", Integer.class, APPLICATION_NAME);
+            if (listening != null && listening > 0) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.comex.usermodule.infrastructure.persistence.jdbc;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.port.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// ROLE_USER and ROLE_ADMIN come from the initial data of the changelog
+class UserJdbcRepositoryTest extends AbstractJdbcIntegrationTest {
+
+    @Autowired
+    private UserRepository sut;
+
+    @Test
+    void testSaveAndFindByEmail() {
+        // GIVEN
+        User user = user("jdbc@example.com", UserStatus.VERIFIED, null);
+
+        // WHEN
+        User savedUser = sut.save(user);
+        User foundUser = sut.findByEmail("jdbc@example.com");
+
+        // THEN
+        assertThat(savedUser.getId()).isNotNull();
+        assertThat(foundUser.getId()).isEqualTo(savedUser.getId());
+        assertThat(foundUser.getUsername()).isEqualTo(user.getUsername());
+        assertThat(foundUser.getStatus()).isEqualTo(UserStatus.VERIFIED);
+        assertThat(foundUser.getRoles()).extracting(Role::getName).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void testSaveUpdatesStatusAndRoles() {
+        // GIVEN
+        User user = sut.save(user("pending@example.com", UserStatus.CREATED, "JDBC123"));
+        User pending = sut.findByVerificationCode("JDBC123");
+        pending.setStatus(UserStatus.VERIFIED);
+        pending.setVerificationCode(null);
+        pending.setRoles(Set.of(new Role("ROLE_ADMIN")));
+
+        // WHEN
+        sut.save(pending);
+
+        // THEN
+        User verified = sut.findByEmail("pending@example.com");
+        assertThat(verified.getId()).isEqualTo(user.getId());
+        assertThat(verified.getVerificationCode()).isNull();
+        assertThat(verified.getRoles()).extracting(Role::getName).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void testFindByEmailOptionalWhenPending() {
+        // GIVEN
+        sut.save(user("pending@example.com", UserStatus.CREATED, "JDBC123"));
+
+        // WHEN
+        Optional<User> found = sut.findByEmailOptional("pending@example.com");
+
+        // THEN
+        assertThat(found).isEmpty();
+        assertThatThrownBy(() -> sut.findByEmail("pending@example.com"))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    void testFindCredentialsByEmail() {
+        // GIVEN
+        sut.save(user("jdbc@example.com", UserStatus.VERIFIED, null));
+
+        // WHEN
+        Optional<UserCredentials> credentials = sut.findCredentialsByEmail("jdbc@example.com");
+
+        // THEN
+        assertThat(credentials).isPresent();
+        assertThat(credentials.get().password()).isEqualTo("$2a$10$encodedPassword");
+        assertThat(credentials.get().authorities()).contains("ROLE_USER");
+    }
+
+    @Test
+    void testSaveAllAndFindExistingEmails() {
+        // GIVEN
+        List<User> users = List.of(user("first@example.com", UserStatus.VERIFIED, null),
+                user("second@example.com", UserStatus.VERIFIED, null));
+
+        // WHEN
+        List<User> savedUsers = sut.saveAll(users);
+
+        // THEN
+        assertThat(savedUsers).extracting(User::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(sut.findExistingEmails(List.of("first@example.com", "second@example.com", "third@example.com")))
+                .containsExactlyInAnyOrder("first@example.com", "second@example.com");
+        assertThat(sut.findByEmail("second@example.com").getRoles()).extracting(Role::getName)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void testClearExpiredVerificationCodes() {
+        // GIVEN
+        User expired = user("expired@example.com", UserStatus.CREATED, "EXPIRED");
+        expired.setVerificationCodeExpiresAt(Instant.now().minus(Duration.ofHours(1)));
+        sut.save(expired);
+        User pending = user("pending@example.com", UserStatus.CREATED, "PENDING");
+        pending.setVerificationCodeExpiresAt(Instant.now().plus(Duration.ofHours(1)));
+        sut.save(pending);
+
+        // WHEN
+        int cleared = sut.clearExpiredVerificationCodes(Instant.now(), 100);
+
+        // THEN
+        assertThat(cleared).isEqualTo(1);
+        assertThat(sut.findByVerificationCode("PENDING").getEmail()).isEqualTo("pending@example.com");
+        assertThatThrownBy(() -> sut.findByVerificationCode("EXPIRED"))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("not found");
+        assertThat(sut.findExistingEmails(List.of("expired@example.com"))).containsExactly("expired@example.com");
+    }
+
+    private static User user(String email, UserStatus status, String verificationCode) {
+        return User.builder()
+                .email(email)
+                .username(email.substring(0, email.indexOf('@')))
+                .password("$2a$10$encodedPassword")
+                .status(status)
+                .verificationCode(verificationCode)
+                .createdAt(Instant.now())
+                .roles(Set.of(new Role("ROLE_USER")))
+                .build();
+    }
+}
@@ -22,7 +22,8 @@ import lombok.NoArgsConstructor;
 @Entity
 public class PermissionEntity {
 
-	@SequenceGenerator(name = "permission_id_seq", sequenceName = "permission_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "permission_id_seq", sequenceName = "permission_id_seq",
+		allocationSize = Sequences.BLOCK_SIZE)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "permission_id_seq")
 	@Id
 	private Long id;
@@ -0,0 +1,36 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Table(name = "refresh_token")
+@Entity
+public class RefreshTokenEntity {
+
+	@Id
+	private String id;
+	@Column(name = "family_id", nullable = false)
+	private String familyId;
+	@Column(nullable = false)
+	private String subject;
+	@Column(nullable = false)
+	private String roles;
+	@Column(name = "issued_at", nullable = false)
+	private Instant issuedAt;
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+	@Column(nullable = false)
+	private boolean used;
+}
@@ -0,0 +1,28 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Table(name = "revoked_token")
+@Entity
+public class RevokedTokenEntity {
+
+	@Id
+	private String id;
+	@Column(name = "revoked_at", nullable = false)
+	private Instant revokedAt;
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+}
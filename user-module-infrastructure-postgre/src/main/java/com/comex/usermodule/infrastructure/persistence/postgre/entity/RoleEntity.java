@@ -31,7 +31,7 @@ import lombok.NoArgsConstructor;
 @Entity
 public class RoleEntity {
 
-	@SequenceGenerator(name = "role_id_seq", sequenceName = "role_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "role_id_seq", sequenceName = "role_id_seq", allocationSize = Sequences.BLOCK_SIZE)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_id_seq")
 	@Id
 	private Long id;
@@ -0,0 +1,18 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.entity;
+
+/**
+ * Identifier allocation of the entities. Ids are drawn from the sequences in blocks with the pooled-lo optimizer: a
+ * sequence value is the first id of a block of {@link #BLOCK_SIZE} ids owned by whoever fetched it, so a block of
+ * inserts costs one {@code nextval} and plain {@code nextval} callers, which use the value alone, never collide with it.
+ * <p>
+ * The block size must equal the {@code INCREMENT BY} of the sequences, set by the {@code 5_pooled-id-sequences}
+ * changeset. With {@code hibernate.id.sequence.increment_size_mismatch_strategy=fix}, as configured by the starter,
+ * Hibernate adopts the increment of the database instead.
+ */
+public final class Sequences {
+
+	public static final int BLOCK_SIZE = 50;
+
+	private Sequences() {
+	}
+}
@@ -30,7 +30,7 @@ import lombok.NoArgsConstructor;
 @Entity
 public class UserEntity {
 
-	@SequenceGenerator(name = "user_id_seq", sequenceName = "user_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "user_id_seq", sequenceName = "user_id_seq", allocationSize = Sequences.BLOCK_SIZE)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_seq")
 	@Id
 	private Long id;
@@ -46,6 +46,8 @@ public class UserEntity {
 	private String status;
 	@Column(name = "verification_code")
 	private String verificationCode;
+	@Column(name = "verification_code_expires_at")
+	private Instant verificationCodeExpiresAt;
 	@JoinTable(
 		name = "users_roles",
 		joinColumns = @JoinColumn(name = "user_id"),
@@ -0,0 +1,88 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jdbc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.comex.usermodule.core.cache.CacheInvalidation;
+
+/**
+ * Remembers for a short window the keys of users written through this node, so that their lookups read from the
+ * primary until the replicas have replayed the write.
+ * <p>
+ * Subscribed to the cache invalidation bus, it also remembers the users written through other nodes. Their
+ * invalidation can arrive before a replica has replayed the write, and a lookup served by that replica would put the
+ * old user back into the cache for its whole time to live. It must be subscribed before the cache is invalidated, so
+ * that no lookup falls between the two. Role changes and missed invalidations send every lookup of the window to the
+ * primary.
+ */
+public class RecentWrites implements Consumer<CacheInvalidation> {
+
+	/**
+	 * Entries are only dropped when looked up after their window, so expired ones are swept past this size.
+	 */
+	private static final int SWEEP_SIZE = 10_000;
+
+	private final long windowMillis;
+	private final Clock clock;
+	private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+	private volatile long allExpiry;
+
+	public RecentWrites(Duration window) {
+		this(window, Clock.systemUTC());
+	}
+
+	public RecentWrites(Duration window, Clock clock) {
+		this.windowMillis = window.toMillis();
+		this.clock = clock;
+	}
+
+	public void record(String key) {
+		if (key == null) {
+			return;
+		}
+		long now = clock.millis();
+		if (expiries.size() >= SWEEP_SIZE) {
+			expiries.values().removeIf(expiry -> expiry <= now);
+		}
+		expiries.put(key, now + windowMillis);
+	}
+
+	/**
+	 * Reads every key from the primary for the window, when it is not known which users changed.
+	 */
+	public void recordAll() {
+		allExpiry = clock.millis() + windowMillis;
+	}
+
+	@Override
+	public void accept(CacheInvalidation invalidation) {
+		switch (invalidation.type()) {
+			case USER -> {
+				record(invalidation.email());
+				record(invalidation.verificationCode());
+			}
+			case ROLES, ALL -> recordAll();
+		}
+	}
+
+	public boolean contains(String key) {
+		if (key == null) {
+			return false;
+		}
+		if (allExpiry > clock.millis()) {
+			return true;
+		}
+		Long expiry = expiries.get(key);
+		if (expiry == null) {
+			return false;
+		}
+		if (expiry <= clock.millis()) {
+			expiries.remove(key, expiry);
+			return false;
+		}
+		return true;
+	}
+}
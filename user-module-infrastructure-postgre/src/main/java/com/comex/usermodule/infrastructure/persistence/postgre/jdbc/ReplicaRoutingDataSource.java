@@ -0,0 +1,171 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the statements of read-only transactions to PostgreSQL read replicas and everything else to the primary.
+ * Spring Data runs its query methods in read-only transactions, and the connection is only fetched once the first
+ * statement runs, when the transaction is known to be read-only.
+ * <p>
+ * Replicas take turns. A background check measures the replay lag of each one. A replica lagging by more than the
+ * maximum, or failing to connect, is skipped until a later check finds it healthy again. With no healthy replica,
+ * reads go to the primary. Reads wrapped in {@link #onPrimary(Supplier)} always go to the primary, for callers that
+ * need to see their own write.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+	/**
+	 * Seconds the replica is behind, or zero when it has replayed everything it received, so that a replica of an
+	 * idle primary is not mistaken for a lagging one.
+	 */
+	private static final String REPLAY_LAG = "select case when not pg_is_in_recovery() "
+		+ "or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+		+ "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+	private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final double maximumLagSeconds;
+	private final Duration checkInterval;
+	private final AtomicInteger turn = new AtomicInteger();
+	private final ScheduledExecutorService executor;
+
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maximumLag,
+		Duration checkInterval) {
+		super(primary);
+		this.primary = primary;
+		this.replicas = replicas.stream()
+			.map(Replica::new)
+			.toList();
+		this.maximumLagSeconds = maximumLag.toMillis() / 1000.0;
+		this.checkInterval = checkInterval;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "replica-lag-check");
+			thread.setDaemon(true);
+			return thread;
+		});
+		setReadOnlyDataSource(new ReplicaDataSource());
+	}
+
+	/**
+	 * Runs the read against the primary whatever the transaction, to read a write a replica may not have replayed.
+	 */
+	public static <T> T onPrimary(Supplier<T> read) {
+		if (PRIMARY_ONLY.get() != null) {
+			return read.get();
+		}
+		PRIMARY_ONLY.set(Boolean.TRUE);
+		try {
+			return read.get();
+		} finally {
+			PRIMARY_ONLY.remove();
+		}
+	}
+
+	/**
+	 * Schedules the lag check; replicas take reads from its first pass on.
+	 */
+	public void start() {
+		log.info("Routing read-only transactions to {} replicas, checking their lag every {}.", replicas.size(),
+			checkInterval);
+		executor.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void close() throws Exception {
+		executor.shutdownNow();
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+		if (primary instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	void checkReplicas() {
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get(i);
+			boolean healthy;
+			try (Connection connection = replica.dataSource.getConnection();
+				 Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery(REPLAY_LAG)) {
+				resultSet.next();
+				double lag = resultSet.getDouble(1);
+				healthy = lag <= maximumLagSeconds;
+				if (!healthy) {
+					log.debug("Replica {} is {} seconds behind.", i, lag);
+				}
+			} catch (SQLException | RuntimeException e) {
+				log.debug("Lag check of replica {} failed.", i, e);
+				healthy = false;
+			}
+			if (replica.healthy != healthy) {
+				log.info("Replica {} is {}.", i, healthy ? "taking reads" : "skipped");
+			}
+			replica.healthy = healthy;
+		}
+	}
+
+	private Connection readConnection() throws SQLException {
+		if (PRIMARY_ONLY.get() == null && !replicas.isEmpty()) {
+			int first = Math.floorMod(turn.getAndIncrement(), replicas.size());
+			for (int i = 0; i < replicas.size(); i++) {
+				Replica replica = replicas.get((first + i) % replicas.size());
+				if (!replica.healthy) {
+					continue;
+				}
+				try {
+					return replica.dataSource.getConnection();
+				} catch (SQLException e) {
+					// skipped until the next check finds it reachable again
+					log.warn("Replica connection failed, trying the next one.", e);
+					replica.healthy = false;
+				}
+			}
+		}
+		return primary.getConnection();
+	}
+
+	private static final class Replica {
+
+		private final DataSource dataSource;
+		private volatile boolean healthy;
+
+		private Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+	}
+
+	private final class ReplicaDataSource extends AbstractDataSource {
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return readConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return readConnection();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jdbc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inserts new users with plain JDBC batches, bypassing the persistence context: one query reserves the ids of the
+ * whole batch from {@code user_id_seq}, one batch inserts the users and one their roles, all in one transaction.
+ * Ids are reserved in blocks of the sequence increment, the same pooled-lo scheme Hibernate uses, so a batch costs
+ * one {@code nextval} per block rather than per user.
+ * Enabling {@code reWriteBatchedInserts} on the PostgreSQL JDBC URL additionally folds each batch into multi-row
+ * inserts.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserPostgreBatchWriter {
+
+	private static final String NEXT_BLOCKS = "select nextval('user_id_seq') from generate_series(1, ?)";
+	private static final String BLOCK_SIZE = "select increment_by from pg_sequences "
+		+ "where schemaname = current_schema() and sequencename = 'user_id_seq'";
+	private static final String INSERT_USER = "insert into user_table "
+		+ "(id, created_at, username, password, email, status, verification_code, verification_code_expires_at) "
+		+ "values (?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_USER_ROLE = "insert into users_roles (user_id, role_id) values (?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	private volatile long blockSize;
+
+	/**
+	 * Inserts copies of the users with their ids assigned. The given users are left without ids, so that after a
+	 * rolled back batch they can still be saved one by one as new users.
+	 *
+	 * @param roleIds ids of the roles the users reference, by role name; unknown roles are skipped like on save
+	 */
+	public List<User> insertAll(List<User> users, Map<String, Long> roleIds) {
+		log.debug("Batch inserting {} users.", users.size());
+		return transactionTemplate.execute(status -> {
+			List<Long> ids = nextIds(users.size());
+
+			List<User> inserted = new ArrayList<>(users.size());
+			List<Object[]> userRows = new ArrayList<>(users.size());
+			List<Object[]> roleRows = new ArrayList<>(users.size());
+			for (int i = 0; i < users.size(); i++) {
+				User user = users.get(i).toBuilder().id(ids.get(i)).build();
+				inserted.add(user);
+				userRows.add(new Object[] {user.getId(), Timestamp.from(user.getCreatedAt()), user.getUsername(),
+					user.getPassword(), user.getEmail(), user.getStatus().name(), user.getVerificationCode(),
+					toTimestamp(user.getVerificationCodeExpiresAt())});
+				for (Role role : user.getRoles()) {
+					Long roleId = roleIds.get(role.getName());
+					if (roleId != null) {
+						roleRows.add(new Object[] {user.getId(), roleId});
+					}
+				}
+			}
+
+			jdbcTemplate.batchUpdate(INSERT_USER, userRows);
+			jdbcTemplate.batchUpdate(INSERT_USER_ROLE, roleRows);
+			return inserted;
+		});
+	}
+
+	/**
+	 * Reserves the ids: every sequence value is the first id of a block of {@code increment} ids.
+	 */
+	private List<Long> nextIds(int count) {
+		long increment = blockSize();
+		List<Long> blocks = jdbcTemplate.queryForList(NEXT_BLOCKS, Long.class, (count + increment - 1) / increment);
+		List<Long> ids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ids.add(blocks.get((int) (i / increment)) + i % increment);
+		}
+		return ids;
+	}
+
+	private long blockSize() {
+		long increment = blockSize;
+		if (increment == 0) {
+			// using only the first id of every value is safe whatever the increment, if it cannot be read
+			List<Long> configured = jdbcTemplate.queryForList(BLOCK_SIZE, Long.class);
+			increment = configured.isEmpty() || configured.get(0) <= 0 ? 1 : configured.get(0);
+			blockSize = increment;
+		}
+		return increment;
+	}
+
+	private static Timestamp toTimestamp(Instant instant) {
+		return instant == null ? null : Timestamp.from(instant);
+	}
+}
@@ -0,0 +1,18 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jpa;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.ReferenceTokenEntity;
+
+public interface ReferenceTokenPostgreJpaRepository extends JpaRepository<ReferenceTokenEntity, String> {
+
+	@Transactional
+	@Modifying
+	@Query("update ReferenceTokenEntity t set t.expiresAt = :expiresAt where t.id = :id")
+	int updateExpiresAt(String id, Instant expiresAt);
+}
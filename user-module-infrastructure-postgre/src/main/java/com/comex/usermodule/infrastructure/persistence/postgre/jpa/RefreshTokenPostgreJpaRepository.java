@@ -0,0 +1,27 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RefreshTokenEntity;
+
+public interface RefreshTokenPostgreJpaRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+	@Transactional
+	@Modifying
+	@Query("update RefreshTokenEntity r set r.used = true where r.id = :id and r.used = false")
+	int markUsed(@Param("id") String id);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RefreshTokenEntity r where r.familyId = :familyId")
+	int deleteByFamilyId(@Param("familyId") String familyId);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RefreshTokenEntity r where r.subject = :subject")
+	int deleteBySubject(@Param("subject") String subject);
+}
@@ -0,0 +1,27 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jpa;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RevokedTokenEntity;
+
+public interface RevokedTokenPostgreJpaRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+	List<RevokedTokenEntity> findAllByRevokedAtGreaterThanEqualAndExpiresAtAfter(Instant revokedAt, Instant expiresAt);
+
+	/**
+	 * Deletes one batch of expired revocations, found through the index on their expiry.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		delete from revoked_token
+		where id in (select id from revoked_token where expires_at < :expiredBefore limit :limit)
+		""", nativeQuery = true)
+	int deleteExpired(Instant expiredBefore, int limit);
+}
@@ -0,0 +1,13 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jpa;
+
+/**
+ * Single row credential lookup result, with role and permission names aggregated into comma separated lists.
+ */
+public interface UserCredentialsProjection {
+
+	String getPassword();
+
+	String getRoles();
+
+	String getPermissions();
+}
@@ -1,17 +1,71 @@
 package com.comex.usermodule.infrastructure.persistence.postgre.jpa;
 
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.UserEntity;
 
+/**
+ * The lookups run in read-only transactions, which Spring Data does not give declared query methods by itself, so
+ * that a replica routing data source sends them to a replica.
+ */
 public interface UserPostgreJpaRepository extends JpaRepository<UserEntity, Long> {
 
+	@Transactional(readOnly = true)
 	@EntityGraph(attributePaths = {"roles", "roles.permissions"})
 	Optional<UserEntity> findByEmailAndStatus(String email, String status);
 
+	/**
+	 * Reads the password hash, role names and permission names of a user as one row, without loading the entity
+	 * graph into the persistence context.
+	 */
+	@Query(value = """
+		select u.password as password,
+			string_agg(distinct r.name, ',') as roles,
+			string_agg(distinct p.name, ',') as permissions
+		from user_table u
+			left join users_roles ur on ur.user_id = u.id
+			left join role r on r.id = ur.role_id
+			left join roles_permissions rp on rp.role_id = r.id
+			left join permission p on p.id = rp.permission_id
+		where u.email = :email and u.status = :status
+		group by u.id, u.password
+		""", nativeQuery = true)
+	@Transactional(readOnly = true)
+	Optional<UserCredentialsProjection> findCredentialsByEmailAndStatus(String email, String status);
+
+	/**
+	 * Served by the partial index over the rows that still have a code, however many users are verified.
+	 */
+	@Transactional(readOnly = true)
 	Optional<UserEntity> findByVerificationCode(String verificationCode);
+
+	/**
+	 * Clears one batch of expired verification codes, found through the partial index on the code expiry, which the
+	 * cleared rows leave.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		update user_table
+		set verification_code = null, verification_code_expires_at = null
+		where id in (
+			select id from user_table
+			where verification_code is not null and verification_code_expires_at < :expiredBefore
+			limit :limit)
+		""", nativeQuery = true)
+	int clearExpiredVerificationCodes(Instant expiredBefore, int limit);
+
+	@Transactional(readOnly = true)
+	@Query("select u.email from UserEntity u where u.email in :emails")
+	Set<String> findEmailsByEmailIn(Collection<String> emails);
 }
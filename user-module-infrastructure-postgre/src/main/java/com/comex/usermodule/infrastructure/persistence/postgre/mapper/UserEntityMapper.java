@@ -1,14 +1,18 @@
 package com.comex.usermodule.infrastructure.persistence.postgre.mapper;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.comex.usermodule.core.domain.Role;
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.PermissionEntity;
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.UserEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserCredentialsProjection;
 
 public class UserEntityMapper {
 
@@ -22,6 +26,7 @@ public class UserEntityMapper {
 			.status(user.getStatus().name())
 			.roles(roles)
 			.verificationCode(user.getVerificationCode())
+			.verificationCodeExpiresAt(user.getVerificationCodeExpiresAt())
 			.build();
 	}
 
@@ -38,9 +43,23 @@ public class UserEntityMapper {
 				.collect(Collectors.toSet()))
 			.status(UserStatus.valueOf(userEntity.getStatus()))
 			.verificationCode(userEntity.getVerificationCode())
+			.verificationCodeExpiresAt(userEntity.getVerificationCodeExpiresAt())
 			.build();
 	}
 
+	public UserCredentials toUserCredentials(String email, UserCredentialsProjection projection) {
+		Set<String> authorities = new HashSet<>();
+		addAll(authorities, projection.getRoles());
+		addAll(authorities, projection.getPermissions());
+		return new UserCredentials(email, projection.getPassword(), authorities);
+	}
+
+	private static void addAll(Set<String> authorities, String names) {
+		if (names != null && !names.isEmpty()) {
+			authorities.addAll(Arrays.asList(names.split(",")));
+		}
+	}
+
 	private Role toRole(RoleEntity roleEntity) {
 
 		return new Role(roleEntity.getName(), roleEntity.getPermissions().stream()
@@ -0,0 +1,51 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.token.ReferenceToken;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.ReferenceTokenEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.ReferenceTokenPostgreJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReferenceTokenPostgreRepository implements ReferenceTokenRepository {
+
+	private final ReferenceTokenPostgreJpaRepository jpaRepository;
+
+	@Override
+	public void save(ReferenceToken referenceToken) {
+		log.debug("Saving reference token {} of user {}.", referenceToken.id(), referenceToken.subject());
+		jpaRepository.save(ReferenceTokenEntity.builder()
+			.id(referenceToken.id())
+			.subject(referenceToken.subject())
+			.roles(referenceToken.roles())
+			.issuedAt(referenceToken.issuedAt())
+			.expiresAt(referenceToken.expiresAt())
+			.build());
+	}
+
+	@Override
+	public Optional<ReferenceToken> findById(String id) {
+		log.debug("Finding reference token {}.", id);
+		return jpaRepository.findById(id)
+			.map(entity -> new ReferenceToken(entity.getId(), entity.getSubject(), entity.getRoles(),
+				entity.getIssuedAt(), entity.getExpiresAt()));
+	}
+
+	@Override
+	public boolean updateExpiresAt(String id, Instant expiresAt) {
+		log.debug("Updating expiry of reference token {}.", id);
+		return jpaRepository.updateExpiresAt(id, expiresAt) > 0;
+	}
+
+	@Override
+	public void deleteById(String id) {
+		log.debug("Deleting reference token {}.", id);
+		jpaRepository.deleteById(id);
+	}
+}
@@ -0,0 +1,58 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.repository;
+
+import java.util.Optional;
+
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.token.RefreshToken;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RefreshTokenEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RefreshTokenPostgreJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenPostgreRepository implements RefreshTokenRepository {
+
+	private final RefreshTokenPostgreJpaRepository jpaRepository;
+
+	@Override
+	public void save(RefreshToken refreshToken) {
+		log.debug("Saving refresh token {} of user {}.", refreshToken.id(), refreshToken.subject());
+		jpaRepository.save(RefreshTokenEntity.builder()
+			.id(refreshToken.id())
+			.familyId(refreshToken.familyId())
+			.subject(refreshToken.subject())
+			.roles(refreshToken.roles())
+			.issuedAt(refreshToken.issuedAt())
+			.expiresAt(refreshToken.expiresAt())
+			.used(refreshToken.used())
+			.build());
+	}
+
+	@Override
+	public Optional<RefreshToken> findById(String id) {
+		log.debug("Finding refresh token {}.", id);
+		return jpaRepository.findById(id)
+			.map(entity -> new RefreshToken(entity.getId(), entity.getFamilyId(), entity.getSubject(),
+				entity.getRoles(), entity.getIssuedAt(), entity.getExpiresAt(), entity.isUsed()));
+	}
+
+	@Override
+	public boolean markUsed(String id) {
+		log.debug("Marking refresh token {} as used.", id);
+		return jpaRepository.markUsed(id) == 1;
+	}
+
+	@Override
+	public void deleteByFamilyId(String familyId) {
+		log.debug("Deleting refresh token family {}.", familyId);
+		jpaRepository.deleteByFamilyId(familyId);
+	}
+
+	@Override
+	public void deleteBySubject(String subject) {
+		log.debug("Deleting refresh tokens of user {}.", subject);
+		jpaRepository.deleteBySubject(subject);
+	}
+}
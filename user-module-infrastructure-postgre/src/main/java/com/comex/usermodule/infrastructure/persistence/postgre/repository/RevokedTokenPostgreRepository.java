@@ -0,0 +1,55 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+import com.comex.usermodule.core.revocation.RevokedToken;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RevokedTokenEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RevokedTokenPostgreJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RevokedTokenPostgreRepository implements RevokedTokenRepository {
+
+	private final RevokedTokenPostgreJpaRepository jpaRepository;
+
+	@Override
+	public void save(RevokedToken revokedToken) {
+		log.debug("Saving revoked token {}.", revokedToken.id());
+		jpaRepository.save(RevokedTokenEntity.builder()
+			.id(revokedToken.id())
+			.revokedAt(revokedToken.revokedAt())
+			.expiresAt(revokedToken.expiresAt())
+			.build());
+	}
+
+	@Override
+	public Optional<RevokedToken> findById(String id) {
+		log.debug("Finding revoked token {}.", id);
+		return jpaRepository.findById(id)
+			.map(this::toRevokedToken);
+	}
+
+	@Override
+	public List<RevokedToken> findRevokedSince(Instant since) {
+		log.debug("Finding tokens revoked since {}.", since);
+		return jpaRepository.findAllByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, Instant.now())
+			.stream()
+			.map(this::toRevokedToken)
+			.toList();
+	}
+
+	@Override
+	public int deleteExpired(Instant expiredBefore, int limit) {
+		return jpaRepository.deleteExpired(expiredBefore, limit);
+	}
+
+	private RevokedToken toRevokedToken(RevokedTokenEntity entity) {
+		return new RevokedToken(entity.getId(), entity.getRevokedAt(), entity.getExpiresAt());
+	}
+}
@@ -2,49 +2,95 @@ package com.comex.usermodule.infrastructure.persistence.postgre.repository;
 
 import static com.comex.usermodule.core.exception.UserExceptionKey.NOT_FOUND;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.comex.usermodule.core.domain.Role;
 import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.UserEntity;
-import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.RecentWrites;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.ReplicaRoutingDataSource;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.UserPostgreBatchWriter;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * {@link UserRepository} over Spring Data JPA. Lookups run in the read-only transactions of Spring Data and so on a
+ * replica when the data source is a {@link ReplicaRoutingDataSource}; with {@link RecentWrites}, the lookups of a user
+ * saved shortly before through this repository, or invalidated on the cache invalidation bus, read from the primary
+ * instead.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class UserPostgreRepository implements UserRepository {
 
 	private final UserPostgreJpaRepository jpaRepository;
-	private final RolePostgreJpaRepository roleJpaRepository;
+	private final RoleCatalog<RoleEntity> roleCatalog;
 	private final UserEntityMapper userEntityMapper;
+	private final UserPostgreBatchWriter batchWriter;
+	private final RecentWrites recentWrites;
+
+	public UserPostgreRepository(UserPostgreJpaRepository jpaRepository, RoleCatalog<RoleEntity> roleCatalog,
+		UserEntityMapper userEntityMapper) {
+		this(jpaRepository, roleCatalog, userEntityMapper, null, null);
+	}
+
+	public UserPostgreRepository(UserPostgreJpaRepository jpaRepository, RoleCatalog<RoleEntity> roleCatalog,
+		UserEntityMapper userEntityMapper, UserPostgreBatchWriter batchWriter) {
+		this(jpaRepository, roleCatalog, userEntityMapper, batchWriter, null);
+	}
 
 	@Override
 	public User save(User user) {
 		log.debug("Saving user {}.", user);
-		// find role
-		Set<RoleEntity> roles = roleJpaRepository.findAllByNameIn(user.getRoles()
-			.stream()
-			.map(Role::getName)
-			.collect(Collectors.toSet()));
-		// map and save user
-		UserEntity userEntity = jpaRepository.save(userEntityMapper.toUserEntity(user, roles));
+		// map and save user, the roles are resolved from the catalog
+		UserEntity userEntity = jpaRepository.save(userEntityMapper.toUserEntity(user, resolveRoles(user)));
+		if (recentWrites != null) {
+			recentWrites.record(userEntity.getEmail());
+			recentWrites.record(userEntity.getVerificationCode());
+		}
 		return userEntityMapper.toUser(userEntity);
 	}
 
+	@Override
+	public List<User> saveAll(List<User> users) {
+		if (batchWriter == null) {
+			return UserRepository.super.saveAll(users);
+		}
+		log.debug("Saving {} users.", users.size());
+		Map<String, Long> roleIds = roleCatalog.roles().stream()
+			.collect(Collectors.toMap(RoleEntity::getName, RoleEntity::getId));
+
+		return batchWriter.insertAll(users, roleIds).stream()
+			.map(user -> userEntityMapper.toUser(userEntityMapper.toUserEntity(user, resolveRoles(user))))
+			.toList();
+	}
+
+	@Override
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		return jpaRepository.findEmailsByEmailIn(emails);
+	}
+
 	@Override
 	public User findByEmail(String email) {
 		log.debug("Finding verified user by email: {}.", email);
-		return jpaRepository.findByEmailAndStatus(email, UserStatus.VERIFIED.name())
+		return read(email, () -> jpaRepository.findByEmailAndStatus(email, UserStatus.VERIFIED.name()))
 			.map(userEntityMapper::toUser)
 			.orElseThrow(() -> new UserException(NOT_FOUND,
 				String.format("Verified user with email: %s not found.", email)));
@@ -53,16 +99,51 @@ public class UserPostgreRepository implements UserRepository {
 	@Override
 	public Optional<User> findByEmailOptional(String email) {
 		log.debug("Finding verified user by email: {}.", email);
-		return jpaRepository.findByEmailAndStatus(email, UserStatus.VERIFIED.name())
+		return read(email, () -> jpaRepository.findByEmailAndStatus(email, UserStatus.VERIFIED.name()))
 			.map(userEntityMapper::toUser);
 	}
 
+	@Override
+	public Optional<UserCredentials> findCredentialsByEmail(String email) {
+		log.debug("Finding credentials of verified user by email: {}.", email);
+		return read(email, () -> jpaRepository.findCredentialsByEmailAndStatus(email, UserStatus.VERIFIED.name()))
+			.map(projection -> userEntityMapper.toUserCredentials(email, projection));
+	}
+
 	@Override
 	public User findByVerificationCode(String verificationCode) {
 		log.debug("Finding user by verificationCode: {}.", verificationCode);
-		return jpaRepository.findByVerificationCode(verificationCode)
+		return read(verificationCode, () -> jpaRepository.findByVerificationCode(verificationCode))
 			.map(userEntityMapper::toUser)
 			.orElseThrow(() -> new UserException(NOT_FOUND,
 				String.format("User with verificationCode: %s not found.", verificationCode)));
 	}
+
+	@Override
+	public int clearExpiredVerificationCodes(Instant expiredBefore, int limit) {
+		return jpaRepository.clearExpiredVerificationCodes(expiredBefore, limit);
+	}
+
+	/**
+	 * Runs the lookup on the primary when the user was saved within the read-your-writes window.
+	 */
+	private <T> T read(String key, Supplier<T> lookup) {
+		if (recentWrites != null && recentWrites.contains(key)) {
+			return ReplicaRoutingDataSource.onPrimary(lookup);
+		}
+		return lookup.get();
+	}
+
+	/**
+	 * Resolves the roles of the user from the catalog; roles missing from the catalog are not assigned, as they are
+	 * not in the role table either.
+	 */
+	private Set<RoleEntity> resolveRoles(User user) {
+		return user.getRoles()
+			.stream()
+			.map(Role::getName)
+			.map(roleCatalog::find)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+	}
 }
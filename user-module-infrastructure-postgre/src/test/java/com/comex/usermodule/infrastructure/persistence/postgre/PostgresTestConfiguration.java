@@ -1,6 +1,8 @@
 package com.comex.usermodule.infrastructure.persistence.postgre;
 
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
@@ -22,11 +24,16 @@ public class PostgresTestConfiguration {
         return new UserEntityMapper();
     }
 
+    @Bean
+    public RoleCatalog<RoleEntity> roleCatalog(RolePostgreJpaRepository roleJpaRepository) {
+        return new RoleCatalog<>(roleJpaRepository::findAll, RoleEntity::getName);
+    }
+
     @Bean
     public UserRepository userRepository(
             UserPostgreJpaRepository jpaRepository,
-            RolePostgreJpaRepository roleJpaRepository,
+            RoleCatalog<RoleEntity> roleCatalog,
             UserEntityMapper userEntityMapper) {
-        return new UserPostgreRepository(jpaRepository, roleJpaRepository, userEntityMapper);
+        return new UserPostgreRepository(jpaRepository, roleCatalog, userEntityMapper);
     }
 }
@@ -0,0 +1,108 @@
+package com.comex.usermodule.infrastructure.persistence.postgre;
+
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.dto.CreateUserDto;
+import com.comex.usermodule.core.importing.UserImportError;
+import com.comex.usermodule.core.importing.UserImportProgress;
+import com.comex.usermodule.core.importing.UserImportRow;
+import com.comex.usermodule.core.importing.UserImportSummary;
+import com.comex.usermodule.core.mapper.UserMapper;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.core.service.UserImportService;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.UserPostgreBatchWriter;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.UserPostgreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.comex.usermodule.infrastructure.persistence.postgre.helper.UserTestInventory.verifiedUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * An import batch written with the JDBC batch writer, one row of which collides with a stored user. Runs outside the
+ * test transaction, so that the failed batch really rolls back before its users are saved one by one.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportPostgreTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private UserPostgreJpaRepository userJpaRepository;
+
+    @Autowired
+    private RolePostgreJpaRepository roleJpaRepository;
+
+    @Autowired
+    private RoleCatalog<RoleEntity> roleCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserRepository userRepository;
+    private UserImportService sut;
+
+    @BeforeEach
+    void setUp() {
+        roleJpaRepository.save(RoleEntity.builder()
+                .name("ROLE_USER")
+                .createdAt(Instant.now())
+                .permissions(Set.of())
+                .build());
+        roleCatalog.refresh();
+        // the schema is generated from the entities, which do not declare the unique index of the changelog
+        jdbcTemplate.execute("create unique index import_test_username_idx on user_table (username)");
+
+        userRepository = new UserPostgreRepository(userJpaRepository, roleCatalog, new UserEntityMapper(),
+                new UserPostgreBatchWriter(jdbcTemplate, new TransactionTemplate(transactionManager)));
+        sut = new UserImportService(false, userRepository, userEvent -> {
+        }, new UserMapper(rawPassword -> "{noop}" + rawPassword), null, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop index import_test_username_idx");
+        userJpaRepository.deleteAll();
+        roleJpaRepository.deleteAll();
+    }
+
+    @Test
+    void testImportUsersSavesRowsNextToCollidingRow() {
+        // GIVEN
+        User stored = verifiedUser();
+        userRepository.save(stored);
+        List<UserImportRow> rows = List.of(
+                UserImportRow.valid(1, new CreateUserDto("first", "password", "first@example.com")),
+                UserImportRow.valid(2, new CreateUserDto(stored.getUsername(), "password", "taken@example.com")),
+                UserImportRow.valid(3, new CreateUserDto("third", "password", "third@example.com")));
+        List<UserImportProgress> progress = new ArrayList<>();
+
+        // WHEN
+        UserImportSummary summary = sut.importUsers(rows.iterator(), 0, progress::add);
+
+        // THEN
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(progress.get(0).errors()).extracting(UserImportError::line).containsExactly(2L);
+        assertThat(userRepository.findExistingEmails(
+                List.of("first@example.com", "taken@example.com", "third@example.com")))
+                .containsExactlyInAnyOrder("first@example.com", "third@example.com");
+    }
+}
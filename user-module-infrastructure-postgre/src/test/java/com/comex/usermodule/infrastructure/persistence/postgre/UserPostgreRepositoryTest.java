@@ -4,6 +4,7 @@ import com.comex.usermodule.core.domain.User;
 import com.comex.usermodule.core.domain.UserStatus;
 import com.comex.usermodule.core.exception.UserException;
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
 import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
@@ -32,6 +33,9 @@ class UserPostgreRepositoryTest extends AbstractPostgresIntegrationTest {
     @Autowired
     private RolePostgreJpaRepository roleJpaRepository;
 
+    @Autowired
+    private RoleCatalog<RoleEntity> roleCatalog;
+
     @BeforeEach
     void setUp() {
         // Create ROLE_USER in the database for tests
@@ -41,6 +45,7 @@ class UserPostgreRepositoryTest extends AbstractPostgresIntegrationTest {
                 .permissions(Set.of())
                 .build();
         roleJpaRepository.save(userRole);
+        roleCatalog.refresh();
     }
 
     @AfterEach
@@ -0,0 +1,143 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jdbc;
+
+import com.comex.usermodule.core.cache.CacheInvalidation;
+import com.comex.usermodule.core.cache.CacheInvalidationHandler;
+import com.comex.usermodule.core.cache.CachingUserRepository;
+import com.comex.usermodule.core.cache.InMemoryCacheInvalidationBus;
+import com.comex.usermodule.core.cache.UserCache;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.UserEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.UserPostgreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A user changed through another node, whose invalidation arrives before the replica has replayed the change.
+ */
+class ReplicaLagCacheInvalidationTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    private final Map<Connection, String> passwords = new HashMap<>();
+    private ReplicaRoutingDataSource routing;
+    private InMemoryCacheInvalidationBus bus;
+    private UserRepository sut;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = dataSource("{bcrypt}new");
+        DataSource replica = dataSource("{bcrypt}old");
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(1),
+                Duration.ofSeconds(1));
+        // spares the proxy from probing the primary for the connection defaults
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        routing.checkReplicas();
+
+        UserPostgreJpaRepository jpaRepository = mock(UserPostgreJpaRepository.class);
+        when(jpaRepository.findByEmailAndStatus(EMAIL, UserStatus.VERIFIED.name()))
+                .thenAnswer(invocation -> Optional.of(userEntity(read())));
+
+        RecentWrites recentWrites = new RecentWrites(Duration.ofSeconds(5));
+        UserCache userCache = new UserCache(Duration.ofMinutes(1), 100);
+        bus = new InMemoryCacheInvalidationBus();
+        bus.subscribe(recentWrites);
+        bus.subscribe(new CacheInvalidationHandler(userCache, null, null));
+        sut = new CachingUserRepository(new UserPostgreRepository(jpaRepository, null, new UserEntityMapper(), null,
+                recentWrites), userCache);
+    }
+
+    @Test
+    void testInvalidatedUserIsCachedFromPrimary() {
+        // GIVEN
+        assertThat(sut.findByEmail(EMAIL).getPassword()).isEqualTo("{bcrypt}old");
+
+        // WHEN
+        bus.publish(CacheInvalidation.user(EMAIL, null));
+
+        // THEN
+        assertThat(sut.findByEmail(EMAIL).getPassword()).isEqualTo("{bcrypt}new");
+        assertThat(sut.findByEmail(EMAIL).getPassword()).isEqualTo("{bcrypt}new");
+    }
+
+    @Test
+    void testMissedInvalidationsReadFromPrimary() {
+        // GIVEN
+        assertThat(sut.findByEmail(EMAIL).getPassword()).isEqualTo("{bcrypt}old");
+
+        // WHEN
+        bus.publish(CacheInvalidation.all());
+
+        // THEN
+        assertThat(sut.findByEmail(EMAIL).getPassword()).isEqualTo("{bcrypt}new");
+    }
+
+    @Test
+    void testUsersNotInvalidatedKeepReadingFromReplica() {
+        // GIVEN
+        bus.publish(CacheInvalidation.user("other@example.com", null));
+
+        // WHEN / THEN
+        assertThat(sut.findByEmail(EMAIL).getPassword()).isEqualTo("{bcrypt}old");
+    }
+
+    /**
+     * Runs a statement in a read-only transaction, as Spring Data does, and returns the password of the database
+     * that served it.
+     */
+    private String read() throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+            return passwords.get(((ConnectionProxy) connection).getTargetConnection());
+        }
+    }
+
+    private DataSource dataSource(String password) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(0.0);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        passwords.put(connection, password);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static UserEntity userEntity(String password) {
+        return UserEntity.builder()
+                .id(1L)
+                .username("test")
+                .password(password)
+                .email(EMAIL)
+                .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .status(UserStatus.VERIFIED.name())
+                .roles(Set.of())
+                .build();
+    }
+}
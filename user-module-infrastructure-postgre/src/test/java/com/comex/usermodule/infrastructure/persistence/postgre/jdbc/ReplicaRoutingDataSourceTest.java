@@ -0,0 +1,163 @@
+package com.comex.usermodule.infrastructure.persistence.postgre.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void testReadOnlyConnectionsTakeTurnsOnReplicas() throws Exception {
+        // GIVEN
+        DataSource first = replica(0);
+        DataSource second = replica(0.5);
+        ReplicaRoutingDataSource sut = routing(first, second);
+        sut.checkReplicas();
+
+        // WHEN
+        read(sut);
+        read(sut);
+
+        // THEN
+        verify(first, times(2)).getConnection(); // the lag check and one read
+        verify(second, times(2)).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void testWritesGoToPrimary() throws Exception {
+        // GIVEN
+        DataSource replica = replica(0);
+        ReplicaRoutingDataSource sut = routing(replica);
+        sut.checkReplicas();
+
+        // WHEN
+        try (Connection connection = sut.getConnection()) {
+            connection.createStatement();
+        }
+
+        // THEN
+        verify(primary).getConnection();
+        verify(replica, times(1)).getConnection(); // the lag check only
+    }
+
+    @Test
+    void testLaggingReplicaIsSkipped() throws Exception {
+        // GIVEN
+        DataSource lagging = replica(5);
+        DataSource current = replica(0);
+        ReplicaRoutingDataSource sut = routing(lagging, current);
+        sut.checkReplicas();
+
+        // WHEN
+        read(sut);
+        read(sut);
+
+        // THEN
+        verify(lagging, times(1)).getConnection();
+        verify(current, times(3)).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void testReadsFallBackToPrimaryWithoutHealthyReplica() throws Exception {
+        // GIVEN
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource sut = routing(unreachable, replica(5));
+        sut.checkReplicas();
+
+        // WHEN
+        read(sut);
+
+        // THEN
+        verify(primary).getConnection();
+    }
+
+    @Test
+    void testReplicasAreNotUsedBeforeTheFirstCheck() throws Exception {
+        // GIVEN
+        DataSource replica = replica(0);
+        ReplicaRoutingDataSource sut = routing(replica);
+
+        // WHEN
+        read(sut);
+
+        // THEN
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void testOnPrimaryPinsReadsToPrimary() throws Exception {
+        // GIVEN
+        DataSource replica = replica(0);
+        ReplicaRoutingDataSource sut = routing(replica);
+        sut.checkReplicas();
+
+        // WHEN
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            read(sut);
+            return null;
+        });
+        read(sut);
+
+        // THEN
+        verify(primary).getConnection();
+        verify(replica, times(2)).getConnection();
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource... replicas) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicas),
+                Duration.ofSeconds(1), Duration.ofSeconds(1));
+        // spares the proxy from probing the primary for the connection defaults
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return routing;
+    }
+
+    private static void read(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource replica(double lagSeconds) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
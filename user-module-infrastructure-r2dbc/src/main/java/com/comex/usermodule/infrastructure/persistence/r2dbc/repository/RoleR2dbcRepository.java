@@ -0,0 +1,59 @@
+package com.comex.usermodule.infrastructure.persistence.r2dbc.repository;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Loads the roles and their permissions for the role catalog in one query.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RoleR2dbcRepository {
+
+	private static final String FIND_ALL = """
+		select r.id, r.name, p.name as permission
+		from role r
+			left join roles_permissions rp on rp.role_id = r.id
+			left join permission p on p.id = rp.permission_id
+		""";
+
+	private final DatabaseClient databaseClient;
+
+	public Mono<List<RoleRow>> findAll() {
+		log.debug("Finding all roles.");
+		return databaseClient.sql(FIND_ALL)
+			.map((row, metadata) -> new RolePermission(row.get("id", Long.class), row.get("name", String.class),
+				row.get("permission", String.class)))
+			.all()
+			.collect(LinkedHashMap<Long, RoleRow>::new, (roles, row) -> {
+				RoleRow role = roles.computeIfAbsent(row.id(), id -> new RoleRow(id, row.name(), new HashSet<>()));
+				if (row.permission() != null) {
+					role.permissions().add(row.permission());
+				}
+			})
+			.map(roles -> roles.values().stream()
+				.map(role -> new RoleRow(role.id(), role.name(), Set.copyOf(role.permissions())))
+				.toList());
+	}
+
+	/**
+	 * Blocking variant for the role catalog, which loads at startup and on its refresh thread, never on an event
+	 * loop.
+	 */
+	public List<RoleRow> findAllBlocking() {
+		return findAll().block();
+	}
+
+	private record RolePermission(Long id, String name, String permission) {
+	}
+}
@@ -0,0 +1,293 @@
+package com.comex.usermodule.infrastructure.persistence.r2dbc.repository;
+
+import static com.comex.usermodule.core.exception.UserExceptionKey.NOT_FOUND;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.port.ReactiveUserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveUserRepository} over R2DBC on the PostgreSQL schema of the module changelog, with the statements of
+ * the JDBC adapter: a lookup is one query returning the user row and the names of its roles, a save one insert or
+ * update plus the statements syncing its roles, all in one reactive transaction.
+ * <p>
+ * Permissions are taken from the role catalog, whose loader blocks and must therefore have been loaded before the
+ * first lookup, as the role catalog refresher does at startup. Ids come from {@code user_id_seq} in pooled-lo
+ * blocks, so this adapter and the blocking ones can write to the same database. Timestamps are read and written in
+ * the zone of the JVM, like the JDBC driver does for the blocking adapters.
+ */
+@Slf4j
+public class UserR2dbcRepository implements ReactiveUserRepository {
+
+	private static final String SELECT_USER = """
+		select u.id, u.created_at, u.username, u.password, u.email, u.status, u.verification_code,
+			u.verification_code_expires_at, array_remove(array_agg(r.name), null) as roles
+		from user_table u
+			left join users_roles ur on ur.user_id = u.id
+			left join role r on r.id = ur.role_id
+		""";
+	private static final String FIND_BY_EMAIL = SELECT_USER + "where u.email = $1 and u.status = $2 group by u.id";
+	private static final String FIND_BY_VERIFICATION_CODE = SELECT_USER
+		+ "where u.verification_code = $1 group by u.id";
+	private static final String FIND_CREDENTIALS = """
+		select u.password, array_remove(array_agg(r.name), null) as roles
+		from user_table u
+			left join users_roles ur on ur.user_id = u.id
+			left join role r on r.id = ur.role_id
+		where u.email = $1 and u.status = $2
+		group by u.id
+		""";
+	private static final String FIND_EMAILS = "select email from user_table where email = any($1)";
+	private static final String NEXT_BLOCK = "select nextval('user_id_seq') as block, "
+		+ "(select increment_by from pg_sequences where schemaname = current_schema() "
+		+ "and sequencename = 'user_id_seq') as block_size";
+	private static final String INSERT_USER = "insert into user_table "
+		+ "(id, created_at, username, password, email, status, verification_code, verification_code_expires_at) "
+		+ "values ($1, $2, $3, $4, $5, $6, $7, $8)";
+	private static final String UPDATE_USER = "update user_table set username = $1, password = $2, email = $3, "
+		+ "status = $4, verification_code = $5, verification_code_expires_at = $6 where id = $7";
+	// both only touch rows when the roles changed, so an unchanged user fires no role trigger
+	private static final String DELETE_STALE_USER_ROLES = "delete from users_roles "
+		+ "where user_id = $1 and not (role_id = any($2))";
+	private static final String INSERT_MISSING_USER_ROLES = "insert into users_roles (user_id, role_id) "
+		+ "select $1, unnest($2::bigint[]) on conflict do nothing";
+
+	private final DatabaseClient databaseClient;
+	private final TransactionalOperator transactionalOperator;
+	private final RoleCatalog<RoleRow> roleCatalog;
+	private final ZoneId zone = ZoneId.systemDefault();
+
+	private long nextId;
+	private long idLimit;
+
+	public UserR2dbcRepository(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+		RoleCatalog<RoleRow> roleCatalog) {
+		this.databaseClient = databaseClient;
+		this.transactionalOperator = transactionalOperator;
+		this.roleCatalog = roleCatalog;
+	}
+
+	@Override
+	public CompletionStage<User> save(User user) {
+		log.debug("Saving user {}.", user);
+		Long[] roleIds = resolveRoleIds(user);
+		Mono<User> save = user.getId() == null ? insert(user, roleIds) : update(user, roleIds);
+		return transactionalOperator.transactional(save).toFuture();
+	}
+
+	@Override
+	public CompletionStage<Optional<User>> findByEmail(String email) {
+		log.debug("Finding verified user by email: {}.", email);
+		return databaseClient.sql(FIND_BY_EMAIL)
+			.bind(0, email)
+			.bind(1, UserStatus.VERIFIED.name())
+			.map(this::toUser)
+			.one()
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.toFuture();
+	}
+
+	@Override
+	public CompletionStage<Optional<UserCredentials>> findCredentialsByEmail(String email) {
+		log.debug("Finding credentials of verified user by email: {}.", email);
+		return databaseClient.sql(FIND_CREDENTIALS)
+			.bind(0, email)
+			.bind(1, UserStatus.VERIFIED.name())
+			.map(row -> {
+				Set<String> authorities = new HashSet<>();
+				for (String name : roleNames(row)) {
+					authorities.add(name);
+					RoleRow role = roleCatalog.find(name);
+					if (role != null) {
+						authorities.addAll(role.permissions());
+					}
+				}
+				return new UserCredentials(email, row.get("password", String.class), authorities);
+			})
+			.one()
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.toFuture();
+	}
+
+	@Override
+	public CompletionStage<Set<String>> findExistingEmails(Collection<String> emails) {
+		return databaseClient.sql(FIND_EMAILS)
+			.bind(0, emails.toArray(String[]::new))
+			.map(row -> row.get("email", String.class))
+			.all()
+			.collect(Collectors.toSet())
+			.toFuture();
+	}
+
+	@Override
+	public CompletionStage<Optional<User>> findByVerificationCode(String verificationCode) {
+		log.debug("Finding user by verificationCode: {}.", verificationCode);
+		return databaseClient.sql(FIND_BY_VERIFICATION_CODE)
+			.bind(0, verificationCode)
+			.map(this::toUser)
+			.one()
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.toFuture();
+	}
+
+	private Mono<User> insert(User user, Long[] roleIds) {
+		return nextId()
+			.flatMap(id -> {
+				user.setId(id);
+				DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_USER)
+					.bind(0, id)
+					.bind(1, toLocalDateTime(user.getCreatedAt()))
+					.bind(2, user.getUsername())
+					.bind(3, user.getPassword())
+					.bind(4, user.getEmail())
+					.bind(5, user.getStatus().name());
+				insert = bindNullable(insert, 6, user.getVerificationCode(), String.class);
+				insert = bindNullable(insert, 7, toLocalDateTime(user.getVerificationCodeExpiresAt()),
+					LocalDateTime.class);
+				return insert.fetch().rowsUpdated();
+			})
+			.then(insertRoles(user, roleIds))
+			.thenReturn(user);
+	}
+
+	private Mono<User> update(User user, Long[] roleIds) {
+		DatabaseClient.GenericExecuteSpec update = databaseClient.sql(UPDATE_USER)
+			.bind(0, user.getUsername())
+			.bind(1, user.getPassword())
+			.bind(2, user.getEmail())
+			.bind(3, user.getStatus().name());
+		update = bindNullable(update, 4, user.getVerificationCode(), String.class);
+		update = bindNullable(update, 5, toLocalDateTime(user.getVerificationCodeExpiresAt()), LocalDateTime.class);
+		return update.bind(6, user.getId())
+			.fetch()
+			.rowsUpdated()
+			.flatMap(updated -> updated == 0
+				? Mono.<User>error(new UserException(NOT_FOUND,
+					String.format("User with id: %s not found.", user.getId())))
+				: databaseClient.sql(DELETE_STALE_USER_ROLES)
+					.bind(0, user.getId())
+					.bind(1, roleIds)
+					.fetch()
+					.rowsUpdated()
+					.then(insertRoles(user, roleIds))
+					.thenReturn(user));
+	}
+
+	private Mono<Long> insertRoles(User user, Long[] roleIds) {
+		if (roleIds.length == 0) {
+			return Mono.just(0L);
+		}
+		return Mono.defer(() -> databaseClient.sql(INSERT_MISSING_USER_ROLES)
+			.bind(0, user.getId())
+			.bind(1, roleIds)
+			.fetch()
+			.rowsUpdated());
+	}
+
+	/**
+	 * Takes the next id of the current block, fetching a new block when it is used up. Blocks fetched concurrently
+	 * are not wasted beyond what the one replaced had left.
+	 */
+	private Mono<Long> nextId() {
+		return Mono.defer(() -> {
+			synchronized (this) {
+				if (nextId < idLimit) {
+					return Mono.just(nextId++);
+				}
+			}
+			return databaseClient.sql(NEXT_BLOCK)
+				.map(row -> {
+					long block = row.get("block", Long.class);
+					Long size = row.get("block_size", Long.class);
+					synchronized (this) {
+						// the first value of the block is this caller's, the rest is handed out to the next ones
+						nextId = block + 1;
+						idLimit = block + (size == null || size <= 0 ? 1 : size);
+					}
+					return block;
+				})
+				.one();
+		});
+	}
+
+	private User toUser(Readable row) {
+		Set<Role> roles = new HashSet<>();
+		for (String name : roleNames(row)) {
+			RoleRow role = roleCatalog.find(name);
+			roles.add(new Role(name, role == null ? Set.of() : role.permissions()));
+		}
+		return User.builder()
+			.id(row.get("id", Long.class))
+			.username(row.get("username", String.class))
+			.password(row.get("password", String.class))
+			.email(row.get("email", String.class))
+			.createdAt(toInstant(row.get("created_at", LocalDateTime.class)))
+			.roles(roles)
+			.status(UserStatus.valueOf(row.get("status", String.class)))
+			.verificationCode(row.get("verification_code", String.class))
+			.verificationCodeExpiresAt(toInstant(row.get("verification_code_expires_at", LocalDateTime.class)))
+			.build();
+	}
+
+	private static String[] roleNames(Readable row) {
+		String[] names = row.get("roles", String[].class);
+		return names == null ? new String[0] : names;
+	}
+
+	/**
+	 * Resolves the ids of the roles of the user from the catalog; roles missing from the catalog are not assigned, as
+	 * they are not in the role table either.
+	 */
+	private Long[] resolveRoleIds(User user) {
+		if (user.getRoles() == null) {
+			return new Long[0];
+		}
+		return user.getRoles()
+			.stream()
+			.map(Role::getName)
+			.map(roleCatalog::find)
+			.filter(Objects::nonNull)
+			.map(RoleRow::id)
+			.distinct()
+			.toArray(Long[]::new);
+	}
+
+	private static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+		int index, T value, Class<T> type) {
+		return value == null ? spec.bindNull(index, type) : spec.bind(index, value);
+	}
+
+	private LocalDateTime toLocalDateTime(Instant instant) {
+		return instant == null ? null : LocalDateTime.ofInstant(instant, zone);
+	}
+
+	private Instant toInstant(LocalDateTime localDateTime) {
+		return localDateTime == null ? null : localDateTime.atZone(zone).toInstant();
+	}
+}
@@ -0,0 +1,169 @@
+package com.comex.usermodule.infrastructure.persistence.r2dbc;
+
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.domain.User;
+import com.comex.usermodule.core.domain.UserCredentials;
+import com.comex.usermodule.core.domain.UserStatus;
+import com.comex.usermodule.core.exception.UserException;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+import com.comex.usermodule.infrastructure.persistence.r2dbc.repository.RoleR2dbcRepository;
+import com.comex.usermodule.infrastructure.persistence.r2dbc.repository.UserR2dbcRepository;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// ROLE_USER and ROLE_ADMIN come from the initial data of the changelog
+@Testcontainers
+class UserR2dbcRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private DatabaseClient databaseClient;
+    private UserR2dbcRepository sut;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword())) {
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            new Liquibase("db/changelog/user-master.yml", new ClassLoaderResourceAccessor(), database)
+                    .update(new Contexts());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+                .host(postgres.getHost())
+                .port(postgres.getFirstMappedPort())
+                .database(postgres.getDatabaseName())
+                .username(postgres.getUsername())
+                .password(postgres.getPassword())
+                .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+        RoleCatalog<RoleRow> roleCatalog = new RoleCatalog<>(new RoleR2dbcRepository(databaseClient)::findAllBlocking,
+                RoleRow::name);
+        roleCatalog.refresh();
+        sut = new UserR2dbcRepository(databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)), roleCatalog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("delete from user_table where email like '%@r2dbc.example.com'").then().block();
+    }
+
+    @Test
+    void testSaveAndFindByEmail() {
+        // GIVEN
+        User user = user("verified", UserStatus.VERIFIED, null);
+
+        // WHEN
+        User savedUser = sut.save(user).toCompletableFuture().join();
+        Optional<User> foundUser = sut.findByEmail("verified@r2dbc.example.com").toCompletableFuture().join();
+
+        // THEN
+        assertThat(savedUser.getId()).isNotNull();
+        assertThat(foundUser).isPresent();
+        assertThat(foundUser.get().getId()).isEqualTo(savedUser.getId());
+        assertThat(foundUser.get().getCreatedAt()).isNotNull();
+        assertThat(foundUser.get().getRoles()).extracting(Role::getName).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void testSaveUpdatesStatusAndRoles() {
+        // GIVEN
+        User user = sut.save(user("pending", UserStatus.CREATED, "R2DBC123")).toCompletableFuture().join();
+        User pending = sut.findByVerificationCode("R2DBC123").toCompletableFuture().join().orElseThrow();
+        pending.setStatus(UserStatus.VERIFIED);
+        pending.setVerificationCode(null);
+        pending.setRoles(Set.of(new Role("ROLE_ADMIN")));
+
+        // WHEN
+        sut.save(pending).toCompletableFuture().join();
+
+        // THEN
+        User verified = sut.findByEmail("pending@r2dbc.example.com").toCompletableFuture().join().orElseThrow();
+        assertThat(verified.getId()).isEqualTo(user.getId());
+        assertThat(verified.getVerificationCode()).isNull();
+        assertThat(verified.getRoles()).extracting(Role::getName).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void testSaveFailsForUnknownId() {
+        // GIVEN
+        User user = user("unknown", UserStatus.VERIFIED, null);
+        user.setId(-1L);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> sut.save(user).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UserException.class);
+    }
+
+    @Test
+    void testFindCredentialsAndExistingEmails() {
+        // GIVEN
+        sut.save(user("verified", UserStatus.VERIFIED, null)).toCompletableFuture().join();
+        sut.save(user("pending", UserStatus.CREATED, "R2DBC123")).toCompletableFuture().join();
+
+        // WHEN
+        Optional<UserCredentials> credentials = sut.findCredentialsByEmail("verified@r2dbc.example.com")
+                .toCompletableFuture().join();
+        Optional<UserCredentials> pendingCredentials = sut.findCredentialsByEmail("pending@r2dbc.example.com")
+                .toCompletableFuture().join();
+        Set<String> existing = sut.findExistingEmails(List.of("verified@r2dbc.example.com",
+                "pending@r2dbc.example.com", "unknown@r2dbc.example.com")).toCompletableFuture().join();
+
+        // THEN
+        assertThat(credentials).isPresent();
+        assertThat(credentials.get().authorities()).contains("ROLE_USER");
+        assertThat(pendingCredentials).isEmpty();
+        assertThat(existing).containsExactlyInAnyOrder("verified@r2dbc.example.com", "pending@r2dbc.example.com");
+    }
+
+    private static User user(String name, UserStatus status, String verificationCode) {
+        return User.builder()
+                .email(name + "@r2dbc.example.com")
+                .username("r2dbc-" + name)
+                .password("$2a$10$encodedPassword")
+                .status(status)
+                .verificationCode(verificationCode)
+                .createdAt(Instant.now())
+                .roles(Set.of(new Role("ROLE_USER")))
+                .build();
+    }
+}
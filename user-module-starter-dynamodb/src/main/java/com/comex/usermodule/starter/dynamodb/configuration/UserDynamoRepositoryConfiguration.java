@@ -1,8 +1,7 @@
 package com.comex.usermodule.starter.postgre.configuration;
 
 import java.net.URI;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -11,9 +10,18 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import com.comex.usermodule.configuration.UserProperties;
+import com.comex.usermodule.core.domain.Role;
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.port.RevokedTokenRepository;
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.core.role.RoleCatalogRefresher;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.entity.RoleDynamoEntity;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.mapper.UserDynamoEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.repository.ReferenceTokenDynamoRepository;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.repository.RefreshTokenDynamoRepository;
+import com.comex.usermodule.infrastructure.persistence.dynamodb.repository.RevokedTokenDynamoRepository;
 import com.comex.usermodule.infrastructure.persistence.dynamodb.repository.UserDynamoRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -64,25 +72,65 @@ public class UserDynamoRepositoryConfiguration {
 		return new UserDynamoEntityMapper();
 	}
 
+	/**
+	 * DynamoDB has no role table, the catalog is built from the configured roles, read again on every refresh.
+	 */
 	@ConditionalOnMissingBean
 	@Bean
-	public Map<String, RoleDynamoEntity> roleDynamoCache() {
-		return new HashMap<>();
+	public RoleCatalog<RoleDynamoEntity> roleCatalog(UserDynamoEntityMapper userDynamoEntityMapper) {
+		return new RoleCatalog<>(() -> userProperties.getRoleCatalog().getRoles().entrySet().stream()
+			.map(role -> userDynamoEntityMapper.toRoleDynamoEntity(new Role(role.getKey(), Set.copyOf(role.getValue()))))
+			.toList(), RoleDynamoEntity::getName);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public RoleCatalogRefresher roleCatalogRefresher(RoleCatalog<RoleDynamoEntity> roleCatalog) {
+		return new RoleCatalogRefresher(roleCatalog, userProperties.getRoleCatalog().getRefreshInterval());
 	}
 
 	@ConditionalOnMissingBean
 	@Bean
-	public UserRepository userRepository(DynamoDbEnhancedClient enhancedClient,
-		UserDynamoEntityMapper userDynamoEntityMapper, Map<String, RoleDynamoEntity> roleDynamoCache) {
+	public UserRepository userRepository(DynamoDbClient dynamoDbClient, DynamoDbEnhancedClient enhancedClient,
+		UserDynamoEntityMapper userDynamoEntityMapper, RoleCatalog<RoleDynamoEntity> roleCatalog) {
 
 		log.info("Configuring DynamoDB UserRepository with table: {}",
 			userProperties.getDynamodb().getTableName());
 
 		return new UserDynamoRepository(
+			dynamoDbClient,
 			enhancedClient,
 			userProperties.getDynamodb().getTableName(),
 			userDynamoEntityMapper,
-			roleDynamoCache
+			roleCatalog
 		);
 	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public ReferenceTokenRepository referenceTokenRepository(DynamoDbEnhancedClient enhancedClient) {
+		log.info("Configuring DynamoDB ReferenceTokenRepository with table: {}",
+			userProperties.getDynamodb().getReferenceTokenTableName());
+
+		return new ReferenceTokenDynamoRepository(enhancedClient,
+			userProperties.getDynamodb().getReferenceTokenTableName());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RevokedTokenRepository revokedTokenRepository(DynamoDbEnhancedClient enhancedClient) {
+		log.info("Configuring DynamoDB RevokedTokenRepository with table: {}",
+			userProperties.getDynamodb().getRevokedTokenTableName());
+
+		return new RevokedTokenDynamoRepository(enhancedClient, userProperties.getDynamodb().getRevokedTokenTableName());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RefreshTokenRepository refreshTokenRepository(DynamoDbEnhancedClient enhancedClient) {
+		log.info("Configuring DynamoDB RefreshTokenRepository with table: {}",
+			userProperties.getDynamodb().getRefreshTokenTableName());
+
+		return new RefreshTokenDynamoRepository(enhancedClient, userProperties.getDynamodb().getRefreshTokenTableName());
+	}
 }
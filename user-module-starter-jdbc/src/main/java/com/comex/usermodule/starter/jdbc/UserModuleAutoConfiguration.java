@@ -0,0 +1,16 @@
+package com.comex.usermodule.starter.jdbc;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+import com.comex.usermodule.configuration.SecurityConfiguration;
+import com.comex.usermodule.configuration.UserConfiguration;
+import com.comex.usermodule.configuration.UserProperties;
+import com.comex.usermodule.starter.jdbc.configuration.UserJdbcRepositoryConfiguration;
+
+@AutoConfiguration
+@EnableConfigurationProperties(UserProperties.class)
+@Import({UserConfiguration.class, UserJdbcRepositoryConfiguration.class, SecurityConfiguration.class})
+public class UserModuleAutoConfiguration {
+}
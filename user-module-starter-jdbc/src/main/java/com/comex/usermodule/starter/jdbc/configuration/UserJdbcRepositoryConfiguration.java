@@ -0,0 +1,98 @@
+package com.comex.usermodule.starter.jdbc.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.comex.usermodule.configuration.UserProperties;
+import com.comex.usermodule.core.port.CacheInvalidationBus;
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.port.RevokedTokenRepository;
+import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.core.role.RoleCatalogRefresher;
+import com.comex.usermodule.infrastructure.persistence.jdbc.cache.PostgresCacheInvalidationBus;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.ReferenceTokenJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.RefreshTokenJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.RevokedTokenJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.RoleJdbcRepository;
+import com.comex.usermodule.infrastructure.persistence.jdbc.repository.UserJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plain JDBC persistence on the PostgreSQL schema of the module changelog, selected with
+ * {@code user.persistence.type=jdbc}; no persistence context is involved on any path.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "user.persistence.type", havingValue = "jdbc")
+@Slf4j
+public class UserJdbcRepositoryConfiguration {
+
+	@Autowired
+	private UserProperties userProperties;
+
+	@ConditionalOnMissingBean(UserRepository.class)
+	@Bean
+	public UserRepository userRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		RoleCatalog<RoleRow> roleCatalog) {
+		return new UserJdbcRepository(jdbcTemplate, new TransactionTemplate(transactionManager), roleCatalog);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RoleJdbcRepository roleJdbcRepository(JdbcTemplate jdbcTemplate) {
+		return new RoleJdbcRepository(jdbcTemplate);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RoleCatalog<RoleRow> roleCatalog(RoleJdbcRepository roleJdbcRepository) {
+		return new RoleCatalog<>(roleJdbcRepository::findAll, RoleRow::name);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public RoleCatalogRefresher roleCatalogRefresher(RoleCatalog<RoleRow> roleCatalog) {
+		return new RoleCatalogRefresher(roleCatalog, userProperties.getRoleCatalog().getRefreshInterval());
+	}
+
+	/**
+	 * Listens for the notifications of the changelog triggers on one connection of the data source.
+	 */
+	@ConditionalOnProperty(name = "user.cache-invalidation.enabled", havingValue = "true")
+	@ConditionalOnMissingBean(CacheInvalidationBus.class)
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public PostgresCacheInvalidationBus cacheInvalidationBus(DataSource dataSource) {
+		UserProperties.CacheInvalidationProperties cacheInvalidation = userProperties.getCacheInvalidation();
+		return new PostgresCacheInvalidationBus(dataSource, cacheInvalidation.getReconnectDelay(),
+			cacheInvalidation.getValidationInterval());
+	}
+
+	@ConditionalOnMissingBean(ReferenceTokenRepository.class)
+	@Bean
+	public ReferenceTokenRepository referenceTokenRepository(JdbcTemplate jdbcTemplate) {
+		return new ReferenceTokenJdbcRepository(jdbcTemplate);
+	}
+
+	@ConditionalOnMissingBean(RevokedTokenRepository.class)
+	@Bean
+	public RevokedTokenRepository revokedTokenRepository(JdbcTemplate jdbcTemplate) {
+		return new RevokedTokenJdbcRepository(jdbcTemplate);
+	}
+
+	@ConditionalOnMissingBean(RefreshTokenRepository.class)
+	@Bean
+	public RefreshTokenRepository refreshTokenRepository(JdbcTemplate jdbcTemplate) {
+		return new RefreshTokenJdbcRepository(jdbcTemplate);
+	}
+}
@@ -0,0 +1,79 @@
+package com.comex.usermodule.starter.postgre.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import com.comex.usermodule.configuration.UserProperties;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.RecentWrites;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Creates the data source in place of Spring Boot once read replicas are configured: a pool for spring.datasource as
+ * the primary and one per replica, all with the spring.datasource.hikari settings, behind a
+ * {@link ReplicaRoutingDataSource}. Runs before the data source auto-configuration, which then backs off.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnExpression("'${user.persistence.type:postgresql}' == 'postgresql' "
+	+ "and '${user.persistence.replicas[0].url:}' != ''")
+@EnableConfigurationProperties({UserProperties.class, DataSourceProperties.class})
+public class ReplicaDataSourceConfiguration {
+
+	@Autowired
+	private UserProperties userProperties;
+
+	@ConditionalOnMissingBean(DataSource.class)
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public ReplicaRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment) {
+		UserProperties.PersistenceProperties persistence = userProperties.getPersistence();
+		HikariDataSource primary = pool(dataSourceProperties, environment, dataSourceProperties.determineUrl(),
+			null, null);
+		List<DataSource> replicas = new ArrayList<>();
+		for (UserProperties.ReplicaProperties replica : persistence.getReplicas()) {
+			HikariDataSource pool = pool(dataSourceProperties, environment, replica.getUrl(), replica.getUsername(),
+				replica.getPassword());
+			pool.setPoolName("user-replica-" + replicas.size());
+			replicas.add(pool);
+		}
+		return new ReplicaRoutingDataSource(primary, replicas, persistence.getReplicaMaximumLag(),
+			persistence.getReplicaLagCheckInterval());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RecentWrites recentWrites() {
+		return new RecentWrites(userProperties.getPersistence().getReadYourWritesWindow());
+	}
+
+	private static HikariDataSource pool(DataSourceProperties dataSourceProperties, Environment environment,
+		String url, String username, String password) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+		dataSource.setJdbcUrl(url);
+		if (username != null) {
+			dataSource.setUsername(username);
+		}
+		if (password != null) {
+			dataSource.setPassword(password);
+		}
+		return dataSource;
+	}
+}
@@ -1,16 +1,42 @@
 package com.comex.usermodule.starter.postgre.configuration;
 
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.comex.usermodule.configuration.UserProperties;
+import com.comex.usermodule.core.port.CacheInvalidationBus;
+import com.comex.usermodule.core.port.ReferenceTokenRepository;
+import com.comex.usermodule.core.port.RefreshTokenRepository;
+import com.comex.usermodule.core.port.RevokedTokenRepository;
 import com.comex.usermodule.core.port.UserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.core.role.RoleCatalogRefresher;
+import com.comex.usermodule.infrastructure.persistence.jdbc.cache.PostgresCacheInvalidationBus;
+import com.comex.usermodule.infrastructure.persistence.postgre.entity.RoleEntity;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.RecentWrites;
+import com.comex.usermodule.infrastructure.persistence.postgre.jdbc.UserPostgreBatchWriter;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.ReferenceTokenPostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RefreshTokenPostgreJpaRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RevokedTokenPostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.RolePostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.jpa.UserPostgreJpaRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.mapper.UserEntityMapper;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.ReferenceTokenPostgreRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.RefreshTokenPostgreRepository;
+import com.comex.usermodule.infrastructure.persistence.postgre.repository.RevokedTokenPostgreRepository;
 import com.comex.usermodule.infrastructure.persistence.postgre.repository.UserPostgreRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -22,12 +48,85 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class UserPostgreRepositoryConfiguration {
 
+	@Autowired
+	private UserProperties userProperties;
+
 	@ConditionalOnMissingBean(UserRepository.class)
 	@Bean
 	public UserRepository userRepository(UserPostgreJpaRepository jpaRepository,
-		RolePostgreJpaRepository roleJpaRepository, UserEntityMapper userEntityMapper) {
+		RoleCatalog<RoleEntity> roleCatalog, UserEntityMapper userEntityMapper,
+		UserPostgreBatchWriter userPostgreBatchWriter, ObjectProvider<RecentWrites> recentWrites) {
+
+		return new UserPostgreRepository(jpaRepository, roleCatalog, userEntityMapper, userPostgreBatchWriter,
+			recentWrites.getIfAvailable());
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RoleCatalog<RoleEntity> roleCatalog(RolePostgreJpaRepository roleJpaRepository) {
+		return new RoleCatalog<>(roleJpaRepository::findAll, RoleEntity::getName);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public RoleCatalogRefresher roleCatalogRefresher(RoleCatalog<RoleEntity> roleCatalog) {
+		return new RoleCatalogRefresher(roleCatalog, userProperties.getRoleCatalog().getRefreshInterval());
+	}
 
-		return new UserPostgreRepository(jpaRepository, roleJpaRepository, userEntityMapper);
+	/**
+	 * Listens for the notifications of the changelog triggers on one connection of the data source.
+	 */
+	@ConditionalOnProperty(name = "user.cache-invalidation.enabled", havingValue = "true")
+	@ConditionalOnMissingBean(CacheInvalidationBus.class)
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public PostgresCacheInvalidationBus cacheInvalidationBus(DataSource dataSource,
+		ObjectProvider<RecentWrites> recentWrites) {
+		UserProperties.CacheInvalidationProperties cacheInvalidation = userProperties.getCacheInvalidation();
+		PostgresCacheInvalidationBus bus = new PostgresCacheInvalidationBus(dataSource,
+			cacheInvalidation.getReconnectDelay(), cacheInvalidation.getValidationInterval());
+		// subscribed ahead of the cache invalidation handler, so that lookups after the invalidation read the primary
+		recentWrites.ifAvailable(bus::subscribe);
+		return bus;
+	}
+
+	/**
+	 * Allocates ids in blocks of the sequence increment (pooled-lo) and batches inserts; Hibernate properties set by
+	 * the application take precedence.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer userModuleHibernatePropertiesCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+			properties.putIfAbsent(AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY, "fix");
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE,
+				userProperties.getPersistence().getJdbcBatchSize());
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+		};
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public UserPostgreBatchWriter userPostgreBatchWriter(JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager) {
+		return new UserPostgreBatchWriter(jdbcTemplate, new TransactionTemplate(transactionManager));
+	}
+
+	@ConditionalOnMissingBean(ReferenceTokenRepository.class)
+	@Bean
+	public ReferenceTokenRepository referenceTokenRepository(ReferenceTokenPostgreJpaRepository jpaRepository) {
+		return new ReferenceTokenPostgreRepository(jpaRepository);
+	}
+
+	@ConditionalOnMissingBean(RevokedTokenRepository.class)
+	@Bean
+	public RevokedTokenRepository revokedTokenRepository(RevokedTokenPostgreJpaRepository jpaRepository) {
+		return new RevokedTokenPostgreRepository(jpaRepository);
+	}
+
+	@ConditionalOnMissingBean(RefreshTokenRepository.class)
+	@Bean
+	public RefreshTokenRepository refreshTokenRepository(RefreshTokenPostgreJpaRepository jpaRepository) {
+		return new RefreshTokenPostgreRepository(jpaRepository);
 	}
 
 	@ConditionalOnMissingBean
@@ -0,0 +1,15 @@
+package com.comex.usermodule.starter.r2dbc;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.comex.usermodule.starter.r2dbc.configuration.UserR2dbcRepositoryConfiguration;
+
+/**
+ * Only the reactive persistence: the services and security configuration of the other starters are blocking and
+ * servlet based, so a WebFlux application composes its own on top of the {@code ReactiveUserRepository}.
+ */
+@AutoConfiguration
+@Import(UserR2dbcRepositoryConfiguration.class)
+public class UserModuleAutoConfiguration {
+}
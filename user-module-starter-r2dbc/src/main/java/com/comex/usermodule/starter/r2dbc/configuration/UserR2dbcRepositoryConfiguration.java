@@ -0,0 +1,120 @@
+package com.comex.usermodule.starter.r2dbc.configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.ClassUtils;
+
+import com.comex.usermodule.core.port.ReactiveUserRepository;
+import com.comex.usermodule.core.role.RoleCatalog;
+import com.comex.usermodule.core.role.RoleCatalogRefresher;
+import com.comex.usermodule.infrastructure.persistence.jdbc.entity.RoleRow;
+import com.comex.usermodule.infrastructure.persistence.r2dbc.repository.RoleR2dbcRepository;
+import com.comex.usermodule.infrastructure.persistence.r2dbc.repository.UserR2dbcRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC persistence on the PostgreSQL schema of the module changelog, selected with
+ * {@code user.persistence.type=r2dbc}. The schema is migrated by Spring Boot's Liquibase support over JDBC, pointed
+ * at the same database with {@code spring.liquibase.url} and at {@code classpath:db/changelog/user-master.yml}.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "user.persistence.type", havingValue = "r2dbc")
+public class UserR2dbcRepositoryConfiguration {
+
+	@ConditionalOnMissingBean(ReactiveUserRepository.class)
+	@Bean
+	public ReactiveUserRepository reactiveUserRepository(DatabaseClient databaseClient,
+		ReactiveTransactionManager transactionManager, RoleCatalog<RoleRow> roleCatalog) {
+		return new UserR2dbcRepository(databaseClient, TransactionalOperator.create(transactionManager),
+			roleCatalog);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RoleR2dbcRepository roleR2dbcRepository(DatabaseClient databaseClient) {
+		return new RoleR2dbcRepository(databaseClient);
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	public RoleCatalog<RoleRow> roleCatalog(RoleR2dbcRepository roleR2dbcRepository) {
+		return new RoleCatalog<>(roleR2dbcRepository::findAllBlocking, RoleRow::name);
+	}
+
+	/**
+	 * Loads the catalog at startup, off the event loop, so that lookups never wait on it.
+	 */
+	@ConditionalOnMissingBean
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public RoleCatalogRefresher roleCatalogRefresher(RoleCatalog<RoleRow> roleCatalog,
+		@Value("${user.role-catalog.refresh-interval:5m}") Duration refreshInterval) {
+		return new RoleCatalogRefresher(roleCatalog, refreshInterval);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(ReactiveUserDetailsService.class)
+	static class ReactiveLoginConfiguration {
+
+		private static final String BCRYPT = "bcrypt";
+		private static final String ARGON2_REQUIRED_CLASS = "org.bouncycastle.crypto.params.Argon2Parameters";
+
+		/**
+		 * Matches the hashes the servlet starters store: {@code {bcrypt}}, {@code {pbkdf2}} and, with Bouncy Castle
+		 * on the classpath, {@code {argon2}}, as well as unprefixed BCrypt hashes of before the prefix was
+		 * introduced. BCrypt and Argon2 hashes record their work factor, PBKDF2 ones need the configured iterations.
+		 */
+		@ConditionalOnMissingBean
+		@Bean
+		public PasswordEncoder passwordEncoder(
+			@Value("${user.password.encoder.pbkdf2-iterations:600000}") int pbkdf2Iterations) {
+			BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+			Map<String, PasswordEncoder> encoders = new HashMap<>();
+			encoders.put(BCRYPT, bcrypt);
+			encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations,
+				Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+			if (ClassUtils.isPresent(ARGON2_REQUIRED_CLASS, getClass().getClassLoader())) {
+				encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+			}
+			DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT, encoders);
+			// hashes stored before the algorithm prefix was introduced are plain BCrypt
+			passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+			return passwordEncoder;
+		}
+
+		/**
+		 * Serves WebFlux form and basic login from the credentials lookup; the authorities are the role and
+		 * permission names, as on the servlet login path.
+		 */
+		@ConditionalOnMissingBean
+		@Bean
+		public ReactiveUserDetailsService reactiveUserDetailsService(ReactiveUserRepository reactiveUserRepository) {
+			return email -> Mono.fromCompletionStage(() -> reactiveUserRepository.findCredentialsByEmail(email))
+				.flatMap(credentials -> Mono.justOrEmpty(credentials))
+				.map(credentials -> new org.springframework.security.core.userdetails.User(credentials.email(),
+					credentials.password(), credentials.authorities().stream()
+					.map(SimpleGrantedAuthority::new)
+					.collect(Collectors.toSet())));
+		}
+	}
+}